@@ -13,6 +13,7 @@ import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
+import io.github.some_example_name.ecs.WorldEntities;
 import io.github.some_example_name.entity.Player;
 import io.github.some_example_name.manager.ItemManager;
 import io.github.some_example_name.manager.FarmManager;
@@ -38,6 +39,9 @@ import io.github.some_example_name.system.GameState;
 import io.github.some_example_name.system.GameRenderer;
 import io.github.some_example_name.system.GameController;
 import io.github.some_example_name.system.PerformanceProfiler;
+import io.github.some_example_name.system.SimulationCommandQueue;
+import io.github.some_example_name.system.SimulationThread;
+import io.github.some_example_name.system.WorldSnapshot;
 import io.github.some_example_name.system.TitleScreen;
 import io.github.some_example_name.system.MapScreen;
 import io.github.some_example_name.game.Inventory;
@@ -80,6 +84,7 @@ public class Main extends ApplicationAdapter {
     private TerrainManager terrainManager;
     private TerrainConversionManager terrainConversionManager;
     private BuildingManager buildingManager;
+    private WorldEntities worldEntities;
     
     // カメラとビューポート
     private OrthographicCamera camera;
@@ -119,6 +124,13 @@ public class Main extends ApplicationAdapter {
     private GameController gameController;
     private PerformanceProfiler performanceProfiler;
     
+    // シミュレーションを別スレッドで動かすための仕組み
+    private SimulationCommandQueue simulationCommandQueue;
+    private SimulationThread simulationThread;
+    
+    // シミュレーションスレッドを動かしているかどうか
+    private boolean simulationRunning;
+    
     // フォント管理
     private FontManager fontManager;
     
@@ -281,8 +293,12 @@ public class Main extends ApplicationAdapter {
         // プレイヤーにSoundManagerを設定
         player.setSoundManager(soundManager);
         
+        // 農地・畜産タイル・建物・アイテムのエンティティとシステムを初期化
+        worldEntities = new WorldEntities();
+        
         // アイテムマネージャーを初期化（無限マップ対応）
         itemManager = new ItemManager();
+        itemManager.setWorldEntities(worldEntities);
         itemManager.setInventory(inventory); // インベントリを設定
         itemManager.setSoundManager(soundManager); // サウンドマネージャーを設定
         
@@ -293,11 +309,14 @@ public class Main extends ApplicationAdapter {
         
         // 農地マネージャーを初期化
         farmManager = new FarmManager();
+        farmManager.setWorldEntities(worldEntities);
         farmManager.setInventory(inventory); // インベントリを設定
         farmManager.setItemDataLoader(itemManager.getItemDataLoader()); // アイテムデータローダーを設定
         
         // 地形マネージャーを初期化
         terrainManager = new TerrainManager();
+        terrainManager.setChunkStore(saveGameManager.createSessionChunkStore());
+        saveGameManager.setTerrainManager(terrainManager);
         
         // 地形変換マネージャーを初期化
         terrainConversionManager = new TerrainConversionManager();
@@ -310,12 +329,14 @@ public class Main extends ApplicationAdapter {
         
         // 畜産マネージャーを初期化
         livestockManager = new LivestockManager();
+        livestockManager.setWorldEntities(worldEntities);
         livestockManager.setInventory(inventory); // インベントリを設定
         livestockManager.setTerrainManager(terrainManager); // 地形マネージャーを設定
         livestockManager.setCivilizationLevel(itemManager.getCivilizationLevel()); // 文明レベルを設定
         
         // 建物マネージャーを初期化
         buildingManager = new BuildingManager();
+        buildingManager.setWorldEntities(worldEntities);
         buildingManager.setInventory(inventory);
         buildingManager.setItemDataLoader(itemManager.getItemDataLoader());
         buildingManager.setTerrainManager(terrainManager);
@@ -412,10 +433,19 @@ public class Main extends ApplicationAdapter {
         // GameControllerを初期化
         gameController = new GameController();
         gameController.setGameObjects(player, terrainManager, itemManager, farmManager, 
-            livestockManager, buildingManager, preservedFoodManager, camera);
+            livestockManager, buildingManager, preservedFoodManager);
+        gameController.setWorldEntities(worldEntities);
         
-        // GameRendererにGameControllerを設定（エンディング画面用）
-        gameRenderer.setGameController(gameController);
+        // 入力はキューを通してシミュレーションスレッドに渡す
+        simulationCommandQueue = new SimulationCommandQueue();
+        inputHandler.setCommandQueue(simulationCommandQueue);
+        gameController.setInputHandler(inputHandler);
+        inputHandler.setSimulationClock(gameController.getSimulationClock());
+        
+        // シミュレーションスレッドを開始（ゲーム画面に入るまでは止めておく）
+        simulationThread = new SimulationThread(gameController, simulationCommandQueue);
+        simulationThread.start();
+        simulationRunning = false;
         
         // GameRendererにTitleScreenを設定
         gameRenderer.setTitleScreen(titleScreen);
@@ -515,6 +545,9 @@ public class Main extends ApplicationAdapter {
         
         // タイトル画面の処理
         if (gameStateManager != null && gameStateManager.isTitleScreen() && titleScreen != null) {
+            // タイトル画面中はシミュレーションを止める
+            setSimulationRunning(false);
+            
             // タイトル画面を更新
             float deltaTime = Gdx.graphics.getDeltaTime();
             titleScreen.update(deltaTime);
@@ -645,6 +678,10 @@ public class Main extends ApplicationAdapter {
             }
         }
         
+        // ポーズ中とマップ表示中はシミュレーションを止める（この後のメニュー操作でセーブ・ロードが行われるため）
+        // インベントリ表示中も止める（クラフトや保存食の操作は描画スレッドでインベントリを書き換えるため）
+        setSimulationRunning(!isPaused && !inventoryOpen && !(gameStateManager != null && gameStateManager.isMapOpen()));
+        
         // インベントリまたは図鑑が開いているときはESCで閉じる
         if ((inventoryOpen || showEncyclopedia) && Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             gameStateManager.setState(GameState.PLAYING);
@@ -777,11 +814,9 @@ public class Main extends ApplicationAdapter {
                     performanceProfiler.startSection("update");
                 }
                 
-                float deltaTime = Gdx.graphics.getDeltaTime();
-                gameController.update(deltaTime);
-                
                 // キーボード入力処理（ゲームガイドが開いている時もプレイヤーは動ける）
-                if (inputHandler != null) {
+                // 入力はキューに登録され、シミュレーションスレッドの次のティックで反映される
+                if (inputHandler != null && simulationRunning) {
                     if (performanceProfiler != null && performanceProfiler.isEnabled()) {
                         performanceProfiler.startSection("input");
                     }
@@ -794,12 +829,6 @@ public class Main extends ApplicationAdapter {
                 if (performanceProfiler != null && performanceProfiler.isEnabled()) {
                     performanceProfiler.endSection("update");
                 }
-                
-                // 文明レベルアップメッセージをGameRendererに渡す
-                String civMessage = gameController.getCivilizationLevelUpMessage();
-                if (gameRenderer != null) {
-                    gameRenderer.setCivilizationLevelUpMessage(civMessage);
-                }
             } catch (Exception e) {
                 Gdx.app.error("Main", "Error in game update: " + e.getMessage(), e);
             }
@@ -821,10 +850,23 @@ public class Main extends ApplicationAdapter {
             return;
         }
         
+        // シミュレーションスレッドが公開した最新の状態を受け取り、カメラをプレイヤーに追従させる
+        if (simulationThread != null) {
+            applyWorldSnapshot(simulationThread.acquireSnapshot());
+        }
+        
         // カメラのズームを適用（スクロールで変更された可能性があるため）
         if (camera != null) {
             camera.zoom = cameraZoom;
             camera.update();
+            
+            // 地形の生成要求と次のスナップショットのために視野範囲をシミュレーションスレッドへ渡す
+            if (simulationThread != null) {
+                float viewWidth = camera.viewportWidth * camera.zoom;
+                float viewHeight = camera.viewportHeight * camera.zoom;
+                simulationThread.setViewBounds(camera.position.x - viewWidth / 2, camera.position.y - viewHeight / 2,
+                                               viewWidth, viewHeight);
+            }
         }
         
         // GameRendererを使用して描画処理を行う
@@ -853,6 +895,36 @@ public class Main extends ApplicationAdapter {
         }
     }
     
+    /**
+     * シミュレーションスレッドを動かす・止めるを切り替えます（状態が変わるときだけ呼び出す）。
+     * 止める場合は実行中のティックが終わるまで待つため、戻った後はワールドの状態に直接触れられます。
+     */
+    private void setSimulationRunning(boolean running) {
+        if (simulationThread == null || running == simulationRunning) {
+            return;
+        }
+        simulationThread.setRunning(running);
+        simulationRunning = running;
+    }
+    
+    /**
+     * スナップショットを描画に使うよう設定し、カメラを補間したプレイヤーの位置に合わせます。
+     */
+    private void applyWorldSnapshot(WorldSnapshot snapshot) {
+        Player renderPlayer = snapshot.getPlayer();
+        // 止まっている間は最新のティックの位置をそのまま表示する
+        renderPlayer.setRenderAlpha(simulationRunning ? SimulationThread.getRenderAlpha(snapshot) : 1f);
+        if (camera != null) {
+            float playerCenterX = renderPlayer.getRenderPixelX() + Player.PLAYER_TILE_SIZE / 2;
+            float playerCenterY = renderPlayer.getRenderPixelY() + Player.PLAYER_TILE_SIZE / 2;
+            camera.position.set(playerCenterX, playerCenterY, 0);
+        }
+        if (gameRenderer != null) {
+            gameRenderer.setWorldSnapshot(snapshot);
+            gameRenderer.setCivilizationLevelUpMessage(snapshot.getCivilizationLevelUpMessage());
+        }
+    }
+    
     /**
      * フォールバック用の描画処理（後方互換性のため）。
      * GameRendererが使用できない場合にのみ呼び出されます。
@@ -908,6 +980,13 @@ public class Main extends ApplicationAdapter {
         soundSettings.setMuted(result.isMuted);
         cameraZoom = result.cameraZoom;
         
+        // ロード前の入力は捨て、ロードした状態を描画用に公開する（シミュレーションは止まっている）
+        if (simulationThread != null) {
+            simulationCommandQueue.clear();
+            inputHandler.resetMovement();
+            simulationThread.refreshSnapshot();
+        }
+        
         // カメラをプレイヤーの位置に設定
         float playerCenterX = player.getPixelX() + Player.PLAYER_TILE_SIZE / 2;
         float playerCenterY = player.getPixelY() + Player.PLAYER_TILE_SIZE / 2;
@@ -985,6 +1064,12 @@ public class Main extends ApplicationAdapter {
      */
     @Override
     public void dispose() {
+        // シミュレーションスレッドを先に止める（以降はワールドの状態に触れない）
+        if (simulationThread != null) {
+            simulationThread.stop();
+            simulationThread = null;
+        }
+        
         // リソースを適切な順序で解放
         if (soundManager != null) {
             soundManager.dispose();
@@ -1014,6 +1099,11 @@ public class Main extends ApplicationAdapter {
             terrainConversionManager = null;
         }
         
+        if (gameRenderer != null) {
+            gameRenderer.dispose();
+            gameRenderer = null;
+        }
+        
         if (fontManager != null) {
             fontManager.dispose();
             fontManager = null;
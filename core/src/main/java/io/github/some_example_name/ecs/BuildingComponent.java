@@ -0,0 +1,19 @@
+package io.github.some_example_name.ecs;
+
+import io.github.some_example_name.manager.BuildingManager;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentMapper;
+
+/**
+ * 建物を表すコンポーネント。
+ */
+public class BuildingComponent implements Component {
+    public static final ComponentMapper<BuildingComponent> MAPPER = ComponentMapper.getFor(BuildingComponent.class);
+
+    public final BuildingManager.BuildingTile building;
+
+    public BuildingComponent(BuildingManager.BuildingTile building) {
+        this.building = building;
+    }
+}
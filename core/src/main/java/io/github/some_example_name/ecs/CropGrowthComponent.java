@@ -0,0 +1,20 @@
+package io.github.some_example_name.ecs;
+
+import io.github.some_example_name.entity.FarmTile;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentMapper;
+
+/**
+ * 作物が育つ農地を表すコンポーネント（土壌と成長の状態は{@link FarmTile}が持つ）。
+ * 成長は{@link CropGrowthSystem}が進めます。
+ */
+public class CropGrowthComponent implements Component {
+    public static final ComponentMapper<CropGrowthComponent> MAPPER = ComponentMapper.getFor(CropGrowthComponent.class);
+
+    public final FarmTile farmTile;
+
+    public CropGrowthComponent(FarmTile farmTile) {
+        this.farmTile = farmTile;
+    }
+}
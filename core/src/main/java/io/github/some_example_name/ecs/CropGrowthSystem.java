@@ -0,0 +1,55 @@
+package io.github.some_example_name.ecs;
+
+import io.github.some_example_name.entity.FarmTile;
+import io.github.some_example_name.util.EventScheduler;
+
+import com.badlogic.ashley.core.Entity;
+
+/**
+ * 農地の作物を成長させるシステム。
+ *
+ * <p>作物の成長段階が変わる時刻を登録し、時刻が来た農地だけを{@link FarmTile#advanceStage()}で進めます。
+ * 早送りでは{@link FarmTile#advance(float)}で結果の成長段階を求めます。</p>
+ */
+public class CropGrowthSystem extends TileEventSystem<FarmTile> {
+    public static final int PRIORITY = 2;
+
+    public CropGrowthSystem() {
+        super(PRIORITY, WorldEntities.CROPS);
+    }
+
+    @Override
+    protected FarmTile getTile(Entity entity) {
+        return CropGrowthComponent.MAPPER.get(entity).farmTile;
+    }
+
+    @Override
+    protected int getTileX(FarmTile farmTile) {
+        return farmTile.getTileX();
+    }
+
+    @Override
+    protected int getTileY(FarmTile farmTile) {
+        return farmTile.getTileY();
+    }
+
+    @Override
+    protected EventScheduler.Event getEvent(FarmTile farmTile) {
+        return farmTile.getGrowthEvent();
+    }
+
+    @Override
+    protected float getSecondsToNextEvent(FarmTile farmTile) {
+        return farmTile.getSecondsToNextStage();
+    }
+
+    @Override
+    protected void advanceToNextEvent(FarmTile farmTile) {
+        farmTile.advanceStage();
+    }
+
+    @Override
+    protected float advance(FarmTile farmTile, float elapsedSeconds) {
+        return farmTile.advance(elapsedSeconds);
+    }
+}
@@ -0,0 +1,206 @@
+package io.github.some_example_name.ecs;
+
+import io.github.some_example_name.entity.TerrainChunk;
+import io.github.some_example_name.manager.ChunkSpatialIndex;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * 描画するエンティティ（{@link RenderableComponent}を持つもの）のうち、視野範囲の付近にあるものを決めるシステム。
+ *
+ * <p>描画するエンティティをチャンク単位の空間インデックスに入れておき、視野範囲に重なるチャンクが変わったときだけ判定し直します。
+ * そのため費用は全体の数ではなく、視野の付近にある数に比例します。
+ * 視野に入ったエンティティと出たエンティティは{@link Listener}に知らせます。</p>
+ *
+ * <p>視野の出入りはコンポーネントの付け外しでは表しません（エンジンがすべてのファミリーを調べ直すため、視野が動くたびに数百のエンティティで行うと重い）。
+ * エンティティの位置は、追加してから取り除くまで変えないでください。</p>
+ *
+ * <p>エンジンの更新では実行せず、スナップショットを書き込む前に{@link #setView}で視野範囲を渡して使います。</p>
+ */
+public class CullingSystem extends EntitySystem implements EntityListener {
+    /**
+     * 視野の付近に出入りしたエンティティを受け取るリスナー。
+     */
+    public interface Listener {
+        /**
+         * エンティティが視野の付近に入ったときに呼び出されます。
+         */
+        void entityEnteredView(Entity entity);
+
+        /**
+         * エンティティが視野の付近から出たとき（エンジンから取り除かれた場合を含む）に呼び出されます。
+         */
+        void entityExitedView(Entity entity);
+    }
+
+    // 描画するエンティティのチャンク単位の空間インデックス
+    private final ChunkSpatialIndex<Entity> spatialIndex;
+
+    // 判定し直す対象（使い回す）
+    private final Array<Entity> scratch;
+
+    private Listener listener;
+
+    // 視野範囲に重なるチャンクの範囲（含む）
+    private int minChunkX;
+    private int minChunkY;
+    private int maxChunkX;
+    private int maxChunkY;
+    private boolean hasView;
+
+    public CullingSystem() {
+        this.spatialIndex = new ChunkSpatialIndex<>(new ChunkSpatialIndex.SlotAccessor<Entity>() {
+            @Override
+            public int getSlot(Entity entity) {
+                return RenderableComponent.MAPPER.get(entity).spatialSlot;
+            }
+
+            @Override
+            public void setSlot(Entity entity, int slot) {
+                RenderableComponent.MAPPER.get(entity).spatialSlot = slot;
+            }
+        });
+        this.scratch = new Array<>(false, 64);
+        this.hasView = false;
+        setProcessing(false);
+    }
+
+    /**
+     * 視野の付近に出入りしたエンティティを受け取るリスナーを設定します。
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        engine.addEntityListener(WorldEntities.RENDERABLES, this);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+        spatialIndex.clear();
+        hasView = false;
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        PositionComponent position = PositionComponent.MAPPER.get(entity);
+        spatialIndex.add(position.tileX, position.tileY, entity);
+        if (isInView(position)) {
+            enter(entity);
+        }
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        PositionComponent position = PositionComponent.MAPPER.get(entity);
+        spatialIndex.remove(position.tileX, position.tileY, entity);
+        exit(entity);
+    }
+
+    /**
+     * 視野範囲を設定し、範囲に重なるチャンクに出入りしたエンティティをリスナーに知らせます。
+     * 判定はチャンク単位で行い、前の範囲と新しい範囲の差になったチャンクのエンティティだけを調べます。
+     * @param minTileX 範囲の左端のタイルX座標
+     * @param minTileY 範囲の下端のタイルY座標
+     * @param maxTileX 範囲の右端のタイルX座標（含む）
+     * @param maxTileY 範囲の上端のタイルY座標（含む）
+     */
+    public void setView(int minTileX, int minTileY, int maxTileX, int maxTileY) {
+        int newMinChunkX = minTileX >> TerrainChunk.SHIFT;
+        int newMinChunkY = minTileY >> TerrainChunk.SHIFT;
+        int newMaxChunkX = maxTileX >> TerrainChunk.SHIFT;
+        int newMaxChunkY = maxTileY >> TerrainChunk.SHIFT;
+        if (hasView && newMinChunkX == minChunkX && newMinChunkY == minChunkY
+            && newMaxChunkX == maxChunkX && newMaxChunkY == maxChunkY) {
+            return;
+        }
+        boolean hadView = hasView;
+        int oldMinChunkX = minChunkX;
+        int oldMinChunkY = minChunkY;
+        int oldMaxChunkX = maxChunkX;
+        int oldMaxChunkY = maxChunkY;
+        minChunkX = newMinChunkX;
+        minChunkY = newMinChunkY;
+        maxChunkX = newMaxChunkX;
+        maxChunkY = newMaxChunkY;
+        hasView = true;
+
+        // 新しい範囲の外に出たチャンクのエンティティを知らせる
+        if (hadView) {
+            for (int chunkY = oldMinChunkY; chunkY <= oldMaxChunkY; chunkY++) {
+                for (int chunkX = oldMinChunkX; chunkX <= oldMaxChunkX; chunkX++) {
+                    if (isChunkInView(chunkX, chunkY)) {
+                        continue;
+                    }
+                    collectChunk(chunkX, chunkY);
+                    for (int i = 0; i < scratch.size; i++) {
+                        exit(scratch.get(i));
+                    }
+                }
+            }
+        }
+
+        // 新しく範囲に入ったチャンクのエンティティを知らせる
+        for (int chunkY = newMinChunkY; chunkY <= newMaxChunkY; chunkY++) {
+            for (int chunkX = newMinChunkX; chunkX <= newMaxChunkX; chunkX++) {
+                if (hadView && chunkX >= oldMinChunkX && chunkX <= oldMaxChunkX
+                    && chunkY >= oldMinChunkY && chunkY <= oldMaxChunkY) {
+                    continue;
+                }
+                collectChunk(chunkX, chunkY);
+                for (int i = 0; i < scratch.size; i++) {
+                    enter(scratch.get(i));
+                }
+            }
+        }
+        scratch.clear();
+    }
+
+    private void enter(Entity entity) {
+        RenderableComponent renderable = RenderableComponent.MAPPER.get(entity);
+        if (!renderable.inView) {
+            renderable.inView = true;
+            if (listener != null) {
+                listener.entityEnteredView(entity);
+            }
+        }
+    }
+
+    private void exit(Entity entity) {
+        RenderableComponent renderable = RenderableComponent.MAPPER.get(entity);
+        if (renderable.inView) {
+            renderable.inView = false;
+            if (listener != null) {
+                listener.entityExitedView(entity);
+            }
+        }
+    }
+
+    /**
+     * 指定されたチャンクにあるエンティティを{@link #scratch}に集めます。
+     */
+    private void collectChunk(int chunkX, int chunkY) {
+        scratch.clear();
+        int tileX = chunkX << TerrainChunk.SHIFT;
+        int tileY = chunkY << TerrainChunk.SHIFT;
+        spatialIndex.query(tileX, tileY, tileX, tileY, scratch);
+    }
+
+    /**
+     * 位置が視野範囲に重なるチャンクにあるかどうかを返します。
+     */
+    private boolean isInView(PositionComponent position) {
+        return hasView && isChunkInView(position.tileX >> TerrainChunk.SHIFT, position.tileY >> TerrainChunk.SHIFT);
+    }
+
+    private boolean isChunkInView(int chunkX, int chunkY) {
+        return chunkX >= minChunkX && chunkX <= maxChunkX && chunkY >= minChunkY && chunkY <= maxChunkY;
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.some_example_name.ecs;
+
+import io.github.some_example_name.entity.Item;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentMapper;
+
+/**
+ * 拾えるアイテムを表すコンポーネント。
+ * アイテムのエンティティはItemManagerがプールで使い回すため、{@link #item}も取り出すたびに初期化し直します。
+ */
+public class ItemComponent implements Component {
+    public static final ComponentMapper<ItemComponent> MAPPER = ComponentMapper.getFor(ItemComponent.class);
+
+    public final Item item;
+
+    // ItemGridの中での位置（マス目のバケット内とアイテム一覧内の添字、入っていない場合は-1）
+    public int gridCellSlot = -1;
+    public int gridListSlot = -1;
+
+    public ItemComponent(Item item) {
+        this.item = item;
+    }
+}
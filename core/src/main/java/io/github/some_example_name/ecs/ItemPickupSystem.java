@@ -0,0 +1,132 @@
+package io.github.some_example_name.ecs;
+
+import io.github.some_example_name.entity.Item;
+import io.github.some_example_name.entity.Player;
+import io.github.some_example_name.manager.ItemGrid;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * プレイヤーの取得範囲にあるアイテムを拾うシステム。
+ *
+ * <p>アイテムのエンティティはマス目単位のグリッド（{@link ItemGrid}）に入れておき、
+ * プレイヤーごとに取得範囲に中心が入りうるマス目だけを調べるため、費用はアイテムの総数に依存しません。
+ * 拾ったアイテムはエンジンから削除し、インベントリへの追加などは{@link Listener}に任せます。</p>
+ */
+public class ItemPickupSystem extends IteratingSystem implements EntityListener {
+    public static final int PRIORITY = 1;
+
+    /**
+     * アイテムが拾われたときに呼び出されるリスナー。
+     */
+    public interface Listener {
+        /**
+         * アイテムが拾われたときに呼び出されます（エンティティはこの後エンジンから削除されます）。
+         * @param item 拾われたアイテム
+         */
+        void onPickup(Item item);
+    }
+
+    // アイテムのマス目単位のグリッド
+    private final ItemGrid grid;
+
+    // 取得判定の候補（使い回す）
+    private final Array<Entity> candidates;
+
+    private Listener listener;
+
+    public ItemPickupSystem() {
+        super(WorldEntities.PLAYERS, PRIORITY);
+        this.grid = new ItemGrid();
+        this.candidates = new Array<>(false, 16);
+    }
+
+    /**
+     * アイテムが拾われたときのリスナーを設定します。
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        super.addedToEngine(engine);
+        engine.addEntityListener(WorldEntities.ITEMS, this);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        super.removedFromEngine(engine);
+        engine.removeEntityListener(this);
+        grid.clear();
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        grid.add(entity);
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        grid.remove(entity);
+    }
+
+    /**
+     * プレイヤーとアイテムの衝突判定を行います。
+     * プレイヤーが4マップ升サイズなので、プレイヤーの範囲内にアイテムがある場合、アイテムを取得します。
+     */
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Player player = PlayerComponent.MAPPER.get(entity).player;
+        
+        // プレイヤーの中心座標を取得
+        float playerCenterX = player.getPixelX() + Player.PLAYER_TILE_SIZE / 2;
+        float playerCenterY = player.getPixelY() + Player.PLAYER_TILE_SIZE / 2;
+        
+        // プレイヤーのサイズは4マップ升（TILE_SIZE * 4）
+        float playerSize = Player.TILE_SIZE * 4.0f;
+        float playerLeft = playerCenterX - playerSize / 2;
+        float playerRight = playerCenterX + playerSize / 2;
+        float playerBottom = playerCenterY - playerSize / 2;
+        float playerTop = playerCenterY + playerSize / 2;
+        
+        // アイテムの中心（マス目の中心）が範囲に入りうるマス目（境界の誤差を避けるため外側に丸める）
+        float halfTile = Player.TILE_SIZE / 2;
+        int minTileX = MathUtils.floor((playerLeft - halfTile) / Player.TILE_SIZE);
+        int maxTileX = MathUtils.ceil((playerRight - halfTile) / Player.TILE_SIZE);
+        int minTileY = MathUtils.floor((playerBottom - halfTile) / Player.TILE_SIZE);
+        int maxTileY = MathUtils.ceil((playerTop - halfTile) / Player.TILE_SIZE);
+        
+        candidates.clear();
+        grid.query(minTileX, minTileY, maxTileX, maxTileY, candidates);
+        for (int i = 0; i < candidates.size; i++) {
+            Entity itemEntity = candidates.get(i);
+            Item item = ItemComponent.MAPPER.get(itemEntity).item;
+            // エンティティの削除はシステムの更新の後なので、拾ったばかりのものはグリッドに残っている
+            if (item.isCollected()) {
+                continue;
+            }
+            
+            // アイテムの位置（マップ升の中心）
+            PositionComponent position = PositionComponent.MAPPER.get(itemEntity);
+            float itemX = position.tileX * Player.TILE_SIZE + Player.TILE_SIZE / 2;
+            float itemY = position.tileY * Player.TILE_SIZE + Player.TILE_SIZE / 2;
+            
+            // アイテムがプレイヤーの範囲内にあるかチェック
+            if (itemX >= playerLeft && itemX <= playerRight &&
+                itemY >= playerBottom && itemY <= playerTop) {
+                item.collect();
+                if (listener != null) {
+                    listener.onPickup(item);
+                }
+                getEngine().removeEntity(itemEntity);
+            }
+        }
+        candidates.clear();
+    }
+}
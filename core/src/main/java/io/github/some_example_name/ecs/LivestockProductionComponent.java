@@ -0,0 +1,21 @@
+package io.github.some_example_name.ecs;
+
+import io.github.some_example_name.entity.LivestockTile;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentMapper;
+
+/**
+ * 家畜が育ち製品を生産する畜産タイルを表すコンポーネント（成長と生産の状態は{@link LivestockTile}が持つ）。
+ * 成長と生産は{@link LivestockProductionSystem}が進めます。
+ */
+public class LivestockProductionComponent implements Component {
+    public static final ComponentMapper<LivestockProductionComponent> MAPPER =
+        ComponentMapper.getFor(LivestockProductionComponent.class);
+
+    public final LivestockTile livestockTile;
+
+    public LivestockProductionComponent(LivestockTile livestockTile) {
+        this.livestockTile = livestockTile;
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.some_example_name.ecs;
+
+import io.github.some_example_name.entity.LivestockTile;
+import io.github.some_example_name.util.EventScheduler;
+
+import com.badlogic.ashley.core.Entity;
+
+/**
+ * 家畜を成長させ、製品を生産させるシステム。
+ *
+ * <p>成長段階が変わる時刻と製品ができる時刻を登録し、時刻が来た畜産タイルだけを{@link LivestockTile#advanceToNextEvent()}で進めます。
+ * イベントは畜産タイルの状態だけを変え、インベントリへの追加と畜産物の累計生産数は収穫時にLivestockManagerが反映します。</p>
+ */
+public class LivestockProductionSystem extends TileEventSystem<LivestockTile> {
+    public static final int PRIORITY = 3;
+
+    public LivestockProductionSystem() {
+        super(PRIORITY, WorldEntities.LIVESTOCK);
+    }
+
+    @Override
+    protected LivestockTile getTile(Entity entity) {
+        return LivestockProductionComponent.MAPPER.get(entity).livestockTile;
+    }
+
+    @Override
+    protected int getTileX(LivestockTile livestockTile) {
+        return livestockTile.getTileX();
+    }
+
+    @Override
+    protected int getTileY(LivestockTile livestockTile) {
+        return livestockTile.getTileY();
+    }
+
+    @Override
+    protected EventScheduler.Event getEvent(LivestockTile livestockTile) {
+        return livestockTile.getTimerEvent();
+    }
+
+    @Override
+    protected float getSecondsToNextEvent(LivestockTile livestockTile) {
+        return livestockTile.getSecondsToNextEvent();
+    }
+
+    @Override
+    protected void advanceToNextEvent(LivestockTile livestockTile) {
+        livestockTile.advanceToNextEvent();
+    }
+
+    @Override
+    protected float advance(LivestockTile livestockTile, float elapsedSeconds) {
+        return livestockTile.advance(elapsedSeconds);
+    }
+}
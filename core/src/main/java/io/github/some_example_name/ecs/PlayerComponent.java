@@ -0,0 +1,20 @@
+package io.github.some_example_name.ecs;
+
+import io.github.some_example_name.entity.Player;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentMapper;
+
+/**
+ * プレイヤーを表すコンポーネント。
+ * プレイヤーのエンティティの位置はアイテムの取得と、領域の処理間隔（プレイヤーからの距離）に使います。
+ */
+public class PlayerComponent implements Component {
+    public static final ComponentMapper<PlayerComponent> MAPPER = ComponentMapper.getFor(PlayerComponent.class);
+
+    public final Player player;
+
+    public PlayerComponent(Player player) {
+        this.player = player;
+    }
+}
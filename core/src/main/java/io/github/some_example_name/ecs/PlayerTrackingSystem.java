@@ -0,0 +1,25 @@
+package io.github.some_example_name.ecs;
+
+import io.github.some_example_name.entity.Player;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+/**
+ * プレイヤーのエンティティの位置を、移動した後のプレイヤーのタイルに合わせるシステム（他のシステムより先に実行する）。
+ */
+public class PlayerTrackingSystem extends IteratingSystem {
+    public static final int PRIORITY = 0;
+
+    public PlayerTrackingSystem() {
+        super(WorldEntities.PLAYERS, PRIORITY);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Player player = PlayerComponent.MAPPER.get(entity).player;
+        PositionComponent position = PositionComponent.MAPPER.get(entity);
+        position.tileX = player.getTileX();
+        position.tileY = player.getTileY();
+    }
+}
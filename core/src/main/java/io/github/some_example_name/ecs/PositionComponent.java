@@ -0,0 +1,19 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentMapper;
+
+/**
+ * ワールドに置かれた物のタイル座標を表すコンポーネント。
+ */
+public class PositionComponent implements Component {
+    public static final ComponentMapper<PositionComponent> MAPPER = ComponentMapper.getFor(PositionComponent.class);
+
+    public int tileX;
+    public int tileY;
+
+    public PositionComponent(int tileX, int tileY) {
+        this.tileX = tileX;
+        this.tileY = tileY;
+    }
+}
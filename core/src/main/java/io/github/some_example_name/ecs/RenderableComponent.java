@@ -0,0 +1,21 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentMapper;
+
+/**
+ * ワールドに描画する物を表すコンポーネント。
+ * このコンポーネントを持つエンティティは{@link CullingSystem}の空間インデックスに入り、視野の付近にあるものだけが描画されます。
+ */
+public class RenderableComponent implements Component {
+    public static final ComponentMapper<RenderableComponent> MAPPER = ComponentMapper.getFor(RenderableComponent.class);
+
+    // CullingSystemの空間インデックスのバケット内での添字（入っていない場合は-1）
+    public int spatialSlot = -1;
+
+    // 視野範囲の付近にあるかどうか（CullingSystemだけが変える）
+    public boolean inView;
+
+    // SnapshotSystemの種類ごとの一覧での添字（視野範囲の付近にない場合は-1）
+    public int visibleSlot = -1;
+}
@@ -0,0 +1,135 @@
+package io.github.some_example_name.ecs;
+
+import io.github.some_example_name.entity.FarmTile;
+import io.github.some_example_name.entity.Item;
+import io.github.some_example_name.entity.LivestockTile;
+import io.github.some_example_name.manager.BuildingManager;
+import io.github.some_example_name.system.WorldSnapshot;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * 視野範囲の付近にあるエンティティを描画用のスナップショットに書き込むシステム。
+ *
+ * <p>{@link CullingSystem}からエンティティが視野の付近に入ったと知らされたときに種類を一度だけ調べ、描画する物を種類ごとの一覧に入れておきます。
+ * スナップショットは毎ティック書き込むため、書き込みではエンティティのコンポーネントをたどらず、この一覧だけを読みます。
+ * 視野への出入りは視野範囲のチャンクが変わったときだけです。</p>
+ *
+ * <p>エンジンの更新では実行せず、シミュレーションスレッドがスナップショットを書き込むときに{@link #write}で使います。</p>
+ */
+public class SnapshotSystem extends EntitySystem implements CullingSystem.Listener {
+    /**
+     * 描画する物の一覧（エンティティと同じ並びで持ち、削除は末尾の要素と入れ替えて行う）。
+     */
+    private static final class VisibleList<T> {
+        final Array<T> objects = new Array<>(false, 64);
+        final Array<Entity> entities = new Array<>(false, 64);
+
+        void add(Entity entity, T object) {
+            RenderableComponent.MAPPER.get(entity).visibleSlot = objects.size;
+            objects.add(object);
+            entities.add(entity);
+        }
+
+        void remove(Entity entity) {
+            RenderableComponent renderable = RenderableComponent.MAPPER.get(entity);
+            int slot = renderable.visibleSlot;
+            int last = objects.size - 1;
+            if (slot != last) {
+                Entity moved = entities.get(last);
+                objects.set(slot, objects.get(last));
+                entities.set(slot, moved);
+                RenderableComponent.MAPPER.get(moved).visibleSlot = slot;
+            }
+            objects.removeIndex(last);
+            entities.removeIndex(last);
+            renderable.visibleSlot = -1;
+        }
+
+        void clear() {
+            for (int i = 0; i < entities.size; i++) {
+                RenderableComponent.MAPPER.get(entities.get(i)).visibleSlot = -1;
+            }
+            objects.clear();
+            entities.clear();
+        }
+    }
+
+    private final VisibleList<FarmTile> farmTiles;
+    private final VisibleList<LivestockTile> livestockTiles;
+    private final VisibleList<BuildingManager.BuildingTile> buildings;
+    private final VisibleList<Item> items;
+
+    public SnapshotSystem() {
+        this.farmTiles = new VisibleList<>();
+        this.livestockTiles = new VisibleList<>();
+        this.buildings = new VisibleList<>();
+        this.items = new VisibleList<>();
+        setProcessing(false);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        farmTiles.clear();
+        livestockTiles.clear();
+        buildings.clear();
+        items.clear();
+    }
+
+    @Override
+    public void entityEnteredView(Entity entity) {
+        CropGrowthComponent crop = CropGrowthComponent.MAPPER.get(entity);
+        if (crop != null) {
+            farmTiles.add(entity, crop.farmTile);
+            return;
+        }
+        LivestockProductionComponent livestock = LivestockProductionComponent.MAPPER.get(entity);
+        if (livestock != null) {
+            livestockTiles.add(entity, livestock.livestockTile);
+            return;
+        }
+        BuildingComponent building = BuildingComponent.MAPPER.get(entity);
+        if (building != null) {
+            buildings.add(entity, building.building);
+            return;
+        }
+        ItemComponent item = ItemComponent.MAPPER.get(entity);
+        if (item != null) {
+            items.add(entity, item.item);
+        }
+    }
+
+    @Override
+    public void entityExitedView(Entity entity) {
+        if (CropGrowthComponent.MAPPER.has(entity)) {
+            farmTiles.remove(entity);
+        } else if (LivestockProductionComponent.MAPPER.has(entity)) {
+            livestockTiles.remove(entity);
+        } else if (BuildingComponent.MAPPER.has(entity)) {
+            buildings.remove(entity);
+        } else if (ItemComponent.MAPPER.has(entity)) {
+            items.remove(entity);
+        }
+    }
+
+    /**
+     * 視野範囲の付近にあるエンティティをスナップショットに書き込みます（先に{@link CullingSystem#setView}で視野範囲を設定しておく）。
+     */
+    public void write(WorldSnapshot snapshot) {
+        for (int i = 0; i < farmTiles.objects.size; i++) {
+            snapshot.addFarmTile(farmTiles.objects.get(i));
+        }
+        for (int i = 0; i < livestockTiles.objects.size; i++) {
+            snapshot.addLivestockTile(livestockTiles.objects.get(i));
+        }
+        for (int i = 0; i < buildings.objects.size; i++) {
+            snapshot.addBuilding(buildings.objects.get(i));
+        }
+        for (int i = 0; i < items.objects.size; i++) {
+            snapshot.addItem(items.objects.get(i));
+        }
+    }
+}
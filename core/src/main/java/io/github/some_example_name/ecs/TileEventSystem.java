@@ -0,0 +1,231 @@
+package io.github.some_example_name.ecs;
+
+import io.github.some_example_name.manager.RegionEventScheduler;
+import io.github.some_example_name.util.EventScheduler;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+
+/**
+ * 決まった時刻に状態が変わるタイル（農地・畜産タイルなど）を、イベント駆動で進めるシステムの基底クラス。
+ *
+ * <p>タイルの状態が変わる時刻をチャンク単位の領域ごとのスケジューラー（{@link RegionEventScheduler}）に登録し、
+ * 毎ティックの更新では時刻が来たタイルだけを進めます。すべてのタイルを毎ティックたどることはしないため、
+ * {@link com.badlogic.ashley.systems.IteratingSystem}ではなく、ファミリーの追加・削除を受け取って登録と取り消しを行います。</p>
+ *
+ * <p>領域はプレイヤーのエンティティからの距離で処理間隔を変え、遠い領域はタイルが参照されるまで進めません。
+ * そのため、タイルの状態を読む前には必ず{@link #observe}などで領域を現在時刻まで進めます。</p>
+ *
+ * <p>サブクラスは、エンティティからタイルを取り出す方法と、タイルごとの時刻の求め方・進め方だけを実装します。
+ * タイルのイベントの対象（{@link EventScheduler.Event#getOwner()}）はタイル自身にしてください。</p>
+ *
+ * @param <T> タイルの型
+ */
+public abstract class TileEventSystem<T> extends EntitySystem implements EntityListener {
+    private final Family family;
+
+    // 状態が変わる時刻のスケジューラー（チャンク単位の領域ごと）
+    private final RegionEventScheduler scheduler;
+
+    private ImmutableArray<Entity> tiles;
+    private ImmutableArray<Entity> players;
+
+    /**
+     * @param priority システムの優先度
+     * @param family 処理するタイルのエンティティのファミリー
+     */
+    protected TileEventSystem(int priority, Family family) {
+        super(priority);
+        this.family = family;
+        this.scheduler = new RegionEventScheduler(new RegionEventScheduler.Listener() {
+            @Override
+            public void onEvent(EventScheduler.Event event, RegionEventScheduler.Region region) {
+                // ワーカースレッドから呼ばれることがあるため、このタイルと領域以外には触れない
+                @SuppressWarnings("unchecked")
+                T tile = (T)event.getOwner();
+                advanceToNextEvent(tile);
+                // 予定されていた時刻から次の時刻を求める（フレームの区切りに左右されない）
+                float seconds = getSecondsToNextEvent(tile);
+                if (seconds >= 0f) {
+                    region.schedule(event, event.getTime() + seconds);
+                }
+            }
+        });
+    }
+
+    /**
+     * エンティティのタイルを返します。
+     */
+    protected abstract T getTile(Entity entity);
+
+    /**
+     * タイルのX座標を返します。
+     */
+    protected abstract int getTileX(T tile);
+
+    /**
+     * タイルのY座標を返します。
+     */
+    protected abstract int getTileY(T tile);
+
+    /**
+     * タイルがスケジューラーに登録するイベントを返します。
+     */
+    protected abstract EventScheduler.Event getEvent(T tile);
+
+    /**
+     * 現在の状態から次に状態が変わるまでの時間（秒）を返します。
+     * @return 時間（秒、これ以上変化しない場合は負の値）
+     */
+    protected abstract float getSecondsToNextEvent(T tile);
+
+    /**
+     * タイルを次の状態へ進めます（イベントの時刻が来たときに、ワーカースレッドから呼ばれることがある）。
+     */
+    protected abstract void advanceToNextEvent(T tile);
+
+    /**
+     * 現在の状態になってからの経過時間を指定して、タイルの結果の状態を求めます（早送り用）。
+     * @param elapsedSeconds 現在の状態になってからの経過時間（秒）
+     * @return 結果の状態から次に状態が変わるまでの時間（秒、これ以上変化しない場合は負の値）
+     */
+    protected abstract float advance(T tile, float elapsedSeconds);
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        tiles = engine.getEntitiesFor(family);
+        players = engine.getEntitiesFor(WorldEntities.PLAYERS);
+        engine.addEntityListener(family, this);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+        scheduler.clear();
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        // 状態が変わるタイルが加わった場合は、次に状態が変わる時刻を登録する
+        T tile = getTile(entity);
+        if (getSecondsToNextEvent(tile) >= 0f) {
+            scheduleNextEvent(tile);
+        }
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        cancel(getTile(entity));
+    }
+
+    /**
+     * 期限が来たイベントだけを処理します。
+     * @param deltaTime ワールドの経過時間（秒）
+     */
+    @Override
+    public void update(float deltaTime) {
+        // プレイヤーからの距離で領域の処理間隔を決める
+        if (players.size() > 0) {
+            PositionComponent focus = PositionComponent.MAPPER.get(players.first());
+            scheduler.setFocusTile(focus.tileX, focus.tileY);
+        }
+        scheduler.advance(deltaTime);
+    }
+
+    /**
+     * イベントを領域ごとに並列で処理するかどうかを設定します（falseの場合は逐次で処理する）。
+     */
+    public void setParallel(boolean parallel) {
+        scheduler.setParallel(parallel);
+    }
+
+    /**
+     * プレイヤーからの距離でイベントの処理間隔を変えるかどうかを設定します。
+     */
+    public void setLevelOfDetail(boolean levelOfDetail) {
+        scheduler.setLevelOfDetail(levelOfDetail);
+    }
+
+    /**
+     * 処理間隔の基準にするタイルを設定します（プレイヤーのエンティティがある場合は毎ティックその位置で置き換わる）。
+     */
+    public void setFocusTile(int tileX, int tileY) {
+        scheduler.setFocusTile(tileX, tileY);
+    }
+
+    /**
+     * 指定されたタイルを含む領域を現在時刻まで進めます（そのタイルを読み書きする前に呼び出す）。
+     */
+    public void observe(int tileX, int tileY) {
+        scheduler.observe(tileX, tileY);
+    }
+
+    /**
+     * 指定されたタイルの範囲にあるタイルを現在時刻まで進めます（表示範囲のタイルを読む前に呼び出す）。
+     */
+    public void observeArea(int minTileX, int minTileY, int maxTileX, int maxTileY) {
+        scheduler.observeArea(minTileX, minTileY, maxTileX, maxTileY);
+    }
+
+    /**
+     * 遠くて処理を後回しにしているタイルも含めて、すべてのタイルを現在時刻まで進めます（すべてのタイルを読む前に呼び出す）。
+     */
+    public void observeAll() {
+        scheduler.observeAll();
+    }
+
+    /**
+     * タイルの次に状態が変わる時刻を、現在時刻から登録します（変化しない場合は登録を取り消します）。
+     */
+    public void scheduleNextEvent(T tile) {
+        float seconds = getSecondsToNextEvent(tile);
+        if (seconds < 0f) {
+            cancel(tile);
+            return;
+        }
+        scheduler.schedule(getTileX(tile), getTileY(tile), getEvent(tile), scheduler.getTime() + seconds);
+    }
+
+    /**
+     * タイルのイベントを取り消します。
+     */
+    public void cancel(T tile) {
+        scheduler.cancel(getTileX(tile), getTileY(tile), getEvent(tile));
+    }
+
+    /**
+     * すべてのタイルを指定された時間だけ早送りします。
+     * イベントを1つずつ処理せず、タイルごとに{@link #advance(Object, float)}で結果の状態を求めるため、
+     * 長い時間を進めても計算量はタイルの数にしか依存しません。
+     * @param seconds 進める時間（秒）
+     */
+    public void fastForward(float seconds) {
+        if (seconds <= 0f) {
+            return;
+        }
+        // 後回しにしている領域を先に現在時刻まで進める
+        scheduler.observeAll();
+        double now = scheduler.getTime();
+        double targetTime = now + seconds;
+        for (int i = 0; i < tiles.size(); i++) {
+            T tile = getTile(tiles.get(i));
+            EventScheduler.Event event = getEvent(tile);
+            if (!event.isScheduled()) {
+                continue;
+            }
+            // 現在の状態になってからの経過時間
+            float elapsed = getSecondsToNextEvent(tile) - (float)(event.getTime() - now);
+            float secondsToNextEvent = advance(tile, elapsed + seconds);
+            if (secondsToNextEvent < 0f) {
+                scheduler.cancel(getTileX(tile), getTileY(tile), event);
+            } else {
+                scheduler.schedule(getTileX(tile), getTileY(tile), event, targetTime + secondsToNextEvent);
+            }
+        }
+        scheduler.skipTime(seconds);
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.some_example_name.ecs;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * エンティティをタイル座標から引く索引（1つのタイルに1つのエンティティ）。
+ * ファミリーのリスナーとして登録すると、エンティティの追加・削除に合わせて更新されます。
+ * エンティティは{@link PositionComponent}を持つ必要があります。
+ */
+public class TileIndex implements EntityListener {
+    // タイルのキー → そのタイルのエンティティ
+    private final LongMap<Entity> entities;
+
+    public TileIndex() {
+        this.entities = new LongMap<>();
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        PositionComponent position = PositionComponent.MAPPER.get(entity);
+        entities.put(key(position.tileX, position.tileY), entity);
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        PositionComponent position = PositionComponent.MAPPER.get(entity);
+        long key = key(position.tileX, position.tileY);
+        if (entities.get(key) == entity) {
+            entities.remove(key);
+        }
+    }
+
+    /**
+     * 指定されたタイルのエンティティを返します（ない場合はnull）。
+     */
+    public Entity get(int tileX, int tileY) {
+        return entities.get(key(tileX, tileY));
+    }
+
+    /**
+     * 入っているエンティティの数を返します。
+     */
+    public int size() {
+        return entities.size;
+    }
+
+    private static long key(int tileX, int tileY) {
+        return ((long)tileX << 32) | (tileY & 0xFFFFFFFFL);
+    }
+}
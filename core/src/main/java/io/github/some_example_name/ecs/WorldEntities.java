@@ -0,0 +1,143 @@
+package io.github.some_example_name.ecs;
+
+import io.github.some_example_name.entity.Player;
+import io.github.some_example_name.system.WorldSnapshot;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+
+/**
+ * ワールドに置かれた物（農地・畜産タイル・建物・アイテム）とプレイヤーをAshleyのエンティティとして持ち、システムを動かすクラス。
+ *
+ * <p>物の状態はエンティティのコンポーネントが持ち、各マネージャーは置く・収穫するといった操作と、
+ * タイル座標からエンティティを引く索引（{@link TileIndex}）だけを持ちます。
+ * ティックごとの処理は優先度の順に次のシステムで行います。</p>
+ * <ol>
+ *   <li>{@link PlayerTrackingSystem}: プレイヤーのエンティティの位置を更新</li>
+ *   <li>{@link ItemPickupSystem}: プレイヤーの取得範囲のアイテムを拾う</li>
+ *   <li>{@link CropGrowthSystem}: 時刻が来た作物を成長させる</li>
+ *   <li>{@link LivestockProductionSystem}: 時刻が来た家畜を成長させ、製品を作る</li>
+ * </ol>
+ * <p>視野の判定（{@link CullingSystem}）とスナップショットの書き込み（{@link SnapshotSystem}）は
+ * ティックでは実行せず、{@link #writeSnapshot}で行います。
+ * 新しい種類の物は、コンポーネントとそれを処理するシステムを加えるだけで扱えます。
+ * 決まった時刻に状態が変わる物のシステムは{@link TileEventSystem}を継承し、タイルごとの時刻の求め方と進め方だけを書きます。</p>
+ *
+ * <p>シミュレーションスレッドだけから使います。</p>
+ */
+public class WorldEntities {
+    // 農地
+    public static final Family CROPS = Family.all(PositionComponent.class, CropGrowthComponent.class).get();
+
+    // 畜産タイル
+    public static final Family LIVESTOCK = Family.all(PositionComponent.class, LivestockProductionComponent.class).get();
+
+    // 建物
+    public static final Family BUILDINGS = Family.all(PositionComponent.class, BuildingComponent.class).get();
+
+    // 拾えるアイテム
+    public static final Family ITEMS = Family.all(PositionComponent.class, ItemComponent.class).get();
+
+    // 描画するエンティティ
+    public static final Family RENDERABLES = Family.all(PositionComponent.class, RenderableComponent.class).get();
+
+    // プレイヤー
+    public static final Family PLAYERS = Family.all(PositionComponent.class, PlayerComponent.class).get();
+
+    private final Engine engine;
+    private final CropGrowthSystem cropGrowthSystem;
+    private final LivestockProductionSystem livestockProductionSystem;
+    private final CullingSystem cullingSystem;
+    private final SnapshotSystem snapshotSystem;
+
+    public WorldEntities() {
+        this.engine = new Engine();
+        this.cropGrowthSystem = new CropGrowthSystem();
+        this.livestockProductionSystem = new LivestockProductionSystem();
+        this.cullingSystem = new CullingSystem();
+        this.snapshotSystem = new SnapshotSystem();
+        engine.addSystem(new PlayerTrackingSystem());
+        engine.addSystem(new ItemPickupSystem());
+        engine.addSystem(cropGrowthSystem);
+        engine.addSystem(livestockProductionSystem);
+        engine.addSystem(cullingSystem);
+        engine.addSystem(snapshotSystem);
+        cullingSystem.setListener(snapshotSystem);
+    }
+
+    /**
+     * プレイヤーのエンティティを追加します。
+     */
+    public Entity addPlayer(Player player) {
+        Entity entity = new Entity();
+        entity.add(new PositionComponent(player.getTileX(), player.getTileY()));
+        entity.add(new PlayerComponent(player));
+        engine.addEntity(entity);
+        return entity;
+    }
+
+    /**
+     * エンティティを追加します。
+     */
+    public void addEntity(Entity entity) {
+        engine.addEntity(entity);
+    }
+
+    /**
+     * エンティティを削除します（エンジンの更新中に呼び出した場合は、実行中のシステムの更新が終わってから削除されます）。
+     */
+    public void removeEntity(Entity entity) {
+        engine.removeEntity(entity);
+    }
+
+    /**
+     * 指定されたファミリーのエンティティをすべて削除します。
+     */
+    public void removeAllEntities(Family family) {
+        engine.removeAllEntities(family);
+    }
+
+    /**
+     * 指定されたファミリーのエンティティを返します（エンティティの追加・削除に合わせて中身が変わる、順不同）。
+     */
+    public ImmutableArray<Entity> getEntities(Family family) {
+        return engine.getEntitiesFor(family);
+    }
+
+    /**
+     * 指定されたファミリーのエンティティの追加・削除を受け取るリスナーを登録します。
+     */
+    public void addEntityListener(Family family, EntityListener listener) {
+        engine.addEntityListener(family, listener);
+    }
+
+    /**
+     * 指定されたクラスのシステムを返します。
+     */
+    public <T extends EntitySystem> T getSystem(Class<T> systemType) {
+        return engine.getSystem(systemType);
+    }
+
+    /**
+     * システムを優先度の順に実行します。
+     * @param deltaTime ワールドの経過時間（ティックの長さにワールドの時間の倍率を掛けたもの、秒）
+     */
+    public void update(float deltaTime) {
+        engine.update(deltaTime);
+    }
+
+    /**
+     * 指定されたタイルの範囲の付近にあるエンティティを、描画用のスナップショットに書き込みます。
+     * 農地と畜産タイルは、処理を後回しにしている領域も現在時刻まで進めてから書き込みます。
+     */
+    public void writeSnapshot(WorldSnapshot snapshot, int minTileX, int minTileY, int maxTileX, int maxTileY) {
+        cropGrowthSystem.observeArea(minTileX, minTileY, maxTileX, maxTileY);
+        livestockProductionSystem.observeArea(minTileX, minTileY, maxTileX, maxTileY);
+        cullingSystem.setView(minTileX, minTileY, maxTileX, maxTileY);
+        snapshotSystem.write(snapshot);
+    }
+}
@@ -1,10 +1,12 @@
 package io.github.some_example_name.entity;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import io.github.some_example_name.util.EventScheduler;
 
 /**
  * 農地タイルを表すクラス。
+ * 
+ * <p>成長は毎フレームの更新ではなく、次の成長段階に達する時刻のイベント（{@link #getGrowthEvent()}）で進みます。
+ * イベントの登録と取り消しは{@code FarmManager}が行います。</p>
  */
 public class FarmTile {
     // タイル座標（マップ升単位）
@@ -17,7 +19,7 @@ public class FarmTile {
     // 成長段階（0: 種、1: 芽、2: 成長中、3: 収穫可能）
     private int growthStage;
     
-    // 成長タイマー（秒）
+    // 現在の成長段階に達した時点の成長タイマー（秒、成長速度の倍率を掛けた値）
     private float growthTimer;
     
     // 各成長段階に到達するまでの時間（秒）
@@ -45,6 +47,9 @@ public class FarmTile {
     // 収穫量の倍率（土壌条件に基づく）
     private float yieldMultiplier = 1.0f;
     
+    // 次の成長段階に達する時刻のイベント（使い回す）
+    private final EventScheduler.Event growthEvent;
+    
     public FarmTile(int tileX, int tileY) {
         this.tileX = tileX;
         this.tileY = tileY;
@@ -56,6 +61,7 @@ public class FarmTile {
         this.toolEfficiency = 1.0f;
         this.soilData = new SoilData(); // デフォルトの土壌
         this.plantedSeedId = null;
+        this.growthEvent = new EventScheduler.Event(this);
     }
     
     /**
@@ -107,25 +113,76 @@ public class FarmTile {
     }
     
     /**
-     * 農地を更新します。
-     * @param deltaTime 前フレームからの経過時間（秒）
+     * 次の成長段階に達するまでの時間（秒）を返します。
+     * @return 時間（種が植えられていない、収穫可能、または成長しない場合は負の値）
+     */
+    public float getSecondsToNextStage() {
+        if (!hasSeed || growthStage >= MAX_STAGE || growthMultiplier <= 0f) {
+            return -1f;
+        }
+        // 土壌条件に基づく成長速度の倍率を適用
+        return (getStageTime(growthStage + 1) - growthTimer) / growthMultiplier;
+    }
+    
+    /**
+     * 次の成長段階に進めます（成長イベントの期限が来たときに呼び出します）。
      */
-    public void update(float deltaTime) {
+    public void advanceStage() {
         if (!hasSeed || growthStage >= MAX_STAGE) {
             return;
         }
-        
-        // 土壌条件に基づく成長速度の倍率を適用
-        growthTimer += deltaTime * growthMultiplier;
-        
-        // 成長段階を更新
-        if (growthTimer >= STAGE_3_TIME) {
-            growthStage = MAX_STAGE; // 収穫可能
-        } else if (growthTimer >= STAGE_2_TIME) {
-            growthStage = 2; // 成長中
-        } else if (growthTimer >= STAGE_1_TIME) {
-            growthStage = 1; // 芽
+        growthStage++;
+        growthTimer = getStageTime(growthStage);
+    }
+    
+    /**
+     * 経過時間の分だけ成長を一度に進めます（早送りなどで長い時間をまとめて進める場合に使用）。
+     * 成長量は経過時間に対して区分的に線形なので、段階のしきい値と比べるだけで結果の段階が決まり、
+     * 経過時間の長さに関係なく一定の計算量で済みます。
+     * @param elapsedSeconds 現在の成長段階に達してからの経過時間（秒）
+     * @return 進めた後、次の成長段階に達するまでの時間（秒、収穫可能になった・成長しない場合は負の値）
+     */
+    public float advance(float elapsedSeconds) {
+        if (!hasSeed || growthStage >= MAX_STAGE || growthMultiplier <= 0f) {
+            return -1f;
+        }
+        // 植えてからの成長量（成長速度の倍率を掛けた時間）
+        float growth = growthTimer + elapsedSeconds * growthMultiplier;
+        if (growth >= STAGE_3_TIME) {
+            growthStage = MAX_STAGE;
+        } else if (growth >= STAGE_2_TIME) {
+            growthStage = Math.max(growthStage, 2);
+        } else if (growth >= STAGE_1_TIME) {
+            growthStage = Math.max(growthStage, 1);
+        }
+        if (growthStage > 0) {
+            growthTimer = getStageTime(growthStage);
         }
+        if (growthStage >= MAX_STAGE) {
+            return -1f;
+        }
+        return (getStageTime(growthStage + 1) - growth) / growthMultiplier;
+    }
+    
+    /**
+     * 指定された成長段階に到達するまでの時間（秒）を返します。
+     */
+    private static float getStageTime(int stage) {
+        switch (stage) {
+            case 1:
+                return STAGE_1_TIME; // 芽
+            case 2:
+                return STAGE_2_TIME; // 成長中
+            default:
+                return STAGE_3_TIME; // 収穫可能
+        }
+    }
+    
+    /**
+     * 次の成長段階に達する時刻のイベントを返します。
+     */
+    public EventScheduler.Event getGrowthEvent() {
+        return growthEvent;
     }
     
     /**
@@ -291,167 +348,13 @@ public class FarmTile {
     }
     
     /**
-     * 農地を描画します。
-     * @param shapeRenderer ShapeRendererインスタンス
-     */
-    public void render(ShapeRenderer shapeRenderer) {
-        float pixelX = tileX * Player.TILE_SIZE;
-        float pixelY = tileY * Player.TILE_SIZE;
-        
-        // 農地の背景（茶色）
-        shapeRenderer.setColor(new Color(0.6f, 0.4f, 0.2f, 1f)); // 茶色
-        shapeRenderer.rect(pixelX, pixelY, Player.TILE_SIZE, Player.TILE_SIZE);
-        
-        if (hasSeed) {
-            float centerX = pixelX + Player.TILE_SIZE / 2;
-            float centerY = pixelY + Player.TILE_SIZE / 2;
-            
-            switch (growthStage) {
-                case 0: // 種
-                    renderSeed(shapeRenderer, centerX, centerY);
-                    break;
-                case 1: // 芽
-                    renderSprout(shapeRenderer, centerX, centerY);
-                    break;
-                case 2: // 成長中（花が咲いた状態）
-                    renderFlower(shapeRenderer, centerX, centerY);
-                    break;
-                case 3: // 収穫可能（実がなった状態）
-                    renderFruit(shapeRenderer, centerX, centerY);
-                    break;
-                default:
-                    // デフォルトは小さな円
-                    shapeRenderer.setColor(new Color(0.5f, 0.5f, 0.5f, 1f));
-                    shapeRenderer.circle(centerX, centerY, Player.TILE_SIZE * 0.1f);
-            }
-        }
-    }
-    
-    /**
-     * 種を描画します。
-     */
-    private void renderSeed(ShapeRenderer shapeRenderer, float centerX, float centerY) {
-        // 種は小さな茶色の円（楕円の代わりに円を使用）
-        shapeRenderer.setColor(new Color(0.3f, 0.2f, 0.1f, 1f)); // 濃い茶色
-        float seedSize = Player.TILE_SIZE * 0.12f;
-        shapeRenderer.circle(centerX, centerY, seedSize / 2);
-    }
-    
-    /**
-     * 芽を描画します。
-     */
-    private void renderSprout(ShapeRenderer shapeRenderer, float centerX, float centerY) {
-        // 芽は小さな緑の葉っぱ（2つの葉）
-        float leafSize = Player.TILE_SIZE * 0.12f;
-        float stemHeight = Player.TILE_SIZE * 0.15f;
-        
-        // 茎を描画
-        shapeRenderer.setColor(new Color(0.1f, 0.5f, 0.1f, 1f)); // 濃い緑
-        shapeRenderer.rect(centerX - Player.TILE_SIZE * 0.02f, centerY - stemHeight / 2, 
-                          Player.TILE_SIZE * 0.04f, stemHeight);
-        
-        // 左の葉（円で表現）
-        shapeRenderer.setColor(new Color(0.2f, 0.6f, 0.2f, 1f)); // 薄い緑
-        float leftLeafX = centerX - Player.TILE_SIZE * 0.1f;
-        float leftLeafY = centerY + Player.TILE_SIZE * 0.08f;
-        shapeRenderer.circle(leftLeafX, leftLeafY, leafSize / 2);
-        
-        // 右の葉（円で表現）
-        float rightLeafX = centerX + Player.TILE_SIZE * 0.1f;
-        float rightLeafY = centerY + Player.TILE_SIZE * 0.08f;
-        shapeRenderer.circle(rightLeafX, rightLeafY, leafSize / 2);
-    }
-    
-    /**
-     * 花を描画します。
-     */
-    private void renderFlower(ShapeRenderer shapeRenderer, float centerX, float centerY) {
-        // 花は中心に円、周りに花びら
-        float flowerSize = Player.TILE_SIZE * 0.4f;
-        float petalSize = Player.TILE_SIZE * 0.1f;
-        
-        // 茎を描画
-        shapeRenderer.setColor(new Color(0.1f, 0.5f, 0.1f, 1f)); // 濃い緑
-        float stemHeight = Player.TILE_SIZE * 0.3f;
-        shapeRenderer.rect(centerX - Player.TILE_SIZE * 0.03f, centerY - stemHeight / 2, 
-                          Player.TILE_SIZE * 0.06f, stemHeight);
-        
-        // 花びらを描画（5枚の花びらを円で表現）
-        shapeRenderer.setColor(new Color(1f, 0.8f, 0.2f, 1f)); // 黄色
-        int petalCount = 5;
-        for (int i = 0; i < petalCount; i++) {
-            float angle = (float)(i * 2 * Math.PI / petalCount);
-            float petalX = centerX + (float)Math.cos(angle) * flowerSize * 0.25f;
-            float petalY = centerY + (float)Math.sin(angle) * flowerSize * 0.25f;
-            shapeRenderer.circle(petalX, petalY, petalSize / 2);
-        }
-        
-        // 中心を描画
-        shapeRenderer.setColor(new Color(1f, 0.6f, 0.1f, 1f)); // オレンジ
-        shapeRenderer.circle(centerX, centerY, Player.TILE_SIZE * 0.08f);
-        
-        // 花びらの間に小さな葉を追加
-        shapeRenderer.setColor(new Color(0.1f, 0.6f, 0.1f, 1f)); // 緑
-        for (int i = 0; i < petalCount; i++) {
-            float angle = (float)(i * 2 * Math.PI / petalCount + Math.PI / petalCount);
-            float leafX = centerX + (float)Math.cos(angle) * flowerSize * 0.2f;
-            float leafY = centerY + (float)Math.sin(angle) * flowerSize * 0.2f;
-            shapeRenderer.circle(leafX, leafY, Player.TILE_SIZE * 0.04f);
-        }
-    }
-    
-    /**
-     * 実を描画します。
+     * 描画に必要な状態を他の農地タイルからコピーします（描画用のスナップショットに使用）。
+     * @param other コピー元
      */
-    private void renderFruit(ShapeRenderer shapeRenderer, float centerX, float centerY) {
-        // 実がなった状態：複数の実と葉
-        float fruitSize = Player.TILE_SIZE * 0.18f;
-        float leafSize = Player.TILE_SIZE * 0.1f;
-        
-        // 茎を描画
-        shapeRenderer.setColor(new Color(0.1f, 0.5f, 0.1f, 1f)); // 濃い緑
-        float stemHeight = Player.TILE_SIZE * 0.35f;
-        shapeRenderer.rect(centerX - Player.TILE_SIZE * 0.03f, centerY - stemHeight / 2, 
-                          Player.TILE_SIZE * 0.06f, stemHeight);
-        
-        // 葉を描画（左右、円で表現）
-        shapeRenderer.setColor(new Color(0.1f, 0.7f, 0.1f, 1f)); // 緑
-        // 左の葉
-        float leftLeafX = centerX - Player.TILE_SIZE * 0.15f;
-        float leftLeafY = centerY + Player.TILE_SIZE * 0.12f;
-        shapeRenderer.circle(leftLeafX, leftLeafY, leafSize / 2);
-        
-        // 右の葉
-        float rightLeafX = centerX + Player.TILE_SIZE * 0.15f;
-        float rightLeafY = centerY + Player.TILE_SIZE * 0.12f;
-        shapeRenderer.circle(rightLeafX, rightLeafY, leafSize / 2);
-        
-        // 実を描画（3個）
-        shapeRenderer.setColor(new Color(0.9f, 0.7f, 0.1f, 1f)); // 黄金色
-        // 左の実
-        float leftFruitX = centerX - Player.TILE_SIZE * 0.12f;
-        float leftFruitY = centerY - Player.TILE_SIZE * 0.05f;
-        shapeRenderer.circle(leftFruitX, leftFruitY, fruitSize / 2);
-        
-        // 中央の実
-        float centerFruitY = centerY - Player.TILE_SIZE * 0.08f;
-        shapeRenderer.circle(centerX, centerFruitY, fruitSize / 2);
-        
-        // 右の実
-        float rightFruitX = centerX + Player.TILE_SIZE * 0.12f;
-        float rightFruitY = centerY - Player.TILE_SIZE * 0.05f;
-        shapeRenderer.circle(rightFruitX, rightFruitY, fruitSize / 2);
-        
-        // 実のハイライト（光の反射）
-        shapeRenderer.setColor(new Color(1f, 0.9f, 0.3f, 0.7f)); // 明るい黄色
-        shapeRenderer.circle(leftFruitX - fruitSize * 0.2f, leftFruitY + fruitSize * 0.2f, fruitSize * 0.25f);
-        shapeRenderer.circle(centerX - fruitSize * 0.2f, centerFruitY + fruitSize * 0.2f, fruitSize * 0.25f);
-        shapeRenderer.circle(rightFruitX - fruitSize * 0.2f, rightFruitY + fruitSize * 0.2f, fruitSize * 0.25f);
-        
-        // 実の表面に小さな点を追加（質感を出す）
-        shapeRenderer.setColor(new Color(0.8f, 0.6f, 0.05f, 0.5f)); // 少し暗い黄金色
-        shapeRenderer.circle(leftFruitX + fruitSize * 0.15f, leftFruitY - fruitSize * 0.15f, fruitSize * 0.1f);
-        shapeRenderer.circle(centerX + fruitSize * 0.15f, centerFruitY - fruitSize * 0.15f, fruitSize * 0.1f);
-        shapeRenderer.circle(rightFruitX + fruitSize * 0.15f, rightFruitY - fruitSize * 0.15f, fruitSize * 0.1f);
+    public void copyRenderStateFrom(FarmTile other) {
+        this.tileX = other.tileX;
+        this.tileY = other.tileY;
+        this.hasSeed = other.hasSeed;
+        this.growthStage = other.growthStage;
     }
 }
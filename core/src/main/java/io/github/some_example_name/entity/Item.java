@@ -1,12 +1,13 @@
 package io.github.some_example_name.entity;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Pool;
 
 /**
  * アイテムを表すクラス。
+ * ワールドに置くアイテムはエンティティごとItemManagerのプールから取り出して{@link #set}で初期化し、取得したらプールに戻します。
  */
-public class Item {
+public class Item implements Pool.Poolable {
     // タイル座標
     private int tileX;
     private int tileY;
@@ -73,6 +74,40 @@ public class Item {
         this.itemData = null;
     }
     
+    /**
+     * アイテムデータを指定して初期化し直します（プールから取り出したときに使用）。
+     */
+    public void set(int tileX, int tileY, ItemData itemData) {
+        this.tileX = tileX;
+        this.tileY = tileY;
+        this.collected = false;
+        this.itemData = itemData;
+        this.type = determineItemType(itemData.getColor());
+    }
+    
+    /**
+     * アイテムの種類を指定して初期化し直します（プールから取り出したときに使用）。
+     */
+    public void set(int tileX, int tileY, ItemType type) {
+        this.tileX = tileX;
+        this.tileY = tileY;
+        this.collected = false;
+        this.type = type;
+        this.itemData = null;
+    }
+    
+    /**
+     * プールに戻すときに状態を消します。
+     */
+    @Override
+    public void reset() {
+        this.tileX = 0;
+        this.tileY = 0;
+        this.collected = false;
+        this.type = ItemType.RED;
+        this.itemData = null;
+    }
+    
     /**
      * 色からItemTypeを推測します。
      */
@@ -142,25 +177,14 @@ public class Item {
     }
     
     /**
-     * アイテムを描画します。
-     * @param shapeRenderer ShapeRendererインスタンス
+     * 描画に必要な状態を他のアイテムからコピーします（描画用のスナップショットに使用）。
+     * @param other コピー元
      */
-    public void render(ShapeRenderer shapeRenderer) {
-        if (collected) {
-            return; // 取得済みのアイテムは描画しない
-        }
-        
-        float pixelX = tileX * Player.TILE_SIZE;
-        float pixelY = tileY * Player.TILE_SIZE;
-        
-        // アイテムを円形で描画
-        Color itemColor = getColor();
-        shapeRenderer.setColor(itemColor);
-        shapeRenderer.circle(pixelX + Player.TILE_SIZE / 2, pixelY + Player.TILE_SIZE / 2, Player.TILE_SIZE / 3);
-        
-        // 中心に小さな点を描画
-        shapeRenderer.setColor(Color.WHITE);
-        shapeRenderer.circle(pixelX + Player.TILE_SIZE / 2, pixelY + Player.TILE_SIZE / 2, 2);
+    public void copyRenderStateFrom(Item other) {
+        this.tileX = other.tileX;
+        this.tileY = other.tileY;
+        this.collected = other.collected;
+        this.type = other.type;
+        this.itemData = other.itemData;
     }
 }
-
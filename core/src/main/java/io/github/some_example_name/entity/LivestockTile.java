@@ -1,10 +1,12 @@
 package io.github.some_example_name.entity;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import io.github.some_example_name.util.EventScheduler;
 
 /**
  * 畜産タイルを表すクラス。
+ * 
+ * <p>成長と製品の生産は毎フレームの更新ではなく、次に状態が変わる時刻のイベント（{@link #getTimerEvent()}）で進みます。
+ * イベントとイベントの間は状態を持つだけで、処理は発生しません。イベントの登録と取り消しは{@code LivestockManager}が行います。</p>
  */
 public class LivestockTile {
     // タイル座標（マップ升単位）
@@ -20,10 +22,10 @@ public class LivestockTile {
     // 動物の成長段階（0: 幼体、1: 成長中、2: 成熟）
     private int growthStage;
     
-    // 成長タイマー（秒）
+    // 現在の成長段階に達した時点の成長タイマー（秒）
     private float growthTimer;
     
-    // 製品の生産タイマー（秒）
+    // 製品の生産タイマー（秒、製品の生産を始めた時点では0）
     private float productTimer;
     
     // 製品が生産されているか
@@ -36,6 +38,9 @@ public class LivestockTile {
     // 最大成長段階
     private static final int MAX_STAGE = 2;
     
+    // 次に成長段階が変わる、または製品ができる時刻のイベント（使い回す）
+    private final EventScheduler.Event timerEvent;
+    
     public LivestockTile(int tileX, int tileY) {
         this.tileX = tileX;
         this.tileY = tileY;
@@ -45,6 +50,7 @@ public class LivestockTile {
         this.growthTimer = 0f;
         this.productTimer = 0f;
         this.hasProduct = false;
+        this.timerEvent = new EventScheduler.Event(this);
     }
     
     /**
@@ -69,35 +75,101 @@ public class LivestockTile {
     }
     
     /**
-     * 畜産タイルを更新します。
-     * @param deltaTime 前フレームからの経過時間（秒）
+     * 次に状態が変わる（成長段階が進む、または製品ができる）までの時間（秒）を返します。
+     * @return 時間（動物がいない、または製品の収穫待ちで変化しない場合は負の値）
+     */
+    public float getSecondsToNextEvent() {
+        if (!hasAnimal || livestockData == null) {
+            return -1f;
+        }
+        
+        // 成長中は次の成長段階まで
+        if (growthStage < MAX_STAGE) {
+            return getStageTime(growthStage + 1) - growthTimer;
+        }
+        
+        // 成熟したら製品ができるまで（製品がある種類のみ、収穫されるまでは次を作らない）
+        if (livestockData.hasProduct() && !hasProduct) {
+            return Math.max(0f, livestockData.productInterval - productTimer);
+        }
+        return -1f;
+    }
+    
+    /**
+     * 次の状態に進めます（タイマーイベントの期限が来たときに呼び出します）。
      */
-    public void update(float deltaTime) {
+    public void advanceToNextEvent() {
         if (!hasAnimal || livestockData == null) {
             return;
         }
         
-        // 成長処理
         if (growthStage < MAX_STAGE) {
-            growthTimer += deltaTime;
-            
             // 成長段階を更新
-            if (growthTimer >= STAGE_2_TIME) {
-                growthStage = MAX_STAGE; // 成熟
-            } else if (growthTimer >= STAGE_1_TIME) {
-                growthStage = 1; // 成長中
-            }
+            growthStage++;
+            growthTimer = getStageTime(growthStage);
+            productTimer = 0f;
+        } else if (livestockData.hasProduct() && !hasProduct) {
+            // 製品ができた
+            hasProduct = true;
+            productTimer = 0f;
+        }
+    }
+    
+    /**
+     * 経過時間の分だけ成長と製品の生産を一度に進めます（早送りなどで長い時間をまとめて進める場合に使用）。
+     * 成長と生産は経過時間に対して区分的に線形で、製品は収穫されるまで次を作らないため、
+     * 経過時間の長さに関係なく一定の計算量で結果の状態が決まります。
+     * @param elapsedSeconds 現在の状態になってからの経過時間（秒）
+     * @return 進めた後、次に状態が変わるまでの時間（秒、変化しない場合は負の値）
+     */
+    public float advance(float elapsedSeconds) {
+        if (!hasAnimal || livestockData == null) {
+            return -1f;
         }
         
-        // 成熟したら製品を生産（製品がある種類のみ）
-        if (growthStage >= MAX_STAGE && livestockData.hasProduct() && !hasProduct) {
-            productTimer += deltaTime;
-            
-            if (productTimer >= livestockData.productInterval) {
-                hasProduct = true;
-                productTimer = 0f;
+        float remaining = elapsedSeconds;
+        if (growthStage < MAX_STAGE) {
+            // 配置してからの成長時間
+            float growth = growthTimer + remaining;
+            if (growth < STAGE_2_TIME) {
+                if (growth >= STAGE_1_TIME) {
+                    growthStage = 1;
+                    growthTimer = STAGE_1_TIME;
+                }
+                return getStageTime(growthStage + 1) - growth;
             }
+            // 成熟した時点からの残りの時間で製品の生産を進める
+            growthStage = MAX_STAGE;
+            growthTimer = STAGE_2_TIME;
+            productTimer = 0f;
+            remaining = growth - STAGE_2_TIME;
+        }
+        
+        if (!livestockData.hasProduct() || hasProduct) {
+            return -1f;
+        }
+        float production = productTimer + remaining;
+        if (production >= livestockData.productInterval) {
+            // 製品ができた（収穫されるまで次は作らない）
+            hasProduct = true;
+            productTimer = 0f;
+            return -1f;
         }
+        return livestockData.productInterval - production;
+    }
+    
+    /**
+     * 指定された成長段階に到達するまでの時間（秒）を返します。
+     */
+    private static float getStageTime(int stage) {
+        return stage >= MAX_STAGE ? STAGE_2_TIME : STAGE_1_TIME;
+    }
+    
+    /**
+     * 次に状態が変わる時刻のイベントを返します。
+     */
+    public EventScheduler.Event getTimerEvent() {
+        return timerEvent;
     }
     
     /**
@@ -178,55 +250,15 @@ public class LivestockTile {
     }
     
     /**
-     * 畜産タイルを描画します。
-     * @param shapeRenderer ShapeRendererインスタンス
+     * 描画に必要な状態を他の畜産タイルからコピーします（描画用のスナップショットに使用）。
+     * @param other コピー元
      */
-    public void render(ShapeRenderer shapeRenderer) {
-        float pixelX = tileX * Player.TILE_SIZE;
-        float pixelY = tileY * Player.TILE_SIZE;
-        
-        // 畜産タイルの背景（薄い茶色）
-        shapeRenderer.setColor(new Color(0.7f, 0.6f, 0.5f, 1f)); // 薄い茶色
-        shapeRenderer.rect(pixelX, pixelY, Player.TILE_SIZE, Player.TILE_SIZE);
-        
-        if (hasAnimal && livestockData != null) {
-            // 成長段階に応じてサイズを変更
-            float animalSize;
-            
-            switch (growthStage) {
-                case 0: // 幼体
-                    animalSize = Player.TILE_SIZE * 0.3f;
-                    break;
-                case 1: // 成長中
-                    animalSize = Player.TILE_SIZE * 0.5f;
-                    break;
-                case 2: // 成熟
-                    animalSize = Player.TILE_SIZE * 0.6f;
-                    break;
-                default:
-                    animalSize = Player.TILE_SIZE * 0.4f;
-            }
-            
-            // 動物を描画（種類ごとの色を使用）
-            Color animalColor = livestockData.getColor();
-            // 成長段階に応じて色の明度を調整
-            float brightness = 0.5f + (growthStage * 0.25f);
-            animalColor = new Color(
-                Math.min(1f, animalColor.r * brightness),
-                Math.min(1f, animalColor.g * brightness),
-                Math.min(1f, animalColor.b * brightness),
-                1f
-            );
-            
-            shapeRenderer.setColor(animalColor);
-            float offset = (Player.TILE_SIZE - animalSize) / 2;
-            shapeRenderer.rect(pixelX + offset, pixelY + offset, animalSize, animalSize);
-            
-            // 製品がある場合は小さな円を表示
-            if (hasProduct && livestockData.hasProduct()) {
-                shapeRenderer.setColor(new Color(1f, 1f, 0.8f, 1f)); // 薄い黄色
-                shapeRenderer.circle(pixelX + Player.TILE_SIZE * 0.8f, pixelY + Player.TILE_SIZE * 0.8f, Player.TILE_SIZE * 0.15f);
-            }
-        }
+    public void copyRenderStateFrom(LivestockTile other) {
+        this.tileX = other.tileX;
+        this.tileY = other.tileY;
+        this.hasAnimal = other.hasAnimal;
+        this.livestockData = other.livestockData;
+        this.growthStage = other.growthStage;
+        this.hasProduct = other.hasProduct;
     }
 }
@@ -0,0 +1,87 @@
+package io.github.some_example_name.entity;
+
+/**
+ * タイルの周囲8方向の地形を分類ごとに1バイトのビットマスクで表すための定義。
+ *
+ * <p>ビットiは方向({@link #DX}[i], {@link #DY}[i])の隣接タイルに対応します。
+ * 反対方向のビットは{@code 7 - i}になるよう並べているため、隣接タイル側のマスクも簡単に更新できます。
+ * マスクは{@link TerrainChunk}にタイルごとに保持されます。</p>
+ */
+public final class NeighborMask {
+    // 分類（マスクの種類）
+    public static final int WATER = 0;
+    public static final int WATER_SOURCE = 1;
+    public static final int CHANNEL = 2;
+    public static final int IMPASSABLE = 3;
+    public static final int CLASS_COUNT = 4;
+
+    // 8方向のオフセット（ビット順）
+    private static final int[] DX = {-1, -1, -1, 0, 0, 1, 1, 1};
+    private static final int[] DY = {-1, 0, 1, -1, 1, -1, 0, 1};
+
+    // 上下左右のビット
+    public static final int ORTHOGONAL_BITS = (1 << 1) | (1 << 3) | (1 << 4) | (1 << 6);
+
+    // 地形タイプの序数 → 属する分類のビット集合
+    private static final byte[] CLASSES_BY_TYPE;
+
+    static {
+        TerrainTile.TerrainType[] types = TerrainTile.TerrainType.values();
+        CLASSES_BY_TYPE = new byte[types.length];
+        for (TerrainTile.TerrainType type : types) {
+            int classes = 0;
+            if (type == TerrainTile.TerrainType.WATER) {
+                // 水は移動できない
+                classes |= (1 << WATER) | (1 << WATER_SOURCE) | (1 << IMPASSABLE);
+            }
+            if (type == TerrainTile.TerrainType.PADDY) {
+                classes |= 1 << WATER_SOURCE;
+            }
+            if (type == TerrainTile.TerrainType.WATER_CHANNEL) {
+                // 通水しているかどうかは水路ネットワークで判定する
+                classes |= 1 << CHANNEL;
+            }
+            CLASSES_BY_TYPE[type.ordinal()] = (byte)classes;
+        }
+    }
+
+    private NeighborMask() {
+    }
+
+    /**
+     * 指定された方向のX方向のオフセットを返します。
+     * @param bit ビット位置（0〜7）
+     */
+    public static int dx(int bit) {
+        return DX[bit];
+    }
+
+    /**
+     * 指定された方向のY方向のオフセットを返します。
+     * @param bit ビット位置（0〜7）
+     */
+    public static int dy(int bit) {
+        return DY[bit];
+    }
+
+    /**
+     * 反対方向のビット位置を返します。
+     */
+    public static int opposite(int bit) {
+        return 7 - bit;
+    }
+
+    /**
+     * 地形タイプが属する分類のビット集合を返します（ビット位置は分類の番号）。
+     */
+    public static int classesOf(TerrainTile.TerrainType type) {
+        return CLASSES_BY_TYPE[type.ordinal()];
+    }
+
+    /**
+     * 地形タイプが指定された分類に属するかどうかを返します。
+     */
+    public static boolean isClass(TerrainTile.TerrainType type, int maskClass) {
+        return (CLASSES_BY_TYPE[type.ordinal()] & (1 << maskClass)) != 0;
+    }
+}
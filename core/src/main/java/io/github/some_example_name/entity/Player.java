@@ -1,7 +1,5 @@
 package io.github.some_example_name.entity;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import io.github.some_example_name.system.SoundManager;
 import io.github.some_example_name.manager.TerrainManager;
 
@@ -29,6 +27,13 @@ public class Player {
     private float pixelX;
     private float pixelY;
     
+    // 前回のティック終了時のピクセル座標（描画の補間用）
+    private float previousPixelX;
+    private float previousPixelY;
+    
+    // 描画の補間係数（0: 前回のティック、1: 最新のティック）
+    private float renderAlpha = 1f;
+    
     // 移動状態
     private boolean isMoving;
     private float moveProgress; // 0.0 から 1.0 まで
@@ -58,6 +63,8 @@ public class Player {
         this.playerTileY = startTileY * SUBDIVISIONS + SUBDIVISIONS / 2;
         this.pixelX = playerTileX * PLAYER_TILE_SIZE;
         this.pixelY = playerTileY * PLAYER_TILE_SIZE;
+        this.previousPixelX = pixelX;
+        this.previousPixelY = pixelY;
         this.isMoving = false;
     }
     
@@ -76,10 +83,12 @@ public class Player {
     }
     
     /**
-     * プレイヤーを更新します。
-     * @param deltaTime 前フレームからの経過時間（秒）
+     * プレイヤーを1ティック分更新します。
+     * @param deltaTime ティックの長さ（秒）
      */
     public void update(float deltaTime) {
+        previousPixelX = pixelX;
+        previousPixelY = pixelY;
         if (isMoving) {
             moveProgress += deltaTime / moveSpeed;
             
@@ -166,6 +175,27 @@ public class Player {
         return isMoving;
     }
     
+    /**
+     * 移動の進み具合（0.0から1.0まで）を返します。
+     */
+    public float getMoveProgress() {
+        return moveProgress;
+    }
+    
+    /**
+     * 最後に移動したX方向（-1, 0, 1）を返します。
+     */
+    public int getLastMoveX() {
+        return lastMoveX;
+    }
+    
+    /**
+     * 最後に移動したY方向（-1, 0, 1）を返します。
+     */
+    public int getLastMoveY() {
+        return lastMoveY;
+    }
+    
     /**
      * 現在のマップ升X座標を返します（後方互換性のため）。
      */
@@ -208,6 +238,28 @@ public class Player {
         return pixelY;
     }
     
+    /**
+     * 描画の補間係数を設定します（毎フレームの描画前に呼び出す）。
+     * @param alpha 前回のティックから最新のティックまでの進み具合（0〜1）
+     */
+    public void setRenderAlpha(float alpha) {
+        this.renderAlpha = alpha;
+    }
+    
+    /**
+     * 描画用のピクセルX座標を返します（前回と最新のティックの間を補間した値）。
+     */
+    public float getRenderPixelX() {
+        return previousPixelX + (pixelX - previousPixelX) * renderAlpha;
+    }
+    
+    /**
+     * 描画用のピクセルY座標を返します（前回と最新のティックの間を補間した値）。
+     */
+    public float getRenderPixelY() {
+        return previousPixelY + (pixelY - previousPixelY) * renderAlpha;
+    }
+    
     /**
      * 現在の位置のタイルタイプを取得します。
      * @return タイルタイプ（取得できない場合はGRASSを返す）
@@ -222,9 +274,9 @@ public class Player {
         int tileY = getTileY();
         
         // 地形タイルを取得
-        TerrainTile tile = terrainManager.getTerrainTile(tileX, tileY);
-        if (tile != null) {
-            return tile.getTerrainType();
+        TerrainTile.TerrainType type = terrainManager.getType(tileX, tileY);
+        if (type != null) {
+            return type;
         }
         
         // タイルが取得できない場合はデフォルトのGRASSを返す
@@ -241,128 +293,30 @@ public class Player {
         this.playerTileY = playerTileY;
         this.pixelX = playerTileX * PLAYER_TILE_SIZE;
         this.pixelY = playerTileY * PLAYER_TILE_SIZE;
+        // 瞬間移動なので補間しない
+        this.previousPixelX = pixelX;
+        this.previousPixelY = pixelY;
         this.isMoving = false; // 移動を停止
     }
     
     /**
-     * プレイヤーを描画します。
-     * @param shapeRenderer ShapeRendererインスタンス
+     * 描画に必要な状態を他のプレイヤーからコピーします（描画用のスナップショットに使用）。
+     * 描画の補間係数はコピーしません。
+     * @param other コピー元
      */
-    public void render(ShapeRenderer shapeRenderer) {
-        // プレイヤーの実際のピクセル位置を基準に描画（細かい移動も反映される）
-        // プレイヤー升の中心を基準にする
-        float playerCenterX = pixelX + PLAYER_TILE_SIZE / 2;
-        float playerCenterY = pixelY + PLAYER_TILE_SIZE / 2;
-        
-        // プレイヤーのサイズを4マップ升サイズに設定
-        float playerSize = TILE_SIZE * 4.0f;
-        
-        // 移動アニメーション用のオフセット（上下に少し揺れる）
-        float bounceOffset = 0f;
-        if (isMoving) {
-            bounceOffset = (float)Math.sin(moveProgress * Math.PI * 2) * 3f;
-        }
-        
-        float drawY = playerCenterY - playerSize / 2 + bounceOffset;
-        
-        // 影を描画（シンプルな円形）
-        shapeRenderer.setColor(new Color(0f, 0f, 0f, 0.25f));
-        shapeRenderer.ellipse(playerCenterX - playerSize * 0.4f, playerCenterY - playerSize / 2 - 5, 
-                             playerSize * 0.8f, playerSize * 0.2f);
-        
-        // 体（シンプルな丸いキャラクター）
-        float bodyRadius = playerSize * 0.35f;
-        shapeRenderer.setColor(new Color(0.3f, 0.6f, 0.9f, 1f)); // 明るい青
-        shapeRenderer.circle(playerCenterX, drawY + playerSize * 0.6f, bodyRadius);
-        
-        // 体のハイライト
-        shapeRenderer.setColor(new Color(0.4f, 0.7f, 1f, 0.6f));
-        shapeRenderer.circle(playerCenterX - bodyRadius * 0.3f, drawY + playerSize * 0.55f, bodyRadius * 0.4f);
-        
-        // 頭（大きめの丸）
-        float headRadius = playerSize * 0.25f;
-        shapeRenderer.setColor(new Color(1f, 0.9f, 0.8f, 1f)); // 明るい肌色
-        shapeRenderer.circle(playerCenterX, drawY + playerSize * 0.75f, headRadius);
-        
-        // 頭のハイライト
-        shapeRenderer.setColor(new Color(1f, 0.95f, 0.85f, 0.7f));
-        shapeRenderer.circle(playerCenterX - headRadius * 0.3f, drawY + playerSize * 0.7f, headRadius * 0.4f);
-        
-        // 目（かわいい大きな目）
-        float eyeSize = headRadius * 0.25f;
-        float eyeSpacing = headRadius * 0.4f;
-        float eyeY = drawY + playerSize * 0.75f;
-        
-        // 移動方向に応じて目の位置を調整
-        float eyeX1 = playerCenterX - eyeSpacing;
-        float eyeX2 = playerCenterX + eyeSpacing;
-        
-        if (lastMoveX > 0) { // 右向き
-            eyeX1 += eyeSize * 0.5f;
-            eyeX2 += eyeSize * 0.5f;
-        } else if (lastMoveX < 0) { // 左向き
-            eyeX1 -= eyeSize * 0.5f;
-            eyeX2 -= eyeSize * 0.5f;
-        }
-        if (lastMoveY > 0) { // 上向き
-            eyeY += eyeSize * 0.3f;
-        } else if (lastMoveY < 0) { // 下向き
-            eyeY -= eyeSize * 0.3f;
-        }
-        
-        // 白目
-        shapeRenderer.setColor(Color.WHITE);
-        shapeRenderer.circle(eyeX1, eyeY, eyeSize * 1.2f);
-        shapeRenderer.circle(eyeX2, eyeY, eyeSize * 1.2f);
-        
-        // 黒目
-        shapeRenderer.setColor(Color.BLACK);
-        shapeRenderer.circle(eyeX1, eyeY, eyeSize);
-        shapeRenderer.circle(eyeX2, eyeY, eyeSize);
-        
-        // 目のハイライト
-        shapeRenderer.setColor(Color.WHITE);
-        shapeRenderer.circle(eyeX1 - eyeSize * 0.2f, eyeY + eyeSize * 0.2f, eyeSize * 0.3f);
-        shapeRenderer.circle(eyeX2 - eyeSize * 0.2f, eyeY + eyeSize * 0.2f, eyeSize * 0.3f);
-        
-        // 口（シンプルな笑顔）
-        shapeRenderer.setColor(new Color(0.8f, 0.3f, 0.3f, 1f)); // 赤
-        float mouthY = drawY + playerSize * 0.65f;
-        shapeRenderer.arc(playerCenterX, mouthY, headRadius * 0.3f, 0, 180);
-        
-        // 手足（シンプルな円）
-        float limbRadius = playerSize * 0.08f;
-        shapeRenderer.setColor(new Color(1f, 0.9f, 0.8f, 1f)); // 肌色
-        
-        // 移動中は手足を動かす
-        float limbOffset = 0f;
-        if (isMoving) {
-            limbOffset = (float)Math.sin(moveProgress * Math.PI * 4) * playerSize * 0.1f;
-        }
-        
-        // 左腕
-        shapeRenderer.circle(playerCenterX - bodyRadius * 0.7f, drawY + playerSize * 0.5f + limbOffset, limbRadius);
-        // 右腕
-        shapeRenderer.circle(playerCenterX + bodyRadius * 0.7f, drawY + playerSize * 0.5f - limbOffset, limbRadius);
-        // 左足
-        shapeRenderer.circle(playerCenterX - bodyRadius * 0.4f, drawY + playerSize * 0.15f + limbOffset * 0.5f, limbRadius);
-        // 右足
-        shapeRenderer.circle(playerCenterX + bodyRadius * 0.4f, drawY + playerSize * 0.15f - limbOffset * 0.5f, limbRadius);
-        
-        // アクセサリ（小さな星やハート）
-        if (isMoving) {
-            shapeRenderer.setColor(new Color(1f, 0.8f, 0.2f, 0.8f)); // 黄色
-            float starSize = playerSize * 0.05f;
-            float starX = playerCenterX + headRadius * 0.6f;
-            float starY = drawY + playerSize * 0.85f;
-            // 簡単な星の形（5つの点）
-            for (int i = 0; i < 5; i++) {
-                float angle = (float)(i * Math.PI * 2 / 5);
-                float x = starX + (float)Math.cos(angle) * starSize;
-                float y = starY + (float)Math.sin(angle) * starSize;
-                shapeRenderer.circle(x, y, starSize * 0.3f);
-            }
-        }
+    public void copyRenderStateFrom(Player other) {
+        this.playerTileX = other.playerTileX;
+        this.playerTileY = other.playerTileY;
+        this.pixelX = other.pixelX;
+        this.pixelY = other.pixelY;
+        this.previousPixelX = other.previousPixelX;
+        this.previousPixelY = other.previousPixelY;
+        this.isMoving = other.isMoving;
+        this.moveProgress = other.moveProgress;
+        this.targetPlayerTileX = other.targetPlayerTileX;
+        this.targetPlayerTileY = other.targetPlayerTileY;
+        this.lastMoveX = other.lastMoveX;
+        this.lastMoveY = other.lastMoveY;
     }
 }
 
@@ -0,0 +1,266 @@
+package io.github.some_example_name.entity;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 16x16タイルの地形チャンクを表すクラス。
+ * タイルごとのオブジェクトを持たず、地形タイプの序数をbyte配列で保持します。
+ * 水路の通水状態は地形から求まるため、チャンクには持たず{@code WaterChannelNetwork}で管理します。
+ * 隣接判定を高速にするため、タイルごとに周囲8方向の分類別ビットマスク（{@link NeighborMask}）も保持します。
+ */
+public class TerrainChunk {
+    // チャンクの一辺のタイル数（2の累乗）
+    public static final int SIZE = 16;
+
+    // SIZEのビットシフト量（タイル座標 → チャンク座標の変換用）
+    public static final int SHIFT = 4;
+
+    // チャンク内座標を取り出すマスク
+    public static final int MASK = SIZE - 1;
+
+    // チャンク内のタイル数
+    public static final int TILE_COUNT = SIZE * SIZE;
+
+    // 地形タイプの一覧（values()は毎回配列を複製するためキャッシュする）
+    private static final TerrainTile.TerrainType[] TYPES = TerrainTile.TerrainType.values();
+
+    private final int chunkX;
+    private final int chunkY;
+
+    // 地形タイプの序数（インデックス: localY * SIZE + localX）
+    // 描画スレッドに渡した配列は書き換えず、次に変更するときに複製する（コピーオンライト）
+    private byte[] types;
+
+    // typesを描画スレッドに渡したかどうか
+    private boolean typesPublished;
+
+    // 周囲8方向のビットマスク（インデックス: 分類 * TILE_COUNT + チャンク内インデックス）。地形から求まるため保存しない
+    private final byte[] neighborMasks;
+
+    // シードからの生成結果から変更されたかどうか（変更されたチャンクは破棄せずディスクに退避する）
+    private boolean modified;
+
+    // 最後にディスクへ書き出した（または読み込んだ）内容から変更されたかどうか
+    private boolean dirty;
+
+    // 最後に参照された時刻（地形マネージャーのフレーム番号、LRU判定用）
+    private long lastAccess;
+
+    // 見た目が変わるたびに増える番号（描画キャッシュの再構築判定用、シミュレーションスレッドだけが読み書きする）
+    private int renderVersion;
+
+    public TerrainChunk(int chunkX, int chunkY) {
+        this.chunkX = chunkX;
+        this.chunkY = chunkY;
+        this.types = new byte[TILE_COUNT];
+        this.neighborMasks = new byte[NeighborMask.CLASS_COUNT * TILE_COUNT];
+    }
+
+    /**
+     * チャンク座標を1つのlongキーにパックします。
+     * @param chunkX チャンクX座標
+     * @param chunkY チャンクY座標
+     * @return パックされたキー
+     */
+    public static long key(int chunkX, int chunkY) {
+        return ((long)chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+    }
+
+    /**
+     * タイル座標からチャンク座標を求めます（負の座標にも対応）。
+     * @param tileCoord タイル座標
+     * @return チャンク座標
+     */
+    public static int toChunkCoord(int tileCoord) {
+        return tileCoord >> SHIFT;
+    }
+
+    /**
+     * タイル座標からチャンク内のインデックスを求めます。
+     * @param tileX タイルX座標
+     * @param tileY タイルY座標
+     * @return チャンク内インデックス
+     */
+    public static int localIndex(int tileX, int tileY) {
+        return ((tileY & MASK) << SHIFT) | (tileX & MASK);
+    }
+
+    /**
+     * 序数から地形タイプを取得します。
+     */
+    public static TerrainTile.TerrainType typeOf(int ordinal) {
+        return TYPES[ordinal];
+    }
+
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    public int getChunkY() {
+        return chunkY;
+    }
+
+    /**
+     * チャンクのキーを返します。
+     */
+    public long getKey() {
+        return key(chunkX, chunkY);
+    }
+
+    /**
+     * 指定されたインデックスの地形タイプを取得します（アロケーションなし）。
+     * @param index チャンク内インデックス
+     * @return 地形タイプ
+     */
+    public TerrainTile.TerrainType getType(int index) {
+        return TYPES[types[index]];
+    }
+
+    /**
+     * 指定されたインデックスの地形タイプを設定します。
+     * @param index チャンク内インデックス
+     * @param type 地形タイプ
+     */
+    public void setType(int index, TerrainTile.TerrainType type) {
+        ensureTypesWritable();
+        types[index] = (byte)type.ordinal();
+    }
+
+    /**
+     * 描画スレッドに渡す地形タイプの序数の配列を返します（シミュレーションスレッドから呼び出す）。
+     * 返した配列はこれ以降書き換えられず、次に地形を変更するときにチャンク側が配列を複製します。
+     * @return 地形タイプの序数（インデックス: localY * SIZE + localX、変更しないこと）
+     */
+    public byte[] publishTypes() {
+        typesPublished = true;
+        return types;
+    }
+
+    /**
+     * 指定されたタイルの周囲8方向のビットマスクを返します。
+     * @param maskClass 分類（{@link NeighborMask#WATER}など）
+     * @param index チャンク内インデックス
+     * @return ビットマスク（0〜255）
+     */
+    public int getNeighborMask(int maskClass, int index) {
+        return neighborMasks[maskClass * TILE_COUNT + index] & 0xFF;
+    }
+
+    /**
+     * 指定されたタイルの周囲8方向のビットマスクを設定します。
+     * @param maskClass 分類
+     * @param index チャンク内インデックス
+     * @param mask ビットマスク
+     */
+    public void setNeighborMask(int maskClass, int index, int mask) {
+        neighborMasks[maskClass * TILE_COUNT + index] = (byte)mask;
+    }
+
+    /**
+     * 指定されたタイルのビットマスクの1方向分を設定します（隣接タイルの地形が変わったときの差分更新用）。
+     * @param maskClass 分類
+     * @param index チャンク内インデックス
+     * @param bit 方向のビット位置
+     * @param value ビットの値
+     */
+    public void setNeighborBit(int maskClass, int index, int bit, boolean value) {
+        int position = maskClass * TILE_COUNT + index;
+        if (value) {
+            neighborMasks[position] |= (byte)(1 << bit);
+        } else {
+            neighborMasks[position] &= (byte)~(1 << bit);
+        }
+    }
+
+    /**
+     * シードからの生成結果から変更されているかどうかを返します。
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * 変更済みフラグを設定します。
+     */
+    public void setModified(boolean modified) {
+        this.modified = modified;
+    }
+
+    /**
+     * 最後にディスクへ書き出した（または読み込んだ）内容から変更されているかどうかを返します。
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * 未保存の変更があるかどうかを設定します。
+     */
+    public void setDirty(boolean dirty) {
+        this.dirty = dirty;
+    }
+
+    /**
+     * 描画キャッシュの再構築判定用の番号を返します。
+     */
+    public int getRenderVersion() {
+        return renderVersion;
+    }
+
+    /**
+     * 見た目が変わったことを記録します（描画キャッシュが再構築されます）。
+     */
+    public void incrementRenderVersion() {
+        renderVersion++;
+    }
+
+    /**
+     * 最後に参照された時刻を返します。
+     */
+    public long getLastAccess() {
+        return lastAccess;
+    }
+
+    /**
+     * 最後に参照された時刻を設定します。
+     */
+    public void setLastAccess(long lastAccess) {
+        this.lastAccess = lastAccess;
+    }
+
+    /**
+     * チャンクの内容（地形タイプ）を書き出します。
+     * @param out 出力先
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.write(types);
+    }
+
+    /**
+     * {@link #writeTo}で書き出した内容を読み込みます。
+     * @param in 入力元
+     */
+    public void readFrom(DataInput in) throws IOException {
+        ensureTypesWritable();
+        in.readFully(types);
+    }
+
+    /**
+     * 描画スレッドに渡した配列を書き換えないよう、必要なら複製してから変更できるようにします。
+     */
+    private void ensureTypesWritable() {
+        if (typesPublished) {
+            types = types.clone();
+            typesPublished = false;
+        }
+    }
+
+    /**
+     * {@link #writeTo}で書き出されるバイト数を返します。
+     */
+    public static int serializedSize() {
+        return TILE_COUNT;
+    }
+}
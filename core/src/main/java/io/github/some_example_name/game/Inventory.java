@@ -7,6 +7,9 @@ import java.util.Map;
 
 /**
  * プレイヤーのインベントリを管理するクラス。
+ * 
+ * <p>シミュレーションスレッド（アイテムの取得や収穫）と描画スレッド（インベントリ画面やクラフト）の
+ * 両方から使われるため、操作はすべて同期しています。</p>
  */
 public class Inventory {
     // アイテムIDをキーとして、数量を保持
@@ -21,7 +24,7 @@ public class Inventory {
      * @param itemId アイテムID
      * @param amount 追加する数量（デフォルトは1）
      */
-    public void addItem(int itemId, int amount) {
+    public synchronized void addItem(int itemId, int amount) {
         if (amount <= 0) {
             return;
         }
@@ -32,7 +35,7 @@ public class Inventory {
      * アイテムを1個追加します。
      * @param itemId アイテムID
      */
-    public void addItem(int itemId) {
+    public synchronized void addItem(int itemId) {
         addItem(itemId, 1);
     }
     
@@ -40,7 +43,7 @@ public class Inventory {
      * アイテムを追加します（ItemDataから）。
      * @param itemData アイテムデータ
      */
-    public void addItem(ItemData itemData) {
+    public synchronized void addItem(ItemData itemData) {
         if (itemData != null) {
             addItem(itemData.id, 1);
         }
@@ -51,7 +54,7 @@ public class Inventory {
      * @param itemId アイテムID
      * @return 数量（持っていない場合は0）
      */
-    public int getItemCount(int itemId) {
+    public synchronized int getItemCount(int itemId) {
         return items.getOrDefault(itemId, 0);
     }
     
@@ -61,7 +64,7 @@ public class Inventory {
      * @param amount 削除する数量
      * @return 削除に成功した場合true
      */
-    public boolean removeItem(int itemId, int amount) {
+    public synchronized boolean removeItem(int itemId, int amount) {
         int currentCount = getItemCount(itemId);
         if (currentCount < amount) {
             return false;
@@ -81,7 +84,7 @@ public class Inventory {
      * @param itemId アイテムID
      * @return 削除に成功した場合true
      */
-    public boolean removeItem(int itemId) {
+    public synchronized boolean removeItem(int itemId) {
         return removeItem(itemId, 1);
     }
     
@@ -89,21 +92,21 @@ public class Inventory {
      * すべてのアイテムエントリを取得します。
      * @return アイテムIDと数量のマップ
      */
-    public Map<Integer, Integer> getAllItems() {
+    public synchronized Map<Integer, Integer> getAllItems() {
         return new HashMap<>(items);
     }
     
     /**
      * インベントリが空かどうかを返します。
      */
-    public boolean isEmpty() {
+    public synchronized boolean isEmpty() {
         return items.isEmpty();
     }
     
     /**
      * インベントリの総アイテム数を返します。
      */
-    public int getTotalItemCount() {
+    public synchronized int getTotalItemCount() {
         int total = 0;
         for (int count : items.values()) {
             total += count;
@@ -6,6 +6,7 @@ import java.util.Map;
 /**
  * 保存食の保存量を管理するクラス。
  * 保存食は文明レベル解禁条件に使用されます。
+ * クラフト（描画スレッド）と文明レベルの判定（シミュレーションスレッド）の両方から使われるため、操作は同期しています。
  */
 public class PreservedFoodManager {
     // 保存食の保存量（キー: アイテムID、値: 保存量）
@@ -20,7 +21,7 @@ public class PreservedFoodManager {
      * @param itemId アイテムID
      * @param amount 追加する数量
      */
-    public void addPreservedFood(int itemId, int amount) {
+    public synchronized void addPreservedFood(int itemId, int amount) {
         if (amount <= 0) {
             return;
         }
@@ -32,7 +33,7 @@ public class PreservedFoodManager {
      * @param itemId アイテムID
      * @return 保存量（保存されていない場合は0）
      */
-    public int getPreservedFoodAmount(int itemId) {
+    public synchronized int getPreservedFoodAmount(int itemId) {
         return preservedFoods.getOrDefault(itemId, 0);
     }
     
@@ -42,7 +43,7 @@ public class PreservedFoodManager {
      * @param requiredAmount 必要な数量
      * @return 条件を満たしている場合true
      */
-    public boolean hasPreservedFood(int itemId, int requiredAmount) {
+    public synchronized boolean hasPreservedFood(int itemId, int requiredAmount) {
         return getPreservedFoodAmount(itemId) >= requiredAmount;
     }
     
@@ -50,7 +51,7 @@ public class PreservedFoodManager {
      * すべての保存食の保存量を返します（セーブ用）。
      * @return 保存食マップ
      */
-    public Map<Integer, Integer> getAllPreservedFoods() {
+    public synchronized Map<Integer, Integer> getAllPreservedFoods() {
         return new HashMap<>(preservedFoods);
     }
     
@@ -58,7 +59,7 @@ public class PreservedFoodManager {
      * 保存食の保存量を設定します（ロード用）。
      * @param preservedFoods 保存食マップ
      */
-    public void setPreservedFoods(Map<Integer, Integer> preservedFoods) {
+    public synchronized void setPreservedFoods(Map<Integer, Integer> preservedFoods) {
         this.preservedFoods = preservedFoods != null ? new HashMap<>(preservedFoods) : new HashMap<>();
     }
 }
@@ -1,16 +1,19 @@
 package io.github.some_example_name.manager;
 
+import io.github.some_example_name.ecs.BuildingComponent;
+import io.github.some_example_name.ecs.PositionComponent;
+import io.github.some_example_name.ecs.RenderableComponent;
+import io.github.some_example_name.ecs.TileIndex;
+import io.github.some_example_name.ecs.WorldEntities;
 import io.github.some_example_name.entity.TerrainTile;
 import io.github.some_example_name.game.Inventory;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * 建物を管理するクラス。
- * 神殿などの恒久建築物を管理します。
+ * 神殿などの恒久建築物を{@link WorldEntities}のエンティティ（位置・建物・描画のコンポーネント）として置きます。
  */
 public class BuildingManager {
     // 建物タイプ
@@ -18,8 +21,11 @@ public class BuildingManager {
         TEMPLE  // 神殿
     }
     
-    // 建物タイルのマップ（キー: "tileX,tileY"）
-    private Map<String, BuildingTile> buildings;
+    // 建物のエンティティを持つワールド
+    private WorldEntities worldEntities;
+    
+    // 建物のエンティティのタイル座標からの索引
+    private final TileIndex buildingIndex;
     
     // インベントリへの参照
     private Inventory inventory;
@@ -63,43 +69,29 @@ public class BuildingManager {
         }
         
         /**
-         * 建物を描画します。
+         * 描画に必要な状態を他の建物からコピーします（描画用のスナップショットに使用）。
+         * @param other コピー元
          */
-        public void render(ShapeRenderer shapeRenderer) {
-            float pixelX = tileX * io.github.some_example_name.entity.Player.TILE_SIZE;
-            float pixelY = tileY * io.github.some_example_name.entity.Player.TILE_SIZE;
-            float size = io.github.some_example_name.entity.Player.TILE_SIZE;
-            
-            switch (buildingType) {
-                case TEMPLE:
-                    // 神殿：質素だが周囲より明らかに異質な建物
-                    // 1.5倍のサイズで描画
-                    float templeSize = size * 1.5f;
-                    float templeX = pixelX - (templeSize - size) / 2;
-                    float templeY = pixelY - (templeSize - size) / 2;
-                    
-                    // 基壇（1段高い）
-                    shapeRenderer.setColor(0.5f, 0.45f, 0.4f, 1.0f); // 石色（少し明るい）
-                    shapeRenderer.rect(templeX, templeY, templeSize, templeSize * 0.1f);
-                    
-                    // 本体（シンプルな長方形）
-                    shapeRenderer.setColor(0.45f, 0.4f, 0.35f, 1.0f); // 石色（本体）
-                    shapeRenderer.rect(templeX, templeY + templeSize * 0.1f, templeSize, templeSize * 0.9f);
-                    
-                    // 対称的な装飾線（直線）
-                    shapeRenderer.setColor(0.4f, 0.35f, 0.3f, 1.0f);
-                    float lineY = templeY + templeSize * 0.5f;
-                    shapeRenderer.rect(templeX + templeSize * 0.1f, lineY, templeSize * 0.8f, size * 0.05f);
-                    break;
-            }
+        public void copyRenderStateFrom(BuildingTile other) {
+            this.tileX = other.tileX;
+            this.tileY = other.tileY;
+            this.buildingType = other.buildingType;
         }
     }
     
     public BuildingManager() {
-        this.buildings = new HashMap<>();
         this.inventory = null;
         this.itemDataLoader = null;
         this.terrainManager = null;
+        this.buildingIndex = new TileIndex();
+    }
+    
+    /**
+     * 建物のエンティティを置くワールドを設定します（建物を建てる前に設定する）。
+     */
+    public void setWorldEntities(WorldEntities worldEntities) {
+        this.worldEntities = worldEntities;
+        worldEntities.addEntityListener(WorldEntities.BUILDINGS, buildingIndex);
     }
     
     /**
@@ -135,8 +127,7 @@ public class BuildingManager {
         }
         
         // 既に建物があるかチェック
-        String key = tileX + "," + tileY;
-        if (buildings.containsKey(key)) {
+        if (hasBuilding(tileX, tileY)) {
             Gdx.app.log("Building", "この位置には既に建物があります");
             return false;
         }
@@ -170,8 +161,7 @@ public class BuildingManager {
         inventory.removeItem(TEMPLE_STONE_ID, TEMPLE_STONE_COUNT);
         
         // 建物を配置
-        BuildingTile buildingTile = new BuildingTile(tileX, tileY, BuildingType.TEMPLE);
-        buildings.put(key, buildingTile);
+        addBuilding(new BuildingTile(tileX, tileY, BuildingType.TEMPLE));
         
         Gdx.app.log("Building", "神殿を建設しました！");
         return true;
@@ -184,8 +174,7 @@ public class BuildingManager {
      * @return 建物がある場合true
      */
     public boolean hasBuilding(int tileX, int tileY) {
-        String key = tileX + "," + tileY;
-        return buildings.containsKey(key);
+        return buildingIndex.get(tileX, tileY) != null;
     }
     
     /**
@@ -195,8 +184,8 @@ public class BuildingManager {
      * @return 建物タイル（存在しない場合はnull）
      */
     public BuildingTile getBuilding(int tileX, int tileY) {
-        String key = tileX + "," + tileY;
-        return buildings.get(key);
+        Entity entity = buildingIndex.get(tileX, tileY);
+        return entity != null ? BuildingComponent.MAPPER.get(entity).building : null;
     }
     
     /**
@@ -205,8 +194,9 @@ public class BuildingManager {
      */
     public int getTempleCount() {
         int count = 0;
-        for (BuildingTile building : buildings.values()) {
-            if (building.getBuildingType() == BuildingType.TEMPLE) {
+        ImmutableArray<Entity> buildings = worldEntities.getEntities(WorldEntities.BUILDINGS);
+        for (int i = 0; i < buildings.size(); i++) {
+            if (BuildingComponent.MAPPER.get(buildings.get(i)).building.getBuildingType() == BuildingType.TEMPLE) {
                 count++;
             }
         }
@@ -214,26 +204,14 @@ public class BuildingManager {
     }
     
     /**
-     * すべての建物を描画します。
-     * @param shapeRenderer ShapeRendererインスタンス
-     */
-    public void render(ShapeRenderer shapeRenderer) {
-        for (BuildingTile building : buildings.values()) {
-            building.render(shapeRenderer);
-        }
-    }
-    
-    /**
-     * すべての建物を返します（セーブ用）。
-     */
-    public Map<String, BuildingTile> getBuildings() {
-        return buildings;
-    }
-    
-    /**
-     * 建物を設定します（ロード用）。
+     * 建物のエンティティをワールドに置きます（素材は消費しない。ロードやベンチマークのワールド作成用）。
+     * @param building 建物タイル
      */
-    public void setBuildings(Map<String, BuildingTile> buildings) {
-        this.buildings = buildings != null ? buildings : new HashMap<>();
+    public void addBuilding(BuildingTile building) {
+        Entity entity = new Entity();
+        entity.add(new PositionComponent(building.getTileX(), building.getTileY()));
+        entity.add(new BuildingComponent(building));
+        entity.add(new RenderableComponent());
+        worldEntities.addEntity(entity);
     }
 }
@@ -0,0 +1,188 @@
+package io.github.some_example_name.manager;
+
+import io.github.some_example_name.entity.TerrainChunk;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongArray;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * チャンクの地形をワーカースレッドで生成するパイプライン。
+ *
+ * <p>メインスレッドは{@link #request}で生成要求を優先度付きキューに積み、
+ * ワーカーが生成したチャンクはロックフリーのキューで公開されます。
+ * メインスレッドは{@link #poll()}で完成したチャンクを受け取ります。
+ * 生成に失敗した要求はワーカーを止めずにログへ記録し、{@link #drainFailed}で要求元に返します。
+ * 各ワーカーは自分専用の{@link TerrainGenerator}を持つため、作業用配列を共有しません。</p>
+ */
+public class ChunkGenerationPipeline implements Disposable {
+    private static final String TAG = "ChunkGeneration";
+
+    // 優先度の低い順（値の小さい順）に取り出される生成要求
+    private final PriorityBlockingQueue<ChunkRequest> requests;
+
+    // 生成済みのチャンク（ワーカー → メインスレッド）
+    private final ConcurrentLinkedQueue<TerrainChunk> completed;
+
+    // 生成に失敗したチャンクのキー（ワーカー → メインスレッド）
+    private final ConcurrentLinkedQueue<Long> failed;
+
+    private final ExecutorService workers;
+    private final long worldSeed;
+
+    // 同じ優先度の要求を要求順に処理するための連番
+    private final AtomicLong sequence;
+
+    /**
+     * パイプラインを作成してワーカーを起動します。
+     * @param worldSeed ワールドシード
+     * @param workerCount ワーカースレッド数
+     */
+    public ChunkGenerationPipeline(long worldSeed, int workerCount) {
+        this.requests = new PriorityBlockingQueue<>();
+        this.completed = new ConcurrentLinkedQueue<>();
+        this.failed = new ConcurrentLinkedQueue<>();
+        this.worldSeed = worldSeed;
+        this.sequence = new AtomicLong();
+        this.workers = Executors.newFixedThreadPool(workerCount, new ThreadFactory() {
+            private int count = 0;
+
+            @Override
+            public synchronized Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "chunk-generator-" + (count++));
+                thread.setDaemon(true);
+                thread.setPriority(Thread.NORM_PRIORITY - 1);
+                return thread;
+            }
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(new Worker());
+        }
+    }
+
+    /**
+     * 実行環境のコア数から既定のワーカー数を決めます（メインスレッド用に1コア残す）。
+     */
+    public static int defaultWorkerCount() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        return Math.max(1, Math.min(3, processors - 1));
+    }
+
+    /**
+     * チャンクの生成を要求します。
+     * @param chunkX チャンクX座標
+     * @param chunkY チャンクY座標
+     * @param priority 優先度（小さいほど先に生成される）
+     */
+    public void request(int chunkX, int chunkY, float priority) {
+        requests.offer(new ChunkRequest(chunkX, chunkY, priority, sequence.getAndIncrement()));
+    }
+
+    /**
+     * まだワーカーが取り出していない要求をすべて取り消します。
+     * 取り消したチャンクのキーを{@code cancelledKeys}に追加します（優先度の付け直し用）。
+     * @param cancelledKeys 取り消したチャンクのキーの追加先
+     */
+    public void cancelPending(LongArray cancelledKeys) {
+        ChunkRequest request;
+        while ((request = requests.poll()) != null) {
+            cancelledKeys.add(TerrainChunk.key(request.chunkX, request.chunkY));
+        }
+    }
+
+    /**
+     * 生成が完了したチャンクを1つ取り出します（メインスレッドから呼び出します）。
+     * @return 完成したチャンク（なければnull）
+     */
+    public TerrainChunk poll() {
+        return completed.poll();
+    }
+
+    /**
+     * 生成に失敗したチャンクのキーをすべて取り出し、{@code failedKeys}に追加します（メインスレッドから呼び出します）。
+     * 失敗したチャンクは要求済みではなくなるため、もう一度要求できます。
+     * @param failedKeys 失敗したチャンクのキーの追加先
+     */
+    public void drainFailed(LongArray failedKeys) {
+        Long key;
+        while ((key = failed.poll()) != null) {
+            failedKeys.add(key);
+        }
+    }
+
+    /**
+     * このパイプラインが使うワールドシードを返します。
+     */
+    public long getWorldSeed() {
+        return worldSeed;
+    }
+
+    @Override
+    public void dispose() {
+        workers.shutdownNow();
+        requests.clear();
+        completed.clear();
+        failed.clear();
+    }
+
+    /**
+     * 生成要求。
+     */
+    private static final class ChunkRequest implements Comparable<ChunkRequest> {
+        final int chunkX;
+        final int chunkY;
+        final float priority;
+        final long order;
+
+        ChunkRequest(int chunkX, int chunkY, float priority, long order) {
+            this.chunkX = chunkX;
+            this.chunkY = chunkY;
+            this.priority = priority;
+            this.order = order;
+        }
+
+        @Override
+        public int compareTo(ChunkRequest other) {
+            int result = Float.compare(priority, other.priority);
+            if (result != 0) {
+                return result;
+            }
+            return Long.compare(order, other.order);
+        }
+    }
+
+    /**
+     * 要求を取り出してチャンクを生成し続けるワーカー。
+     */
+    private final class Worker implements Runnable {
+        @Override
+        public void run() {
+            TerrainGenerator generator = new TerrainGenerator(worldSeed);
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    ChunkRequest request = requests.take();
+                    try {
+                        completed.offer(generator.generate(request.chunkX, request.chunkY));
+                    } catch (RuntimeException e) {
+                        // 1つのチャンクの失敗でワーカーを止めない（要求元には失敗として返す）
+                        if (Gdx.app != null) {
+                            Gdx.app.error(TAG, "Failed to generate chunk (" + request.chunkX + ", "
+                                + request.chunkY + ")", e);
+                        }
+                        failed.offer(TerrainChunk.key(request.chunkX, request.chunkY));
+                    }
+                }
+            } catch (InterruptedException e) {
+                // dispose()による停止
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.some_example_name.manager;
+
+import io.github.some_example_name.entity.TerrainChunk;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+
+import java.util.Comparator;
+
+/**
+ * メモリ上に保持するチャンクの数を一定に保つクラス（LRU方式）。
+ *
+ * <p>保持数が上限を超えると、プレイヤーから離れたチャンクのうち最後に参照された時刻が古いものから追い出します。
+ * シードから再生成できる未変更のチャンクはそのまま破棄し、変更済みのチャンクは{@link ChunkStore}に書き出します。
+ * 書き出したチャンクは参照されたときに{@link #load}で読み戻されます。</p>
+ */
+public class ChunkResidencyManager {
+    // メモリ上に保持するチャンク数の上限（1チャンクは約300バイト）
+    public static final int DEFAULT_MAX_RESIDENT_CHUNKS = 4096;
+
+    // プレイヤーからこの距離（チャンク単位）以内のチャンクは追い出さない（33x33=1089チャンク、上限の約1/4）
+    // マップ画面はこの範囲の外をシードから求めて表示する
+    public static final int DEFAULT_KEEP_RADIUS = 16;
+
+    // 変更済みチャンクの書き出し先（nullの場合、変更済みチャンクは追い出さない）
+    private ChunkStore chunkStore;
+
+    private final int maxResidentChunks;
+    private final int keepRadius;
+
+    // 追い出し候補（再利用）
+    private final Array<TerrainChunk> candidates;
+
+    // 最後に参照された時刻の古い順
+    private static final Comparator<TerrainChunk> OLDEST_FIRST = new Comparator<TerrainChunk>() {
+        @Override
+        public int compare(TerrainChunk a, TerrainChunk b) {
+            return Long.compare(a.getLastAccess(), b.getLastAccess());
+        }
+    };
+
+    public ChunkResidencyManager() {
+        this(DEFAULT_MAX_RESIDENT_CHUNKS, DEFAULT_KEEP_RADIUS);
+    }
+
+    /**
+     * @param maxResidentChunks メモリ上に保持するチャンク数の上限
+     * @param keepRadius 追い出さない範囲（プレイヤーのチャンクからのチャンク数、上限に対して広すぎる場合は{@link #maxKeepRadius}に狭める）
+     */
+    public ChunkResidencyManager(int maxResidentChunks, int keepRadius) {
+        this.maxResidentChunks = maxResidentChunks;
+        this.keepRadius = Math.min(keepRadius, maxKeepRadius(maxResidentChunks));
+        this.candidates = new Array<>(false, 256);
+    }
+
+    /**
+     * 保持数の上限に対して、追い出さない範囲に使える最大の距離を返します。
+     * 範囲内のチャンク数（(2r+1)^2）が上限の半分以下になるようにし、追い出しの目標（上限の3/4）に必ず届くようにします。
+     * @param maxResidentChunks メモリ上に保持するチャンク数の上限
+     * @return 追い出さない範囲の最大の距離（チャンク数）
+     */
+    public static int maxKeepRadius(int maxResidentChunks) {
+        int side = (int)Math.sqrt(maxResidentChunks / 2);
+        return Math.max(0, (side - 1) / 2);
+    }
+
+    /**
+     * 変更済みチャンクの書き出し先を設定します。
+     */
+    public void setChunkStore(ChunkStore chunkStore) {
+        this.chunkStore = chunkStore;
+    }
+
+    /**
+     * 変更済みチャンクの書き出し先を返します。
+     */
+    public ChunkStore getChunkStore() {
+        return chunkStore;
+    }
+
+    /**
+     * 指定されたチャンクがディスクに書き出されているかどうかを返します。
+     * @param key チャンクのキー
+     */
+    public boolean isStored(long key) {
+        return chunkStore != null && chunkStore.contains(key);
+    }
+
+    /**
+     * ディスクに書き出されたチャンクを読み込みます。
+     * @param chunkX チャンクX座標
+     * @param chunkY チャンクY座標
+     * @return 読み込んだチャンク（書き出されていない場合はnull）
+     */
+    public TerrainChunk load(int chunkX, int chunkY) {
+        if (chunkStore == null) {
+            return null;
+        }
+        return chunkStore.read(chunkX, chunkY);
+    }
+
+    /**
+     * 保持数が上限を超えている場合、古いチャンクを上限の3/4まで追い出します。
+     * @param chunks メモリ上のチャンク
+     * @param centerChunkX プレイヤーのチャンクX座標
+     * @param centerChunkY プレイヤーのチャンクY座標
+     * @return 追い出したチャンクの数
+     */
+    public int evict(LongMap<TerrainChunk> chunks, int centerChunkX, int centerChunkY) {
+        if (chunks.size <= maxResidentChunks) {
+            return 0;
+        }
+
+        candidates.clear();
+        for (TerrainChunk chunk : chunks.values()) {
+            if (Math.abs(chunk.getChunkX() - centerChunkX) <= keepRadius &&
+                Math.abs(chunk.getChunkY() - centerChunkY) <= keepRadius) {
+                continue;
+            }
+            candidates.add(chunk);
+        }
+        candidates.sort(OLDEST_FIRST);
+
+        int target = maxResidentChunks * 3 / 4;
+        int evicted = 0;
+        for (int i = 0; i < candidates.size && chunks.size > target; i++) {
+            TerrainChunk chunk = candidates.get(i);
+            if (chunk.isModified() && !isStored(chunk)) {
+                // 変更済みのチャンクは書き出せた場合のみ追い出す
+                if (chunkStore == null || !chunkStore.write(chunk)) {
+                    continue;
+                }
+            }
+            chunks.remove(chunk.getKey());
+            evicted++;
+        }
+        candidates.clear();
+        return evicted;
+    }
+
+    /**
+     * メモリ上の変更済みチャンクをすべて書き出します（セーブ用）。
+     * @param chunks メモリ上のチャンク
+     */
+    public void flush(LongMap<TerrainChunk> chunks) {
+        if (chunkStore == null) {
+            return;
+        }
+        for (TerrainChunk chunk : chunks.values()) {
+            if (chunk.isModified() && !isStored(chunk)) {
+                chunkStore.write(chunk);
+            }
+        }
+    }
+
+    /**
+     * チャンクの現在の内容がすでにディスクに書き出されているかどうかを返します。
+     * 読み込んだあと変更されていないチャンクは、追い出すたびに書き直さずに済みます。
+     */
+    private boolean isStored(TerrainChunk chunk) {
+        return chunkStore != null && !chunk.isDirty() && chunkStore.contains(chunk.getKey());
+    }
+}
@@ -0,0 +1,164 @@
+package io.github.some_example_name.manager;
+
+import io.github.some_example_name.entity.TerrainChunk;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * ワールドに置かれた物をチャンク単位の入れ物（バケット）に分けて持つ空間インデックス。
+ *
+ * <p>描画するエンティティ（農地・畜産タイル・建物・アイテム）を持ち、視野の判定に使います。
+ * 範囲の問い合わせ（{@link #query}）は範囲に重なるバケットだけを調べるため、
+ * 費用は全体の数ではなく範囲の付近にある数に比例します。
+ * 結果はバケット単位なので、範囲の外にある物も含まれます（正確な判定は呼び出し側で行う）。
+ * 削除は物が持つバケット内の添字（{@link SlotAccessor}で読み書きする）を使い、末尾の要素と入れ替えて行うためO(1)です。
+ * 空になったバケットは取り除くため、問い合わせで空のバケットを調べることはありません。</p>
+ *
+ * @param <T> 入れる物の型
+ */
+public class ChunkSpatialIndex<T> {
+    /**
+     * 物が持つ、バケット内での自分の添字を読み書きします。
+     */
+    public interface SlotAccessor<T> {
+        /**
+         * バケット内での添字を返します（入っていない場合は-1）。
+         */
+        int getSlot(T entity);
+
+        /**
+         * バケット内での添字を設定します（ChunkSpatialIndexだけが呼び出す）。
+         */
+        void setSlot(T entity, int slot);
+    }
+
+    // 物の添字の読み書き
+    private final SlotAccessor<T> slots;
+
+    // チャンクのキー → そのチャンクにある物（空のバケットは持たない）
+    private final LongMap<Array<T>> buckets;
+
+    // 空になったバケット（使い回してガベージを出さないようにする）
+    private final Array<Array<T>> freeBuckets;
+
+    private int size;
+
+    /**
+     * @param slots 物のバケット内での添字の読み書き
+     */
+    public ChunkSpatialIndex(SlotAccessor<T> slots) {
+        this.slots = slots;
+        this.buckets = new LongMap<>();
+        this.freeBuckets = new Array<>(false, 16);
+        this.size = 0;
+    }
+
+    /**
+     * 物を追加します。
+     * @param tileX 物のタイルX座標
+     * @param tileY 物のタイルY座標
+     * @param entity 物
+     */
+    public void add(int tileX, int tileY, T entity) {
+        long key = bucketKey(tileX, tileY);
+        Array<T> bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = freeBuckets.size > 0 ? freeBuckets.pop() : new Array<T>(false, 16);
+            buckets.put(key, bucket);
+        }
+        slots.setSlot(entity, bucket.size);
+        bucket.add(entity);
+        size++;
+    }
+
+    /**
+     * 物を削除します（追加したときと同じ座標を渡す、O(1)）。
+     * @return 削除した場合true
+     */
+    public boolean remove(int tileX, int tileY, T entity) {
+        long key = bucketKey(tileX, tileY);
+        Array<T> bucket = buckets.get(key);
+        int slot = slots.getSlot(entity);
+        if (bucket == null || slot < 0 || slot >= bucket.size || bucket.get(slot) != entity) {
+            return false;
+        }
+        // 末尾の物を空いた位置に移す
+        int last = bucket.size - 1;
+        T moved = bucket.get(last);
+        bucket.set(slot, moved);
+        bucket.pop();
+        if (slot != last) {
+            slots.setSlot(moved, slot);
+        }
+        slots.setSlot(entity, -1);
+        if (bucket.size == 0) {
+            freeBuckets.add(buckets.remove(key));
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * すべての物を削除します（バケットは空にして使い回します）。
+     */
+    public void clear() {
+        for (Array<T> bucket : buckets.values()) {
+            for (int i = 0; i < bucket.size; i++) {
+                slots.setSlot(bucket.get(i), -1);
+            }
+            bucket.clear();
+            freeBuckets.add(bucket);
+        }
+        buckets.clear();
+        size = 0;
+    }
+
+    /**
+     * 入っている物の数を返します。
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 指定されたタイルの範囲に重なるバケットの物を追加します（範囲の外の物も含まれます）。
+     * @param minTileX 範囲の左端のタイルX座標
+     * @param minTileY 範囲の下端のタイルY座標
+     * @param maxTileX 範囲の右端のタイルX座標（含む）
+     * @param maxTileY 範囲の上端のタイルY座標（含む）
+     * @param out 結果の追加先（クリアはしない）
+     */
+    public void query(int minTileX, int minTileY, int maxTileX, int maxTileY, Array<T> out) {
+        int minChunkX = minTileX >> TerrainChunk.SHIFT;
+        int minChunkY = minTileY >> TerrainChunk.SHIFT;
+        int maxChunkX = maxTileX >> TerrainChunk.SHIFT;
+        int maxChunkY = maxTileY >> TerrainChunk.SHIFT;
+        long chunkCount = (long)(maxChunkX - minChunkX + 1) * (maxChunkY - minChunkY + 1);
+
+        if (chunkCount > buckets.size) {
+            // 範囲がバケットの数より広い場合（大きく縮小したときなど）は、バケットの方を調べる
+            for (LongMap.Entry<Array<T>> entry : buckets) {
+                int chunkX = (int)(entry.key >> 32);
+                int chunkY = (int)entry.key;
+                if (chunkX >= minChunkX && chunkX <= maxChunkX && chunkY >= minChunkY && chunkY <= maxChunkY) {
+                    out.addAll(entry.value);
+                }
+            }
+            return;
+        }
+
+        for (int chunkY = minChunkY; chunkY <= maxChunkY; chunkY++) {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                Array<T> bucket = buckets.get(TerrainChunk.key(chunkX, chunkY));
+                if (bucket != null) {
+                    out.addAll(bucket);
+                }
+            }
+        }
+    }
+
+    private static long bucketKey(int tileX, int tileY) {
+        return TerrainChunk.key(tileX >> TerrainChunk.SHIFT, tileY >> TerrainChunk.SHIFT);
+    }
+}
@@ -0,0 +1,270 @@
+package io.github.some_example_name.manager;
+
+import io.github.some_example_name.entity.TerrainChunk;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.LongMap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+
+/**
+ * メモリから追い出した変更済みチャンクをリージョンファイルに保存するクラス。
+ *
+ * <p>1つのリージョンファイルは32x32チャンク分の固定長スロットを持ち、
+ * チャンク座標からファイル内の位置が決まるため、1チャンク単位で読み書きできます。
+ * どのチャンクが保存されているかはメモリ上の索引で管理し、ディスクを見ずに判定します。</p>
+ */
+public class ChunkStore {
+    private static final String TAG = "ChunkStore";
+
+    // 1リージョンの一辺のチャンク数（2の累乗）
+    private static final int REGION_SHIFT = 5;
+    private static final int REGION_SIZE = 1 << REGION_SHIFT;
+    private static final int REGION_MASK = REGION_SIZE - 1;
+
+    private static final String REGION_FILE_PREFIX = "r.";
+    private static final String REGION_FILE_EXTENSION = ".bin";
+
+    // スロットの先頭1バイトは使用中フラグ
+    private static final int RECORD_SIZE = 1 + TerrainChunk.serializedSize();
+
+    // リージョンファイルを置くディレクトリ
+    private final FileHandle directory;
+
+    // 保存済みチャンクのキー
+    private final LongMap<Boolean> storedKeys;
+
+    // 書き込み用のバッファ（再利用）
+    private final ByteArrayOutputStream recordBuffer;
+    private final DataOutputStream recordOut;
+    private final byte[] record;
+
+    /**
+     * @param directory リージョンファイルを置くディレクトリ（既存のファイルは索引に取り込まれます）
+     */
+    public ChunkStore(FileHandle directory) {
+        this.directory = directory;
+        this.storedKeys = new LongMap<>();
+        this.recordBuffer = new ByteArrayOutputStream(RECORD_SIZE);
+        this.recordOut = new DataOutputStream(recordBuffer);
+        this.record = new byte[RECORD_SIZE];
+        rebuildIndex();
+    }
+
+    /**
+     * 指定されたチャンクが保存されているかどうかを返します。
+     * @param key チャンクのキー
+     */
+    public boolean contains(long key) {
+        return storedKeys.containsKey(key);
+    }
+
+    /**
+     * 保存されているチャンクの数を返します。
+     */
+    public int size() {
+        return storedKeys.size;
+    }
+
+    /**
+     * 保存されているチャンクのキーを追加します。
+     * @param out 追加先
+     */
+    public void collectKeys(LongArray out) {
+        LongMap.Keys keys = storedKeys.keys();
+        while (keys.hasNext) {
+            out.add(keys.next());
+        }
+    }
+
+    /**
+     * チャンクをリージョンファイルに書き込みます。
+     * @param chunk 書き込むチャンク
+     * @return 書き込みに成功した場合true
+     */
+    public boolean write(TerrainChunk chunk) {
+        try {
+            recordBuffer.reset();
+            recordOut.writeByte(1);
+            chunk.writeTo(recordOut);
+            recordOut.flush();
+
+            directory.mkdirs();
+            RandomAccessFile file = new RandomAccessFile(regionFile(chunk.getChunkX(), chunk.getChunkY()).file(), "rw");
+            try {
+                file.seek(slotOffset(chunk.getChunkX(), chunk.getChunkY()));
+                recordBuffer.writeTo(new RandomAccessFileOutput(file));
+            } finally {
+                file.close();
+            }
+            storedKeys.put(chunk.getKey(), Boolean.TRUE);
+            chunk.setDirty(false);
+            return true;
+        } catch (IOException e) {
+            Gdx.app.error(TAG, "Failed to write chunk " + chunk.getChunkX() + "," + chunk.getChunkY() + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * リージョンファイルからチャンクを読み込みます。
+     * @param chunkX チャンクX座標
+     * @param chunkY チャンクY座標
+     * @return 読み込んだチャンク（保存されていない場合や読み込みに失敗した場合はnull）
+     */
+    public TerrainChunk read(int chunkX, int chunkY) {
+        if (!contains(TerrainChunk.key(chunkX, chunkY))) {
+            return null;
+        }
+        try {
+            RandomAccessFile file = new RandomAccessFile(regionFile(chunkX, chunkY).file(), "r");
+            try {
+                file.seek(slotOffset(chunkX, chunkY));
+                file.readFully(record);
+            } finally {
+                file.close();
+            }
+            if (record[0] == 0) {
+                return null;
+            }
+            TerrainChunk chunk = new TerrainChunk(chunkX, chunkY);
+            chunk.readFrom(new DataInputStream(new ByteArrayInputStream(record, 1, RECORD_SIZE - 1)));
+            // ディスク上のチャンクは変更済み（シードから再生成できない）
+            chunk.setModified(true);
+            return chunk;
+        } catch (IOException e) {
+            Gdx.app.error(TAG, "Failed to read chunk " + chunkX + "," + chunkY + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 保存されているすべてのチャンクを削除します。
+     */
+    public void clear() {
+        FileHandle[] files = directory.list();
+        for (FileHandle file : files) {
+            if (isRegionFile(file)) {
+                file.delete();
+            }
+        }
+        storedKeys.clear();
+    }
+
+    /**
+     * リージョンファイルを別のディレクトリに複製します（セーブ用）。
+     * 複製先の既存のリージョンファイルは削除されます。
+     * @param target 複製先のディレクトリ
+     */
+    public void copyTo(FileHandle target) {
+        target.mkdirs();
+        for (FileHandle file : target.list()) {
+            if (isRegionFile(file)) {
+                file.delete();
+            }
+        }
+        for (FileHandle file : directory.list()) {
+            if (isRegionFile(file)) {
+                file.copyTo(target.child(file.name()));
+            }
+        }
+    }
+
+    /**
+     * 別のディレクトリのリージョンファイルで内容を置き換えます（ロード用）。
+     * @param source 複製元のディレクトリ（存在しない場合は空になります）
+     */
+    public void loadFrom(FileHandle source) {
+        clear();
+        if (source.exists()) {
+            directory.mkdirs();
+            for (FileHandle file : source.list()) {
+                if (isRegionFile(file)) {
+                    file.copyTo(directory.child(file.name()));
+                }
+            }
+        }
+        rebuildIndex();
+    }
+
+    /**
+     * リージョンファイルの使用中フラグから索引を作り直します。
+     */
+    private void rebuildIndex() {
+        storedKeys.clear();
+        if (!directory.exists()) {
+            return;
+        }
+        for (FileHandle file : directory.list()) {
+            if (!isRegionFile(file)) {
+                continue;
+            }
+            String[] parts = file.nameWithoutExtension().split("\\.");
+            if (parts.length != 3) {
+                continue;
+            }
+            int regionX;
+            int regionY;
+            try {
+                regionX = Integer.parseInt(parts[1]);
+                regionY = Integer.parseInt(parts[2]);
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            byte[] bytes = file.readBytes();
+            for (int slot = 0; slot < REGION_SIZE * REGION_SIZE; slot++) {
+                int offset = slot * RECORD_SIZE;
+                if (offset + RECORD_SIZE <= bytes.length && bytes[offset] != 0) {
+                    int chunkX = (regionX << REGION_SHIFT) | (slot & REGION_MASK);
+                    int chunkY = (regionY << REGION_SHIFT) | (slot >> REGION_SHIFT);
+                    storedKeys.put(TerrainChunk.key(chunkX, chunkY), Boolean.TRUE);
+                }
+            }
+        }
+    }
+
+    private FileHandle regionFile(int chunkX, int chunkY) {
+        int regionX = chunkX >> REGION_SHIFT;
+        int regionY = chunkY >> REGION_SHIFT;
+        return directory.child(REGION_FILE_PREFIX + regionX + "." + regionY + REGION_FILE_EXTENSION);
+    }
+
+    private static long slotOffset(int chunkX, int chunkY) {
+        int slot = ((chunkY & REGION_MASK) << REGION_SHIFT) | (chunkX & REGION_MASK);
+        return (long)slot * RECORD_SIZE;
+    }
+
+    private static boolean isRegionFile(FileHandle file) {
+        String name = file.name();
+        return name.startsWith(REGION_FILE_PREFIX) && name.endsWith(REGION_FILE_EXTENSION);
+    }
+
+    /**
+     * RandomAccessFileにまとめて書き込むためのOutputStream。
+     */
+    private static final class RandomAccessFileOutput extends OutputStream {
+        private final RandomAccessFile file;
+
+        RandomAccessFileOutput(RandomAccessFile file) {
+            this.file = file;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            file.write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            file.write(bytes, offset, length);
+        }
+    }
+}
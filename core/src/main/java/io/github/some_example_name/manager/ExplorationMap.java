@@ -0,0 +1,181 @@
+package io.github.some_example_name.manager;
+
+import io.github.some_example_name.entity.TerrainChunk;
+
+import com.badlogic.gdx.utils.Base64Coder;
+import com.badlogic.gdx.utils.LongMap;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 探索済みエリアをチャンクごとの256ビットのマスクで記録するクラス。
+ *
+ * <p>マスクのビット位置は{@link TerrainChunk#localIndex}と同じで、1ワード（long）に4行分が入ります。
+ * 探索範囲の円は行ごとの半幅として事前計算しておき、スタンプ時は各行のビット列をORするだけです。
+ * 地形チャンクがメモリから追い出されても探索済みの情報は保持されます。</p>
+ */
+public class ExplorationMap {
+    // 1チャンクのマスクのワード数（256ビット）
+    public static final int WORDS_PER_CHUNK = TerrainChunk.TILE_COUNT / 64;
+
+    // 1ワードに入る行数
+    private static final int ROWS_PER_WORD = 64 / TerrainChunk.SIZE;
+
+    // シリアライズ時の1チャンク分のバイト数（チャンク座標 + マスク）
+    private static final int SERIALIZED_CHUNK_BYTES = 4 + 4 + WORDS_PER_CHUNK * 8;
+
+    // 探索半径（マップ升単位）
+    private final int radius;
+
+    // 円の各行の半幅（インデックス: dy + radius）
+    private final int[] rowHalfWidths;
+
+    // チャンクごとのマスク（キー: TerrainChunk.key(chunkX, chunkY)）
+    private final LongMap<long[]> masks;
+
+    // 直前に参照したマスク（同じチャンクへの連続アクセスを高速化）
+    private long lastMaskKey;
+    private long[] lastMask;
+
+    /**
+     * @param radius 探索半径（マップ升単位）
+     */
+    public ExplorationMap(int radius) {
+        this.radius = radius;
+        this.rowHalfWidths = new int[radius * 2 + 1];
+        for (int dy = -radius; dy <= radius; dy++) {
+            // dx * dx + dy * dy <= radius * radius を満たす最大のdx
+            int halfWidth = 0;
+            while ((halfWidth + 1) * (halfWidth + 1) + dy * dy <= radius * radius) {
+                halfWidth++;
+            }
+            rowHalfWidths[dy + radius] = halfWidth;
+        }
+        this.masks = new LongMap<>();
+        this.lastMask = null;
+    }
+
+    /**
+     * 指定されたタイルを中心とする円を探索済みにします。
+     * @param centerTileX 中心のマップ升X座標
+     * @param centerTileY 中心のマップ升Y座標
+     */
+    public void stamp(int centerTileX, int centerTileY) {
+        for (int dy = -radius; dy <= radius; dy++) {
+            int tileY = centerTileY + dy;
+            int halfWidth = rowHalfWidths[dy + radius];
+            int startX = centerTileX - halfWidth;
+            int endX = centerTileX + halfWidth;
+
+            int chunkY = TerrainChunk.toChunkCoord(tileY);
+            int localY = tileY & TerrainChunk.MASK;
+            int word = localY / ROWS_PER_WORD;
+            int rowShift = (localY % ROWS_PER_WORD) * TerrainChunk.SIZE;
+
+            // 行がチャンク境界をまたぐ場合はチャンクごとに分けてORする
+            int x = startX;
+            while (x <= endX) {
+                int chunkX = TerrainChunk.toChunkCoord(x);
+                int localStart = x & TerrainChunk.MASK;
+                int localEnd = Math.min(endX - (chunkX << TerrainChunk.SHIFT), TerrainChunk.MASK);
+                int width = localEnd - localStart + 1;
+                long bits = ((1L << width) - 1) << (rowShift + localStart);
+                getOrCreateMask(chunkX, chunkY)[word] |= bits;
+                x += width;
+            }
+        }
+    }
+
+    /**
+     * 指定されたタイルが探索済みかどうかを判定します。
+     * @param tileX マップ升X座標
+     * @param tileY マップ升Y座標
+     * @return 探索済みの場合true
+     */
+    public boolean isExplored(int tileX, int tileY) {
+        long[] mask = getChunkMask(TerrainChunk.toChunkCoord(tileX), TerrainChunk.toChunkCoord(tileY));
+        if (mask == null) {
+            return false;
+        }
+        int index = TerrainChunk.localIndex(tileX, tileY);
+        return (mask[index >>> 6] & (1L << (index & 63))) != 0;
+    }
+
+    /**
+     * 指定されたチャンクのマスクを返します（マップ表示用の一括取得）。
+     * ビット位置は{@link TerrainChunk#localIndex}と同じです。返される配列は変更しないでください。
+     * @param chunkX チャンクX座標
+     * @param chunkY チャンクY座標
+     * @return マスク（探索済みのタイルがない場合はnull）
+     */
+    public long[] getChunkMask(int chunkX, int chunkY) {
+        long key = TerrainChunk.key(chunkX, chunkY);
+        if (lastMask != null && lastMaskKey == key) {
+            return lastMask;
+        }
+        long[] mask = masks.get(key);
+        if (mask != null) {
+            lastMaskKey = key;
+            lastMask = mask;
+        }
+        return mask;
+    }
+
+    /**
+     * すべての探索済み情報を消去します。
+     */
+    public void clear() {
+        masks.clear();
+        lastMask = null;
+    }
+
+    /**
+     * 探索済み情報をセーブ用の文字列に変換します。
+     * チャンクごとに「チャンクX, チャンクY, 4ワードのマスク」を並べたバイト列をBase64で符号化します。
+     * @return 符号化した文字列
+     */
+    public String serialize() {
+        ByteBuffer buffer = ByteBuffer.allocate(masks.size * SERIALIZED_CHUNK_BYTES);
+        for (LongMap.Entry<long[]> entry : masks.entries()) {
+            buffer.putInt((int)(entry.key >> 32));
+            buffer.putInt((int)entry.key);
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                buffer.putLong(entry.value[i]);
+            }
+        }
+        return new String(Base64Coder.encode(buffer.array()));
+    }
+
+    /**
+     * {@link #serialize}で作成した文字列から探索済み情報を復元します。
+     * @param data 符号化した文字列（nullや空文字の場合は消去のみ）
+     */
+    public void deserialize(String data) {
+        clear();
+        if (data == null || data.isEmpty()) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Base64Coder.decode(data));
+        while (buffer.remaining() >= SERIALIZED_CHUNK_BYTES) {
+            int chunkX = buffer.getInt();
+            int chunkY = buffer.getInt();
+            long[] mask = new long[WORDS_PER_CHUNK];
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                mask[i] = buffer.getLong();
+            }
+            masks.put(TerrainChunk.key(chunkX, chunkY), mask);
+        }
+    }
+
+    private long[] getOrCreateMask(int chunkX, int chunkY) {
+        long[] mask = getChunkMask(chunkX, chunkY);
+        if (mask == null) {
+            mask = new long[WORDS_PER_CHUNK];
+            long key = TerrainChunk.key(chunkX, chunkY);
+            masks.put(key, mask);
+            lastMaskKey = key;
+            lastMask = mask;
+        }
+        return mask;
+    }
+}
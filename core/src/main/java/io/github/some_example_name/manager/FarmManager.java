@@ -1,21 +1,39 @@
 package io.github.some_example_name.manager;
 
+import io.github.some_example_name.ecs.CropGrowthComponent;
+import io.github.some_example_name.ecs.CropGrowthSystem;
+import io.github.some_example_name.ecs.PositionComponent;
+import io.github.some_example_name.ecs.RenderableComponent;
+import io.github.some_example_name.ecs.TileIndex;
+import io.github.some_example_name.ecs.WorldEntities;
 import io.github.some_example_name.entity.FarmTile;
 import io.github.some_example_name.entity.ItemData;
 import io.github.some_example_name.entity.TerrainTile;
 import io.github.some_example_name.entity.CropSoilRequirements;
 import io.github.some_example_name.game.Inventory;
 
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import java.util.HashMap;
+import com.badlogic.ashley.core.Entity;
 import java.util.Map;
 
 /**
  * 農地を管理するクラス。
+ * 
+ * <p>農地は{@link WorldEntities}のエンティティ（位置・作物の成長・描画のコンポーネント）として置き、
+ * このクラスは種を植える・収穫するといった操作を行います。
+ * 作物の成長は{@link CropGrowthSystem}がイベント駆動で進めます。種を植えると次の成長段階に達する時刻を登録し、
+ * その時刻が来たら段階を進めて次の時刻を登録します。毎ティックの処理は成長段階が変わる農地の数だけで済みます。</p>
+ *
+ * <p>プレイヤーから遠い領域は農地が参照されるまで進めないため、農地の状態を読む前には必ず領域を現在時刻まで進めます。</p>
  */
 public class FarmManager {
-    // 農地タイルのマップ（キー: "tileX,tileY"）
-    private Map<String, FarmTile> farmTiles;
+    // 農地のエンティティを持つワールド
+    private WorldEntities worldEntities;
+    
+    // 作物を成長させるシステム
+    private CropGrowthSystem growthSystem;
+    
+    // 農地のエンティティのタイル座標からの索引
+    private final TileIndex farmIndex;
     
     // インベントリへの参照
     private Inventory inventory;
@@ -25,12 +43,22 @@ public class FarmManager {
     
     // 地形マネージャーへの参照
     private TerrainManager terrainManager;
+
     
     public FarmManager() {
-        this.farmTiles = new HashMap<>();
         this.inventory = null;
         this.itemDataLoader = null;
         this.terrainManager = null;
+        this.farmIndex = new TileIndex();
+    }
+    
+    /**
+     * 農地のエンティティを置くワールドを設定します（農地を操作する前に設定する）。
+     */
+    public void setWorldEntities(WorldEntities worldEntities) {
+        this.worldEntities = worldEntities;
+        this.growthSystem = worldEntities.getSystem(CropGrowthSystem.class);
+        worldEntities.addEntityListener(WorldEntities.CROPS, farmIndex);
     }
     
     /**
@@ -55,13 +83,39 @@ public class FarmManager {
     }
     
     /**
-     * 農地を更新します。
-     * @param deltaTime 前フレームからの経過時間（秒）
+     * 成長イベントを領域ごとに並列で処理するかどうかを設定します（falseの場合は逐次で処理する）。
      */
-    public void update(float deltaTime) {
-        for (FarmTile farmTile : farmTiles.values()) {
-            farmTile.update(deltaTime);
-        }
+    public void setParallelTick(boolean parallel) {
+        growthSystem.setParallel(parallel);
+    }
+    
+    /**
+     * プレイヤーからの距離で成長イベントの処理間隔を変えるかどうかを設定します。
+     */
+    public void setLevelOfDetail(boolean levelOfDetail) {
+        growthSystem.setLevelOfDetail(levelOfDetail);
+    }
+    
+    /**
+     * 処理間隔の基準にするタイルを設定します（プレイヤーのエンティティがある場合は毎ティックその位置で置き換わる）。
+     */
+    public void setFocusTile(int tileX, int tileY) {
+        growthSystem.setFocusTile(tileX, tileY);
+    }
+    
+    /**
+     * 遠くて処理を後回しにしている農地も含めて、すべての農地を現在時刻まで進めます（すべての農地を読む前に呼び出す）。
+     */
+    public void catchUpAll() {
+        growthSystem.observeAll();
+    }
+    
+    /**
+     * 農地の成長を指定された時間だけ早送りします（{@link CropGrowthSystem#fastForward}）。
+     * @param seconds 進める時間（秒）
+     */
+    public void fastForward(float seconds) {
+        growthSystem.fastForward(seconds);
     }
     
     /**
@@ -147,8 +201,8 @@ public class FarmManager {
             }
         }
         
-        String key = tileX + "," + tileY;
-        FarmTile farmTile = farmTiles.get(key);
+        growthSystem.observe(tileX, tileY);
+        FarmTile farmTile = findFarmTile(tileX, tileY);
         
         if (farmTile == null) {
             // 新しい農地タイルを作成
@@ -162,7 +216,7 @@ public class FarmManager {
                 }
             }
             
-            farmTiles.put(key, farmTile);
+            addFarmEntity(farmTile);
         }
         
         // 種のデータを取得して土壌条件を設定
@@ -206,6 +260,9 @@ public class FarmManager {
                 farmTile.setYieldMultiplier(currentYieldMultiplier * terrainYieldMultiplier);
             }
             
+            // 最初の成長段階の時刻を登録
+            growthSystem.scheduleNextEvent(farmTile);
+            
             // インベントリから種を1個消費
             inventory.removeItem(seedItemId, 1);
             return true;
@@ -233,8 +290,8 @@ public class FarmManager {
      * @return 収穫できた場合true
      */
     public boolean harvest(int tileX, int tileY, int cropItemId) {
-        String key = tileX + "," + tileY;
-        FarmTile farmTile = farmTiles.get(key);
+        growthSystem.observe(tileX, tileY);
+        FarmTile farmTile = findFarmTile(tileX, tileY);
         
         if (farmTile == null || !farmTile.isHarvestable()) {
             return false;
@@ -242,6 +299,9 @@ public class FarmManager {
         
         // 収穫
         if (farmTile.harvest()) {
+            // 収穫後は成長しないので、残っているイベントがあれば取り消す
+            growthSystem.cancel(farmTile);
+            
             // 農具の効率と土壌条件の収穫量倍率を考慮して収穫量を計算
             float toolEfficiency = farmTile.getToolEfficiency();
             float yieldMultiplier = farmTile.getYieldMultiplier();
@@ -281,8 +341,8 @@ public class FarmManager {
             return false; // 農具ではない
         }
         
-        String key = tileX + "," + tileY;
-        FarmTile farmTile = farmTiles.get(key);
+        growthSystem.observe(tileX, tileY);
+        FarmTile farmTile = findFarmTile(tileX, tileY);
         
         if (farmTile == null) {
             return false; // 農地が存在しない
@@ -304,39 +364,40 @@ public class FarmManager {
      * 指定されたタイル位置に農地があるかどうかを返します。
      */
     public boolean hasFarmTile(int tileX, int tileY) {
-        String key = tileX + "," + tileY;
-        return farmTiles.containsKey(key);
+        return farmIndex.get(tileX, tileY) != null;
     }
     
     /**
      * 指定されたタイル位置の農地を取得します。
      */
     public FarmTile getFarmTile(int tileX, int tileY) {
-        String key = tileX + "," + tileY;
-        return farmTiles.get(key);
+        growthSystem.observe(tileX, tileY);
+        return findFarmTile(tileX, tileY);
     }
     
     /**
-     * すべての農地を描画します。
-     * @param shapeRenderer ShapeRendererインスタンス
+     * 農地の数を返します。
      */
-    public void render(ShapeRenderer shapeRenderer) {
-        for (FarmTile farmTile : farmTiles.values()) {
-            farmTile.render(shapeRenderer);
-        }
+    public int getFarmTileCount() {
+        return farmIndex.size();
     }
     
     /**
-     * すべての農地タイルを返します（セーブ用）。
+     * 指定されたタイル位置の農地を索引から引きます（領域は進めない）。
      */
-    public Map<String, FarmTile> getFarmTiles() {
-        return farmTiles;
+    private FarmTile findFarmTile(int tileX, int tileY) {
+        Entity entity = farmIndex.get(tileX, tileY);
+        return entity != null ? CropGrowthComponent.MAPPER.get(entity).farmTile : null;
     }
     
     /**
-     * 農地タイルを設定します（ロード用）。
+     * 農地のエンティティをワールドに置きます。
      */
-    public void setFarmTiles(Map<String, FarmTile> farmTiles) {
-        this.farmTiles = farmTiles != null ? farmTiles : new HashMap<>();
+    private void addFarmEntity(FarmTile farmTile) {
+        Entity entity = new Entity();
+        entity.add(new PositionComponent(farmTile.getTileX(), farmTile.getTileY()));
+        entity.add(new CropGrowthComponent(farmTile));
+        entity.add(new RenderableComponent());
+        worldEntities.addEntity(entity);
     }
 }
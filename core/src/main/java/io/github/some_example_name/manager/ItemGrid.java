@@ -0,0 +1,147 @@
+package io.github.some_example_name.manager;
+
+import io.github.some_example_name.ecs.ItemComponent;
+import io.github.some_example_name.ecs.PositionComponent;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * アイテムのエンティティをタイルのマス目ごとのバケットに分けて持つグリッド（空間ハッシュ）。
+ * エンティティは{@link PositionComponent}と{@link ItemComponent}を持つ必要があります。
+ *
+ * <p>マス目の問い合わせ（{@link #query}）は範囲内のマス目だけを調べるため、
+ * 費用はアイテムの総数ではなく範囲の広さに比例します。
+ * 削除はアイテムが持つ添字（{@link ItemComponent#gridCellSlot}など）を使い、末尾の要素と入れ替えて行うためO(1)です。
+ * そのため、バケットとアイテム一覧の順番は保たれません。</p>
+ */
+public class ItemGrid {
+    // マス目のキー → そのマス目にあるアイテム
+    private final LongMap<Array<Entity>> cells;
+
+    // すべてのアイテム（順不同）
+    private final Array<Entity> items;
+
+    // 空になったマス目のバケット（使い回してガベージを出さないようにする）
+    private final Array<Array<Entity>> freeCells;
+
+    public ItemGrid() {
+        this.cells = new LongMap<>();
+        this.items = new Array<>(false, 16);
+        this.freeCells = new Array<>(false, 16);
+    }
+
+    /**
+     * アイテムを追加します。
+     */
+    public void add(Entity entity) {
+        PositionComponent position = PositionComponent.MAPPER.get(entity);
+        ItemComponent item = ItemComponent.MAPPER.get(entity);
+        long key = cellKey(position.tileX, position.tileY);
+        Array<Entity> cell = cells.get(key);
+        if (cell == null) {
+            cell = freeCells.size > 0 ? freeCells.pop() : new Array<Entity>(false, 4);
+            cells.put(key, cell);
+        }
+        item.gridCellSlot = cell.size;
+        cell.add(entity);
+        item.gridListSlot = items.size;
+        items.add(entity);
+    }
+
+    /**
+     * アイテムを削除します（O(1)）。
+     * @return 削除した場合true
+     */
+    public boolean remove(Entity entity) {
+        ItemComponent item = ItemComponent.MAPPER.get(entity);
+        int listSlot = item.gridListSlot;
+        if (listSlot < 0 || listSlot >= items.size || items.get(listSlot) != entity) {
+            return false;
+        }
+        PositionComponent position = PositionComponent.MAPPER.get(entity);
+        long key = cellKey(position.tileX, position.tileY);
+        Array<Entity> cell = cells.get(key);
+        removeAt(cell, item.gridCellSlot, true);
+        if (cell.size == 0) {
+            freeCells.add(cells.remove(key));
+        }
+        removeAt(items, listSlot, false);
+        item.gridCellSlot = -1;
+        item.gridListSlot = -1;
+        return true;
+    }
+
+    /**
+     * すべてのアイテムを削除します。
+     */
+    public void clear() {
+        for (int i = 0; i < items.size; i++) {
+            ItemComponent item = ItemComponent.MAPPER.get(items.get(i));
+            item.gridCellSlot = -1;
+            item.gridListSlot = -1;
+        }
+        for (Array<Entity> cell : cells.values()) {
+            cell.clear();
+            freeCells.add(cell);
+        }
+        cells.clear();
+        items.clear();
+    }
+
+    /**
+     * アイテムの数を返します。
+     */
+    public int size() {
+        return items.size;
+    }
+
+    /**
+     * すべてのアイテムを返します（順不同、変更しないこと）。
+     */
+    public Array<Entity> getItems() {
+        return items;
+    }
+
+    /**
+     * 指定されたタイルの範囲にあるアイテムを追加します。
+     * @param minTileX 範囲の左端のタイルX座標
+     * @param minTileY 範囲の下端のタイルY座標
+     * @param maxTileX 範囲の右端のタイルX座標（含む）
+     * @param maxTileY 範囲の上端のタイルY座標（含む）
+     * @param out 結果の追加先（クリアはしない）
+     */
+    public void query(int minTileX, int minTileY, int maxTileX, int maxTileY, Array<Entity> out) {
+        for (int tileY = minTileY; tileY <= maxTileY; tileY++) {
+            for (int tileX = minTileX; tileX <= maxTileX; tileX++) {
+                Array<Entity> cell = cells.get(cellKey(tileX, tileY));
+                if (cell != null) {
+                    out.addAll(cell);
+                }
+            }
+        }
+    }
+
+    /**
+     * 末尾の要素を指定された位置に移して削除し、移した要素の添字を更新します。
+     */
+    private static void removeAt(Array<Entity> array, int slot, boolean cellSlot) {
+        int last = array.size - 1;
+        Entity moved = array.get(last);
+        array.set(slot, moved);
+        array.pop();
+        if (slot != last) {
+            ItemComponent item = ItemComponent.MAPPER.get(moved);
+            if (cellSlot) {
+                item.gridCellSlot = slot;
+            } else {
+                item.gridListSlot = slot;
+            }
+        }
+    }
+
+    private static long cellKey(int tileX, int tileY) {
+        return ((long)tileX << 32) | (tileY & 0xFFFFFFFFL);
+    }
+}
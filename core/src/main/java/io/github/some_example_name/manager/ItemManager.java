@@ -1,22 +1,34 @@
 package io.github.some_example_name.manager;
 
+import io.github.some_example_name.ecs.ItemComponent;
+import io.github.some_example_name.ecs.ItemPickupSystem;
+import io.github.some_example_name.ecs.PositionComponent;
+import io.github.some_example_name.ecs.RenderableComponent;
+import io.github.some_example_name.ecs.WorldEntities;
 import io.github.some_example_name.entity.Item;
-import io.github.some_example_name.entity.Player;
+import io.github.some_example_name.entity.ItemData;
 import io.github.some_example_name.game.CivilizationLevel;
 import io.github.some_example_name.game.Inventory;
 import io.github.some_example_name.system.SoundManager;
 
-import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.utils.Array;
-
-import java.util.Iterator;
+import com.badlogic.gdx.utils.Pool;
 
 /**
- * アイテムの生成、更新、描画を管理するクラス。
+ * アイテムの生成を管理するクラス（描画は{@link io.github.some_example_name.render.WorldEntityRenderer}が行います）。
+ * アイテムは{@link WorldEntities}のエンティティ（位置・アイテム・描画のコンポーネント）として置き、
+ * 取得の判定は{@link ItemPickupSystem}が行います。
+ * エンティティはプールから取り出して置き、取得やロードでワールドから取り除かれるとプールに戻すため、ガベージを出しません。
  */
 public class ItemManager {
-    private Array<Item> items;
+    // アイテムのエンティティを持つワールド
+    private WorldEntities worldEntities;
+    
+    // ワールドに置くアイテムのエンティティのプール
+    private final Pool<Entity> itemPool;
     
     // 取得したアイテム数
     private int collectedCount;
@@ -34,13 +46,51 @@ public class ItemManager {
     private SoundManager soundManager;
     
     public ItemManager() {
-        this.items = new Array<>();
+        this.itemPool = new Pool<Entity>() {
+            @Override
+            protected Entity newObject() {
+                Entity entity = new Entity();
+                entity.add(new PositionComponent(0, 0));
+                entity.add(new ItemComponent(new Item(0, 0, Item.ItemType.RED)));
+                entity.add(new RenderableComponent());
+                return entity;
+            }
+            
+            @Override
+            protected void reset(Entity entity) {
+                ItemComponent.MAPPER.get(entity).item.reset();
+            }
+        };
         this.collectedCount = 0;
         this.itemDataLoader = new ItemDataLoader();
         this.civilizationLevel = new CivilizationLevel(1); // 初期はレベル1
         this.inventory = null; // 後で設定される
     }
     
+    /**
+     * アイテムのエンティティを置くワールドを設定します（アイテムを置く前に設定する）。
+     */
+    public void setWorldEntities(WorldEntities worldEntities) {
+        this.worldEntities = worldEntities;
+        // ワールドから取り除かれたエンティティはプールに戻す
+        worldEntities.addEntityListener(WorldEntities.ITEMS, new EntityListener() {
+            @Override
+            public void entityAdded(Entity entity) {
+            }
+            
+            @Override
+            public void entityRemoved(Entity entity) {
+                itemPool.free(entity);
+            }
+        });
+        worldEntities.getSystem(ItemPickupSystem.class).setListener(new ItemPickupSystem.Listener() {
+            @Override
+            public void onPickup(Item item) {
+                onItemCollected(item);
+            }
+        });
+    }
+    
     /**
      * インベントリを設定します。
      */
@@ -77,80 +127,22 @@ public class ItemManager {
     }
     
     /**
-     * アイテムマネージャーを更新します。
-     * @param deltaTime 前フレームからの経過時間（秒）
-     * @param player プレイヤー（衝突判定用）
-     * @param camera カメラ（視野範囲の計算用）
+     * アイテムが拾われたときに、インベントリへの追加と取得音の再生を行います。
+     * @param item 拾われたアイテム
      */
-    public void update(float deltaTime, Player player, OrthographicCamera camera) {
-        // プレイヤーとアイテムの衝突判定
-        checkCollisions(player);
+    private void onItemCollected(Item item) {
+        collectedCount++;
         
-        // 取得済みアイテムを削除
-        Iterator<Item> iterator = items.iterator();
-        while (iterator.hasNext()) {
-            Item item = iterator.next();
-            if (item.isCollected()) {
-                iterator.remove();
-            }
+        // インベントリにアイテムを追加
+        if (inventory != null && item.getItemData() != null) {
+            inventory.addItem(item.getItemData());
         }
-    }
-    
-    /**
-     * プレイヤーとアイテムの衝突判定を行います。
-     * プレイヤーが4マップ升サイズなので、プレイヤーの範囲内にアイテムがある場合、アイテムを取得します。
-     * 移動中も判定を行うため、より正確に衝突を検出できます。
-     * @param player プレイヤー
-     */
-    private void checkCollisions(Player player) {
-        // プレイヤーの中心座標を取得
-        float playerCenterX = player.getPixelX() + Player.PLAYER_TILE_SIZE / 2;
-        float playerCenterY = player.getPixelY() + Player.PLAYER_TILE_SIZE / 2;
         
-        // プレイヤーのサイズは4マップ升（TILE_SIZE * 4）
-        float playerSize = Player.TILE_SIZE * 4.0f;
-        float playerLeft = playerCenterX - playerSize / 2;
-        float playerRight = playerCenterX + playerSize / 2;
-        float playerBottom = playerCenterY - playerSize / 2;
-        float playerTop = playerCenterY + playerSize / 2;
-        
-        for (Item item : items) {
-            if (item.isCollected()) {
-                continue;
-            }
-            
-            // アイテムの位置（マップ升の中心）
-            float itemX = item.getTileX() * Player.TILE_SIZE + Player.TILE_SIZE / 2;
-            float itemY = item.getTileY() * Player.TILE_SIZE + Player.TILE_SIZE / 2;
-            
-            // アイテムがプレイヤーの範囲内にあるかチェック
-            if (itemX >= playerLeft && itemX <= playerRight &&
-                itemY >= playerBottom && itemY <= playerTop) {
-                item.collect();
-                collectedCount++;
-                
-                // インベントリにアイテムを追加
-                if (inventory != null && item.getItemData() != null) {
-                    inventory.addItem(item.getItemData());
-                }
-                
-                // アイテム取得音を再生（ItemDataの有無に関わらず）
-                if (soundManager != null) {
-                    soundManager.playCollectSound();
-                } else {
-                    com.badlogic.gdx.Gdx.app.log("ItemManager", "SoundManager is null when trying to play collect sound");
-                }
-            }
-        }
-    }
-    
-    /**
-     * すべてのアイテムを描画します。
-     * @param shapeRenderer ShapeRendererインスタンス
-     */
-    public void render(ShapeRenderer shapeRenderer) {
-        for (Item item : items) {
-            item.render(shapeRenderer);
+        // アイテム取得音を再生（ItemDataの有無に関わらず）
+        if (soundManager != null) {
+            soundManager.playCollectSound();
+        } else {
+            com.badlogic.gdx.Gdx.app.log("ItemManager", "SoundManager is null when trying to play collect sound");
         }
     }
     
@@ -165,21 +157,57 @@ public class ItemManager {
      * 現在のアイテム数を返します。
      */
     public int getItemCount() {
-        return items.size;
+        return worldEntities.getEntities(WorldEntities.ITEMS).size();
     }
     
     /**
-     * 現在のアイテムリストを返します（セーブ用）。
+     * 現在のアイテムの一覧を作って返します（セーブ用、順不同）。
      */
     public Array<Item> getItems() {
+        ImmutableArray<Entity> entities = worldEntities.getEntities(WorldEntities.ITEMS);
+        Array<Item> items = new Array<>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            items.add(ItemComponent.MAPPER.get(entities.get(i)).item);
+        }
         return items;
     }
     
     /**
-     * アイテムリストを設定します（ロード用）。
+     * アイテムデータを指定してアイテムを置きます。
+     * @return 置いたアイテム（プールのものなので、取得されたあとは参照を持ち続けないこと）
      */
-    public void setItems(Array<Item> items) {
-        this.items = items;
+    public Item spawnItem(int tileX, int tileY, ItemData itemData) {
+        Entity entity = itemPool.obtain();
+        Item item = ItemComponent.MAPPER.get(entity).item;
+        item.set(tileX, tileY, itemData);
+        addItemEntity(entity, tileX, tileY);
+        return item;
+    }
+    
+    /**
+     * アイテムの種類を指定してアイテムを置きます（ロード用）。
+     * @return 置いたアイテム（プールのものなので、取得されたあとは参照を持ち続けないこと）
+     */
+    public Item spawnItem(int tileX, int tileY, Item.ItemType type) {
+        Entity entity = itemPool.obtain();
+        Item item = ItemComponent.MAPPER.get(entity).item;
+        item.set(tileX, tileY, type);
+        addItemEntity(entity, tileX, tileY);
+        return item;
+    }
+    
+    /**
+     * すべてのアイテムを取り除きます（ロードの前に使用、エンティティはプールに戻る）。
+     */
+    public void clearItems() {
+        worldEntities.removeAllEntities(WorldEntities.ITEMS);
+    }
+    
+    private void addItemEntity(Entity entity, int tileX, int tileY) {
+        PositionComponent position = PositionComponent.MAPPER.get(entity);
+        position.tileX = tileX;
+        position.tileY = tileY;
+        worldEntities.addEntity(entity);
     }
     
     /**
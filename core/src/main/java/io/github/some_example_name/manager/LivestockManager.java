@@ -1,22 +1,40 @@
 package io.github.some_example_name.manager;
 
+import io.github.some_example_name.ecs.LivestockProductionComponent;
+import io.github.some_example_name.ecs.LivestockProductionSystem;
+import io.github.some_example_name.ecs.PositionComponent;
+import io.github.some_example_name.ecs.RenderableComponent;
+import io.github.some_example_name.ecs.TileIndex;
+import io.github.some_example_name.ecs.WorldEntities;
 import io.github.some_example_name.entity.LivestockData;
 import io.github.some_example_name.entity.LivestockTile;
 import io.github.some_example_name.entity.TerrainTile;
 import io.github.some_example_name.game.CivilizationLevel;
 import io.github.some_example_name.game.Inventory;
 
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.utils.Array;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * 畜産を管理するクラス。
+ * 
+ * <p>畜産タイルは{@link WorldEntities}のエンティティ（位置・畜産の生産・描画のコンポーネント）として置き、
+ * このクラスは動物の配置や収穫といった操作を行います。
+ * 成熟と製品の生産は{@link LivestockProductionSystem}がイベント駆動で進めます。動物を配置すると次に状態が変わる時刻を登録し、
+ * 製品ができた後は収穫されたときに次の時刻を登録し直します。変化のない畜産タイルには毎ティックの処理がありません。</p>
+ *
+ * <p>イベントは畜産タイルの状態だけを変え、インベントリへの追加と畜産物の累計生産数は収穫時にシミュレーションスレッドで反映します。
+ * プレイヤーから遠い領域は畜産タイルが参照されるまで進めないため、状態を読む前には必ず領域を現在時刻まで進めます。</p>
  */
 public class LivestockManager {
-    // 畜産タイルのマップ（キー: "tileX,tileY"）
-    private Map<String, LivestockTile> livestockTiles;
+    // 畜産タイルのエンティティを持つワールド
+    private WorldEntities worldEntities;
+    
+    // 成熟と製品の生産を進めるシステム
+    private LivestockProductionSystem productionSystem;
+    
+    // 畜産タイルのエンティティのタイル座標からの索引
+    private final TileIndex livestockIndex;
     
     // インベントリへの参照
     private Inventory inventory;
@@ -37,12 +55,21 @@ public class LivestockManager {
     private static final int FEED_ITEM_ID = 13; // 作物
     
     public LivestockManager() {
-        this.livestockTiles = new HashMap<>();
         this.inventory = null;
         this.livestockDataLoader = new LivestockDataLoader();
         this.terrainManager = null;
         this.civilizationLevel = null;
         this.totalLivestockProductsProduced = 0;
+        this.livestockIndex = new TileIndex();
+    }
+    
+    /**
+     * 畜産タイルのエンティティを置くワールドを設定します（畜産タイルを操作する前に設定する）。
+     */
+    public void setWorldEntities(WorldEntities worldEntities) {
+        this.worldEntities = worldEntities;
+        this.productionSystem = worldEntities.getSystem(LivestockProductionSystem.class);
+        worldEntities.addEntityListener(WorldEntities.LIVESTOCK, livestockIndex);
     }
     
     /**
@@ -74,13 +101,39 @@ public class LivestockManager {
     }
     
     /**
-     * 畜産タイルを更新します。
-     * @param deltaTime 前フレームからの経過時間（秒）
+     * イベントを領域ごとに並列で処理するかどうかを設定します（falseの場合は逐次で処理する）。
      */
-    public void update(float deltaTime) {
-        for (LivestockTile livestockTile : livestockTiles.values()) {
-            livestockTile.update(deltaTime);
-        }
+    public void setParallelTick(boolean parallel) {
+        productionSystem.setParallel(parallel);
+    }
+    
+    /**
+     * プレイヤーからの距離でイベントの処理間隔を変えるかどうかを設定します。
+     */
+    public void setLevelOfDetail(boolean levelOfDetail) {
+        productionSystem.setLevelOfDetail(levelOfDetail);
+    }
+    
+    /**
+     * 処理間隔の基準にするタイルを設定します（プレイヤーのエンティティがある場合は毎ティックその位置で置き換わる）。
+     */
+    public void setFocusTile(int tileX, int tileY) {
+        productionSystem.setFocusTile(tileX, tileY);
+    }
+    
+    /**
+     * 遠くて処理を後回しにしている畜産タイルも含めて、すべての畜産タイルを現在時刻まで進めます（すべての畜産タイルを読む前に呼び出す）。
+     */
+    public void catchUpAll() {
+        productionSystem.observeAll();
+    }
+    
+    /**
+     * 畜産タイルの成長と製品の生産を指定された時間だけ早送りします（{@link LivestockProductionSystem#fastForward}）。
+     * @param seconds 進める時間（秒）
+     */
+    public void fastForward(float seconds) {
+        productionSystem.fastForward(seconds);
     }
     
     /**
@@ -104,13 +157,13 @@ public class LivestockManager {
             }
         }
         
-        String key = tileX + "," + tileY;
-        LivestockTile livestockTile = livestockTiles.get(key);
+        productionSystem.observe(tileX, tileY);
+        LivestockTile livestockTile = findLivestockTile(tileX, tileY);
         
         if (livestockTile == null) {
             // 新しい畜産タイルを作成
             livestockTile = new LivestockTile(tileX, tileY);
-            livestockTiles.put(key, livestockTile);
+            addLivestockEntity(livestockTile);
         }
         
         // 動物を配置
@@ -132,6 +185,9 @@ public class LivestockManager {
         }
         
         if (livestockTile.placeAnimal(dataToPlace)) {
+            // 最初の成長段階の時刻を登録
+            productionSystem.scheduleNextEvent(livestockTile);
+            
             // インベントリから餌を1個消費
             inventory.removeItem(FEED_ITEM_ID, 1);
             return true;
@@ -175,8 +231,8 @@ public class LivestockManager {
      * @return 収穫できた場合true
      */
     public boolean harvest(int tileX, int tileY) {
-        String key = tileX + "," + tileY;
-        LivestockTile livestockTile = livestockTiles.get(key);
+        productionSystem.observe(tileX, tileY);
+        LivestockTile livestockTile = findLivestockTile(tileX, tileY);
         
         if (livestockTile == null || !livestockTile.hasProduct()) {
             return false;
@@ -190,6 +246,9 @@ public class LivestockManager {
         
         // 収穫
         if (livestockTile.harvestProduct()) {
+            // 次の製品ができる時刻を登録し直す
+            productionSystem.scheduleNextEvent(livestockTile);
+            
             // インベントリに製品を追加（種類ごとの製品ID）
             if (inventory != null) {
                 inventory.addItem(data.productItemId, 1);
@@ -209,8 +268,8 @@ public class LivestockManager {
      * @return 殺すことができた場合true
      */
     public boolean killAnimal(int tileX, int tileY) {
-        String key = tileX + "," + tileY;
-        LivestockTile livestockTile = livestockTiles.get(key);
+        productionSystem.observe(tileX, tileY);
+        LivestockTile livestockTile = findLivestockTile(tileX, tileY);
         
         if (livestockTile == null || !livestockTile.hasAnimal()) {
             return false;
@@ -219,6 +278,9 @@ public class LivestockManager {
         // 家畜を殺して肉のアイテムIDを取得
         int meatId = livestockTile.killAnimal();
         if (meatId != -1) {
+            // 動物がいなくなったのでイベントを取り消す
+            productionSystem.cancel(livestockTile);
+            
             // インベントリに肉を追加
             if (inventory != null) {
                 inventory.addItem(meatId, 1);
@@ -235,40 +297,41 @@ public class LivestockManager {
      * 指定されたタイル位置に畜産タイルがあるかどうかを返します。
      */
     public boolean hasLivestockTile(int tileX, int tileY) {
-        String key = tileX + "," + tileY;
-        return livestockTiles.containsKey(key);
+        return livestockIndex.get(tileX, tileY) != null;
     }
     
     /**
      * 指定されたタイル位置の畜産タイルを取得します。
      */
     public LivestockTile getLivestockTile(int tileX, int tileY) {
-        String key = tileX + "," + tileY;
-        return livestockTiles.get(key);
+        productionSystem.observe(tileX, tileY);
+        return findLivestockTile(tileX, tileY);
     }
     
     /**
-     * すべての畜産タイルを描画します。
-     * @param shapeRenderer ShapeRendererインスタンス
+     * 畜産タイルの数を返します。
      */
-    public void render(ShapeRenderer shapeRenderer) {
-        for (LivestockTile livestockTile : livestockTiles.values()) {
-            livestockTile.render(shapeRenderer);
-        }
+    public int getLivestockTileCount() {
+        return livestockIndex.size();
     }
     
     /**
-     * すべての畜産タイルを返します（セーブ用）。
+     * 指定されたタイル位置の畜産タイルを索引から引きます（領域は進めない）。
      */
-    public Map<String, LivestockTile> getLivestockTiles() {
-        return livestockTiles;
+    private LivestockTile findLivestockTile(int tileX, int tileY) {
+        Entity entity = livestockIndex.get(tileX, tileY);
+        return entity != null ? LivestockProductionComponent.MAPPER.get(entity).livestockTile : null;
     }
     
     /**
-     * 畜産タイルを設定します（ロード用）。
+     * 畜産タイルのエンティティをワールドに置きます。
      */
-    public void setLivestockTiles(Map<String, LivestockTile> livestockTiles) {
-        this.livestockTiles = livestockTiles != null ? livestockTiles : new HashMap<>();
+    private void addLivestockEntity(LivestockTile livestockTile) {
+        Entity entity = new Entity();
+        entity.add(new PositionComponent(livestockTile.getTileX(), livestockTile.getTileY()));
+        entity.add(new LivestockProductionComponent(livestockTile));
+        entity.add(new RenderableComponent());
+        worldEntities.addEntity(entity);
     }
     
     /**
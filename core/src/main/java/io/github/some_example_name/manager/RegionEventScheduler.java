@@ -0,0 +1,397 @@
+package io.github.some_example_name.manager;
+
+import io.github.some_example_name.entity.TerrainChunk;
+import io.github.some_example_name.util.EventScheduler;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * タイルのイベントをチャンク単位の領域に分けて管理し、領域ごとに並列で進めるスケジューラー。
+ *
+ * <p>領域はそれぞれ自分の{@link EventScheduler}を持ち、イベントの処理は領域内のタイルだけに触れます。
+ * そのため{@link #advance}では領域を{@link ForkJoinPool}で同時に進められます。
+ * 領域の外（インベントリなど）に影響する処理はイベントでは行わず、呼び出し元のスレッドで行います。
+ * 結果がスレッドの実行順に左右されないため、逐次で進めた場合と同じ結果になります。</p>
+ *
+ * <p>領域は注目するタイル（プレイヤーの位置）からの距離で進め方を変えます（詳細度）。
+ * 近い領域は毎ティック、中くらいの領域は{@link #MID_TICK_INTERVAL}ティックごとにまとめて進め、
+ * 遠い領域は進めずに、タイルが参照されたとき（{@link #observe}）に現在時刻まで一度に進めます。
+ * イベントは予定時刻から次の時刻を求めるため、どの間隔で進めても同じ時刻まで進めれば結果は毎ティック進めた場合と同じです。
+ * 遠い領域はどれだけ増えてもイベントの処理が発生しません。
+ * 進める領域は注目するチャンクの周りのチャンクを調べて選ぶため、ティックの費用は領域の総数に依存しません。</p>
+ *
+ * <p>登録されたイベントがなくなった領域は、進めたとき・参照されたとき・取り消されたときに取り除きます。
+ * 領域を持つのはイベントが残っているチャンクだけなので、一度触れたチャンクの領域がたまり続けることはありません。
+ * 取り除いた領域は次に登録されるときに現在時刻から作り直します（イベントがないので結果は変わりません）。</p>
+ *
+ * <p>イベントを処理中のリスナーからは、渡された{@link Region}に対してだけ登録・取り消しを行います。
+ * 領域の追加は{@link #advance}の外（シミュレーションスレッド）でだけ行われます。</p>
+ */
+public class RegionEventScheduler {
+    // 並列に進める最小の領域数（これより少ない場合は呼び出し元のスレッドで順に進める）
+    private static final int PARALLEL_MIN_REGIONS = 4;
+
+    // 毎ティック進める領域の、注目するチャンクからの距離（チャンク数）
+    private static final int NEAR_CHUNK_RADIUS = 3;
+
+    // 間隔をあけて進める領域の、注目するチャンクからの距離（チャンク数、これより遠い領域は参照されるまで進めない）
+    private static final int MID_CHUNK_RADIUS = 8;
+
+    // 中くらいの距離の領域を進める間隔（ティック数）
+    public static final int MID_TICK_INTERVAL = 8;
+
+    /**
+     * 期限が来たイベントを受け取るリスナー（ワーカースレッドから呼び出されることがあります）。
+     */
+    public interface Listener {
+        /**
+         * @param event イベント（{@link EventScheduler.Event#getTime()}は予定されていた時刻）
+         * @param region イベントが属する領域（再登録に使う）
+         */
+        void onEvent(EventScheduler.Event event, Region region);
+    }
+
+    /**
+     * 1つのチャンクに含まれるタイルのイベントをまとめた領域。
+     */
+    public static final class Region implements EventScheduler.Listener {
+        private final long key;
+        private final int chunkX;
+        private final int chunkY;
+        private final EventScheduler scheduler;
+        private final Listener listener;
+
+        // 領域の一覧内での添字（取り除いた場合は-1）
+        private int slot;
+
+        Region(int chunkX, int chunkY, Listener listener, double startTime) {
+            this.key = TerrainChunk.key(chunkX, chunkY);
+            this.chunkX = chunkX;
+            this.chunkY = chunkY;
+            this.listener = listener;
+            this.scheduler = new EventScheduler(this, startTime);
+            this.slot = -1;
+        }
+
+        /**
+         * この領域のイベントを指定された時刻に登録します。
+         */
+        public void schedule(EventScheduler.Event event, double eventTime) {
+            scheduler.schedule(event, eventTime);
+        }
+
+        /**
+         * この領域のイベントの登録を取り消します。
+         */
+        public void cancel(EventScheduler.Event event) {
+            scheduler.cancel(event);
+        }
+
+        @Override
+        public void onEvent(EventScheduler.Event event) {
+            listener.onEvent(event, this);
+        }
+    }
+
+    /**
+     * 領域の範囲を分割しながら並列に進めるタスク。
+     */
+    private static final class AdvanceTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Array<Region> regions;
+        private final int from;
+        private final int to;
+        private final double targetTime;
+
+        AdvanceTask(Array<Region> regions, int from, int to, double targetTime) {
+            this.regions = regions;
+            this.from = from;
+            this.to = to;
+            this.targetTime = targetTime;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                for (int i = from; i < to; i++) {
+                    regions.get(i).scheduler.advanceTo(targetTime);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new AdvanceTask(regions, from, middle, targetTime),
+                      new AdvanceTask(regions, middle, to, targetTime));
+        }
+    }
+
+    private final Listener listener;
+
+    // チャンクのキー → 領域
+    private final LongMap<Region> regionsByKey;
+
+    // すべての領域（順不同、取り除くときは末尾の要素と入れ替える）
+    private final Array<Region> regions;
+
+    // このティックで進める領域（使い回す）
+    private final Array<Region> activeRegions;
+
+    // 現在のシミュレーション時刻（秒、進めた領域の時刻はこれと同じ）
+    private double time;
+
+    // 進めたティック数（中くらいの距離の領域を進める順番に使う）
+    private long tickCount;
+
+    // 領域が十分にあるとき並列に進めるかどうか
+    private boolean parallel;
+
+    // 距離に応じて領域の進め方を変えるかどうか
+    private boolean levelOfDetail;
+
+    // 注目するチャンクの座標
+    private int focusChunkX;
+    private int focusChunkY;
+
+    /**
+     * @param listener 期限が来たイベントを受け取るリスナー
+     */
+    public RegionEventScheduler(Listener listener) {
+        this.listener = listener;
+        this.regionsByKey = new LongMap<>();
+        this.regions = new Array<>(false, 16);
+        this.activeRegions = new Array<>(false, 16);
+        this.time = 0.0;
+        this.tickCount = 0;
+        this.parallel = true;
+        this.levelOfDetail = true;
+    }
+
+    /**
+     * 並列に進めるかどうかを設定します（falseの場合は常に呼び出し元のスレッドで順に進める）。
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * 距離に応じて領域の進め方を変えるかどうかを設定します（falseの場合はすべての領域を毎ティック進める）。
+     */
+    public void setLevelOfDetail(boolean levelOfDetail) {
+        this.levelOfDetail = levelOfDetail;
+    }
+
+    /**
+     * 注目するタイル（プレイヤーの位置など）を設定します。ここからの距離で領域の進め方が決まります。
+     */
+    public void setFocusTile(int tileX, int tileY) {
+        this.focusChunkX = tileX >> TerrainChunk.SHIFT;
+        this.focusChunkY = tileY >> TerrainChunk.SHIFT;
+    }
+
+    /**
+     * 現在のシミュレーション時刻（秒）を返します。
+     */
+    public double getTime() {
+        return time;
+    }
+
+    /**
+     * 領域の数を返します。
+     */
+    public int getRegionCount() {
+        return regions.size;
+    }
+
+    /**
+     * タイルのイベントを指定された時刻に登録します（タイルの領域が遅れている場合は先に現在時刻まで進めます）。
+     * @param tileX イベントの対象のタイルX座標
+     * @param tileY イベントの対象のタイルY座標
+     * @param event イベント
+     * @param eventTime 予定時刻（秒）
+     */
+    public void schedule(int tileX, int tileY, EventScheduler.Event event, double eventTime) {
+        Region region = getOrCreateRegion(tileX, tileY);
+        catchUp(region);
+        region.schedule(event, eventTime);
+    }
+
+    /**
+     * タイルの状態を参照する前に呼び出し、タイルの領域が遅れていれば現在時刻まで進めます。
+     * @param tileX タイルX座標
+     * @param tileY タイルY座標
+     */
+    public void observe(int tileX, int tileY) {
+        Region region = regionsByKey.get(regionKey(tileX, tileY));
+        if (region != null) {
+            catchUp(region);
+            removeIfEmpty(region);
+        }
+    }
+
+    /**
+     * 指定されたタイルの範囲に重なる、遅れている領域を現在時刻まで進めます（表示範囲を描画する前などに呼び出す）。
+     */
+    public void observeArea(int minTileX, int minTileY, int maxTileX, int maxTileY) {
+        int minChunkX = minTileX >> TerrainChunk.SHIFT;
+        int minChunkY = minTileY >> TerrainChunk.SHIFT;
+        int maxChunkX = maxTileX >> TerrainChunk.SHIFT;
+        int maxChunkY = maxTileY >> TerrainChunk.SHIFT;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkY = minChunkY; chunkY <= maxChunkY; chunkY++) {
+                Region region = regionsByKey.get(TerrainChunk.key(chunkX, chunkY));
+                if (region != null) {
+                    catchUp(region);
+                    removeIfEmpty(region);
+                }
+            }
+        }
+    }
+
+    /**
+     * 遅れているすべての領域を現在時刻まで進めます（すべてのタイルの状態を参照する前に呼び出す）。
+     */
+    public void observeAll() {
+        // 後ろから調べて、取り除いたときに入れ替わる要素を飛ばさないようにする
+        for (int i = regions.size - 1; i >= 0; i--) {
+            Region region = regions.get(i);
+            catchUp(region);
+            removeIfEmpty(region);
+        }
+    }
+
+    /**
+     * タイルのイベントの登録を取り消します（登録されていない場合は何もしません）。
+     */
+    public void cancel(int tileX, int tileY, EventScheduler.Event event) {
+        if (!event.isScheduled()) {
+            return;
+        }
+        Region region = regionsByKey.get(regionKey(tileX, tileY));
+        if (region != null) {
+            region.cancel(event);
+            removeIfEmpty(region);
+        }
+    }
+
+    /**
+     * すべてのイベントと領域を取り除きます（時刻はそのまま）。
+     */
+    public void clear() {
+        for (int i = 0; i < regions.size; i++) {
+            Region region = regions.get(i);
+            region.scheduler.clear();
+            region.slot = -1;
+        }
+        regions.clear();
+        regionsByKey.clear();
+    }
+
+    /**
+     * 時刻を進めて期限が来たイベントを処理します。
+     * 詳細度が有効な場合、このティックで進める距離にある領域だけを現在時刻まで進めます。
+     * @param deltaSeconds 進める時間（秒）
+     */
+    public void advance(double deltaSeconds) {
+        time += deltaSeconds;
+        tickCount++;
+
+        activeRegions.clear();
+        if (levelOfDetail) {
+            collectDueRegions();
+        } else {
+            activeRegions.addAll(regions);
+        }
+
+        int count = activeRegions.size;
+        if (parallel && count >= PARALLEL_MIN_REGIONS) {
+            ForkJoinPool.commonPool().invoke(new AdvanceTask(activeRegions, 0, count, time));
+        } else {
+            for (int i = 0; i < count; i++) {
+                activeRegions.get(i).scheduler.advanceTo(time);
+            }
+        }
+
+        // イベントがなくなった領域を取り除く（領域の一覧の変更は呼び出し元のスレッドでだけ行う）
+        for (int i = 0; i < count; i++) {
+            removeIfEmpty(activeRegions.get(i));
+        }
+        activeRegions.clear();
+    }
+
+    /**
+     * イベントを処理せずに時刻だけを進めます（早送り用）。
+     * 呼び出す前に、進めた後の時刻より前に予定されているイベントをすべて登録し直すか取り消しておく必要があります。
+     * 各領域の時刻は次に進めるときに追いつきます。
+     * @param seconds 進める時間（秒）
+     */
+    public void skipTime(double seconds) {
+        time += seconds;
+    }
+
+    /**
+     * このティックで進める領域を、注目するチャンクの周りのチャンクから集めます。
+     * 近い領域はすべて、中くらいの距離の領域は順番が来たものだけを選びます（遠い領域は調べない）。
+     */
+    private void collectDueRegions() {
+        for (int chunkY = focusChunkY - MID_CHUNK_RADIUS; chunkY <= focusChunkY + MID_CHUNK_RADIUS; chunkY++) {
+            for (int chunkX = focusChunkX - MID_CHUNK_RADIUS; chunkX <= focusChunkX + MID_CHUNK_RADIUS; chunkX++) {
+                int distance = Math.max(Math.abs(chunkX - focusChunkX), Math.abs(chunkY - focusChunkY));
+                // 中くらいの距離の領域は、領域ごとに順番をずらして同じティックに集中しないようにする
+                if (distance > NEAR_CHUNK_RADIUS &&
+                    ((tickCount + chunkX + chunkY) & (MID_TICK_INTERVAL - 1)) != 0) {
+                    continue;
+                }
+                Region region = regionsByKey.get(TerrainChunk.key(chunkX, chunkY));
+                if (region != null) {
+                    activeRegions.add(region);
+                }
+            }
+        }
+    }
+
+    /**
+     * 遅れている領域を現在時刻まで進めます（呼び出し元のスレッドで実行）。
+     */
+    private void catchUp(Region region) {
+        if (region.scheduler.getTime() < time) {
+            region.scheduler.advanceTo(time);
+        }
+    }
+
+    private Region getOrCreateRegion(int tileX, int tileY) {
+        long key = regionKey(tileX, tileY);
+        Region region = regionsByKey.get(key);
+        if (region == null) {
+            // 新しい領域は現在時刻から始める
+            region = new Region(tileX >> TerrainChunk.SHIFT, tileY >> TerrainChunk.SHIFT, listener, time);
+            regionsByKey.put(key, region);
+            region.slot = regions.size;
+            regions.add(region);
+        }
+        return region;
+    }
+
+    /**
+     * 登録されたイベントがない領域を取り除きます（末尾の領域と入れ替えるためO(1)）。
+     */
+    private void removeIfEmpty(Region region) {
+        if (region.slot < 0 || region.scheduler.size() > 0) {
+            return;
+        }
+        int last = regions.size - 1;
+        Region moved = regions.get(last);
+        regions.set(region.slot, moved);
+        moved.slot = region.slot;
+        regions.pop();
+        region.slot = -1;
+        regionsByKey.remove(region.key);
+    }
+
+    private static long regionKey(int tileX, int tileY) {
+        return TerrainChunk.key(tileX >> TerrainChunk.SHIFT, tileY >> TerrainChunk.SHIFT);
+    }
+}
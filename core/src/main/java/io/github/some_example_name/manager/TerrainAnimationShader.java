@@ -0,0 +1,166 @@
+package io.github.some_example_name.manager;
+
+import io.github.some_example_name.entity.Player;
+import io.github.some_example_name.entity.TerrainTile;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * 水場や草木の揺れを頂点シェーダーで計算する地形用のシェーダー。
+ *
+ * <p>頂点カラーはアニメーションの情報として使います（色の乗算には使いません）。
+ * Rはアニメーションの種類（0: なし、0.5: 水の揺れ、1: 風の揺れ）、G/Bは頂点がタイルの右端/上端かどうかです。
+ * 頂点シェーダーはG/Bからタイルの左下の座標を求め、タイルのワールド座標から位相を計算するため、
+ * 同じタイルの4頂点は同じだけずれます。CPU側ではタイルごとの計算は不要で、
+ * アニメーションするタイルも{@link TerrainChunkCache}の静的なキャッシュに含められます。</p>
+ *
+ * <p>{@link com.badlogic.gdx.graphics.g2d.SpriteBatch}と{@link com.badlogic.gdx.graphics.g2d.SpriteCache}の
+ * どちらでも使えるよう、行列は共通の{@code u_projTrans}を使います。</p>
+ */
+public class TerrainAnimationShader implements Disposable {
+    // アニメーションの種類（頂点カラーのR）
+    public static final float KIND_NONE = 0f;
+    public static final float KIND_WATER = 0.5f;
+    public static final float KIND_WIND = 1f;
+
+    // 1頂点のfloat数（x, y, 色, u, v）
+    public static final int VERTEX_SIZE = 5;
+
+    // 四角形（SpriteBatch用、4頂点）と三角形2つ（インデックスなしのSpriteCache用、6頂点）のfloat数
+    public static final int QUAD_SIZE = VERTEX_SIZE * 4;
+    public static final int TRIANGLES_SIZE = VERTEX_SIZE * 6;
+
+    // アニメーション時間の周期（秒）。すべての揺れの速度で周期が整数回になる長さで折り返し、floatの精度落ちを防ぐ
+    public static final float TIME_PERIOD = (float)(Math.PI * 200.0);
+
+    // タイルの左下の座標（4頂点で同じ値）から位相を求め、水場はsin波とcos波の組み合わせ、
+    // 森や草は風による揺れ（垂直方向はより小さく）で頂点をずらす（GLSLには非ASCII文字を入れない）
+    private static final String VERTEX_SHADER =
+        "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+        "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+        "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+        "uniform mat4 u_projTrans;\n" +
+        "uniform float u_time;\n" +
+        "uniform float u_tileSize;\n" +
+        "varying vec2 v_texCoords;\n" +
+        "const float TWO_PI = 6.2831853;\n" +
+        "void main()\n" +
+        "{\n" +
+        "   vec2 tile = floor(a_position.xy / u_tileSize - a_color.gb + 0.5);\n" +
+        "   float water = step(0.25, a_color.r) * (1.0 - step(0.75, a_color.r));\n" +
+        "   float wind = step(0.75, a_color.r);\n" +
+        "   float waterPhaseX = mod(tile.x * 0.3 + tile.y * 0.2, TWO_PI);\n" +
+        "   float waterPhaseY = mod(tile.x * 0.2 + tile.y * 0.3, TWO_PI);\n" +
+        "   vec2 waterOffset = vec2(sin(u_time * 0.5 + waterPhaseX), cos(u_time * 0.65 + waterPhaseY)) * 0.8;\n" +
+        "   float windPhase = mod(tile.x * 0.4 + tile.y * 0.3, TWO_PI);\n" +
+        "   vec2 windOffset = vec2(sin(u_time * 0.8 + windPhase) * 0.6, cos(u_time * 0.56 + windPhase) * 0.3);\n" +
+        "   vec4 position = a_position;\n" +
+        "   position.xy += waterOffset * water + windOffset * wind;\n" +
+        "   v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+        "   gl_Position = u_projTrans * position;\n" +
+        "}\n";
+
+    private static final String FRAGMENT_SHADER =
+        "#ifdef GL_ES\n" +
+        "precision mediump float;\n" +
+        "#endif\n" +
+        "varying vec2 v_texCoords;\n" +
+        "uniform sampler2D u_texture;\n" +
+        "void main()\n" +
+        "{\n" +
+        "   gl_FragColor = texture2D(u_texture, v_texCoords);\n" +
+        "}\n";
+
+    private final ShaderProgram program;
+
+    public TerrainAnimationShader() {
+        this.program = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!program.isCompiled()) {
+            throw new IllegalArgumentException("Error compiling terrain shader: " + program.getLog());
+        }
+    }
+
+    /**
+     * シェーダープログラムを取得します（SpriteBatch/SpriteCacheのsetShaderに渡す）。
+     */
+    public ShaderProgram getProgram() {
+        return program;
+    }
+
+    /**
+     * アニメーション用のuniformを設定します。シェーダーがバインドされている間（begin後）に呼び出してください。
+     * @param animationTime アニメーション時間（秒）
+     */
+    public void applyUniforms(float animationTime) {
+        program.setUniformf("u_time", animationTime);
+        program.setUniformf("u_tileSize", Player.TILE_SIZE);
+    }
+
+    /**
+     * 地形タイプのアニメーションの種類を返します。
+     */
+    public static float animationKind(TerrainTile.TerrainType type) {
+        switch (type) {
+            case WATER:
+            case PADDY:
+            case WATER_CHANNEL:
+            case MARSH:
+                return KIND_WATER;
+            case FOREST:
+            case GRASS:
+                return KIND_WIND;
+            default:
+                return KIND_NONE;
+        }
+    }
+
+    /**
+     * 1タイル分の四角形（4頂点、SpriteBatch用）を書き込みます。
+     * @param vertices 書き込み先
+     * @param offset 書き込み位置
+     * @param region テクスチャ領域
+     * @param x 左下のX座標（ピクセル）
+     * @param y 左下のY座標（ピクセル）
+     * @param kind アニメーションの種類
+     * @return 書き込んだ次の位置
+     */
+    public static int putQuad(float[] vertices, int offset, TextureRegion region, float x, float y, float kind) {
+        float size = Player.TILE_SIZE;
+        offset = putVertex(vertices, offset, x, y, kind, 0f, 0f, region.getU(), region.getV2());
+        offset = putVertex(vertices, offset, x, y + size, kind, 0f, 1f, region.getU(), region.getV());
+        offset = putVertex(vertices, offset, x + size, y + size, kind, 1f, 1f, region.getU2(), region.getV());
+        return putVertex(vertices, offset, x + size, y, kind, 1f, 0f, region.getU2(), region.getV2());
+    }
+
+    /**
+     * 1タイル分の三角形2つ（6頂点、インデックスなしのSpriteCache用）を書き込みます。
+     * 引数と戻り値は{@link #putQuad}と同じです。
+     */
+    public static int putTriangles(float[] vertices, int offset, TextureRegion region, float x, float y, float kind) {
+        float size = Player.TILE_SIZE;
+        offset = putVertex(vertices, offset, x, y, kind, 0f, 0f, region.getU(), region.getV2());
+        offset = putVertex(vertices, offset, x, y + size, kind, 0f, 1f, region.getU(), region.getV());
+        offset = putVertex(vertices, offset, x + size, y + size, kind, 1f, 1f, region.getU2(), region.getV());
+        offset = putVertex(vertices, offset, x + size, y + size, kind, 1f, 1f, region.getU2(), region.getV());
+        offset = putVertex(vertices, offset, x + size, y, kind, 1f, 0f, region.getU2(), region.getV2());
+        return putVertex(vertices, offset, x, y, kind, 0f, 0f, region.getU(), region.getV2());
+    }
+
+    private static int putVertex(float[] vertices, int offset, float x, float y,
+                                 float kind, float right, float top, float u, float v) {
+        vertices[offset] = x;
+        vertices[offset + 1] = y;
+        vertices[offset + 2] = Color.toFloatBits(kind, right, top, 1f);
+        vertices[offset + 3] = u;
+        vertices[offset + 4] = v;
+        return offset + VERTEX_SIZE;
+    }
+
+    @Override
+    public void dispose() {
+        program.dispose();
+    }
+}
@@ -0,0 +1,210 @@
+package io.github.some_example_name.manager;
+
+import io.github.some_example_name.entity.Player;
+import io.github.some_example_name.entity.TerrainChunk;
+import io.github.some_example_name.entity.TerrainTile;
+
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * チャンクごとの静的な地形を{@link SpriteCache}に焼き込んで描画するクラス。
+ *
+ * <p>チャンクごとに1つのキャッシュ（スロット）を割り当て、地形タイプの配列か{@link TerrainChunk#getRenderVersion()}が
+ * 変わったとき（地形が変更されたときや読み込み直されたとき）だけ作り直します。スロットは再利用できるよう、常に1チャンク分（256枚）のスプライトを登録します。
+ * 水場や草木の揺れは{@link TerrainAnimationShader}が頂点シェーダーで計算するため、アニメーションするタイルもキャッシュに含めます。
+ * スロットが足りない場合は、最も長く描画されていないチャンクのスロットを再利用します。</p>
+ */
+public class TerrainChunkCache implements Disposable {
+    // キャッシュできるチャンク数（最大ズームアウト時の表示チャンク数より十分大きくする）
+    private static final int SLOT_COUNT = 128;
+
+    // 1フレームで作り直すチャンク数の上限（超えた分は次のフレームに回す）
+    private static final int MAX_BUILDS_PER_FRAME = 16;
+
+    private final SpriteCache spriteCache;
+    private final TerrainTextureManager textureManager;
+    private final TerrainAnimationShader animationShader;
+
+    // 1チャンク分の頂点（再利用）
+    private final float[] vertices;
+
+    // スロット（固定数を事前に確保）
+    private final CacheSlot[] slots;
+
+    // チャンクのキー → 割り当てたスロット
+    private final LongMap<CacheSlot> slotsByChunk;
+
+    // 今フレームで描画するスロット（再利用）
+    private final Array<CacheSlot> drawList;
+
+    // フレーム番号と、今フレームで作り直したチャンク数
+    private long frame;
+    private int buildsThisFrame;
+
+    /**
+     * @param textureManager 地形テクスチャ
+     * @param animationShader 地形のアニメーション用シェーダー
+     */
+    public TerrainChunkCache(TerrainTextureManager textureManager, TerrainAnimationShader animationShader) {
+        this.textureManager = textureManager;
+        this.animationShader = animationShader;
+        this.spriteCache = new SpriteCache(SLOT_COUNT * TerrainChunk.TILE_COUNT, false);
+        this.spriteCache.setShader(animationShader.getProgram());
+        this.vertices = new float[TerrainChunk.TILE_COUNT * TerrainAnimationShader.TRIANGLES_SIZE];
+        this.slots = new CacheSlot[SLOT_COUNT];
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            slots[i] = new CacheSlot();
+        }
+        this.slotsByChunk = new LongMap<>();
+        this.drawList = new Array<>(false, SLOT_COUNT);
+    }
+
+    /**
+     * 毎フレームの描画の前に呼び出します。
+     */
+    public void beginFrame() {
+        frame++;
+        buildsThisFrame = 0;
+        drawList.clear();
+    }
+
+    /**
+     * チャンクのキャッシュを用意し、今フレームの描画対象に加えます。
+     * キャッシュが古い場合は作り直します（1フレームの上限を超える場合は作り直しません）。
+     * @param chunkX チャンクX座標
+     * @param chunkY チャンクY座標
+     * @param types 地形タイプの序数（{@link TerrainChunkWindow#getTypes}）
+     * @param renderVersion 描画の番号（{@link TerrainChunkWindow#getRenderVersion}）
+     * @return キャッシュで描画できる場合true（falseの場合は呼び出し側ですべてのタイルを描画する）
+     */
+    public boolean prepare(int chunkX, int chunkY, byte[] types, int renderVersion) {
+        long key = TerrainChunk.key(chunkX, chunkY);
+        CacheSlot slot = slotsByChunk.get(key);
+        // 読み込み直されたチャンクや変更されたチャンクは別の配列になるので、参照も比較する
+        if (slot == null || slot.builtTypes != types || slot.builtVersion != renderVersion) {
+            if (buildsThisFrame >= MAX_BUILDS_PER_FRAME) {
+                return false;
+            }
+            if (slot == null) {
+                slot = acquireSlot();
+                if (slot == null) {
+                    return false;
+                }
+                slot.chunkKey = key;
+                slotsByChunk.put(slot.chunkKey, slot);
+            }
+            build(slot, chunkX, chunkY, types, renderVersion);
+            buildsThisFrame++;
+        }
+        slot.lastUsedFrame = frame;
+        drawList.add(slot);
+        return true;
+    }
+
+    /**
+     * {@link #prepare}で加えたチャンクのキャッシュを描画します。
+     * SpriteBatchの描画中には呼び出せません。
+     * @param projection 投影行列
+     * @param animationTime アニメーション時間（秒）
+     */
+    public void draw(Matrix4 projection, float animationTime) {
+        if (drawList.size == 0) {
+            return;
+        }
+        spriteCache.setProjectionMatrix(projection);
+        // SpriteCacheはカスタムシェーダーにu_projとu_transも設定しようとするため、
+        // 使っていないuniformで例外にならないようbeginの間だけ厳密なチェックを外す
+        boolean pedantic = ShaderProgram.pedantic;
+        ShaderProgram.pedantic = false;
+        try {
+            spriteCache.begin();
+        } finally {
+            ShaderProgram.pedantic = pedantic;
+        }
+        animationShader.applyUniforms(animationTime);
+        for (int i = 0; i < drawList.size; i++) {
+            spriteCache.draw(drawList.get(i).cacheId);
+        }
+        spriteCache.end();
+    }
+
+    /**
+     * 空いているスロット、なければ最も長く描画されていないスロットを取得します。
+     * @return スロット（すべて今フレームで使用中の場合はnull）
+     */
+    private CacheSlot acquireSlot() {
+        CacheSlot oldest = null;
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            CacheSlot slot = slots[i];
+            if (slot.chunkKey == CacheSlot.UNUSED) {
+                return slot;
+            }
+            if (slot.lastUsedFrame != frame && (oldest == null || slot.lastUsedFrame < oldest.lastUsedFrame)) {
+                oldest = slot;
+            }
+        }
+        if (oldest != null) {
+            slotsByChunk.remove(oldest.chunkKey);
+            oldest.chunkKey = CacheSlot.UNUSED;
+            oldest.builtTypes = null;
+        }
+        return oldest;
+    }
+
+    /**
+     * チャンクのすべてのタイルをスロットに焼き込みます。
+     */
+    private void build(CacheSlot slot, int chunkX, int chunkY, byte[] types, int renderVersion) {
+        if (slot.cacheId < 0) {
+            spriteCache.beginCache();
+        } else {
+            spriteCache.beginCache(slot.cacheId);
+        }
+
+        float originX = chunkX * TerrainChunk.SIZE * (float)Player.TILE_SIZE;
+        float originY = chunkY * TerrainChunk.SIZE * (float)Player.TILE_SIZE;
+        int baseTileX = chunkX << TerrainChunk.SHIFT;
+        int baseTileY = chunkY << TerrainChunk.SHIFT;
+        int offset = 0;
+        for (int index = 0; index < TerrainChunk.TILE_COUNT; index++) {
+            int localX = index & TerrainChunk.MASK;
+            int localY = index >> TerrainChunk.SHIFT;
+            float x = originX + localX * Player.TILE_SIZE;
+            float y = originY + localY * Player.TILE_SIZE;
+            TerrainTile.TerrainType type = TerrainChunk.typeOf(types[index]);
+            TextureRegion region = textureManager.getRegion(type,
+                TerrainTextureManager.variantOf(baseTileX + localX, baseTileY + localY));
+            offset = TerrainAnimationShader.putTriangles(vertices, offset, region, x, y,
+                TerrainAnimationShader.animationKind(type));
+        }
+        spriteCache.add(textureManager.getAtlasTexture(), vertices, 0, offset);
+
+        slot.cacheId = spriteCache.endCache();
+        slot.builtTypes = types;
+        slot.builtVersion = renderVersion;
+    }
+
+    @Override
+    public void dispose() {
+        spriteCache.dispose();
+    }
+
+    /**
+     * キャッシュのスロット。
+     */
+    private static final class CacheSlot {
+        static final long UNUSED = Long.MIN_VALUE;
+
+        long chunkKey = UNUSED;
+        int cacheId = -1;
+        byte[] builtTypes;
+        int builtVersion;
+        long lastUsedFrame;
+    }
+}
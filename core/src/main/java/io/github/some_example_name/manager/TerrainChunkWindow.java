@@ -0,0 +1,82 @@
+package io.github.some_example_name.manager;
+
+import io.github.some_example_name.entity.TerrainChunk;
+
+import java.util.Arrays;
+
+/**
+ * 矩形範囲のチャンクの地形タイプを並べたもの（描画用）。
+ *
+ * <p>シミュレーションスレッドが{@link TerrainManager#collectChunks}で表示範囲のチャンクを書き込み、
+ * 描画スレッドはチャンクの登録表（LongMap）にもチャンク自体にも触れずに、この内容だけで地形を描画します。
+ * 地形タイプの配列は{@link TerrainChunk#publishTypes()}で受け取ったもので、以後書き換えられません。
+ * 描画の番号も書き込んだ時点の値を写しておくため、描画スレッドはシミュレーションスレッドと同期せずに読めます。
+ * 範囲外と未生成のチャンクはnullです。配列は範囲が広がったときだけ作り直します。</p>
+ */
+public class TerrainChunkWindow {
+    private int startChunkX;
+    private int startChunkY;
+    private int columns;
+    private int rows;
+    private byte[][] types;
+    private int[] renderVersions;
+
+    public TerrainChunkWindow() {
+        this.types = new byte[0][];
+        this.renderVersions = new int[0];
+    }
+
+    /**
+     * 範囲を設定し、すべてのチャンクを未生成にします。
+     * @param startChunkX 左端のチャンクX座標
+     * @param startChunkY 下端のチャンクY座標
+     * @param columns 横のチャンク数
+     * @param rows 縦のチャンク数
+     */
+    void reset(int startChunkX, int startChunkY, int columns, int rows) {
+        int count = columns * rows;
+        if (types.length < count) {
+            types = new byte[count][];
+            renderVersions = new int[count];
+        } else {
+            Arrays.fill(types, null);
+        }
+        this.startChunkX = startChunkX;
+        this.startChunkY = startChunkY;
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    /**
+     * チャンクの地形タイプと描画の番号を書き込みます。
+     */
+    void set(int chunkX, int chunkY, byte[] chunkTypes, int renderVersion) {
+        int index = (chunkY - startChunkY) * columns + (chunkX - startChunkX);
+        types[index] = chunkTypes;
+        renderVersions[index] = renderVersion;
+    }
+
+    /**
+     * 指定されたチャンクの地形タイプの序数を返します。
+     * @param chunkX チャンクX座標
+     * @param chunkY チャンクY座標
+     * @return 地形タイプの序数（インデックス: localY * SIZE + localX、変更しないこと。範囲外または未生成の場合はnull）
+     */
+    public byte[] getTypes(int chunkX, int chunkY) {
+        int column = chunkX - startChunkX;
+        int row = chunkY - startChunkY;
+        if (column < 0 || row < 0 || column >= columns || row >= rows) {
+            return null;
+        }
+        return types[row * columns + column];
+    }
+
+    /**
+     * 指定されたチャンクの、書き込んだ時点の描画の番号を返します（{@link #getTypes}がnullでないチャンクのみ有効）。
+     * @param chunkX チャンクX座標
+     * @param chunkY チャンクY座標
+     */
+    public int getRenderVersion(int chunkX, int chunkY) {
+        return renderVersions[(chunkY - startChunkY) * columns + (chunkX - startChunkX)];
+    }
+}
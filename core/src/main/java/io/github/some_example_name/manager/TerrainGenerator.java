@@ -0,0 +1,148 @@
+package io.github.some_example_name.manager;
+
+import io.github.some_example_name.entity.TerrainChunk;
+import io.github.some_example_name.entity.TerrainTile;
+import io.github.some_example_name.util.HashValueNoise;
+import io.github.some_example_name.util.NoiseGenerator;
+
+/**
+ * ワールドシードからチャンク単位で地形を生成するクラス。
+ *
+ * <p>高度・湿度・地形の3つのノイズをチャンク全体についてまとめて計算し、作業用配列を再利用します。
+ * 同じシードからは常に同じ地形が生成されます。
+ * 作業用配列を持つためスレッドセーフではありません（スレッドごとにインスタンスを用意してください）。</p>
+ */
+public class TerrainGenerator {
+    // 各ノイズのスケール（小さいほど大きなエリア）
+    private static final double HEIGHT_SCALE = 0.05;
+    private static final double MOISTURE_SCALE = 0.08;
+    private static final double TERRAIN_SCALE = 0.03;
+
+    // 合成するオクターブ数
+    private static final int OCTAVES = 3;
+
+    // ノイズの種類ごとにシードをずらすための定数
+    private static final long MOISTURE_SEED_SALT = 0x5DEECE66DL;
+    private static final long TERRAIN_SEED_SALT = 0x2545F4914F6CDD1DL;
+
+    private final NoiseGenerator noise;
+    private final long worldSeed;
+
+    // チャンク1つ分のノイズ値（インデックス: localY * SIZE + localX）
+    private final double[] heightNoise;
+    private final double[] moistureNoise;
+    private final double[] terrainNoise;
+
+    /**
+     * 標準のノイズエンジン（{@link HashValueNoise}）で地形生成器を作成します。
+     * @param worldSeed ワールドシード
+     */
+    public TerrainGenerator(long worldSeed) {
+        this(new HashValueNoise(), worldSeed);
+    }
+
+    /**
+     * 指定したノイズエンジンで地形生成器を作成します。
+     * @param noise ノイズエンジン（このインスタンス専用のもの）
+     * @param worldSeed ワールドシード
+     */
+    public TerrainGenerator(NoiseGenerator noise, long worldSeed) {
+        this.noise = noise;
+        this.worldSeed = worldSeed;
+        this.heightNoise = new double[TerrainChunk.TILE_COUNT];
+        this.moistureNoise = new double[TerrainChunk.TILE_COUNT];
+        this.terrainNoise = new double[TerrainChunk.TILE_COUNT];
+    }
+
+    /**
+     * ワールドシードを返します。
+     */
+    public long getWorldSeed() {
+        return worldSeed;
+    }
+
+    /**
+     * 指定されたチャンクの地形を生成します。
+     * @param chunkX チャンクX座標
+     * @param chunkY チャンクY座標
+     * @return 生成したチャンク
+     */
+    public TerrainChunk generate(int chunkX, int chunkY) {
+        TerrainChunk chunk = new TerrainChunk(chunkX, chunkY);
+        fill(chunk);
+        return chunk;
+    }
+
+    /**
+     * 既存のチャンクに地形を書き込みます。
+     * @param chunk 書き込み先のチャンク
+     */
+    public void fill(TerrainChunk chunk) {
+        int startTileX = chunk.getChunkX() * TerrainChunk.SIZE;
+        int startTileY = chunk.getChunkY() * TerrainChunk.SIZE;
+
+        noise.fillChunk(worldSeed, startTileX, startTileY, TerrainChunk.SIZE,
+                        HEIGHT_SCALE, OCTAVES, heightNoise);
+        noise.fillChunk(worldSeed ^ MOISTURE_SEED_SALT, startTileX, startTileY, TerrainChunk.SIZE,
+                        MOISTURE_SCALE, OCTAVES, moistureNoise);
+        noise.fillChunk(worldSeed ^ TERRAIN_SEED_SALT, startTileX, startTileY, TerrainChunk.SIZE,
+                        TERRAIN_SCALE, OCTAVES, terrainNoise);
+
+        // fillChunkの並び（localY * SIZE + localX）はTerrainChunkのインデックスと一致する
+        for (int index = 0; index < TerrainChunk.TILE_COUNT; index++) {
+            chunk.setType(index, determineTerrainType(heightNoise[index], moistureNoise[index], terrainNoise[index]));
+        }
+    }
+
+    /**
+     * 1タイル分の地形タイプを計算します（チャンク生成と同じ結果になります）。
+     * @param tileX タイルX座標
+     * @param tileY タイルY座標
+     * @return 地形タイプ
+     */
+    public TerrainTile.TerrainType sampleType(int tileX, int tileY) {
+        double height = noise.sample(worldSeed, tileX, tileY, HEIGHT_SCALE, OCTAVES);
+        double moisture = noise.sample(worldSeed ^ MOISTURE_SEED_SALT, tileX, tileY, MOISTURE_SCALE, OCTAVES);
+        double terrain = noise.sample(worldSeed ^ TERRAIN_SEED_SALT, tileX, tileY, TERRAIN_SCALE, OCTAVES);
+        return determineTerrainType(height, moisture, terrain);
+    }
+
+    /**
+     * ノイズ値に基づいて地形タイプを決定します。
+     * エリアベースの生成で、連続した地形エリアを作成します。
+     * @param heightNoise 高度ノイズ（地形の高低を決定）
+     * @param moistureNoise 湿度ノイズ（水や森の分布を決定）
+     * @param terrainNoise 地形タイプノイズ（特殊地形の分布を決定）
+     * @return 地形タイプ
+     */
+    private static TerrainTile.TerrainType determineTerrainType(double heightNoise, double moistureNoise,
+                                                                double terrainNoise) {
+        // 高度に基づいて基本地形を決定
+        if (heightNoise < 0.25) {
+            // 低地：水エリア
+            return TerrainTile.TerrainType.WATER;
+        } else if (heightNoise < 0.35) {
+            // 低地：砂浜エリア（水の近く）
+            return TerrainTile.TerrainType.SAND;
+        } else if (heightNoise > 0.75) {
+            // 高地：岩エリア
+            return TerrainTile.TerrainType.STONE;
+        } else {
+            // 中地帯：湿度と地形ノイズに基づいて決定
+            // まず湿地をチェック（水場の近くに生成されるように優先度を上げる）
+            if (heightNoise < 0.45 && moistureNoise > 0.6) {
+                // 低地＋高湿度：湿地エリア（水場の近くに生成）
+                return TerrainTile.TerrainType.MARSH;
+            } else if (moistureNoise > 0.65 && terrainNoise > 0.4) {
+                // 高湿度＋適度な地形ノイズ：森林エリア
+                return TerrainTile.TerrainType.FOREST;
+            } else if (moistureNoise < 0.35 || terrainNoise < 0.3) {
+                // 低湿度または低地形ノイズ：土エリア
+                return TerrainTile.TerrainType.DIRT;
+            } else {
+                // その他：草原エリア
+                return TerrainTile.TerrainType.GRASS;
+            }
+        }
+    }
+}
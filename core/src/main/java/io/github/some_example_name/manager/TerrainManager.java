@@ -1,55 +1,216 @@
 package io.github.some_example_name.manager;
 
+import io.github.some_example_name.entity.NeighborMask;
 import io.github.some_example_name.entity.Player;
+import io.github.some_example_name.entity.TerrainChunk;
 import io.github.some_example_name.entity.TerrainTile;
 
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Random;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.LongMap;
 
 /**
  * 地形を管理するクラス。
+ * 
+ * <p>地形は16x16タイルのチャンク単位で保持します（{@link TerrainChunk}）。
+ * タイルごとのオブジェクトは持たず、{@link #getType(int, int)}でアロケーションなしに地形タイプを参照できます。
+ * {@link TerrainTile}は必要とする呼び出し元のためにその都度生成されます。</p>
  */
 public class TerrainManager {
-    // 地形タイルのマップ（キー: "tileX,tileY"）
-    private Map<String, TerrainTile> terrainTiles;
+    // シードを持たない古いセーブデータで使うワールドシード
+    public static final long DEFAULT_WORLD_SEED = 0x1F2E3D4C5B6A7988L;
+    
+    // 1フレームでチャンクの受け取りに使ってよい時間（ナノ秒）
+    private static final long CHUNK_INSTALL_BUDGET_NANOS = 2000000L;
+    
+    // チャンクの追い出しを判定する間隔（フレーム数）
+    private static final int EVICTION_INTERVAL_FRAMES = 60;
+    
+    // 移動方向にあるチャンクを優先する度合い（0で距離のみ、1に近いほど前方を強く優先）
+    private static final float DIRECTION_PRIORITY_WEIGHT = 0.5f;
+    
+    // 周囲1タイルを含むチャンクの一辺のタイル数
+    private static final int PADDED_SIZE = TerrainChunk.SIZE + 2;
+    
+    // 8方向の近傍オフセット
+    private static final int[] NEIGHBOR_DX = {-1, -1, -1, 0, 0, 1, 1, 1};
+    private static final int[] NEIGHBOR_DY = {-1, 0, 1, -1, 1, -1, 0, 1};
+    
+    // 生成済みの地形チャンク（キー: TerrainChunk.key(chunkX, chunkY)）
+    private final LongMap<TerrainChunk> chunks;
+    
+    // 直前に参照したチャンク（近傍参照が多いためキャッシュする）
+    private TerrainChunk lastChunk;
+    
+    // ワールドシード（同じシードからは同じ地形が生成される）
+    private long worldSeed;
+    
+    // 地形生成器（メインスレッドで同期生成する場合に使用）
+    private TerrainGenerator terrainGenerator;
+    
+    // バックグラウンドでチャンクを生成するパイプライン
+    private ChunkGenerationPipeline generationPipeline;
+    
+    // メモリ上に保持するチャンクの管理（LRUで追い出し、変更済みはディスクに退避）
+    private ChunkResidencyManager residencyManager;
+    
+    // フレーム番号（チャンクの最終参照時刻として使用）
+    private long frameCount;
+    
+    // 生成を要求済みで、まだ受け取っていないチャンク
+    private LongMap<Boolean> pendingChunks;
+    
+    // 優先度の付け直しで取り消したチャンクのキー（再利用）
+    private LongArray cancelledChunkKeys;
+    
+    // ワーカーで生成に失敗したチャンクのキー（再利用）
+    private LongArray failedChunkKeys;
+    
+    // 生成要求の優先度計算に使ったプレイヤーのチャンク座標と移動方向
+    private int requestCenterChunkX;
+    private int requestCenterChunkY;
+    private int requestDirectionX;
+    private int requestDirectionY;
+    
+    // プレイヤーの直前のタイル座標と移動方向（-1, 0, 1）
+    private int lastPlayerTileX;
+    private int lastPlayerTileY;
+    private int moveDirectionX;
+    private int moveDirectionY;
     
-    // 生成済みのチャンクを記録（無限マップ用）
-    private java.util.Set<String> generatedChunks;
+    // 水路のつながりと通水状態
+    private WaterChannelNetwork channelNetwork;
     
-    // 探索済みのタイルを記録（マップ表示用）
-    private java.util.Set<String> exploredTiles;
+    // 水路ネットワークの作り直しに使う座標のリスト（再利用）
+    private LongArray channelTileKeys;
     
-    // テクスチャマネージャー
+    // 隣接マスクの計算に使う、周囲1タイルを含むチャンクの分類（再利用）
+    private byte[] paddedClasses;
+    
+    // 探索半径（マップ升単位）
+    private static final int EXPLORE_RADIUS = 5;
+    
+    // 探索済みのタイルを記録（マップ表示用、チャンクごとのビットマスク）
+    private ExplorationMap explorationMap;
+    
+    // マップ表示用に、メモリ上にないチャンクの地形タイプをシードから求めたもの（チャンクのキー → 地形タイプの序数）
+    private LongMap<byte[]> sampledMapChunks;
+    
+    // シードから求めたチャンクを保持する数の上限（超えたらすべて捨てる）
+    private static final int MAX_SAMPLED_MAP_CHUNKS = 1024;
+    
+    // 最後に探索済みとしてマークしたプレイヤーの位置
+    private int lastExploredTileX;
+    private int lastExploredTileY;
+    
+    // テクスチャマネージャー（描画用のリソースは最初の描画で作成する。ヘッドレスでは作成しない）
     private TerrainTextureManager textureManager;
     
+    // 水場や草木の揺れを計算するシェーダー
+    private TerrainAnimationShader animationShader;
+    
+    // 地形のチャンクごとの描画キャッシュ
+    private TerrainChunkCache chunkCache;
+    
+    // キャッシュが間に合わなかったチャンクを描画するための頂点（再利用）
+    private float[] tileVertices;
+    
+    // 描画中のチャンクがキャッシュで描画されたかどうか（再利用）
+    private boolean[] cachedChunkFlags;
+    
+    // windowを指定せずに描画するときに、登録表から集めたチャンク（再利用）
+    private TerrainChunkWindow renderWindow;
+    private Rectangle renderViewBounds;
+    
     // アニメーション用の時間変数
     private float animationTime;
     
+    // カメラから求めた視野範囲（再利用）
+    private Rectangle cameraView;
+    
     public TerrainManager() {
-        this.terrainTiles = new HashMap<>();
-        this.generatedChunks = new java.util.HashSet<>();
-        this.exploredTiles = new java.util.HashSet<>();
-        this.textureManager = new TerrainTextureManager();
+        this(new java.util.Random().nextLong());
+    }
+    
+    /**
+     * 指定したワールドシードで地形マネージャーを作成します。
+     * @param worldSeed ワールドシード
+     */
+    public TerrainManager(long worldSeed) {
+        this.chunks = new LongMap<>();
+        this.lastChunk = null;
+        this.worldSeed = worldSeed;
+        this.terrainGenerator = new TerrainGenerator(worldSeed);
+        this.generationPipeline = new ChunkGenerationPipeline(worldSeed, ChunkGenerationPipeline.defaultWorkerCount());
+        this.residencyManager = new ChunkResidencyManager();
+        this.frameCount = 0;
+        this.pendingChunks = new LongMap<>();
+        this.cancelledChunkKeys = new LongArray();
+        this.failedChunkKeys = new LongArray();
+        this.lastPlayerTileX = Integer.MIN_VALUE;
+        this.lastPlayerTileY = Integer.MIN_VALUE;
+        this.channelNetwork = new WaterChannelNetwork();
+        this.channelTileKeys = new LongArray();
+        this.paddedClasses = new byte[PADDED_SIZE * PADDED_SIZE];
+        this.explorationMap = new ExplorationMap(EXPLORE_RADIUS);
+        this.sampledMapChunks = new LongMap<>();
+        this.lastExploredTileX = Integer.MIN_VALUE;
+        this.lastExploredTileY = Integer.MIN_VALUE;
+        this.textureManager = null;
+        this.animationShader = null;
+        this.chunkCache = null;
+        this.tileVertices = new float[TerrainAnimationShader.QUAD_SIZE];
+        this.cachedChunkFlags = new boolean[0];
+        this.renderWindow = new TerrainChunkWindow();
+        this.renderViewBounds = new Rectangle();
         this.animationTime = 0f;
+        this.cameraView = new Rectangle();
     }
     
     /**
-     * 地形を更新します（カメラの視野範囲内の地形を生成）。
+     * 地形を更新します（カメラの視野範囲内の地形の生成を要求し、完成したチャンクを受け取ります）。
      * @param camera カメラ
      * @param playerTileX プレイヤーのマップ升X座標（探索済みエリア記録用）
      * @param playerTileY プレイヤーのマップ升Y座標（探索済みエリア記録用）
      * @param deltaTime 前フレームからの経過時間（秒）（アニメーション用）
      */
     public void update(OrthographicCamera camera, int playerTileX, int playerTileY, float deltaTime) {
-        generateTerrainInView(camera);
+        update(getViewBounds(camera, cameraView), playerTileX, playerTileY, deltaTime);
+    }
+    
+    /**
+     * 地形を更新します（視野範囲内の地形の生成を要求し、完成したチャンクを受け取ります）。
+     * カメラを持たないシミュレーションスレッドから呼び出すためのものです。
+     * @param view 視野範囲（ピクセル単位）
+     * @param playerTileX プレイヤーのマップ升X座標（探索済みエリア記録用）
+     * @param playerTileY プレイヤーのマップ升Y座標（探索済みエリア記録用）
+     * @param deltaTime 前フレームからの経過時間（秒）（アニメーション用）
+     */
+    public void update(Rectangle view, int playerTileX, int playerTileY, float deltaTime) {
+        frameCount++;
+        updateMoveDirection(playerTileX, playerTileY);
+        installGeneratedChunks();
+        requestTerrainInView(view, playerTileX, playerTileY);
+        if (frameCount % EVICTION_INTERVAL_FRAMES == 0) {
+            evictDistantChunks(playerTileX, playerTileY);
+        }
         markExplored(playerTileX, playerTileY);
-        // アニメーション時間を更新
-        animationTime += deltaTime;
+        // アニメーション時間を更新（精度が落ちないよう周期で折り返す）
+        animationTime = (animationTime + deltaTime) % TerrainAnimationShader.TIME_PERIOD;
+    }
+    
+    /**
+     * 地形アニメーションの時間を返します。
+     * 
+     * <p>{@link #update}と同じスレッドで読み取り、描画スレッドには値をコピーして渡してください。</p>
+     */
+    public float getAnimationTime() {
+        return animationTime;
     }
     
     /**
@@ -58,19 +219,14 @@ public class TerrainManager {
      * @param playerTileY プレイヤーのマップ升Y座標
      */
     private void markExplored(int playerTileX, int playerTileY) {
-        // プレイヤーの周囲のタイルを探索済みとしてマーク（視野範囲を考慮）
-        int exploreRadius = 5; // 探索半径（マップ升単位）
-        for (int x = playerTileX - exploreRadius; x <= playerTileX + exploreRadius; x++) {
-            for (int y = playerTileY - exploreRadius; y <= playerTileY + exploreRadius; y++) {
-                // 円形の範囲内のみ探索済みとしてマーク
-                int dx = x - playerTileX;
-                int dy = y - playerTileY;
-                if (dx * dx + dy * dy <= exploreRadius * exploreRadius) {
-                    String tileKey = x + "," + y;
-                    exploredTiles.add(tileKey);
-                }
-            }
+        // 同じタイルにいる間は結果が変わらないのでスキップ
+        if (playerTileX == lastExploredTileX && playerTileY == lastExploredTileY) {
+            return;
         }
+        // プレイヤーの周囲の円形の範囲を探索済みとしてマーク（視野範囲を考慮）
+        explorationMap.stamp(playerTileX, playerTileY);
+        lastExploredTileX = playerTileX;
+        lastExploredTileY = playerTileY;
     }
     
     /**
@@ -80,39 +236,85 @@ public class TerrainManager {
      * @return 探索済みの場合true
      */
     public boolean isExplored(int tileX, int tileY) {
-        String tileKey = tileX + "," + tileY;
-        return exploredTiles.contains(tileKey);
+        return explorationMap.isExplored(tileX, tileY);
     }
     
     /**
-     * 探索済みタイルのセットを返します（セーブ用）。
+     * 指定されたチャンクの探索済みマスクを取得します（マップ表示用の一括取得）。
+     * ビット位置は{@link TerrainChunk#localIndex}と同じです。返される配列は変更しないでください。
+     * @param chunkX チャンクX座標
+     * @param chunkY チャンクY座標
+     * @return 256ビットのマスク（探索済みのタイルがない場合はnull）
      */
-    public java.util.Set<String> getExploredTiles() {
-        return exploredTiles;
+    public long[] getExploredMask(int chunkX, int chunkY) {
+        return explorationMap.getChunkMask(chunkX, chunkY);
     }
     
     /**
-     * 探索済みタイルのセットを設定します（ロード用）。
+     * 探索済み情報を返します（セーブ用）。
      */
-    public void setExploredTiles(java.util.Set<String> exploredTiles) {
-        this.exploredTiles = exploredTiles != null ? exploredTiles : new java.util.HashSet<>();
+    public ExplorationMap getExplorationMap() {
+        return explorationMap;
     }
     
     /**
-     * カメラの視野範囲内の地形を生成します。
-     * @param camera カメラ
+     * プレイヤーの移動方向を更新します（生成要求の優先度付けに使用）。
+     * @param playerTileX プレイヤーのマップ升X座標
+     * @param playerTileY プレイヤーのマップ升Y座標
+     */
+    private void updateMoveDirection(int playerTileX, int playerTileY) {
+        if (lastPlayerTileX != Integer.MIN_VALUE &&
+            (playerTileX != lastPlayerTileX || playerTileY != lastPlayerTileY)) {
+            moveDirectionX = Integer.signum(playerTileX - lastPlayerTileX);
+            moveDirectionY = Integer.signum(playerTileY - lastPlayerTileY);
+        }
+        lastPlayerTileX = playerTileX;
+        lastPlayerTileY = playerTileY;
+    }
+    
+    /**
+     * ワーカーが生成したチャンクを1フレームの時間予算内で受け取ります。
+     */
+    private void installGeneratedChunks() {
+        // 生成に失敗したチャンクは要求済みから外し、次の更新で要求し直す
+        failedChunkKeys.clear();
+        generationPipeline.drainFailed(failedChunkKeys);
+        for (int i = 0; i < failedChunkKeys.size; i++) {
+            pendingChunks.remove(failedChunkKeys.get(i));
+        }
+        
+        long startTime = System.nanoTime();
+        TerrainChunk chunk;
+        while ((chunk = generationPipeline.poll()) != null) {
+            long key = chunk.getKey();
+            pendingChunks.remove(key);
+            // 地形変更などで同期生成済みの場合は破棄する
+            if (!chunks.containsKey(key)) {
+                // ディスクに退避された変更済みチャンクがあればそちらを優先する
+                TerrainChunk stored = residencyManager.load(chunk.getChunkX(), chunk.getChunkY());
+                installChunk(stored != null ? stored : chunk);
+            }
+            if (System.nanoTime() - startTime > CHUNK_INSTALL_BUDGET_NANOS) {
+                break;
+            }
+        }
+    }
+    
+    /**
+     * カメラの視野範囲内（マージン込み）の未生成チャンクの生成を要求します。
+     * プレイヤーに近いチャンクと、移動方向にあるチャンクが優先されます。
+     * @param view 視野範囲（ピクセル単位）
+     * @param playerTileX プレイヤーのマップ升X座標
+     * @param playerTileY プレイヤーのマップ升Y座標
      */
-    private void generateTerrainInView(OrthographicCamera camera) {
+    private void requestTerrainInView(Rectangle view, int playerTileX, int playerTileY) {
         // チャンクサイズ（タイル単位）
-        int chunkSize = 16;
+        int chunkSize = TerrainChunk.SIZE;
         
-        // カメラの視野範囲を計算（ズームを考慮）
-        float actualViewportWidth = camera.viewportWidth * camera.zoom;
-        float actualViewportHeight = camera.viewportHeight * camera.zoom;
-        float cameraLeft = camera.position.x - actualViewportWidth / 2;
-        float cameraRight = camera.position.x + actualViewportWidth / 2;
-        float cameraBottom = camera.position.y - actualViewportHeight / 2;
-        float cameraTop = camera.position.y + actualViewportHeight / 2;
+        float cameraLeft = view.x;
+        float cameraRight = view.x + view.width;
+        float cameraBottom = view.y;
+        float cameraTop = view.y + view.height;
         
         // マージンを追加
         float margin = Player.TILE_SIZE * chunkSize * 2;
@@ -121,176 +323,332 @@ public class TerrainManager {
         int startChunkY = (int)Math.floor((cameraBottom - margin) / (Player.TILE_SIZE * chunkSize));
         int endChunkY = (int)Math.ceil((cameraTop + margin) / (Player.TILE_SIZE * chunkSize));
         
-        // 各チャンクをチェックして、未生成の場合は地形を生成
+        int centerChunkX = TerrainChunk.toChunkCoord(playerTileX);
+        int centerChunkY = TerrainChunk.toChunkCoord(playerTileY);
+        
+        // プレイヤーのチャンクか移動方向が変わったら、未着手の要求を取り消して優先度を付け直す
+        if (centerChunkX != requestCenterChunkX || centerChunkY != requestCenterChunkY ||
+            moveDirectionX != requestDirectionX || moveDirectionY != requestDirectionY) {
+            cancelledChunkKeys.clear();
+            generationPipeline.cancelPending(cancelledChunkKeys);
+            for (int i = 0; i < cancelledChunkKeys.size; i++) {
+                pendingChunks.remove(cancelledChunkKeys.get(i));
+            }
+            requestCenterChunkX = centerChunkX;
+            requestCenterChunkY = centerChunkY;
+            requestDirectionX = moveDirectionX;
+            requestDirectionY = moveDirectionY;
+        }
+        
+        // 各チャンクをチェックして、未生成かつ未要求の場合は生成を要求
         for (int chunkX = startChunkX; chunkX <= endChunkX; chunkX++) {
             for (int chunkY = startChunkY; chunkY <= endChunkY; chunkY++) {
-                String chunkKey = chunkX + "," + chunkY;
-                if (!generatedChunks.contains(chunkKey)) {
-                    generatedChunks.add(chunkKey);
-                    generateChunkTerrain(chunkX, chunkY, chunkSize);
+                long key = TerrainChunk.key(chunkX, chunkY);
+                if (chunks.containsKey(key) || pendingChunks.containsKey(key)) {
+                    continue;
                 }
+                if (residencyManager.isStored(key)) {
+                    // ディスクに退避された変更済みチャンクは生成せずに読み戻す
+                    TerrainChunk stored = residencyManager.load(chunkX, chunkY);
+                    if (stored != null) {
+                        installChunk(stored);
+                        continue;
+                    }
+                }
+                float priority = computeChunkPriority(chunkX - centerChunkX, chunkY - centerChunkY);
+                generationPipeline.request(chunkX, chunkY, priority);
+                pendingChunks.put(key, Boolean.TRUE);
             }
         }
     }
     
     /**
-     * 指定されたチャンクの地形を生成します。
+     * チャンク生成の優先度を計算します（小さいほど先に生成されます）。
+     * プレイヤーからの距離を基本とし、移動方向の前方にあるチャンクほど距離を短く見積もります。
+     * @param offsetX プレイヤーのチャンクからのX方向のずれ（チャンク単位）
+     * @param offsetY プレイヤーのチャンクからのY方向のずれ（チャンク単位）
+     * @return 優先度
+     */
+    private float computeChunkPriority(int offsetX, int offsetY) {
+        float distance = (float)Math.sqrt(offsetX * offsetX + offsetY * offsetY);
+        if (distance == 0f || (moveDirectionX == 0 && moveDirectionY == 0)) {
+            return distance;
+        }
+        float directionLength = (float)Math.sqrt(moveDirectionX * moveDirectionX + moveDirectionY * moveDirectionY);
+        float cosine = (offsetX * moveDirectionX + offsetY * moveDirectionY) / (distance * directionLength);
+        return distance * (1f - DIRECTION_PRIORITY_WEIGHT * cosine);
+    }
+    
+    /**
+     * 指定されたチャンクの地形を生成して登録します。
      * @param chunkX チャンクX座標
      * @param chunkY チャンクY座標
-     * @param chunkSize チャンクサイズ（タイル単位）
+     * @return 生成したチャンク
      */
-    private void generateChunkTerrain(int chunkX, int chunkY, int chunkSize) {
-        int startTileX = chunkX * chunkSize;
-        int startTileY = chunkY * chunkSize;
+    private TerrainChunk generateChunkTerrain(int chunkX, int chunkY) {
+        TerrainChunk chunk = terrainGenerator.generate(chunkX, chunkY);
+        installChunk(chunk);
+        return chunk;
+    }
+    
+    /**
+     * チャンクをメモリ上に登録します。
+     * @param chunk 登録するチャンク
+     */
+    private void installChunk(TerrainChunk chunk) {
+        chunk.setLastAccess(frameCount);
+        computeNeighborMasks(chunk);
+        chunks.put(chunk.getKey(), chunk);
+        // メモリ上にある間に変更されうるので、マップ表示用に読んだ結果は捨てる
+        sampledMapChunks.remove(chunk.getKey());
+    }
+    
+    /**
+     * チャンクのすべてのタイルの隣接マスクを計算します。
+     * 
+     * <p>チャンクの外側の1タイルは、メモリ上のチャンク、ディスクに退避されたチャンク、
+     * シードからの生成結果の順に求めます。いずれもその位置の実際の地形なので、
+     * 隣のチャンクが後から登録されても、すでに計算したマスクを直す必要はありません。</p>
+     * @param chunk 対象のチャンク
+     */
+    private void computeNeighborMasks(TerrainChunk chunk) {
+        int baseTileX = chunk.getChunkX() << TerrainChunk.SHIFT;
+        int baseTileY = chunk.getChunkY() << TerrainChunk.SHIFT;
         
-        for (int x = 0; x < chunkSize; x++) {
-            for (int y = 0; y < chunkSize; y++) {
-                int tileX = startTileX + x;
-                int tileY = startTileY + y;
-                String tileKey = tileX + "," + tileY;
-                
-                // 既に生成済みの場合はスキップ
-                if (terrainTiles.containsKey(tileKey)) {
+        // チャンク内のタイルの分類
+        for (int index = 0; index < TerrainChunk.TILE_COUNT; index++) {
+            int localX = index & TerrainChunk.MASK;
+            int localY = index >> TerrainChunk.SHIFT;
+            paddedClasses[(localY + 1) * PADDED_SIZE + localX + 1] = (byte)NeighborMask.classesOf(chunk.getType(index));
+        }
+        
+        // 外周の1タイルの分類（隣接チャンクごとにまとめて求める）
+        for (int dcy = -1; dcy <= 1; dcy++) {
+            for (int dcx = -1; dcx <= 1; dcx++) {
+                if (dcx == 0 && dcy == 0) {
                     continue;
                 }
-                
-                // 地形タイプを決定（エリアベースで連続した地形を生成）
-                TerrainTile.TerrainType terrainType = determineTerrainType(tileX, tileY, null);
-                
-                terrainTiles.put(tileKey, new TerrainTile(tileX, tileY, terrainType));
+                int neighborChunkX = chunk.getChunkX() + dcx;
+                int neighborChunkY = chunk.getChunkY() + dcy;
+                long key = TerrainChunk.key(neighborChunkX, neighborChunkY);
+                TerrainChunk neighbor = chunks.get(key);
+                if (neighbor == null && residencyManager.isStored(key)) {
+                    // 読み込むだけで登録はしない
+                    neighbor = residencyManager.load(neighborChunkX, neighborChunkY);
+                }
+                // 隣接チャンクと接する外周部分の範囲（パディング込みの座標）
+                int fromX = dcx < 0 ? 0 : (dcx == 0 ? 1 : PADDED_SIZE - 1);
+                int toX = dcx < 0 ? 0 : (dcx == 0 ? TerrainChunk.SIZE : PADDED_SIZE - 1);
+                int fromY = dcy < 0 ? 0 : (dcy == 0 ? 1 : PADDED_SIZE - 1);
+                int toY = dcy < 0 ? 0 : (dcy == 0 ? TerrainChunk.SIZE : PADDED_SIZE - 1);
+                for (int py = fromY; py <= toY; py++) {
+                    for (int px = fromX; px <= toX; px++) {
+                        int tileX = baseTileX + px - 1;
+                        int tileY = baseTileY + py - 1;
+                        TerrainTile.TerrainType type = neighbor != null
+                            ? neighbor.getType(TerrainChunk.localIndex(tileX, tileY))
+                            : terrainGenerator.sampleType(tileX, tileY);
+                        paddedClasses[py * PADDED_SIZE + px] = (byte)NeighborMask.classesOf(type);
+                    }
+                }
+            }
+        }
+        
+        // 周囲8方向の分類からマスクを作る
+        for (int index = 0; index < TerrainChunk.TILE_COUNT; index++) {
+            int center = ((index >> TerrainChunk.SHIFT) + 1) * PADDED_SIZE + (index & TerrainChunk.MASK) + 1;
+            int water = 0;
+            int waterSource = 0;
+            int channel = 0;
+            int impassable = 0;
+            for (int bit = 0; bit < 8; bit++) {
+                int classes = paddedClasses[center + NeighborMask.dy(bit) * PADDED_SIZE + NeighborMask.dx(bit)];
+                water |= ((classes >> NeighborMask.WATER) & 1) << bit;
+                waterSource |= ((classes >> NeighborMask.WATER_SOURCE) & 1) << bit;
+                channel |= ((classes >> NeighborMask.CHANNEL) & 1) << bit;
+                impassable |= ((classes >> NeighborMask.IMPASSABLE) & 1) << bit;
+            }
+            chunk.setNeighborMask(NeighborMask.WATER, index, water);
+            chunk.setNeighborMask(NeighborMask.WATER_SOURCE, index, waterSource);
+            chunk.setNeighborMask(NeighborMask.CHANNEL, index, channel);
+            chunk.setNeighborMask(NeighborMask.IMPASSABLE, index, impassable);
+        }
+    }
+    
+    /**
+     * 地形が変わったタイルを、メモリ上の隣接タイルの隣接マスクに反映します。
+     * メモリ上にないチャンクは、登録されるときに計算し直されます。
+     * @param tileX 変更されたタイルX座標
+     * @param tileY 変更されたタイルY座標
+     * @param newType 新しい地形タイプ
+     */
+    private void updateNeighborMasksAround(int tileX, int tileY, TerrainTile.TerrainType newType) {
+        int classes = NeighborMask.classesOf(newType);
+        for (int bit = 0; bit < 8; bit++) {
+            int neighborX = tileX + NeighborMask.dx(bit);
+            int neighborY = tileY + NeighborMask.dy(bit);
+            TerrainChunk neighbor = chunks.get(TerrainChunk.key(TerrainChunk.toChunkCoord(neighborX),
+                                                                 TerrainChunk.toChunkCoord(neighborY)));
+            if (neighbor == null) {
+                continue;
+            }
+            // 隣接タイルから見ると、変更されたタイルは反対方向にある
+            int index = TerrainChunk.localIndex(neighborX, neighborY);
+            int oppositeBit = NeighborMask.opposite(bit);
+            for (int maskClass = 0; maskClass < NeighborMask.CLASS_COUNT; maskClass++) {
+                neighbor.setNeighborBit(maskClass, index, oppositeBit, ((classes >> maskClass) & 1) != 0);
             }
         }
     }
     
     /**
-     * タイル位置に基づいて地形タイプを決定します。
-     * エリアベースの生成で、連続した地形エリアを作成します。
+     * 指定されたタイルの周囲8方向の隣接マスクを取得します。
+     * @param maskClass 分類（{@link NeighborMask#WATER}など）
      * @param tileX タイルX座標
      * @param tileY タイルY座標
-     * @param random ランダムジェネレーター（使用しないが互換性のため残す）
-     * @return 地形タイプ
+     * @return ビットマスク（タイルのチャンクが未生成の場合は、生成済みの隣接タイルから求める）
      */
-    private TerrainTile.TerrainType determineTerrainType(int tileX, int tileY, Random random) {
-        // 高度ノイズ（地形の高低を決定）- 複数オクターブで滑らかに
-        double heightNoise = multiOctaveNoise(tileX, tileY, 0.05);
-        
-        // 湿度ノイズ（水や森の分布を決定）- 異なるスケールで
-        double moistureNoise = multiOctaveNoise(tileX, tileY, 0.08);
-        
-        // 地形タイプノイズ（特殊地形の分布を決定）- さらに異なるスケールで
-        double terrainNoise = multiOctaveNoise(tileX, tileY, 0.03);
-        
-        // 高度に基づいて基本地形を決定
-        if (heightNoise < 0.25) {
-            // 低地：水エリア
-            return TerrainTile.TerrainType.WATER;
-        } else if (heightNoise < 0.35) {
-            // 低地：砂浜エリア（水の近く）
-            return TerrainTile.TerrainType.SAND;
-        } else if (heightNoise > 0.75) {
-            // 高地：岩エリア
-            return TerrainTile.TerrainType.STONE;
-        } else {
-            // 中地帯：湿度と地形ノイズに基づいて決定
-            // まず湿地をチェック（水場の近くに生成されるように優先度を上げる）
-            if (heightNoise < 0.45 && moistureNoise > 0.6) {
-                // 低地＋高湿度：湿地エリア（水場の近くに生成）
-                return TerrainTile.TerrainType.MARSH;
-            } else if (moistureNoise > 0.65 && terrainNoise > 0.4) {
-                // 高湿度＋適度な地形ノイズ：森林エリア
-                return TerrainTile.TerrainType.FOREST;
-            } else if (moistureNoise < 0.35 || terrainNoise < 0.3) {
-                // 低湿度または低地形ノイズ：土エリア
-                return TerrainTile.TerrainType.DIRT;
-            } else {
-                // その他：草原エリア
-                return TerrainTile.TerrainType.GRASS;
+    private int getNeighborMask(int maskClass, int tileX, int tileY) {
+        TerrainChunk chunk = getChunkAt(tileX, tileY);
+        if (chunk != null) {
+            return chunk.getNeighborMask(maskClass, TerrainChunk.localIndex(tileX, tileY));
+        }
+        int mask = 0;
+        for (int bit = 0; bit < 8; bit++) {
+            TerrainTile.TerrainType type = getType(tileX + NeighborMask.dx(bit), tileY + NeighborMask.dy(bit));
+            if (type != null && NeighborMask.isClass(type, maskClass)) {
+                mask |= 1 << bit;
             }
         }
+        return mask;
     }
     
     /**
-     * 滑らかなノイズ関数（パーリンノイズ風）。
-     * 連続したエリアを生成するために、周囲のタイルの値を補間します。
-     * @param x X座標
-     * @param y Y座標
-     * @param scale スケール（小さいほど大きなエリア）
-     * @return 0.0から1.0の間の値
+     * 指定された範囲に移動できない地形（水）があるかどうかを判定します。
+     * 範囲を3x3のブロックに分け、中央のタイルとその隣接マスクだけを調べます。
+     * @param startTileX 範囲の左端のタイルX座標
+     * @param startTileY 範囲の下端のタイルY座標
+     * @param endTileX 範囲の右端のタイルX座標（含む）
+     * @param endTileY 範囲の上端のタイルY座標（含む）
+     * @return 移動できない地形がある場合true（未生成のタイルは移動可能として扱う）
      */
-    private double smoothNoise(int x, int y, double scale) {
-        // グリッドポイントのノイズ値を取得
-        double fx = x * scale;
-        double fy = y * scale;
-        
-        int x0 = (int)Math.floor(fx);
-        int x1 = x0 + 1;
-        int y0 = (int)Math.floor(fy);
-        int y1 = y0 + 1;
-        
-        // 各グリッドポイントのノイズ値を計算
-        double n00 = gridNoise(x0, y0);
-        double n10 = gridNoise(x1, y0);
-        double n01 = gridNoise(x0, y1);
-        double n11 = gridNoise(x1, y1);
-        
-        // 補間のための重み
-        double sx = fx - x0;
-        double sy = fy - y0;
-        
-        // スムーズステップ関数で補間
-        sx = sx * sx * (3.0 - 2.0 * sx);
-        sy = sy * sy * (3.0 - 2.0 * sy);
-        
-        // 双線形補間
-        double nx0 = n00 * (1.0 - sx) + n10 * sx;
-        double nx1 = n01 * (1.0 - sx) + n11 * sx;
-        double result = nx0 * (1.0 - sy) + nx1 * sy;
-        
-        return result;
+    public boolean containsImpassable(int startTileX, int startTileY, int endTileX, int endTileY) {
+        for (int centerY = startTileY + 1; ; centerY += 3) {
+            // 最後のブロックは範囲からはみ出さないよう内側に寄せる（範囲が3タイル未満の場合ははみ出す）
+            int clampedY = Math.max(Math.min(centerY, endTileY - 1), startTileY + 1);
+            for (int centerX = startTileX + 1; ; centerX += 3) {
+                int clampedX = Math.max(Math.min(centerX, endTileX - 1), startTileX + 1);
+                if (isImpassableBlock(clampedX, clampedY)) {
+                    return true;
+                }
+                if (centerX + 1 >= endTileX) {
+                    break;
+                }
+            }
+            if (centerY + 1 >= endTileY) {
+                break;
+            }
+        }
+        return false;
     }
     
     /**
-     * グリッドポイントでのノイズ値を計算します。
-     * @param x グリッドX座標
-     * @param y グリッドY座標
-     * @return 0.0から1.0の間の値
+     * 指定されたタイルを中心とする3x3の範囲に移動できない地形があるかどうかを判定します。
      */
-    private double gridNoise(int x, int y) {
-        long seed = (long)x * 73856093L ^ (long)y * 19349663L;
-        Random noiseRandom = new Random(seed);
-        return noiseRandom.nextDouble();
+    private boolean isImpassableBlock(int centerX, int centerY) {
+        TerrainTile.TerrainType type = getType(centerX, centerY);
+        if (type != null && NeighborMask.isClass(type, NeighborMask.IMPASSABLE)) {
+            return true;
+        }
+        return getNeighborMask(NeighborMask.IMPASSABLE, centerX, centerY) != 0;
     }
     
     /**
-     * 複数オクターブのノイズを合成して、より自然な地形を生成します。
-     * @param x X座標
-     * @param y Y座標
-     * @param scale 基本スケール
-     * @return 0.0から1.0の間の値
+     * プレイヤーから離れた古いチャンクをメモリから追い出します。
+     * @param playerTileX プレイヤーのマップ升X座標
+     * @param playerTileY プレイヤーのマップ升Y座標
      */
-    private double multiOctaveNoise(int x, int y, double scale) {
-        double value = 0.0;
-        double amplitude = 1.0;
-        double frequency = scale;
-        double maxValue = 0.0;
-        
-        // 3つのオクターブを合成
-        for (int i = 0; i < 3; i++) {
-            value += smoothNoise(x, y, frequency) * amplitude;
-            maxValue += amplitude;
-            amplitude *= 0.5;
-            frequency *= 2.0;
+    private void evictDistantChunks(int playerTileX, int playerTileY) {
+        int evicted = residencyManager.evict(chunks, TerrainChunk.toChunkCoord(playerTileX),
+                                             TerrainChunk.toChunkCoord(playerTileY));
+        if (evicted > 0) {
+            lastChunk = null;
+        }
+    }
+    
+    /**
+     * カメラの視野範囲（ズームを考慮）を求めます。
+     * @param camera カメラ
+     * @param out 結果を書き込む矩形
+     * @return out
+     */
+    public static Rectangle getViewBounds(OrthographicCamera camera, Rectangle out) {
+        float actualViewportWidth = camera.viewportWidth * camera.zoom;
+        float actualViewportHeight = camera.viewportHeight * camera.zoom;
+        return out.set(camera.position.x - actualViewportWidth / 2, camera.position.y - actualViewportHeight / 2,
+                       actualViewportWidth, actualViewportHeight);
+    }
+    
+    /**
+     * 視野範囲のチャンクの地形タイプと描画の番号を書き込みます（描画スレッドに渡すスナップショット用）。
+     * 地形タイプの配列は{@link TerrainChunk#publishTypes()}で渡すため、変更されたチャンクだけが次の変更時に複製されます。
+     * 描画までの間にカメラが動いても足りるよう、描画範囲より1チャンク広く集めます。
+     * @param view 視野範囲（ピクセル単位）
+     * @param window 書き込み先
+     */
+    public void collectChunks(Rectangle view, TerrainChunkWindow window) {
+        float chunkPixels = Player.TILE_SIZE * TerrainChunk.SIZE;
+        int startChunkX = (int)Math.floor(view.x / chunkPixels) - 1;
+        int endChunkX = (int)Math.floor((view.x + view.width) / chunkPixels) + 1;
+        int startChunkY = (int)Math.floor(view.y / chunkPixels) - 1;
+        int endChunkY = (int)Math.floor((view.y + view.height) / chunkPixels) + 1;
+        window.reset(startChunkX, startChunkY, endChunkX - startChunkX + 1, endChunkY - startChunkY + 1);
+        for (int chunkY = startChunkY; chunkY <= endChunkY; chunkY++) {
+            for (int chunkX = startChunkX; chunkX <= endChunkX; chunkX++) {
+                TerrainChunk chunk = chunks.get(TerrainChunk.key(chunkX, chunkY));
+                if (chunk != null) {
+                    // 描画されるチャンクは追い出さない
+                    chunk.setLastAccess(frameCount);
+                    window.set(chunkX, chunkY, chunk.publishTypes(), chunk.getRenderVersion());
+                }
+            }
         }
-        
-        return value / maxValue;
     }
     
     /**
-     * すべての地形を描画します（SpriteBatchを使用）。
-     * @param batch SpriteBatchインスタンス
+     * 視野範囲内の地形を描画します。
+     * 
+     * <p>タイルはチャンクごとのキャッシュ（{@link TerrainChunkCache}）でまとめて描画し、
+     * 水場や草木の揺れはシェーダー（{@link TerrainAnimationShader}）で計算します。
+     * キャッシュが間に合わなかったチャンクと生成中のチャンクのプレースホルダーだけをSpriteBatchで描画します。
+     * キャッシュの描画はSpriteBatchとは別に行うため、batchは描画中でない状態で渡してください。</p>
+     * @param batch SpriteBatchインスタンス（描画中でないこと）
      * @param camera カメラ（視野範囲内の地形のみ描画）
      */
     public void render(SpriteBatch batch, OrthographicCamera camera) {
+        render(batch, camera, null, animationTime);
+    }
+    
+    /**
+     * 視野範囲内の地形を描画します。
+     * 
+     * <p>windowを指定した場合はチャンクの登録表を参照せず、windowのチャンクだけを描画します
+     * （シミュレーションを別スレッドで動かしている場合に使用）。
+     * 指定しない場合は登録表から視野範囲のチャンクを集めて描画します（シミュレーションと同じスレッドで呼び出すこと）。</p>
+     * @param batch SpriteBatchインスタンス（描画中でないこと）
+     * @param camera カメラ（視野範囲内の地形のみ描画）
+     * @param window 描画するチャンク（nullの場合はメモリ上のすべてのチャンクから探す）
+     * @param time 水場や草木の揺れに使うアニメーション時間（{@link #getAnimationTime()}の値）
+     */
+    public void render(SpriteBatch batch, OrthographicCamera camera, TerrainChunkWindow window, float time) {
+        if (chunkCache == null) {
+            createRenderResources();
+        }
+        if (window == null) {
+            collectChunks(getViewBounds(camera, renderViewBounds), renderWindow);
+            window = renderWindow;
+        }
+        
         // カメラの視野範囲を計算
         float actualViewportWidth = camera.viewportWidth * camera.zoom;
         float actualViewportHeight = camera.viewportHeight * camera.zoom;
@@ -306,132 +664,267 @@ public class TerrainManager {
         int startTileY = (int)Math.floor((cameraBottom - margin) / Player.TILE_SIZE);
         int endTileY = (int)Math.ceil((cameraTop + margin) / Player.TILE_SIZE);
         
-        // 視野範囲内の地形のみ描画
-        for (int x = startTileX; x <= endTileX; x++) {
-            for (int y = startTileY; y <= endTileY; y++) {
-                String tileKey = x + "," + y;
-                TerrainTile tile = terrainTiles.get(tileKey);
-                if (tile != null) {
-                    float pixelX = tile.getTileX() * Player.TILE_SIZE;
-                    float pixelY = tile.getTileY() * Player.TILE_SIZE;
-                    Texture texture = textureManager.getTexture(tile.getTerrainType());
-                    if (texture != null) {
-                        // アニメーション効果を適用
-                        renderAnimatedTile(batch, texture, tile.getTerrainType(), 
-                                          pixelX, pixelY, x, y);
+        int startChunkX = TerrainChunk.toChunkCoord(startTileX);
+        int endChunkX = TerrainChunk.toChunkCoord(endTileX);
+        int startChunkY = TerrainChunk.toChunkCoord(startTileY);
+        int endChunkY = TerrainChunk.toChunkCoord(endTileY);
+        int chunkColumns = endChunkX - startChunkX + 1;
+        int visibleChunkCount = chunkColumns * (endChunkY - startChunkY + 1);
+        if (cachedChunkFlags.length < visibleChunkCount) {
+            cachedChunkFlags = new boolean[visibleChunkCount];
+        }
+        
+        // タイルをチャンクごとのキャッシュで描画
+        chunkCache.beginFrame();
+        for (int chunkY = startChunkY; chunkY <= endChunkY; chunkY++) {
+            for (int chunkX = startChunkX; chunkX <= endChunkX; chunkX++) {
+                byte[] types = window.getTypes(chunkX, chunkY);
+                boolean cached = false;
+                if (types != null) {
+                    cached = chunkCache.prepare(chunkX, chunkY, types, window.getRenderVersion(chunkX, chunkY));
+                }
+                cachedChunkFlags[(chunkY - startChunkY) * chunkColumns + (chunkX - startChunkX)] = cached;
+            }
+        }
+        chunkCache.draw(camera.combined, time);
+        
+        // キャッシュが間に合わなかったチャンクとプレースホルダーを同じシェーダーで描画
+        batch.setProjectionMatrix(camera.combined);
+        batch.setShader(animationShader.getProgram());
+        batch.begin();
+        animationShader.applyUniforms(time);
+        Texture atlas = textureManager.getAtlasTexture();
+        for (int chunkY = startChunkY; chunkY <= endChunkY; chunkY++) {
+            for (int chunkX = startChunkX; chunkX <= endChunkX; chunkX++) {
+                if (cachedChunkFlags[(chunkY - startChunkY) * chunkColumns + (chunkX - startChunkX)]) {
+                    continue;
+                }
+                byte[] types = window.getTypes(chunkX, chunkY);
+                
+                // チャンクのうち視野範囲内の部分
+                int fromX = Math.max(startTileX, chunkX << TerrainChunk.SHIFT);
+                int toX = Math.min(endTileX, (chunkX << TerrainChunk.SHIFT) + TerrainChunk.MASK);
+                int fromY = Math.max(startTileY, chunkY << TerrainChunk.SHIFT);
+                int toY = Math.min(endTileY, (chunkY << TerrainChunk.SHIFT) + TerrainChunk.MASK);
+                
+                for (int y = fromY; y <= toY; y++) {
+                    for (int x = fromX; x <= toX; x++) {
+                        float pixelX = x * Player.TILE_SIZE;
+                        float pixelY = y * Player.TILE_SIZE;
+                        if (types == null) {
+                            // 生成中のチャンクはプレースホルダーを表示
+                            TerrainAnimationShader.putQuad(tileVertices, 0, textureManager.getPlaceholderRegion(),
+                                pixelX, pixelY, TerrainAnimationShader.KIND_NONE);
+                        } else {
+                            TerrainTile.TerrainType type = TerrainChunk.typeOf(types[TerrainChunk.localIndex(x, y)]);
+                            TextureRegion region = textureManager.getRegion(type, TerrainTextureManager.variantOf(x, y));
+                            TerrainAnimationShader.putQuad(tileVertices, 0, region, pixelX, pixelY,
+                                TerrainAnimationShader.animationKind(type));
+                        }
+                        batch.draw(atlas, tileVertices, 0, TerrainAnimationShader.QUAD_SIZE);
                     }
                 }
             }
         }
+        batch.end();
+        batch.setShader(null);
     }
     
     /**
-     * アニメーション効果を適用してタイルを描画します。
-     * @param batch SpriteBatchインスタンス
-     * @param texture テクスチャ
-     * @param terrainType 地形タイプ
-     * @param pixelX ピクセルX座標
-     * @param pixelY ピクセルY座標
-     * @param tileX タイルX座標（アニメーションの位相をずらすため）
-     * @param tileY タイルY座標（アニメーションの位相をずらすため）
+     * 描画用のテクスチャ・シェーダー・キャッシュを作成します（GLコンテキストのあるスレッドで最初の描画時に呼び出す）。
      */
-    private void renderAnimatedTile(SpriteBatch batch, Texture texture, 
-                                   TerrainTile.TerrainType terrainType,
-                                   float pixelX, float pixelY, int tileX, int tileY) {
-        float drawX = pixelX;
-        float drawY = pixelY;
-        
-        // 地形タイプに応じてアニメーション効果を適用
-        switch (terrainType) {
-            case WATER:
-            case PADDY:
-            case WATER_CHANNEL:
-            case MARSH:
-                // 水場の波アニメーション（位置を微調整して揺れる効果）
-                float waterSpeed = 0.5f; // 波の速度
-                float waterAmplitude = 0.8f; // 波の振幅（ピクセル単位）
-                float waterPhaseX = (float)(tileX * 0.3f + tileY * 0.2f); // 位相をずらす
-                float waterPhaseY = (float)(tileX * 0.2f + tileY * 0.3f);
-                
-                // 波のような動き（sin波とcos波の組み合わせ）
-                float offsetX = (float)Math.sin(animationTime * waterSpeed + waterPhaseX) * waterAmplitude;
-                float offsetY = (float)Math.cos(animationTime * waterSpeed * 1.3f + waterPhaseY) * waterAmplitude;
-                
-                drawX = pixelX + offsetX;
-                drawY = pixelY + offsetY;
-                break;
-                
-            case FOREST:
-            case GRASS:
-                // 森や草の揺れアニメーション（風に揺れる感じ）
-                float windSpeed = 0.8f; // 風の速度
-                float windAmplitude = 0.6f; // 揺れの振幅（ピクセル単位）
-                float windPhase = (float)(tileX * 0.4f + tileY * 0.3f); // 位相をずらす
-                
-                // 水平方向の揺れ（左右に揺れる）
-                float windOffsetX = (float)Math.sin(animationTime * windSpeed + windPhase) * windAmplitude;
-                // 垂直方向の揺れ（上下に揺れる、より小さく）
-                float windOffsetY = (float)Math.cos(animationTime * windSpeed * 0.7f + windPhase) * windAmplitude * 0.5f;
-                
-                drawX = pixelX + windOffsetX;
-                drawY = pixelY + windOffsetY;
-                break;
-                
-            default:
-                // アニメーションなし（通常の描画）
-                break;
-        }
-        
-        // テクスチャを描画
-        batch.draw(texture, drawX, drawY, Player.TILE_SIZE, Player.TILE_SIZE);
+    private void createRenderResources() {
+        textureManager = new TerrainTextureManager();
+        animationShader = new TerrainAnimationShader();
+        chunkCache = new TerrainChunkCache(textureManager, animationShader);
     }
     
     /**
      * リソースを解放します。
      */
     public void dispose() {
+        if (generationPipeline != null) {
+            generationPipeline.dispose();
+        }
+        if (chunkCache != null) {
+            chunkCache.dispose();
+        }
+        if (animationShader != null) {
+            animationShader.dispose();
+        }
         if (textureManager != null) {
             textureManager.dispose();
         }
     }
     
+    /**
+     * 指定されたタイル座標を含むチャンクを取得します。
+     * @param tileX タイルX座標
+     * @param tileY タイルY座標
+     * @return チャンク（未生成の場合はnull）
+     */
+    private TerrainChunk getChunkAt(int tileX, int tileY) {
+        int chunkX = TerrainChunk.toChunkCoord(tileX);
+        int chunkY = TerrainChunk.toChunkCoord(tileY);
+        TerrainChunk chunk = lastChunk;
+        if (chunk != null && chunk.getChunkX() == chunkX && chunk.getChunkY() == chunkY) {
+            return chunk;
+        }
+        long key = TerrainChunk.key(chunkX, chunkY);
+        chunk = chunks.get(key);
+        if (chunk == null && residencyManager.isStored(key)) {
+            // ディスクに退避されたチャンクを透過的に読み戻す
+            chunk = residencyManager.load(chunkX, chunkY);
+            if (chunk != null) {
+                installChunk(chunk);
+            }
+        }
+        if (chunk != null) {
+            chunk.setLastAccess(frameCount);
+            lastChunk = chunk;
+        }
+        return chunk;
+    }
+    
+    /**
+     * 指定されたマップ升座標の地形タイプを取得します（アロケーションなし）。
+     * @param tileX マップ升X座標
+     * @param tileY マップ升Y座標
+     * @return 地形タイプ（未生成の場合はnull）
+     */
+    public TerrainTile.TerrainType getType(int tileX, int tileY) {
+        TerrainChunk chunk = getChunkAt(tileX, tileY);
+        if (chunk == null) {
+            return null;
+        }
+        return chunk.getType(TerrainChunk.localIndex(tileX, tileY));
+    }
+    
+    /**
+     * マップ表示用に、指定されたマップ升座標の地形タイプを取得します。
+     * メモリ上のチャンク、ディスクに退避されたチャンク、シードからの生成結果の順に読むだけで、
+     * チャンクの登録やLRUの更新は行いません。メモリ上にないチャンクは読んだ結果をチャンク単位でキャッシュします。
+     * 
+     * <p>シミュレーションスレッドが持つチャンクやディスク、地形生成器を読むため、
+     * シミュレーションが止まっている間（マップ表示中）にだけ呼び出してください。</p>
+     * @param tileX マップ升X座標
+     * @param tileY マップ升Y座標
+     * @return 地形タイプ
+     */
+    public TerrainTile.TerrainType getMapType(int tileX, int tileY) {
+        int chunkX = TerrainChunk.toChunkCoord(tileX);
+        int chunkY = TerrainChunk.toChunkCoord(tileY);
+        long key = TerrainChunk.key(chunkX, chunkY);
+        int index = TerrainChunk.localIndex(tileX, tileY);
+        TerrainChunk chunk = chunks.get(key);
+        if (chunk != null) {
+            return chunk.getType(index);
+        }
+        byte[] sampled = sampledMapChunks.get(key);
+        if (sampled == null) {
+            if (sampledMapChunks.size >= MAX_SAMPLED_MAP_CHUNKS) {
+                sampledMapChunks.clear();
+            }
+            // 退避されたチャンクは読み込んだ内容を使う（メモリには登録しない）
+            TerrainChunk stored = residencyManager.isStored(key) ? residencyManager.load(chunkX, chunkY) : null;
+            if (stored != null) {
+                sampled = stored.publishTypes();
+            } else {
+                sampled = new byte[TerrainChunk.SIZE * TerrainChunk.SIZE];
+                int baseTileX = chunkX << TerrainChunk.SHIFT;
+                int baseTileY = chunkY << TerrainChunk.SHIFT;
+                for (int localY = 0; localY < TerrainChunk.SIZE; localY++) {
+                    for (int localX = 0; localX < TerrainChunk.SIZE; localX++) {
+                        sampled[(localY << TerrainChunk.SHIFT) | localX] =
+                            (byte)terrainGenerator.sampleType(baseTileX + localX, baseTileY + localY).ordinal();
+                    }
+                }
+            }
+            sampledMapChunks.put(key, sampled);
+        }
+        return TerrainChunk.typeOf(sampled[index]);
+    }
+    
     /**
      * 指定されたマップ升座標の地形タイルを取得します。
+     * チャンクの内容から都度生成されるスナップショットのため、変更はチャンクに反映されません。
      * @param tileX マップ升X座標
      * @param tileY マップ升Y座標
      * @return 地形タイル（存在しない場合はnull）
      */
     public TerrainTile getTerrainTile(int tileX, int tileY) {
-        String tileKey = tileX + "," + tileY;
-        return terrainTiles.get(tileKey);
+        TerrainChunk chunk = getChunkAt(tileX, tileY);
+        if (chunk == null) {
+            return null;
+        }
+        int index = TerrainChunk.localIndex(tileX, tileY);
+        TerrainTile tile = new TerrainTile(tileX, tileY, chunk.getType(index));
+        tile.setWatered(channelNetwork.isWatered(tileX, tileY));
+        return tile;
+    }
+    
+    /**
+     * ワールドシードを返します（セーブ用）。
+     */
+    public long getWorldSeed() {
+        return worldSeed;
     }
     
     /**
-     * すべての地形タイルを返します（セーブ用）。
+     * ワールドシードを設定します（ロード用）。
+     * 生成済みのチャンクは破棄され、新しいシードで生成し直されます。
+     * @param worldSeed ワールドシード
      */
-    public Map<String, TerrainTile> getTerrainTiles() {
-        return terrainTiles;
+    public void setWorldSeed(long worldSeed) {
+        this.worldSeed = worldSeed;
+        this.terrainGenerator = new TerrainGenerator(worldSeed);
+        // 古いシードで生成中のチャンクは破棄する
+        this.generationPipeline.dispose();
+        this.generationPipeline = new ChunkGenerationPipeline(worldSeed, ChunkGenerationPipeline.defaultWorkerCount());
+        this.pendingChunks.clear();
+        this.chunks.clear();
+        this.lastChunk = null;
+        this.sampledMapChunks.clear();
+        this.channelNetwork.clear();
     }
     
     /**
-     * 地形タイルを設定します（ロード用）。
+     * 変更済みチャンクの退避先を設定します。
+     * 設定しない場合、変更済みチャンクはメモリから追い出されません。
+     * @param chunkStore 退避先
      */
-    public void setTerrainTiles(Map<String, TerrainTile> terrainTiles) {
-        this.terrainTiles = terrainTiles != null ? terrainTiles : new HashMap<>();
+    public void setChunkStore(ChunkStore chunkStore) {
+        residencyManager.setChunkStore(chunkStore);
     }
     
     /**
-     * 生成済みチャンクのセットを返します（セーブ用）。
+     * 変更済みのチャンクを指定されたディレクトリに保存します（セーブ用）。
+     * @param directory 保存先のディレクトリ
      */
-    public java.util.Set<String> getGeneratedChunks() {
-        return generatedChunks;
+    public void saveModifiedChunks(FileHandle directory) {
+        ChunkStore chunkStore = residencyManager.getChunkStore();
+        if (chunkStore == null) {
+            return;
+        }
+        residencyManager.flush(chunks);
+        chunkStore.copyTo(directory);
     }
     
     /**
-     * 生成済みチャンクのセットを設定します（ロード用）。
+     * 指定されたディレクトリの変更済みチャンクを読み込みます（ロード用）。
+     * メモリ上のチャンクは破棄され、参照されたときに読み込み直されます。
+     * @param directory 読み込み元のディレクトリ
      */
-    public void setGeneratedChunks(java.util.Set<String> chunks) {
-        this.generatedChunks = chunks != null ? chunks : new java.util.HashSet<>();
+    public void loadModifiedChunks(FileHandle directory) {
+        ChunkStore chunkStore = residencyManager.getChunkStore();
+        if (chunkStore == null) {
+            return;
+        }
+        chunkStore.loadFrom(directory);
+        chunks.clear();
+        lastChunk = null;
+        sampledMapChunks.clear();
+        rebuildChannelNetwork();
     }
     
     /**
@@ -441,20 +934,8 @@ public class TerrainManager {
      * @return 水辺の場合true
      */
     public boolean isNearWater(int tileX, int tileY) {
-        // 周囲8方向をチェック
-        int[] dx = {-1, -1, -1, 0, 0, 1, 1, 1};
-        int[] dy = {-1, 0, 1, -1, 1, -1, 0, 1};
-        
-        for (int i = 0; i < dx.length; i++) {
-            int checkX = tileX + dx[i];
-            int checkY = tileY + dy[i];
-            TerrainTile tile = getTerrainTile(checkX, checkY);
-            if (tile != null && tile.getTerrainType() == TerrainTile.TerrainType.WATER) {
-                return true;
-            }
-        }
-        
-        return false;
+        // 周囲8方向の隣接マスクをチェック
+        return getNeighborMask(NeighborMask.WATER, tileX, tileY) != 0;
     }
     
     /**
@@ -465,26 +946,26 @@ public class TerrainManager {
      * @return 変更に成功した場合true
      */
     public boolean changeTerrainType(int tileX, int tileY, TerrainTile.TerrainType newType) {
-        String tileKey = tileX + "," + tileY;
-        TerrainTile tile = terrainTiles.get(tileKey);
+        TerrainChunk chunk = getChunkAt(tileX, tileY);
         
-        if (tile == null) {
-            // タイルが存在しない場合は新規作成
-            tile = new TerrainTile(tileX, tileY, newType);
-            terrainTiles.put(tileKey, tile);
-        } else {
-            // 既存のタイルのタイプを変更
-            // TerrainTileクラスにsetterがない場合は、新しいインスタンスで置き換え
-            tile = new TerrainTile(tileX, tileY, newType);
-            terrainTiles.put(tileKey, tile);
+        if (chunk == null) {
+            // チャンクが存在しない場合は先に生成する
+            chunk = generateChunkTerrain(TerrainChunk.toChunkCoord(tileX), TerrainChunk.toChunkCoord(tileY));
         }
         
-        // CHANNELが作成された場合、通水状態を更新
-        if (newType == TerrainTile.TerrainType.WATER_CHANNEL) {
-            updateChannelWateredStateAround(tileX, tileY);
-        } else {
-            // 他の地形に変更された場合も、周囲のCHANNELの通水状態を更新
-            updateChannelWateredStateAround(tileX, tileY);
+        // タイルのタイプを変更
+        int index = TerrainChunk.localIndex(tileX, tileY);
+        TerrainTile.TerrainType oldType = chunk.getType(index);
+        if (oldType != newType) {
+            chunk.setType(index, newType);
+            // シードから再生成できなくなったので、追い出すときはディスクに退避する
+            chunk.setModified(true);
+            chunk.setDirty(true);
+            // このチャンクの描画キャッシュを作り直す
+            chunk.incrementRenderVersion();
+            // 隣接マスクと、水路と水の変化を水路ネットワークに反映
+            updateNeighborMasksAround(tileX, tileY, newType);
+            updateChannelNetwork(tileX, tileY, oldType, newType);
         }
         
         return true;
@@ -497,24 +978,18 @@ public class TerrainManager {
      * @return 水源に隣接している場合true
      */
     public boolean isNearWaterSource(int tileX, int tileY) {
-        // 周囲8方向をチェック
-        int[] dx = {-1, -1, -1, 0, 0, 1, 1, 1};
-        int[] dy = {-1, 0, 1, -1, 1, -1, 0, 1};
+        // WATERとPADDYは隣接マスクでチェック
+        if (getNeighborMask(NeighborMask.WATER_SOURCE, tileX, tileY) != 0) {
+            return true;
+        }
         
-        for (int i = 0; i < dx.length; i++) {
-            int checkX = tileX + dx[i];
-            int checkY = tileY + dy[i];
-            TerrainTile tile = getTerrainTile(checkX, checkY);
-            if (tile != null) {
-                TerrainTile.TerrainType type = tile.getTerrainType();
-                if (type == TerrainTile.TerrainType.WATER ||
-                    type == TerrainTile.TerrainType.PADDY) {
-                    return true;
-                }
-                // 通水しているCHANNELも水源として扱う
-                if (type == TerrainTile.TerrainType.WATER_CHANNEL && tile.isWatered()) {
-                    return true;
-                }
+        // 通水しているCHANNELも水源として扱う（隣接する水路だけを調べる）
+        int channels = getNeighborMask(NeighborMask.CHANNEL, tileX, tileY);
+        while (channels != 0) {
+            int bit = Integer.numberOfTrailingZeros(channels);
+            channels &= channels - 1;
+            if (channelNetwork.isWatered(tileX + NeighborMask.dx(bit), tileY + NeighborMask.dy(bit))) {
+                return true;
             }
         }
         
@@ -529,89 +1004,118 @@ public class TerrainManager {
      */
     public boolean isConnectedToWaterChannel(int tileX, int tileY) {
         // 周囲4方向（上下左右）をチェック
-        int[] dx = {-1, 0, 0, 1};
-        int[] dy = {0, -1, 1, 0};
-        
-        for (int i = 0; i < dx.length; i++) {
-            int checkX = tileX + dx[i];
-            int checkY = tileY + dy[i];
-            TerrainTile tile = getTerrainTile(checkX, checkY);
-            if (tile != null && tile.getTerrainType() == TerrainTile.TerrainType.WATER_CHANNEL) {
-                return true;
-            }
-        }
-        
-        return false;
+        return (getNeighborMask(NeighborMask.CHANNEL, tileX, tileY) & NeighborMask.ORTHOGONAL_BITS) != 0;
     }
     
     /**
      * 指定された水路タイルが通水しているかどうかを判定します。
-     * 隣接8方向にWATERまたは通水しているCHANNELがあれば通水と判定します。
+     * 8方向につながった水路のどれかがWATERに隣接していれば通水と判定します（水路ネットワークの参照のみ）。
      * @param tileX タイルX座標
      * @param tileY タイルY座標
      * @return 通水している場合true
      */
     public boolean isChannelWatered(int tileX, int tileY) {
-        TerrainTile tile = getTerrainTile(tileX, tileY);
-        if (tile == null || tile.getTerrainType() != TerrainTile.TerrainType.WATER_CHANNEL) {
-            return false;
+        return channelNetwork.isWatered(tileX, tileY);
+    }
+    
+    /**
+     * 地形の変更を水路ネットワークに反映します。
+     * @param tileX タイルX座標
+     * @param tileY タイルY座標
+     * @param oldType 変更前の地形タイプ
+     * @param newType 変更後の地形タイプ
+     */
+    private void updateChannelNetwork(int tileX, int tileY, TerrainTile.TerrainType oldType,
+                                      TerrainTile.TerrainType newType) {
+        if (oldType == TerrainTile.TerrainType.WATER) {
+            addWaterContactsAround(tileX, tileY, -1);
+        } else if (oldType == TerrainTile.TerrainType.WATER_CHANNEL) {
+            channelNetwork.removeChannel(tileX, tileY);
         }
         
-        // 周囲8方向をチェック
-        int[] dx = {-1, -1, -1, 0, 0, 1, 1, 1};
-        int[] dy = {-1, 0, 1, -1, 1, -1, 0, 1};
-        
-        for (int i = 0; i < dx.length; i++) {
-            int checkX = tileX + dx[i];
-            int checkY = tileY + dy[i];
-            TerrainTile neighborTile = getTerrainTile(checkX, checkY);
-            if (neighborTile != null) {
-                TerrainTile.TerrainType neighborType = neighborTile.getTerrainType();
-                // WATERに隣接している場合は通水
-                if (neighborType == TerrainTile.TerrainType.WATER) {
-                    return true;
-                }
-                // 通水しているCHANNELに隣接している場合も通水
-                if (neighborType == TerrainTile.TerrainType.WATER_CHANNEL && neighborTile.isWatered()) {
-                    return true;
-                }
+        if (newType == TerrainTile.TerrainType.WATER) {
+            addWaterContactsAround(tileX, tileY, 1);
+        } else if (newType == TerrainTile.TerrainType.WATER_CHANNEL) {
+            channelNetwork.addChannel(tileX, tileY, countWaterAround(tileX, tileY));
+        }
+    }
+    
+    /**
+     * 周囲8方向の水路に、水との接触数の増減を反映します。
+     */
+    private void addWaterContactsAround(int tileX, int tileY, int delta) {
+        for (int i = 0; i < NEIGHBOR_DX.length; i++) {
+            channelNetwork.addWaterContacts(tileX + NEIGHBOR_DX[i], tileY + NEIGHBOR_DY[i], delta);
+        }
+    }
+    
+    /**
+     * 周囲8方向にあるWATERタイルの数を数えます。
+     * 未生成のチャンクはシードから地形を求めるため、後から生成されても結果は変わりません。
+     */
+    private int countWaterAround(int tileX, int tileY) {
+        int count = 0;
+        for (int i = 0; i < NEIGHBOR_DX.length; i++) {
+            int checkX = tileX + NEIGHBOR_DX[i];
+            int checkY = tileY + NEIGHBOR_DY[i];
+            TerrainTile.TerrainType type = getType(checkX, checkY);
+            if (type == null) {
+                type = terrainGenerator.sampleType(checkX, checkY);
+            }
+            if (type == TerrainTile.TerrainType.WATER) {
+                count++;
             }
         }
-        
-        return false;
+        return count;
     }
     
     /**
-     * 指定された水路タイルの通水状態を更新します。
-     * 地形変更時に呼び出して、通水状態を再計算します。
-     * @param tileX タイルX座標
-     * @param tileY タイルY座標
+     * メモリ上とディスク上のすべてのチャンクから水路ネットワークを作り直します（ロード用）。
+     * 水路は作られたときにチャンクが変更済みになるため、シードから生成されるだけのチャンクは調べません。
      */
-    public void updateChannelWateredState(int tileX, int tileY) {
-        TerrainTile tile = getTerrainTile(tileX, tileY);
-        if (tile == null || tile.getTerrainType() != TerrainTile.TerrainType.WATER_CHANNEL) {
-            return;
+    private void rebuildChannelNetwork() {
+        channelNetwork.clear();
+        channelTileKeys.clear();
+        for (TerrainChunk chunk : chunks.values()) {
+            collectChannelTiles(chunk);
         }
-        
-        boolean watered = isChannelWatered(tileX, tileY);
-        tile.setWatered(watered);
+        ChunkStore chunkStore = residencyManager.getChunkStore();
+        if (chunkStore != null) {
+            LongArray storedKeys = new LongArray();
+            chunkStore.collectKeys(storedKeys);
+            for (int i = 0; i < storedKeys.size; i++) {
+                long key = storedKeys.get(i);
+                if (chunks.containsKey(key)) {
+                    continue;
+                }
+                TerrainChunk chunk = chunkStore.read((int)(key >> 32), (int)key);
+                if (chunk != null) {
+                    collectChannelTiles(chunk);
+                }
+            }
+        }
+        // 水との接触数の計算でチャンクが読み込まれることがあるため、座標を集めてから追加する
+        for (int i = 0; i < channelTileKeys.size; i++) {
+            long key = channelTileKeys.get(i);
+            int tileX = (int)(key >> 32);
+            int tileY = (int)key;
+            channelNetwork.addChannel(tileX, tileY, countWaterAround(tileX, tileY));
+        }
+        channelTileKeys.clear();
     }
     
     /**
-     * 指定された位置とその周囲の水路タイルの通水状態を更新します。
-     * 地形変更時に呼び出して、影響を受ける水路の通水状態を再計算します。
-     * @param tileX タイルX座標
-     * @param tileY タイルY座標
+     * チャンク内の水路タイルの座標を{@link #channelTileKeys}に追加します。
      */
-    public void updateChannelWateredStateAround(int tileX, int tileY) {
-        // 周囲8方向と自分自身をチェック
-        int[] dx = {-1, -1, -1, 0, 0, 1, 1, 1, 0};
-        int[] dy = {-1, 0, 1, -1, 1, -1, 0, 1, 0};
-        
-        for (int i = 0; i < dx.length; i++) {
-            int checkX = tileX + dx[i];
-            int checkY = tileY + dy[i];
-            updateChannelWateredState(checkX, checkY);
+    private void collectChannelTiles(TerrainChunk chunk) {
+        int baseTileX = chunk.getChunkX() << TerrainChunk.SHIFT;
+        int baseTileY = chunk.getChunkY() << TerrainChunk.SHIFT;
+        for (int index = 0; index < TerrainChunk.TILE_COUNT; index++) {
+            if (chunk.getType(index) == TerrainTile.TerrainType.WATER_CHANNEL) {
+                int tileX = baseTileX + (index & TerrainChunk.MASK);
+                int tileY = baseTileY + (index >> TerrainChunk.SHIFT);
+                channelTileKeys.add(TerrainChunk.key(tileX, tileY));
+            }
         }
     }
 }
@@ -6,34 +6,163 @@ import io.github.some_example_name.entity.Player;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Disposable;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Random;
 
 /**
  * 地形タイル用のテクスチャを管理するクラス。
+ * 
+ * <p>すべての地形タイプのテクスチャを1枚のアトラスにまとめて生成します。
+ * 地形タイプごとに{@link #VARIANT_COUNT}種類のバリエーションを持ち、
+ * どのバリエーションを使うかはタイル座標のハッシュで決まります（{@link #variantOf}）。
+ * 地形全体を1回のテクスチャバインドで描画できます。</p>
  */
 public class TerrainTextureManager implements Disposable {
-    private Map<TerrainTile.TerrainType, Texture> textures;
+    // 地形タイプごとのバリエーション数（2の累乗）
+    public static final int VARIANT_COUNT = 4;
+    
+    // セルの周囲に複製する余白（隣のセルの色がにじまないようにする）
+    private static final int PADDING = 1;
+    
+    // バリエーションごとの明るさの倍率
+    private static final float[] VARIANT_BRIGHTNESS = {1.0f, 0.95f, 1.05f, 0.98f};
+    
+    private static final TerrainTile.TerrainType[] TYPES = TerrainTile.TerrainType.values();
+    
+    // すべての地形テクスチャをまとめたアトラス
+    private Texture atlasTexture;
+    
+    // 地形タイプとバリエーションごとの領域（インデックス: [タイプの序数][バリエーション]）
+    private TextureRegion[][] regions;
+    
+    // 生成中のチャンクに表示する領域
+    private TextureRegion placeholderRegion;
+    
+    // テクスチャ生成用の乱数（バリエーションごとにシードを変えて再現可能にする）
+    private Random random;
     
     public TerrainTextureManager() {
-        textures = new HashMap<>();
+        random = new Random();
         generateTextures();
     }
     
     /**
-     * 各地形タイプのテクスチャを生成します。
+     * 各地形タイプのテクスチャを1枚のアトラスに生成します。
+     * 各セルはタイルの周囲にPADDINGピクセルの余白を持ち、余白には縁のピクセルを複製します。
      */
     private void generateTextures() {
         int tileSize = Player.TILE_SIZE;
+        int cellSize = tileSize + PADDING * 2;
+        int rows = TYPES.length + 1; // 最後の行はプレースホルダー
+        
+        Pixmap atlas = new Pixmap(MathUtils.nextPowerOfTwo(cellSize * VARIANT_COUNT),
+                                  MathUtils.nextPowerOfTwo(cellSize * rows), Pixmap.Format.RGBA8888);
+        atlas.setBlending(Pixmap.Blending.None);
+        
+        for (TerrainTile.TerrainType type : TYPES) {
+            for (int variant = 0; variant < VARIANT_COUNT; variant++) {
+                // 同じバリエーションは常に同じ見た目になるようにシードを固定
+                random.setSeed(type.ordinal() * 7919L + variant);
+                Pixmap pixmap = createTerrainPixmap(type, tileSize);
+                Pixmap variantPixmap = createVariantPixmap(pixmap, variant);
+                copyWithPadding(atlas, variantPixmap, variant * cellSize, type.ordinal() * cellSize);
+                variantPixmap.dispose();
+                pixmap.dispose();
+            }
+        }
         
-        for (TerrainTile.TerrainType type : TerrainTile.TerrainType.values()) {
-            Pixmap pixmap = createTerrainPixmap(type, tileSize);
-            Texture texture = new Texture(pixmap);
-            textures.put(type, texture);
-            pixmap.dispose();
+        Pixmap placeholderPixmap = createPlaceholderPixmap(tileSize);
+        copyWithPadding(atlas, placeholderPixmap, 0, TYPES.length * cellSize);
+        placeholderPixmap.dispose();
+        
+        atlasTexture = new Texture(atlas);
+        atlas.dispose();
+        
+        regions = new TextureRegion[TYPES.length][VARIANT_COUNT];
+        for (TerrainTile.TerrainType type : TYPES) {
+            for (int variant = 0; variant < VARIANT_COUNT; variant++) {
+                regions[type.ordinal()][variant] = new TextureRegion(atlasTexture,
+                    variant * cellSize + PADDING, type.ordinal() * cellSize + PADDING, tileSize, tileSize);
+            }
+        }
+        placeholderRegion = new TextureRegion(atlasTexture, PADDING, TYPES.length * cellSize + PADDING,
+                                              tileSize, tileSize);
+    }
+    
+    /**
+     * 元のPixmapを反転・明るさ調整したバリエーションを作成します。
+     * バリエーション番号のビット0で左右反転、ビット1で上下反転します。
+     */
+    private Pixmap createVariantPixmap(Pixmap source, int variant) {
+        int size = source.getWidth();
+        Pixmap result = new Pixmap(size, size, Pixmap.Format.RGBA8888);
+        result.setBlending(Pixmap.Blending.None);
+        boolean flipX = (variant & 1) != 0;
+        boolean flipY = (variant & 2) != 0;
+        float brightness = VARIANT_BRIGHTNESS[variant % VARIANT_BRIGHTNESS.length];
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int rgba = source.getPixel(flipX ? size - 1 - x : x, flipY ? size - 1 - y : y);
+                int r = Math.min(255, (int)(((rgba >>> 24) & 0xFF) * brightness));
+                int g = Math.min(255, (int)(((rgba >>> 16) & 0xFF) * brightness));
+                int b = Math.min(255, (int)(((rgba >>> 8) & 0xFF) * brightness));
+                result.drawPixel(x, y, (r << 24) | (g << 16) | (b << 8) | (rgba & 0xFF));
+            }
         }
+        return result;
+    }
+    
+    /**
+     * タイルをアトラスのセルに書き込み、縁のピクセルを余白に複製します。
+     * @param atlas アトラス
+     * @param tile タイルのPixmap
+     * @param cellX セルの左上のX座標
+     * @param cellY セルの左上のY座標
+     */
+    private void copyWithPadding(Pixmap atlas, Pixmap tile, int cellX, int cellY) {
+        int size = tile.getWidth();
+        int x = cellX + PADDING;
+        int y = cellY + PADDING;
+        atlas.drawPixmap(tile, x, y);
+        // 上下左右の縁
+        atlas.drawPixmap(tile, x, y - 1, 0, 0, size, 1);
+        atlas.drawPixmap(tile, x, y + size, 0, size - 1, size, 1);
+        atlas.drawPixmap(tile, x - 1, y, 0, 0, 1, size);
+        atlas.drawPixmap(tile, x + size, y, size - 1, 0, 1, size);
+        // 四隅
+        atlas.drawPixel(x - 1, y - 1, tile.getPixel(0, 0));
+        atlas.drawPixel(x + size, y - 1, tile.getPixel(size - 1, 0));
+        atlas.drawPixel(x - 1, y + size, tile.getPixel(0, size - 1));
+        atlas.drawPixel(x + size, y + size, tile.getPixel(size - 1, size - 1));
+    }
+    
+    /**
+     * タイル座標からバリエーション番号を決めます（座標のハッシュ）。
+     * @param tileX タイルX座標
+     * @param tileY タイルY座標
+     * @return 0からVARIANT_COUNT-1までのバリエーション番号
+     */
+    public static int variantOf(int tileX, int tileY) {
+        int h = tileX * 0x9E3779B1 ^ tileY * 0x85EBCA77;
+        h ^= h >>> 15;
+        h *= 0x2C1B3C6D;
+        h ^= h >>> 12;
+        return h & (VARIANT_COUNT - 1);
+    }
+    
+    /**
+     * 生成中のチャンク用のPixmapを生成します（暗い格子模様）。
+     */
+    private Pixmap createPlaceholderPixmap(int size) {
+        Pixmap pixmap = new Pixmap(size, size, Pixmap.Format.RGBA8888);
+        fillPixmap(pixmap, new Color(0.12f, 0.12f, 0.14f, 1f));
+        int half = size / 2;
+        drawRect(pixmap, 0, 0, half, half, new Color(0.17f, 0.17f, 0.2f, 1f));
+        drawRect(pixmap, half, half, size - half, size - half, new Color(0.17f, 0.17f, 0.2f, 1f));
+        return pixmap;
     }
     
     /**
@@ -119,10 +248,10 @@ public class TerrainTextureManager implements Disposable {
         
         // 土の質感を追加（ランダムな点）
         for (int i = 0; i < 15; i++) {
-            int x = (int)(Math.random() * size);
-            int y = (int)(Math.random() * size);
+            int x = (int)(random.nextDouble() * size);
+            int y = (int)(random.nextDouble() * size);
             int radius = size / 25;
-            float brightness = 0.7f + (float)(Math.random() * 0.3f);
+            float brightness = 0.7f + (float)(random.nextDouble() * 0.3f);
             Color dirtColor = new Color(
                 baseColor.r * brightness,
                 baseColor.g * brightness,
@@ -143,10 +272,10 @@ public class TerrainTextureManager implements Disposable {
         
         // 砂の粒を追加
         for (int i = 0; i < 20; i++) {
-            int x = (int)(Math.random() * size);
-            int y = (int)(Math.random() * size);
+            int x = (int)(random.nextDouble() * size);
+            int y = (int)(random.nextDouble() * size);
             int radius = size / 30;
-            float brightness = 0.8f + (float)(Math.random() * 0.2f);
+            float brightness = 0.8f + (float)(random.nextDouble() * 0.2f);
             Color sandColor = new Color(
                 baseColor.r * brightness,
                 baseColor.g * brightness,
@@ -275,7 +404,7 @@ public class TerrainTextureManager implements Disposable {
             int x = (int)(size * (0.2f + (i % 3) * 0.3f));
             int y = (int)(size * (0.3f + (i / 3) * 0.4f));
             int dotRadius = size / 30;
-            float brightness = 0.8f + (float)(Math.random() * 0.2f);
+            float brightness = 0.8f + (float)(random.nextDouble() * 0.2f);
             Color dirtColor = new Color(
                 baseColor.r * brightness,
                 baseColor.g * brightness,
@@ -305,10 +434,10 @@ public class TerrainTextureManager implements Disposable {
         
         // 土の質感を追加
         for (int i = 0; i < 10; i++) {
-            int x = (int)(Math.random() * size);
-            int y = (int)(Math.random() * size);
+            int x = (int)(random.nextDouble() * size);
+            int y = (int)(random.nextDouble() * size);
             int radius = size / 25;
-            float brightness = 0.7f + (float)(Math.random() * 0.3f);
+            float brightness = 0.7f + (float)(random.nextDouble() * 0.3f);
             Color dirtColor = new Color(
                 baseColor.r * brightness,
                 baseColor.g * brightness,
@@ -340,7 +469,7 @@ public class TerrainTextureManager implements Disposable {
             int x = (int)(size * (0.15f + (i % 4) * 0.25f));
             int y = (int)(size * (0.2f + (i / 4) * 0.6f));
             int radius = size / 20;
-            float brightness = 0.6f + (float)(Math.random() * 0.3f);
+            float brightness = 0.6f + (float)(random.nextDouble() * 0.3f);
             Color mudColor = new Color(
                 baseColor.r * brightness,
                 baseColor.g * brightness,
@@ -372,7 +501,7 @@ public class TerrainTextureManager implements Disposable {
             int x = (int)(size * (0.1f + (i % 4) * 0.25f));
             int y = (int)(size * (0.15f + (i / 4) * 0.7f));
             int radius = size / 25;
-            float brightness = 0.7f + (float)(Math.random() * 0.3f);
+            float brightness = 0.7f + (float)(random.nextDouble() * 0.3f);
             Color dirtColor = new Color(
                 baseColor.r * brightness,
                 baseColor.g * brightness,
@@ -422,10 +551,10 @@ public class TerrainTextureManager implements Disposable {
         
         // 荒廃した質感を追加（不規則な点）
         for (int i = 0; i < 18; i++) {
-            int x = (int)(Math.random() * size);
-            int y = (int)(Math.random() * size);
+            int x = (int)(random.nextDouble() * size);
+            int y = (int)(random.nextDouble() * size);
             int radius = size / 30;
-            float brightness = 0.5f + (float)(Math.random() * 0.4f);
+            float brightness = 0.5f + (float)(random.nextDouble() * 0.4f);
             Color barrenColor = new Color(
                 baseColor.r * brightness,
                 baseColor.g * brightness,
@@ -447,17 +576,33 @@ public class TerrainTextureManager implements Disposable {
     }
     
     /**
-     * 指定された地形タイプのテクスチャを取得します。
+     * 指定された地形タイプとバリエーションの領域を取得します。
+     * @param type 地形タイプ
+     * @param variant バリエーション番号（{@link #variantOf}の戻り値）
+     */
+    public TextureRegion getRegion(TerrainTile.TerrainType type, int variant) {
+        return regions[type.ordinal()][variant];
+    }
+    
+    /**
+     * 生成中のチャンクに表示する領域を取得します。
+     */
+    public TextureRegion getPlaceholderRegion() {
+        return placeholderRegion;
+    }
+    
+    /**
+     * すべての地形テクスチャをまとめたアトラスを取得します。
      */
-    public Texture getTexture(TerrainTile.TerrainType type) {
-        return textures.get(type);
+    public Texture getAtlasTexture() {
+        return atlasTexture;
     }
     
     @Override
     public void dispose() {
-        for (Texture texture : textures.values()) {
-            texture.dispose();
+        if (atlasTexture != null) {
+            atlasTexture.dispose();
+            atlasTexture = null;
         }
-        textures.clear();
     }
 }
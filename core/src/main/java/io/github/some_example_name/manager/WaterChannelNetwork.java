@@ -0,0 +1,210 @@
+package io.github.some_example_name.manager;
+
+import io.github.some_example_name.entity.TerrainChunk;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * 水路（WATER_CHANNEL）のつながりを管理し、通水状態を求めるクラス。
+ *
+ * <p>8方向に隣接する水路タイルを1つの連結成分としてUnion-Findで管理し、
+ * 成分ごとに水（WATER）と接している数を集計します。接している数が1以上の成分の水路はすべて通水しています。
+ * 水路の追加と水の増減は成分の結合と集計の加減だけで済み、通水判定は根をたどるだけです。
+ * 水路が削除されたときは成分が分かれる可能性があるため、削除された水路を含んでいた成分だけを作り直します。</p>
+ *
+ * <p>地形の参照は行わないため、水との接触数は呼び出し側（{@link TerrainManager}）が求めて渡します。</p>
+ */
+public class WaterChannelNetwork {
+    // 8方向の近傍オフセット
+    private static final int[] NEIGHBOR_DX = {-1, -1, -1, 0, 0, 1, 1, 1};
+    private static final int[] NEIGHBOR_DY = {-1, 0, 1, -1, 1, -1, 0, 1};
+
+    // 水路タイル（キー: TerrainChunk.key(tileX, tileY)）
+    private final LongMap<Node> nodes;
+
+    // 成分の作り直しに使う探索キュー（再利用）
+    private final Array<Node> queue;
+
+    // 探索済みの印（作り直しのたびに増やすので、ノードの印を消す必要がない）
+    private int visitMark;
+
+    public WaterChannelNetwork() {
+        this.nodes = new LongMap<>();
+        this.queue = new Array<>(false, 64);
+        this.visitMark = 0;
+    }
+
+    /**
+     * 水路タイルを追加し、隣接する水路の成分と結合します。
+     * @param tileX タイルX座標
+     * @param tileY タイルY座標
+     * @param waterContacts 周囲8方向にある水（WATER）タイルの数
+     */
+    public void addChannel(int tileX, int tileY, int waterContacts) {
+        long key = TerrainChunk.key(tileX, tileY);
+        if (nodes.containsKey(key)) {
+            return;
+        }
+        Node node = new Node(tileX, tileY, waterContacts);
+        nodes.put(key, node);
+        for (int i = 0; i < NEIGHBOR_DX.length; i++) {
+            Node neighbor = nodes.get(TerrainChunk.key(tileX + NEIGHBOR_DX[i], tileY + NEIGHBOR_DY[i]));
+            if (neighbor != null) {
+                union(node, neighbor);
+            }
+        }
+    }
+
+    /**
+     * 水路タイルを削除します。削除された水路を含んでいた成分だけを作り直します。
+     * @param tileX タイルX座標
+     * @param tileY タイルY座標
+     */
+    public void removeChannel(int tileX, int tileY) {
+        Node removed = nodes.remove(TerrainChunk.key(tileX, tileY));
+        if (removed == null) {
+            return;
+        }
+
+        // 削除された水路に隣接していた水路から、残った部分を成分ごとにたどり直す
+        // （成分は連結なので、残った水路はすべていずれかの隣接水路から到達できる）
+        visitMark++;
+        for (int i = 0; i < NEIGHBOR_DX.length; i++) {
+            Node start = nodes.get(TerrainChunk.key(tileX + NEIGHBOR_DX[i], tileY + NEIGHBOR_DY[i]));
+            if (start != null && start.visitMark != visitMark) {
+                rebuildComponent(start);
+            }
+        }
+    }
+
+    /**
+     * 水路に接している水（WATER）の数を増減します（水路の周囲で水が作られた・なくなったときに呼び出す）。
+     * @param tileX 水路のタイルX座標
+     * @param tileY 水路のタイルY座標
+     * @param delta 増減数
+     */
+    public void addWaterContacts(int tileX, int tileY, int delta) {
+        Node node = nodes.get(TerrainChunk.key(tileX, tileY));
+        if (node == null) {
+            return;
+        }
+        node.waterContacts += delta;
+        find(node).componentWaterContacts += delta;
+    }
+
+    /**
+     * 指定されたタイルが水路かどうかを返します。
+     */
+    public boolean isChannel(int tileX, int tileY) {
+        return nodes.containsKey(TerrainChunk.key(tileX, tileY));
+    }
+
+    /**
+     * 指定された水路が通水しているかどうかを返します（水と接する成分に属しているかどうか）。
+     * @param tileX タイルX座標
+     * @param tileY タイルY座標
+     * @return 通水している場合true（水路でない場合はfalse）
+     */
+    public boolean isWatered(int tileX, int tileY) {
+        Node node = nodes.get(TerrainChunk.key(tileX, tileY));
+        return node != null && find(node).componentWaterContacts > 0;
+    }
+
+    /**
+     * 管理している水路タイルの数を返します。
+     */
+    public int size() {
+        return nodes.size;
+    }
+
+    /**
+     * すべての水路を削除します。
+     */
+    public void clear() {
+        nodes.clear();
+    }
+
+    /**
+     * 指定されたノードから到達できる水路を1つの成分として作り直します（startが根になる）。
+     */
+    private void rebuildComponent(Node start) {
+        start.parent = start;
+        start.rank = 1;
+        start.componentWaterContacts = 0;
+        start.visitMark = visitMark;
+        queue.add(start);
+        while (queue.size > 0) {
+            Node node = queue.pop();
+            node.parent = start;
+            start.componentWaterContacts += node.waterContacts;
+            for (int i = 0; i < NEIGHBOR_DX.length; i++) {
+                Node neighbor = nodes.get(TerrainChunk.key(node.tileX + NEIGHBOR_DX[i], node.tileY + NEIGHBOR_DY[i]));
+                if (neighbor != null && neighbor.visitMark != visitMark) {
+                    neighbor.visitMark = visitMark;
+                    neighbor.rank = 0;
+                    queue.add(neighbor);
+                }
+            }
+        }
+    }
+
+    /**
+     * ノードが属する成分の根を返します（経路を半分に縮める）。
+     */
+    private Node find(Node node) {
+        while (node.parent != node) {
+            node.parent = node.parent.parent;
+            node = node.parent;
+        }
+        return node;
+    }
+
+    /**
+     * 2つのノードの成分を結合し、水との接触数を合算します。
+     */
+    private void union(Node a, Node b) {
+        Node rootA = find(a);
+        Node rootB = find(b);
+        if (rootA == rootB) {
+            return;
+        }
+        if (rootA.rank < rootB.rank) {
+            Node swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+        rootB.parent = rootA;
+        rootA.componentWaterContacts += rootB.componentWaterContacts;
+        if (rootA.rank == rootB.rank) {
+            rootA.rank++;
+        }
+    }
+
+    /**
+     * 水路タイル1つ分のノード。
+     */
+    private static final class Node {
+        final int tileX;
+        final int tileY;
+
+        Node parent;
+        int rank;
+
+        // このタイルの周囲8方向にある水の数
+        int waterContacts;
+
+        // 成分全体の水との接触数（根のノードのみ有効）
+        int componentWaterContacts;
+
+        int visitMark;
+
+        Node(int tileX, int tileY, int waterContacts) {
+            this.tileX = tileX;
+            this.tileY = tileY;
+            this.parent = this;
+            this.waterContacts = waterContacts;
+            this.componentWaterContacts = waterContacts;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.some_example_name.render;
+
+import com.badlogic.gdx.graphics.Color;
+
+/**
+ * ワールドに置かれる物（農地・畜産タイル・建物・アイテム）とプレイヤー・グリッドの描画に使う色。
+ * 定数として持つため、描画中に色を作ることはありません。
+ */
+public class EntityPalette {
+    // 農地
+    public static final Color SOIL = new Color(0.6f, 0.4f, 0.2f, 1f);              // 茶色
+    public static final Color SEED = new Color(0.3f, 0.2f, 0.1f, 1f);              // 濃い茶色
+    public static final Color STEM = new Color(0.1f, 0.5f, 0.1f, 1f);              // 濃い緑
+    public static final Color SPROUT_LEAF = new Color(0.2f, 0.6f, 0.2f, 1f);       // 薄い緑
+    public static final Color PETAL = new Color(1f, 0.8f, 0.2f, 1f);               // 黄色
+    public static final Color FLOWER_CENTER = new Color(1f, 0.6f, 0.1f, 1f);       // オレンジ
+    public static final Color FLOWER_LEAF = new Color(0.1f, 0.6f, 0.1f, 1f);       // 緑
+    public static final Color FRUIT_LEAF = new Color(0.1f, 0.7f, 0.1f, 1f);        // 緑
+    public static final Color FRUIT = new Color(0.9f, 0.7f, 0.1f, 1f);             // 黄金色
+    public static final Color FRUIT_HIGHLIGHT = new Color(1f, 0.9f, 0.3f, 0.7f);   // 明るい黄色
+    public static final Color FRUIT_SPECK = new Color(0.8f, 0.6f, 0.05f, 0.5f);    // 少し暗い黄金色
+    public static final Color UNKNOWN_STAGE = new Color(0.5f, 0.5f, 0.5f, 1f);     // 灰色
+
+    // 畜産タイル
+    public static final Color PEN = new Color(0.7f, 0.6f, 0.5f, 1f);               // 薄い茶色
+    public static final Color PRODUCT = new Color(1f, 1f, 0.8f, 1f);               // 薄い黄色
+
+    // 神殿
+    public static final Color TEMPLE_BASE = new Color(0.5f, 0.45f, 0.4f, 1f);      // 石色（少し明るい）
+    public static final Color TEMPLE_BODY = new Color(0.45f, 0.4f, 0.35f, 1f);     // 石色（本体）
+    public static final Color TEMPLE_LINE = new Color(0.4f, 0.35f, 0.3f, 1f);      // 装飾線
+
+    // プレイヤー
+    public static final Color PLAYER_SHADOW = new Color(0f, 0f, 0f, 0.25f);         // 影
+    public static final Color PLAYER_BODY = new Color(0.3f, 0.6f, 0.9f, 1f);        // 明るい青
+    public static final Color PLAYER_BODY_HIGHLIGHT = new Color(0.4f, 0.7f, 1f, 0.6f);
+    public static final Color PLAYER_SKIN = new Color(1f, 0.9f, 0.8f, 1f);          // 明るい肌色
+    public static final Color PLAYER_HEAD_HIGHLIGHT = new Color(1f, 0.95f, 0.85f, 0.7f);
+    public static final Color PLAYER_MOUTH = new Color(0.8f, 0.3f, 0.3f, 1f);       // 赤
+    public static final Color PLAYER_STAR = new Color(1f, 0.8f, 0.2f, 0.8f);        // 黄色
+
+    // グリッド
+    public static final Color GRID_PLAYER_TILE = new Color(0.2f, 0.2f, 0.2f, 1f);   // プレイヤー升の細かい線
+    public static final Color GRID_MAP_TILE = Color.DARK_GRAY;                      // マップ升の太い線
+
+    /**
+     * 家畜の成長段階ごとの明るさの倍率（0: 幼体、1: 成長中、2: 成熟）を返します。
+     */
+    public static float animalBrightness(int growthStage) {
+        return 0.5f + growthStage * 0.25f;
+    }
+
+    /**
+     * 家畜の成長段階ごとの大きさ（タイルの大きさに対する割合）を返します。
+     */
+    public static float animalScale(int growthStage) {
+        switch (growthStage) {
+            case 0: // 幼体
+                return 0.3f;
+            case 1: // 成長中
+                return 0.5f;
+            case 2: // 成熟
+                return 0.6f;
+            default:
+                return 0.4f;
+        }
+    }
+}
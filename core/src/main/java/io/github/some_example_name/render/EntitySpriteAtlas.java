@@ -0,0 +1,464 @@
+package io.github.some_example_name.render;
+
+import io.github.some_example_name.entity.LivestockData;
+import io.github.some_example_name.entity.Player;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntMap;
+
+/**
+ * 農地・畜産タイル・建物・アイテムのスプライトと、図形の塗りつぶしに使う白い領域を1枚のアトラスにまとめて生成するクラス。
+ *
+ * <p>作物の成長段階ごと、家畜の種類と成長段階ごと、建物の種類ごとに描き終えたスプライトを用意しておき、
+ * 描画時は領域を並べるだけにします。円・半円・長方形は白で描いておき、色を掛けて拡大して使います。スプライトはタイルの{@link #SCALE}倍の解像度で描き、
+ * 各セルの周囲に縁のピクセルを複製した余白を持たせて、隣のセルの色がにじまないようにしています。</p>
+ */
+public class EntitySpriteAtlas implements Disposable {
+    // スプライトの解像度（タイルの1ピクセルあたりのテクスチャのピクセル数）
+    private static final int SCALE = 2;
+
+    // セルの周囲に複製する余白
+    private static final int PADDING = 1;
+
+    // 1行に並べるタイルの大きさのセルの数
+    private static final int COLUMNS = 8;
+
+    // 作物の成長段階の数（0: 種、1: 芽、2: 成長中、3: 収穫可能）
+    public static final int CROP_STAGE_COUNT = 4;
+
+    // 家畜の成長段階の数（0: 幼体、1: 成長中、2: 成熟）
+    public static final int ANIMAL_STAGE_COUNT = 3;
+
+    // 神殿の大きさ（タイルの大きさに対する倍率）
+    public static final float TEMPLE_SCALE = 1.5f;
+
+    private Texture atlasTexture;
+
+    private TextureRegion farmRegion;
+    private TextureRegion[] cropRegions;
+    private TextureRegion unknownCropRegion;
+    private TextureRegion penRegion;
+    private TextureRegion productRegion;
+    private TextureRegion templeRegion;
+    private TextureRegion itemRegion;
+    private TextureRegion itemCenterRegion;
+    private TextureRegion whiteRegion;
+    private TextureRegion circleRegion;
+    private TextureRegion halfCircleRegion;
+
+    // 家畜のID → 成長段階ごとの領域（囲いと動物を描いたもの）
+    private final IntMap<TextureRegion[]> animalRegions;
+
+    // 生成中のアトラスと、次に書き込むセルの番号
+    private Pixmap atlas;
+    private int nextCell;
+
+    /**
+     * @param livestockTypes スプライトを用意する家畜の種類（含まれない種類は色を付けた四角形で描画する）
+     */
+    public EntitySpriteAtlas(Array<LivestockData> livestockTypes) {
+        this.animalRegions = new IntMap<>();
+        generateSprites(livestockTypes);
+    }
+
+    /**
+     * すべてのスプライトを1枚のアトラスに生成します。
+     */
+    private void generateSprites(Array<LivestockData> livestockTypes) {
+        int tileSize = Player.TILE_SIZE * SCALE;
+        int cellSize = tileSize + PADDING * 2;
+        int templeSize = Math.round(Player.TILE_SIZE * TEMPLE_SCALE) * SCALE;
+        int cellCount = 13 + livestockTypes.size * ANIMAL_STAGE_COUNT;
+        int rows = (cellCount + COLUMNS - 1) / COLUMNS;
+
+        atlas = new Pixmap(MathUtils.nextPowerOfTwo(Math.max(cellSize * COLUMNS, templeSize + PADDING * 2)),
+                           MathUtils.nextPowerOfTwo(cellSize * rows + templeSize + PADDING * 2),
+                           Pixmap.Format.RGBA8888);
+        atlas.setBlending(Pixmap.Blending.None);
+        nextCell = 0;
+
+        // 先に領域の位置を決め、テクスチャを作ってから領域を作る
+        int farmCell = addTileSprite(createFarmPixmap(-1));
+        int[] cropCells = new int[CROP_STAGE_COUNT];
+        for (int stage = 0; stage < CROP_STAGE_COUNT; stage++) {
+            cropCells[stage] = addTileSprite(createFarmPixmap(stage));
+        }
+        int unknownCropCell = addTileSprite(createFarmPixmap(CROP_STAGE_COUNT));
+        int penCell = addTileSprite(createPenPixmap(null, 0));
+        int productCell = addTileSprite(createProductPixmap());
+        int itemCell = addTileSprite(createItemPixmap(false));
+        int itemCenterCell = addTileSprite(createItemPixmap(true));
+        int whiteCell = addTileSprite(createWhitePixmap());
+        int circleCell = addTileSprite(createCirclePixmap(false));
+        int halfCircleCell = addTileSprite(createCirclePixmap(true));
+        int[][] animalCells = new int[livestockTypes.size][ANIMAL_STAGE_COUNT];
+        for (int i = 0; i < livestockTypes.size; i++) {
+            for (int stage = 0; stage < ANIMAL_STAGE_COUNT; stage++) {
+                animalCells[i][stage] = addTileSprite(createPenPixmap(livestockTypes.get(i), stage));
+            }
+        }
+
+        // 神殿はタイルより大きいので、タイルのセルの下に置く
+        int templeX = PADDING;
+        int templeY = cellSize * rows + PADDING;
+        Pixmap templePixmap = createTemplePixmap(templeSize);
+        copyWithPadding(templePixmap, templeX - PADDING, templeY - PADDING);
+        templePixmap.dispose();
+
+        atlasTexture = new Texture(atlas);
+        atlasTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        atlas.dispose();
+        atlas = null;
+
+        farmRegion = tileRegion(farmCell);
+        cropRegions = new TextureRegion[CROP_STAGE_COUNT];
+        for (int stage = 0; stage < CROP_STAGE_COUNT; stage++) {
+            cropRegions[stage] = tileRegion(cropCells[stage]);
+        }
+        unknownCropRegion = tileRegion(unknownCropCell);
+        penRegion = tileRegion(penCell);
+        productRegion = tileRegion(productCell);
+        itemRegion = tileRegion(itemCell);
+        itemCenterRegion = tileRegion(itemCenterCell);
+        whiteRegion = tileRegion(whiteCell);
+        circleRegion = tileRegion(circleCell);
+        halfCircleRegion = tileRegion(halfCircleCell);
+        for (int i = 0; i < livestockTypes.size; i++) {
+            TextureRegion[] stages = new TextureRegion[ANIMAL_STAGE_COUNT];
+            for (int stage = 0; stage < ANIMAL_STAGE_COUNT; stage++) {
+                stages[stage] = tileRegion(animalCells[i][stage]);
+            }
+            animalRegions.put(livestockTypes.get(i).id, stages);
+        }
+        templeRegion = new TextureRegion(atlasTexture, templeX, templeY, templeSize, templeSize);
+    }
+
+    /**
+     * タイルの大きさのスプライトを次のセルに書き込み、Pixmapを破棄します。
+     * @return セルの番号
+     */
+    private int addTileSprite(Pixmap sprite) {
+        int cell = nextCell++;
+        int cellSize = Player.TILE_SIZE * SCALE + PADDING * 2;
+        copyWithPadding(sprite, (cell % COLUMNS) * cellSize, (cell / COLUMNS) * cellSize);
+        sprite.dispose();
+        return cell;
+    }
+
+    private TextureRegion tileRegion(int cell) {
+        int tileSize = Player.TILE_SIZE * SCALE;
+        int cellSize = tileSize + PADDING * 2;
+        return new TextureRegion(atlasTexture, (cell % COLUMNS) * cellSize + PADDING,
+                                 (cell / COLUMNS) * cellSize + PADDING, tileSize, tileSize);
+    }
+
+    /**
+     * スプライトをアトラスのセルに書き込み、縁のピクセルを余白に複製します。
+     * @param sprite スプライトのPixmap（正方形）
+     * @param cellX セルの左上のX座標
+     * @param cellY セルの左上のY座標
+     */
+    private void copyWithPadding(Pixmap sprite, int cellX, int cellY) {
+        int size = sprite.getWidth();
+        int x = cellX + PADDING;
+        int y = cellY + PADDING;
+        atlas.drawPixmap(sprite, x, y);
+        // 上下左右の縁
+        atlas.drawPixmap(sprite, x, y - 1, 0, 0, size, 1);
+        atlas.drawPixmap(sprite, x, y + size, 0, size - 1, size, 1);
+        atlas.drawPixmap(sprite, x - 1, y, 0, 0, 1, size);
+        atlas.drawPixmap(sprite, x + size, y, size - 1, 0, 1, size);
+        // 四隅
+        atlas.drawPixel(x - 1, y - 1, sprite.getPixel(0, 0));
+        atlas.drawPixel(x + size, y - 1, sprite.getPixel(size - 1, 0));
+        atlas.drawPixel(x - 1, y + size, sprite.getPixel(0, size - 1));
+        atlas.drawPixel(x + size, y + size, sprite.getPixel(size - 1, size - 1));
+    }
+
+    /**
+     * 農地のPixmapを生成します。
+     * @param stage 作物の成長段階（負の場合は何も植えられていない農地、範囲外の場合は灰色の点）
+     */
+    private Pixmap createFarmPixmap(int stage) {
+        float size = Player.TILE_SIZE;
+        Pixmap pixmap = createTilePixmap();
+        fillRect(pixmap, EntityPalette.SOIL, 0, 0, size, size);
+
+        float centerX = size / 2;
+        float centerY = size / 2;
+        switch (stage) {
+            case -1:
+                break;
+            case 0: // 種：小さな茶色の円
+                fillCircle(pixmap, EntityPalette.SEED, centerX, centerY, size * 0.06f);
+                break;
+            case 1: { // 芽：茎と2枚の葉
+                float stemHeight = size * 0.15f;
+                fillRect(pixmap, EntityPalette.STEM, centerX - size * 0.02f, centerY - stemHeight / 2,
+                         size * 0.04f, stemHeight);
+                fillCircle(pixmap, EntityPalette.SPROUT_LEAF, centerX - size * 0.1f, centerY + size * 0.08f, size * 0.06f);
+                fillCircle(pixmap, EntityPalette.SPROUT_LEAF, centerX + size * 0.1f, centerY + size * 0.08f, size * 0.06f);
+                break;
+            }
+            case 2: { // 成長中：茎と5枚の花びら、花びらの間の葉
+                float flowerSize = size * 0.4f;
+                float stemHeight = size * 0.3f;
+                fillRect(pixmap, EntityPalette.STEM, centerX - size * 0.03f, centerY - stemHeight / 2,
+                         size * 0.06f, stemHeight);
+                int petalCount = 5;
+                for (int i = 0; i < petalCount; i++) {
+                    float angle = i * MathUtils.PI2 / petalCount;
+                    fillCircle(pixmap, EntityPalette.PETAL, centerX + MathUtils.cos(angle) * flowerSize * 0.25f,
+                               centerY + MathUtils.sin(angle) * flowerSize * 0.25f, size * 0.05f);
+                }
+                fillCircle(pixmap, EntityPalette.FLOWER_CENTER, centerX, centerY, size * 0.08f);
+                for (int i = 0; i < petalCount; i++) {
+                    float angle = i * MathUtils.PI2 / petalCount + MathUtils.PI / petalCount;
+                    fillCircle(pixmap, EntityPalette.FLOWER_LEAF, centerX + MathUtils.cos(angle) * flowerSize * 0.2f,
+                               centerY + MathUtils.sin(angle) * flowerSize * 0.2f, size * 0.04f);
+                }
+                break;
+            }
+            case 3: { // 収穫可能：茎と葉、3個の実
+                float fruitSize = size * 0.18f;
+                float stemHeight = size * 0.35f;
+                fillRect(pixmap, EntityPalette.STEM, centerX - size * 0.03f, centerY - stemHeight / 2,
+                         size * 0.06f, stemHeight);
+                fillCircle(pixmap, EntityPalette.FRUIT_LEAF, centerX - size * 0.15f, centerY + size * 0.12f, size * 0.05f);
+                fillCircle(pixmap, EntityPalette.FRUIT_LEAF, centerX + size * 0.15f, centerY + size * 0.12f, size * 0.05f);
+                float[] fruitXs = {centerX - size * 0.12f, centerX, centerX + size * 0.12f};
+                float[] fruitYs = {centerY - size * 0.05f, centerY - size * 0.08f, centerY - size * 0.05f};
+                for (int i = 0; i < fruitXs.length; i++) {
+                    fillCircle(pixmap, EntityPalette.FRUIT, fruitXs[i], fruitYs[i], fruitSize / 2);
+                }
+                // 光の反射と表面の点（半透明なので重ねて描く）
+                pixmap.setBlending(Pixmap.Blending.SourceOver);
+                for (int i = 0; i < fruitXs.length; i++) {
+                    fillCircle(pixmap, EntityPalette.FRUIT_HIGHLIGHT, fruitXs[i] - fruitSize * 0.2f,
+                               fruitYs[i] + fruitSize * 0.2f, fruitSize * 0.25f);
+                    fillCircle(pixmap, EntityPalette.FRUIT_SPECK, fruitXs[i] + fruitSize * 0.15f,
+                               fruitYs[i] - fruitSize * 0.15f, fruitSize * 0.1f);
+                }
+                pixmap.setBlending(Pixmap.Blending.None);
+                break;
+            }
+            default:
+                fillCircle(pixmap, EntityPalette.UNKNOWN_STAGE, centerX, centerY, size * 0.1f);
+                break;
+        }
+        return pixmap;
+    }
+
+    /**
+     * 畜産タイルの囲いのPixmapを生成します。
+     * @param data 家畜の種類（nullの場合は囲いだけ）
+     * @param stage 家畜の成長段階
+     */
+    private Pixmap createPenPixmap(LivestockData data, int stage) {
+        float size = Player.TILE_SIZE;
+        Pixmap pixmap = createTilePixmap();
+        fillRect(pixmap, EntityPalette.PEN, 0, 0, size, size);
+        if (data != null) {
+            // 種類ごとの色を成長段階に応じて明るくし、成長段階に応じた大きさの四角形で描く
+            Color color = data.getColor();
+            float brightness = EntityPalette.animalBrightness(stage);
+            Color animalColor = new Color(Math.min(1f, color.r * brightness), Math.min(1f, color.g * brightness),
+                                          Math.min(1f, color.b * brightness), 1f);
+            float animalSize = size * EntityPalette.animalScale(stage);
+            float offset = (size - animalSize) / 2;
+            fillRect(pixmap, animalColor, offset, offset, animalSize, animalSize);
+        }
+        return pixmap;
+    }
+
+    /**
+     * 製品がある畜産タイルに重ねる印のPixmapを生成します（右上の小さな円）。
+     */
+    private Pixmap createProductPixmap() {
+        float size = Player.TILE_SIZE;
+        Pixmap pixmap = createTilePixmap();
+        fillCircle(pixmap, EntityPalette.PRODUCT, size * 0.8f, size * 0.8f, size * 0.15f);
+        return pixmap;
+    }
+
+    /**
+     * アイテムのPixmapを生成します（描画時にアイテムの色を掛ける白い円と、その上に重ねる中心の点）。
+     * @param center 中心の点を生成する場合true
+     */
+    private Pixmap createItemPixmap(boolean center) {
+        float size = Player.TILE_SIZE;
+        Pixmap pixmap = createTilePixmap();
+        fillCircle(pixmap, Color.WHITE, size / 2, size / 2, center ? 2f : size / 3);
+        return pixmap;
+    }
+
+    /**
+     * 塗りつぶしに使う白一色のPixmapを生成します。
+     */
+    private Pixmap createWhitePixmap() {
+        float size = Player.TILE_SIZE;
+        Pixmap pixmap = createTilePixmap();
+        fillRect(pixmap, Color.WHITE, 0, 0, size, size);
+        return pixmap;
+    }
+
+    /**
+     * セルいっぱいの白い円のPixmapを生成します。
+     * @param upperHalf 上半分だけ（下向きの弧）を生成する場合true
+     */
+    private Pixmap createCirclePixmap(boolean upperHalf) {
+        float size = Player.TILE_SIZE;
+        Pixmap pixmap = createTilePixmap();
+        // セルの縁で円が平らに切れないよう、1ピクセル内側に描く
+        fillCircle(pixmap, Color.WHITE, size / 2, size / 2, size / 2 - 1f / SCALE);
+        if (upperHalf) {
+            fillRect(pixmap, Color.CLEAR, 0, 0, size, size / 2);
+        }
+        return pixmap;
+    }
+
+    /**
+     * 神殿のPixmapを生成します（基壇・本体・装飾線）。
+     * @param pixelSize Pixmapの大きさ（ピクセル）
+     */
+    private Pixmap createTemplePixmap(int pixelSize) {
+        float size = Player.TILE_SIZE;
+        float templeSize = pixelSize / (float)SCALE;
+        Pixmap pixmap = new Pixmap(pixelSize, pixelSize, Pixmap.Format.RGBA8888);
+        pixmap.setBlending(Pixmap.Blending.None);
+        fillRect(pixmap, EntityPalette.TEMPLE_BASE, 0, 0, templeSize, templeSize * 0.1f);
+        fillRect(pixmap, EntityPalette.TEMPLE_BODY, 0, templeSize * 0.1f, templeSize, templeSize * 0.9f);
+        fillRect(pixmap, EntityPalette.TEMPLE_LINE, templeSize * 0.1f, templeSize * 0.5f, templeSize * 0.8f, size * 0.05f);
+        return pixmap;
+    }
+
+    private Pixmap createTilePixmap() {
+        int tileSize = Player.TILE_SIZE * SCALE;
+        Pixmap pixmap = new Pixmap(tileSize, tileSize, Pixmap.Format.RGBA8888);
+        pixmap.setBlending(Pixmap.Blending.None);
+        return pixmap;
+    }
+
+    /**
+     * 長方形を塗りつぶします（座標はタイル内のピクセルで、Yは上向き）。
+     */
+    private void fillRect(Pixmap pixmap, Color color, float x, float y, float width, float height) {
+        pixmap.setColor(color);
+        int left = Math.round(x * SCALE);
+        int top = pixmap.getHeight() - Math.round((y + height) * SCALE);
+        pixmap.fillRectangle(left, top, Math.max(1, Math.round(width * SCALE)), Math.max(1, Math.round(height * SCALE)));
+    }
+
+    /**
+     * 円を塗りつぶします（座標はタイル内のピクセルで、Yは上向き）。
+     */
+    private void fillCircle(Pixmap pixmap, Color color, float centerX, float centerY, float radius) {
+        pixmap.setColor(color);
+        pixmap.fillCircle(Math.round(centerX * SCALE), pixmap.getHeight() - Math.round(centerY * SCALE),
+                          Math.max(1, Math.round(radius * SCALE)));
+    }
+
+    /**
+     * 農地の領域を取得します。
+     * @param hasSeed 種が植えられているか
+     * @param growthStage 作物の成長段階
+     */
+    public TextureRegion getFarmRegion(boolean hasSeed, int growthStage) {
+        if (!hasSeed) {
+            return farmRegion;
+        }
+        if (growthStage >= 0 && growthStage < CROP_STAGE_COUNT) {
+            return cropRegions[growthStage];
+        }
+        return unknownCropRegion;
+    }
+
+    /**
+     * 家畜の種類と成長段階の領域（囲いと動物）を取得します。
+     * @return 領域（スプライトを用意していない種類や成長段階の場合はnull）
+     */
+    public TextureRegion getAnimalRegion(LivestockData data, int growthStage) {
+        TextureRegion[] stages = animalRegions.get(data.id);
+        if (stages == null || growthStage < 0 || growthStage >= ANIMAL_STAGE_COUNT) {
+            return null;
+        }
+        return stages[growthStage];
+    }
+
+    /**
+     * 動物のいない畜産タイルの囲いの領域を取得します。
+     */
+    public TextureRegion getPenRegion() {
+        return penRegion;
+    }
+
+    /**
+     * 製品がある畜産タイルに重ねる印の領域を取得します。
+     */
+    public TextureRegion getProductRegion() {
+        return productRegion;
+    }
+
+    /**
+     * 神殿の領域を取得します（タイルの{@link #TEMPLE_SCALE}倍の大きさ）。
+     */
+    public TextureRegion getTempleRegion() {
+        return templeRegion;
+    }
+
+    /**
+     * アイテムの円の領域を取得します（白いので、アイテムの色を掛けて描画する）。
+     */
+    public TextureRegion getItemRegion() {
+        return itemRegion;
+    }
+
+    /**
+     * アイテムの中心の点の領域を取得します。
+     */
+    public TextureRegion getItemCenterRegion() {
+        return itemCenterRegion;
+    }
+
+    /**
+     * 白一色の領域を取得します（色を掛けて長方形を塗りつぶすのに使う）。
+     */
+    public TextureRegion getWhiteRegion() {
+        return whiteRegion;
+    }
+
+    /**
+     * セルいっぱいの白い円の領域を取得します（色を掛けて、円や楕円を塗りつぶすのに使う）。
+     */
+    public TextureRegion getCircleRegion() {
+        return circleRegion;
+    }
+
+    /**
+     * セルいっぱいの白い円の上半分の領域を取得します（下半分は透明）。
+     */
+    public TextureRegion getHalfCircleRegion() {
+        return halfCircleRegion;
+    }
+
+    /**
+     * すべてのスプライトをまとめたアトラスを取得します。
+     */
+    public Texture getAtlasTexture() {
+        return atlasTexture;
+    }
+
+    @Override
+    public void dispose() {
+        if (atlasTexture != null) {
+            atlasTexture.dispose();
+            atlasTexture = null;
+        }
+    }
+}
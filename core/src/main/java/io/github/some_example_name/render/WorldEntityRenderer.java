@@ -0,0 +1,300 @@
+package io.github.some_example_name.render;
+
+import io.github.some_example_name.entity.FarmTile;
+import io.github.some_example_name.entity.Item;
+import io.github.some_example_name.entity.LivestockData;
+import io.github.some_example_name.entity.LivestockTile;
+import io.github.some_example_name.entity.Player;
+import io.github.some_example_name.manager.BuildingManager;
+import io.github.some_example_name.system.WorldSnapshot;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * 農地・畜産タイル・建物・アイテム・プレイヤー・グリッドを{@link EntitySpriteAtlas}のスプライトで描画するクラス。
+ *
+ * <p>視野範囲に入っているものだけを、描き終えたスプライトを並べて描画します。
+ * プレイヤーとグリッドは、アトラスの白い円・半円・長方形に色を掛けて描きます（ShapeRendererは使いません）。
+ * すべて同じアトラスから描くため、地形のあとのワールドの描画は1回のbegin/endで済み、テクスチャの切り替えは発生しません。
+ * 描画中に色やオブジェクトを作ることはありません。
+ * モデル側（{@link FarmTile}や{@link Player}など）は描画に関わる処理を持たず、状態を提供するだけです。</p>
+ */
+public class WorldEntityRenderer implements Disposable {
+    // 描画するものを選ぶときに視野範囲の外側に足す余白（タイル数、タイルからはみ出す建物とカメラのずれの分）
+    public static final int CULL_MARGIN_TILES = 2;
+
+    private final EntitySpriteAtlas atlas;
+
+    // 描画する範囲（ピクセル、フレームごとに設定する）
+    private final Rectangle view;
+
+    /**
+     * @param livestockTypes スプライトを用意する家畜の種類
+     */
+    public WorldEntityRenderer(Array<LivestockData> livestockTypes) {
+        this.atlas = new EntitySpriteAtlas(livestockTypes);
+        this.view = new Rectangle();
+    }
+
+    /**
+     * 描画する範囲を設定します（毎フレーム、描画の前に呼び出す）。
+     * @param view 視野範囲（ピクセル）
+     */
+    public void setView(Rectangle view) {
+        this.view.set(view);
+    }
+
+    /**
+     * スナップショットの農地・畜産タイル・建物・アイテムを描画します（batchは開始した状態で渡す）。
+     */
+    public void render(SpriteBatch batch, WorldSnapshot snapshot) {
+        WorldSnapshot.EntityList<FarmTile> farmTiles = snapshot.getFarmTiles();
+        for (int i = 0; i < farmTiles.size(); i++) {
+            drawFarmTile(batch, farmTiles.get(i));
+        }
+        WorldSnapshot.EntityList<LivestockTile> livestockTiles = snapshot.getLivestockTiles();
+        for (int i = 0; i < livestockTiles.size(); i++) {
+            drawLivestockTile(batch, livestockTiles.get(i));
+        }
+        WorldSnapshot.EntityList<BuildingManager.BuildingTile> buildings = snapshot.getBuildings();
+        for (int i = 0; i < buildings.size(); i++) {
+            drawBuilding(batch, buildings.get(i));
+        }
+        WorldSnapshot.EntityList<Item> items = snapshot.getItems();
+        for (int i = 0; i < items.size(); i++) {
+            drawItem(batch, items.get(i));
+        }
+        batch.setColor(Color.WHITE);
+    }
+
+    /**
+     * プレイヤーを描画します（batchは開始した状態で渡す）。
+     * ティックの間を補間したピクセル位置を基準に、プレイヤー升の中心に4マップ升の大きさで描きます。
+     */
+    public void renderPlayer(SpriteBatch batch, Player player) {
+        float playerCenterX = player.getRenderPixelX() + Player.PLAYER_TILE_SIZE / 2;
+        float playerCenterY = player.getRenderPixelY() + Player.PLAYER_TILE_SIZE / 2;
+        float playerSize = Player.TILE_SIZE * 4.0f;
+        if (!isVisible(playerCenterX - playerSize / 2, playerCenterY - playerSize / 2 - 5, playerSize, playerSize + 10)) {
+            return;
+        }
+        
+        // 移動アニメーション用のオフセット（上下に少し揺れる）
+        boolean moving = player.isMoving();
+        float moveProgress = player.getMoveProgress();
+        float bounceOffset = 0f;
+        if (moving) {
+            bounceOffset = MathUtils.sin(moveProgress * MathUtils.PI2) * 3f;
+        }
+        float drawY = playerCenterY - playerSize / 2 + bounceOffset;
+        
+        // 影（楕円）
+        batch.setColor(EntityPalette.PLAYER_SHADOW);
+        batch.draw(atlas.getCircleRegion(), playerCenterX - playerSize * 0.4f, playerCenterY - playerSize / 2 - 5,
+                   playerSize * 0.8f, playerSize * 0.2f);
+        
+        // 体とハイライト
+        float bodyRadius = playerSize * 0.35f;
+        drawCircle(batch, EntityPalette.PLAYER_BODY, playerCenterX, drawY + playerSize * 0.6f, bodyRadius);
+        drawCircle(batch, EntityPalette.PLAYER_BODY_HIGHLIGHT, playerCenterX - bodyRadius * 0.3f,
+                   drawY + playerSize * 0.55f, bodyRadius * 0.4f);
+        
+        // 頭とハイライト
+        float headRadius = playerSize * 0.25f;
+        drawCircle(batch, EntityPalette.PLAYER_SKIN, playerCenterX, drawY + playerSize * 0.75f, headRadius);
+        drawCircle(batch, EntityPalette.PLAYER_HEAD_HIGHLIGHT, playerCenterX - headRadius * 0.3f,
+                   drawY + playerSize * 0.7f, headRadius * 0.4f);
+        
+        // 目（移動方向に応じて位置をずらす）
+        float eyeSize = headRadius * 0.25f;
+        float eyeSpacing = headRadius * 0.4f;
+        float eyeY = drawY + playerSize * 0.75f;
+        float eyeX1 = playerCenterX - eyeSpacing;
+        float eyeX2 = playerCenterX + eyeSpacing;
+        if (player.getLastMoveX() > 0) { // 右向き
+            eyeX1 += eyeSize * 0.5f;
+            eyeX2 += eyeSize * 0.5f;
+        } else if (player.getLastMoveX() < 0) { // 左向き
+            eyeX1 -= eyeSize * 0.5f;
+            eyeX2 -= eyeSize * 0.5f;
+        }
+        if (player.getLastMoveY() > 0) { // 上向き
+            eyeY += eyeSize * 0.3f;
+        } else if (player.getLastMoveY() < 0) { // 下向き
+            eyeY -= eyeSize * 0.3f;
+        }
+        drawCircle(batch, Color.WHITE, eyeX1, eyeY, eyeSize * 1.2f);
+        drawCircle(batch, Color.WHITE, eyeX2, eyeY, eyeSize * 1.2f);
+        drawCircle(batch, Color.BLACK, eyeX1, eyeY, eyeSize);
+        drawCircle(batch, Color.BLACK, eyeX2, eyeY, eyeSize);
+        drawCircle(batch, Color.WHITE, eyeX1 - eyeSize * 0.2f, eyeY + eyeSize * 0.2f, eyeSize * 0.3f);
+        drawCircle(batch, Color.WHITE, eyeX2 - eyeSize * 0.2f, eyeY + eyeSize * 0.2f, eyeSize * 0.3f);
+        
+        // 口（上半分の円）
+        float mouthRadius = headRadius * 0.3f;
+        float mouthY = drawY + playerSize * 0.65f;
+        batch.setColor(EntityPalette.PLAYER_MOUTH);
+        batch.draw(atlas.getHalfCircleRegion(), playerCenterX - mouthRadius, mouthY - mouthRadius,
+                   mouthRadius * 2, mouthRadius * 2);
+        
+        // 手足（移動中は動かす）
+        float limbRadius = playerSize * 0.08f;
+        float limbOffset = 0f;
+        if (moving) {
+            limbOffset = MathUtils.sin(moveProgress * MathUtils.PI2 * 2) * playerSize * 0.1f;
+        }
+        drawCircle(batch, EntityPalette.PLAYER_SKIN, playerCenterX - bodyRadius * 0.7f,
+                   drawY + playerSize * 0.5f + limbOffset, limbRadius);
+        drawCircle(batch, EntityPalette.PLAYER_SKIN, playerCenterX + bodyRadius * 0.7f,
+                   drawY + playerSize * 0.5f - limbOffset, limbRadius);
+        drawCircle(batch, EntityPalette.PLAYER_SKIN, playerCenterX - bodyRadius * 0.4f,
+                   drawY + playerSize * 0.15f + limbOffset * 0.5f, limbRadius);
+        drawCircle(batch, EntityPalette.PLAYER_SKIN, playerCenterX + bodyRadius * 0.4f,
+                   drawY + playerSize * 0.15f - limbOffset * 0.5f, limbRadius);
+        
+        // 移動中は頭の横に小さな星（5つの点）
+        if (moving) {
+            float starSize = playerSize * 0.05f;
+            float starX = playerCenterX + headRadius * 0.6f;
+            float starY = drawY + playerSize * 0.85f;
+            for (int i = 0; i < 5; i++) {
+                float angle = i * MathUtils.PI2 / 5;
+                drawCircle(batch, EntityPalette.PLAYER_STAR, starX + MathUtils.cos(angle) * starSize,
+                           starY + MathUtils.sin(angle) * starSize, starSize * 0.3f);
+            }
+        }
+        batch.setColor(Color.WHITE);
+    }
+
+    /**
+     * 描画する範囲に、プレイヤー升の細かいグリッドとマップ升の太いグリッドを描画します（batchは開始した状態で渡す）。
+     * 線はアトラスの白い長方形を画面の1ピクセルの太さに伸ばして描きます。
+     */
+    public void renderGrid(SpriteBatch batch, OrthographicCamera camera) {
+        float lineWidth = camera.zoom;
+        float margin = Player.MAP_TILE_SIZE * 2;
+        float left = view.x - margin;
+        float right = view.x + view.width + margin;
+        float bottom = view.y - margin;
+        float top = view.y + view.height + margin;
+        
+        batch.setColor(EntityPalette.GRID_PLAYER_TILE);
+        drawGridLines(batch, Player.PLAYER_TILE_SIZE, left, right, bottom, top, lineWidth);
+        batch.setColor(EntityPalette.GRID_MAP_TILE);
+        drawGridLines(batch, Player.MAP_TILE_SIZE, left, right, bottom, top, lineWidth);
+        batch.setColor(Color.WHITE);
+    }
+
+    private void drawGridLines(SpriteBatch batch, int spacing, float left, float right, float bottom, float top,
+                               float lineWidth) {
+        int startX = MathUtils.floor(left / spacing);
+        int endX = MathUtils.ceil(right / spacing);
+        int startY = MathUtils.floor(bottom / spacing);
+        int endY = MathUtils.ceil(top / spacing);
+        TextureRegion white = atlas.getWhiteRegion();
+        for (int x = startX; x <= endX; x++) {
+            batch.draw(white, x * spacing - lineWidth / 2, startY * spacing, lineWidth, (endY - startY) * spacing);
+        }
+        for (int y = startY; y <= endY; y++) {
+            batch.draw(white, startX * spacing, y * spacing - lineWidth / 2, (endX - startX) * spacing, lineWidth);
+        }
+    }
+
+    private void drawFarmTile(SpriteBatch batch, FarmTile farmTile) {
+        if (!isTileVisible(farmTile.getTileX(), farmTile.getTileY())) {
+            return;
+        }
+        drawTile(batch, atlas.getFarmRegion(farmTile.hasSeed(), farmTile.getGrowthStage()),
+                 farmTile.getTileX(), farmTile.getTileY());
+    }
+
+    private void drawLivestockTile(SpriteBatch batch, LivestockTile livestockTile) {
+        int tileX = livestockTile.getTileX();
+        int tileY = livestockTile.getTileY();
+        if (!isTileVisible(tileX, tileY)) {
+            return;
+        }
+        LivestockData data = livestockTile.getLivestockData();
+        if (!livestockTile.hasAnimal() || data == null) {
+            drawTile(batch, atlas.getPenRegion(), tileX, tileY);
+            return;
+        }
+
+        int stage = livestockTile.getGrowthStage();
+        TextureRegion region = atlas.getAnimalRegion(data, stage);
+        if (region != null) {
+            drawTile(batch, region, tileX, tileY);
+        } else {
+            // スプライトを用意していない種類は、囲いに種類の色の四角形を重ねる
+            drawTile(batch, atlas.getPenRegion(), tileX, tileY);
+            Color color = data.getColor();
+            float brightness = EntityPalette.animalBrightness(stage);
+            batch.setColor(Math.min(1f, color.r * brightness), Math.min(1f, color.g * brightness),
+                           Math.min(1f, color.b * brightness), 1f);
+            float animalSize = Player.TILE_SIZE * EntityPalette.animalScale(stage);
+            float offset = (Player.TILE_SIZE - animalSize) / 2;
+            batch.draw(atlas.getWhiteRegion(), tileX * Player.TILE_SIZE + offset, tileY * Player.TILE_SIZE + offset,
+                       animalSize, animalSize);
+            batch.setColor(Color.WHITE);
+        }
+
+        if (livestockTile.hasProduct() && data.hasProduct()) {
+            drawTile(batch, atlas.getProductRegion(), tileX, tileY);
+        }
+    }
+
+    private void drawBuilding(SpriteBatch batch, BuildingManager.BuildingTile building) {
+        switch (building.getBuildingType()) {
+            case TEMPLE: {
+                // 神殿はタイルより大きく、タイルの中心に合わせて描く
+                float size = Player.TILE_SIZE * EntitySpriteAtlas.TEMPLE_SCALE;
+                float x = building.getTileX() * Player.TILE_SIZE - (size - Player.TILE_SIZE) / 2;
+                float y = building.getTileY() * Player.TILE_SIZE - (size - Player.TILE_SIZE) / 2;
+                if (isVisible(x, y, size, size)) {
+                    batch.draw(atlas.getTempleRegion(), x, y, size, size);
+                }
+                break;
+            }
+        }
+    }
+
+    private void drawItem(SpriteBatch batch, Item item) {
+        if (item.isCollected() || !isTileVisible(item.getTileX(), item.getTileY())) {
+            return;
+        }
+        batch.setColor(item.getColor());
+        drawTile(batch, atlas.getItemRegion(), item.getTileX(), item.getTileY());
+        batch.setColor(Color.WHITE);
+        drawTile(batch, atlas.getItemCenterRegion(), item.getTileX(), item.getTileY());
+    }
+
+    private void drawCircle(SpriteBatch batch, Color color, float centerX, float centerY, float radius) {
+        batch.setColor(color);
+        batch.draw(atlas.getCircleRegion(), centerX - radius, centerY - radius, radius * 2, radius * 2);
+    }
+
+    private void drawTile(SpriteBatch batch, TextureRegion region, int tileX, int tileY) {
+        batch.draw(region, tileX * Player.TILE_SIZE, tileY * Player.TILE_SIZE, Player.TILE_SIZE, Player.TILE_SIZE);
+    }
+
+    private boolean isTileVisible(int tileX, int tileY) {
+        return isVisible(tileX * Player.TILE_SIZE, tileY * Player.TILE_SIZE, Player.TILE_SIZE, Player.TILE_SIZE);
+    }
+
+    private boolean isVisible(float x, float y, float width, float height) {
+        return x + width > view.x && x < view.x + view.width
+            && y + height > view.y && y < view.y + view.height;
+    }
+
+    @Override
+    public void dispose() {
+        atlas.dispose();
+    }
+}
@@ -15,6 +15,7 @@ public class EndingScreen {
     private boolean isActive;
     private float timer;
     private static final float ENDING_DURATION = 12.0f; // 12秒間表示
+    private static final float FADE_IN_DURATION = 1.0f; // 背景が暗くなるまでの秒数
     
     // エンディングテキスト
     private static final String ENDING_TEXT = "文明は、ここに根を下ろした。";
@@ -52,7 +53,9 @@ public class EndingScreen {
     }
     
     /**
-     * エンディング画面を描画します。
+     * エンディング画面を描画します（描画スレッドから呼び出す）。
+     * 状態はシミュレーションスレッドが持つため、{@link WorldSnapshot}にコピーされた進行度から描画します。
+     * @param progress エンディングの進行度（0～1）
      * @param shapeRenderer ShapeRendererインスタンス
      * @param batch SpriteBatchインスタンス
      * @param font フォント
@@ -60,11 +63,10 @@ public class EndingScreen {
      * @param screenWidth 画面幅
      * @param screenHeight 画面高さ
      */
-    public void render(ShapeRenderer shapeRenderer, SpriteBatch batch, BitmapFont font,
-                      OrthographicCamera uiCamera, int screenWidth, int screenHeight) {
-        if (!isActive) {
-            return;
-        }
+    public static void render(float progress, ShapeRenderer shapeRenderer, SpriteBatch batch, BitmapFont font,
+                              OrthographicCamera uiCamera, int screenWidth, int screenHeight) {
+        // 始まってすぐは背景を徐々に暗くする
+        float fade = Math.min(1f, progress * ENDING_DURATION / FADE_IN_DURATION);
         
         // UIカメラのプロジェクション行列を設定
         shapeRenderer.setProjectionMatrix(uiCamera.combined);
@@ -72,7 +74,7 @@ public class EndingScreen {
         
         // 半透明の黒背景を描画
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(0f, 0f, 0f, 0.7f); // 70%の透明度
+        shapeRenderer.setColor(0f, 0f, 0f, 0.7f * fade); // 70%の透明度
         shapeRenderer.rect(0, 0, screenWidth, screenHeight);
         shapeRenderer.end();
         
@@ -105,6 +107,14 @@ public class EndingScreen {
         return isActive;
     }
     
+    /**
+     * エンディングの進行度を返します。
+     * @return 0（開始直後）～1（終了）
+     */
+    public float getProgress() {
+        return Math.min(1f, timer / ENDING_DURATION);
+    }
+    
     /**
      * エンディングを終了します。
      */
@@ -1,8 +1,10 @@
 package io.github.some_example_name.system;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 
+import io.github.some_example_name.ecs.WorldEntities;
 import io.github.some_example_name.entity.Player;
 import io.github.some_example_name.game.CivilizationLevel;
 import io.github.some_example_name.game.PreservedFoodManager;
@@ -11,6 +13,7 @@ import io.github.some_example_name.manager.FarmManager;
 import io.github.some_example_name.manager.ItemManager;
 import io.github.some_example_name.manager.LivestockManager;
 import io.github.some_example_name.manager.TerrainManager;
+import io.github.some_example_name.render.WorldEntityRenderer;
 
 /**
  * ゲームのロジック更新処理を担当するクラス。
@@ -18,9 +21,9 @@ import io.github.some_example_name.manager.TerrainManager;
  * <p>このクラスは以下の処理を統合管理します：</p>
  * <ul>
  *   <li>プレイヤーの更新</li>
- *   <li>マネージャーの更新（地形、アイテム、農地、畜産）</li>
+ *   <li>地形の更新と、ワールドのエンティティのシステムの実行（アイテムの取得、農地、畜産）</li>
  *   <li>文明レベルの進行チェック</li>
- *   <li>カメラの更新</li>
+ *   <li>描画用のスナップショットの書き込み</li>
  * </ul>
  * 
  * @author game_like_factorio
@@ -34,9 +37,20 @@ public class GameController {
     private LivestockManager livestockManager;
     private BuildingManager buildingManager;
     private PreservedFoodManager preservedFoodManager;
-    private OrthographicCamera camera;
     private EndingScreen endingScreen;
     
+    // 農地・畜産タイル・建物・アイテムのエンティティとシステム
+    private WorldEntities worldEntities;
+    
+    // シミュレーションを固定の時間刻みで進める時計
+    private final SimulationClock simulationClock;
+    
+    // 押されている方向への移動を毎ティック適用する入力ハンドラー
+    private InputHandler inputHandler;
+    
+    // シミュレーションが使う視野範囲（描画スレッドのカメラとは別に持つ）
+    private final Rectangle viewBounds;
+    
     // 文明レベルアップメッセージ関連
     private String civilizationLevelUpMessage;
     private float civilizationLevelUpMessageTimer;
@@ -49,6 +63,8 @@ public class GameController {
         this.civilizationLevelUpMessage = null;
         this.civilizationLevelUpMessageTimer = 0f;
         this.endingScreen = new EndingScreen();
+        this.simulationClock = new SimulationClock();
+        this.viewBounds = new Rectangle();
     }
     
     /**
@@ -57,8 +73,7 @@ public class GameController {
     public void setGameObjects(Player player, TerrainManager terrainManager,
                               ItemManager itemManager, FarmManager farmManager,
                               LivestockManager livestockManager, BuildingManager buildingManager,
-                              PreservedFoodManager preservedFoodManager,
-                              OrthographicCamera camera) {
+                              PreservedFoodManager preservedFoodManager) {
         this.player = player;
         this.terrainManager = terrainManager;
         this.itemManager = itemManager;
@@ -66,82 +81,143 @@ public class GameController {
         this.livestockManager = livestockManager;
         this.buildingManager = buildingManager;
         this.preservedFoodManager = preservedFoodManager;
-        this.camera = camera;
     }
     
     /**
-     * ゲームの更新処理を行います。
+     * ワールドのエンティティを設定し、プレイヤーのエンティティを加えます（{@link #setGameObjects}の後に呼び出す）。
+     */
+    public void setWorldEntities(WorldEntities worldEntities) {
+        this.worldEntities = worldEntities;
+        if (player != null) {
+            worldEntities.addPlayer(player);
+        }
+    }
+    
+    /**
+     * 入力ハンドラーを設定します（押されている方向への移動をティックごとに適用するため）。
+     */
+    public void setInputHandler(InputHandler inputHandler) {
+        this.inputHandler = inputHandler;
+    }
+    
+    /**
+     * シミュレーションが使う視野範囲を設定します（地形の生成要求と描画用のスナップショットに使用）。
+     * @param x 左端（ピクセル）
+     * @param y 下端（ピクセル）
+     * @param width 幅（ピクセル）
+     * @param height 高さ（ピクセル）
+     */
+    public void setViewBounds(float x, float y, float width, float height) {
+        viewBounds.set(x, y, width, height);
+    }
+    
+    /**
+     * 経過時間に応じてシミュレーションを進めます。
      * 
-     * @param deltaTime 前フレームからの経過時間（秒）
+     * <p>シミュレーションは{@link SimulationClock}の固定の時間刻み（ティック）で進め、
+     * 経過時間に応じて0回以上のティックを実行します。</p>
+     * 
+     * @param deltaTime 前回からの経過時間（秒）
+     * @return 実行したティック数
      */
-    public void update(float deltaTime) {
-        try {
-            // プレイヤーを更新
-            if (player != null) {
-                player.update(deltaTime);
-            }
-            
-            // 地形マネージャーを更新（カメラの視野範囲を渡す）
-            if (terrainManager != null && camera != null) {
-                // プレイヤーのマップ升座標を取得
-                int playerTileX = player.getTileX();
-                int playerTileY = player.getTileY();
-                terrainManager.update(camera, playerTileX, playerTileY, deltaTime);
-            }
-            
-            // アイテムマネージャーを更新（カメラの視野範囲を渡す）
-            if (itemManager != null && player != null && camera != null) {
-                itemManager.update(deltaTime, player, camera);
-            }
-            
-            // 農地マネージャーを更新
-            if (farmManager != null) {
-                farmManager.update(deltaTime);
-            }
-            
-            // 畜産マネージャーを更新
-            if (livestockManager != null) {
-                livestockManager.update(deltaTime);
-            }
-            
-            // エンディング画面を更新
-            if (endingScreen != null) {
-                endingScreen.update(deltaTime);
-            }
-            
-            // エンディング中は他の更新をスキップ
-            if (endingScreen != null && endingScreen.isActive()) {
-                return;
-            }
-            
-            // 文明レベル進行チェック
-            checkCivilizationLevelProgress();
-            
-            // 文明レベルアップメッセージのタイマーを更新
-            if (civilizationLevelUpMessage != null) {
-                civilizationLevelUpMessageTimer += deltaTime;
-                if (civilizationLevelUpMessageTimer >= CIVILIZATION_MESSAGE_DURATION) {
-                    civilizationLevelUpMessage = null;
-                    civilizationLevelUpMessageTimer = 0f;
-                }
+    public int advance(float deltaTime) {
+        int ticks = simulationClock.advance(deltaTime);
+        for (int i = 0; i < ticks; i++) {
+            tick(SimulationClock.TICK_SECONDS);
+        }
+        return ticks;
+    }
+    
+    /**
+     * シミュレーションを1ティック進めます。
+     * 
+     * @param deltaTime ティックの長さ（秒）
+     */
+    private void tick(float deltaTime) {
+        // 押されている方向への移動を開始
+        if (inputHandler != null) {
+            inputHandler.applyHeldMovement();
+        }
+        
+        // プレイヤーを更新
+        if (player != null) {
+            player.update(deltaTime);
+        }
+        
+        // 地形マネージャーを更新（視野範囲を渡す）
+        if (terrainManager != null && player != null) {
+            // プレイヤーのマップ升座標を取得
+            int playerTileX = player.getTileX();
+            int playerTileY = player.getTileY();
+            terrainManager.update(viewBounds, playerTileX, playerTileY, deltaTime);
+        }
+        
+        // アイテムの取得、作物の成長、家畜の生産をシステムで進める
+        // 作物の成長と家畜の生産はワールドの時間の倍率で進める（ティックの数は増やさない）
+        // アイテムの取得は経過時間を使わないため、倍率を掛けても変わらない
+        if (worldEntities != null) {
+            worldEntities.update(deltaTime * simulationClock.getTimeScale());
+        }
+        
+        // エンディング画面を更新
+        if (endingScreen != null) {
+            endingScreen.update(deltaTime);
+        }
+        
+        // エンディング中は他の更新をスキップ
+        if (endingScreen != null && endingScreen.isActive()) {
+            return;
+        }
+        
+        // 文明レベル進行チェック
+        checkCivilizationLevelProgress();
+        
+        // 文明レベルアップメッセージのタイマーを更新
+        if (civilizationLevelUpMessage != null) {
+            civilizationLevelUpMessageTimer += deltaTime;
+            if (civilizationLevelUpMessageTimer >= CIVILIZATION_MESSAGE_DURATION) {
+                civilizationLevelUpMessage = null;
+                civilizationLevelUpMessageTimer = 0f;
             }
-            
-            // カメラをプレイヤーの位置に追従させる
-            updateCamera();
-        } catch (Exception e) {
-            Gdx.app.error("GameController", "Error in game update: " + e.getMessage(), e);
         }
     }
     
     /**
-     * カメラをプレイヤーの位置に追従させます。
+     * 描画に必要なワールドの状態をスナップショットに書き込みます（シミュレーションスレッドから呼び出す）。
+     * 
+     * @param snapshot 書き込み先
      */
-    private void updateCamera() {
-        if (player != null && camera != null) {
-            float playerCenterX = player.getPixelX() + Player.PLAYER_TILE_SIZE / 2;
-            float playerCenterY = player.getPixelY() + Player.PLAYER_TILE_SIZE / 2;
-            camera.position.set(playerCenterX, playerCenterY, 0);
+    public void writeSnapshot(WorldSnapshot snapshot) {
+        snapshot.begin(simulationClock.getTickCount());
+        if (player != null) {
+            snapshot.getPlayer().copyRenderStateFrom(player);
+        }
+        // 書き込むのは視野範囲（と描画スレッドのカメラのずれを見込んだ余白）に重なるチャンクのエンティティだけ
+        int margin = WorldEntityRenderer.CULL_MARGIN_TILES;
+        int minTileX = MathUtils.floor(viewBounds.x / Player.TILE_SIZE) - margin;
+        int minTileY = MathUtils.floor(viewBounds.y / Player.TILE_SIZE) - margin;
+        int maxTileX = MathUtils.floor((viewBounds.x + viewBounds.width) / Player.TILE_SIZE) + margin;
+        int maxTileY = MathUtils.floor((viewBounds.y + viewBounds.height) / Player.TILE_SIZE) + margin;
+        if (worldEntities != null) {
+            worldEntities.writeSnapshot(snapshot, minTileX, minTileY, maxTileX, maxTileY);
         }
+        if (livestockManager != null) {
+            snapshot.setTotalLivestockProductsProduced(livestockManager.getTotalLivestockProductsProduced());
+        }
+        snapshot.setSimulationSpeed(simulationClock.getTimeScale(), simulationClock.getAchievedSpeed());
+        if (itemManager != null) {
+            CivilizationLevel civilizationLevel = itemManager.getCivilizationLevel();
+            snapshot.setCivilizationLevel(civilizationLevel.getLevel(), civilizationLevel.getLevelName());
+        }
+        if (terrainManager != null) {
+            terrainManager.collectChunks(viewBounds, snapshot.getTerrainWindow());
+            snapshot.setTerrainAnimationTime(terrainManager.getAnimationTime());
+        }
+        snapshot.setCivilizationLevelUpMessage(civilizationLevelUpMessage);
+        if (endingScreen != null) {
+            snapshot.setEnding(endingScreen.isActive(), endingScreen.getProgress());
+        }
+        snapshot.end();
     }
     
     /**
@@ -240,18 +316,9 @@ public class GameController {
     }
     
     /**
-     * 文明レベルアップメッセージを取得します。
-     * @return メッセージ（表示する必要がない場合はnull）
-     */
-    public String getCivilizationLevelUpMessage() {
-        return civilizationLevelUpMessage;
-    }
-    
-    /**
-     * エンディング画面を取得します。
-     * @return エンディング画面
+     * シミュレーションの時計を取得します。
      */
-    public EndingScreen getEndingScreen() {
-        return endingScreen;
+    public SimulationClock getSimulationClock() {
+        return simulationClock;
     }
 }
@@ -258,6 +258,8 @@ public class GameInitializer {
      */
     private static void initializeInputHandlers(InitializationResult result) {
         result.saveGameManager = new SaveGameManager();
+        result.terrainManager.setChunkStore(result.saveGameManager.createSessionChunkStore());
+        result.saveGameManager.setTerrainManager(result.terrainManager);
         result.textInputHandler = new TextInputHandler();
         result.inputHandler = new InputHandler(result.player, result.farmManager, 
             result.livestockManager);
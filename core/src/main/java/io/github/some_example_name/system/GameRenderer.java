@@ -6,15 +6,19 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
+import io.github.some_example_name.entity.LivestockData;
 import io.github.some_example_name.entity.Player;
 import io.github.some_example_name.manager.BuildingManager;
 import io.github.some_example_name.manager.FarmManager;
 import io.github.some_example_name.manager.ItemManager;
 import io.github.some_example_name.manager.LivestockManager;
 import io.github.some_example_name.manager.TerrainManager;
+import io.github.some_example_name.render.WorldEntityRenderer;
 import io.github.some_example_name.ui.InventoryUI;
 import io.github.some_example_name.ui.ItemEncyclopediaUI;
 import io.github.some_example_name.ui.MenuSystem;
@@ -28,7 +32,7 @@ import io.github.some_example_name.system.MapScreen;
  * <p>このクラスは以下の描画処理を統合管理します：</p>
  * <ul>
  *   <li>地形の描画</li>
- *   <li>ゲームオブジェクトの描画（アイテム、プレイヤー、農地、畜産）</li>
+ *   <li>ゲームオブジェクトの描画（アイテム、プレイヤー、農地、畜産、建物、地形のあとに1回のbegin/endで描く）</li>
  *   <li>UIの描画（インベントリ、メニュー、メッセージ）</li>
  *   <li>グリッドの描画</li>
  * </ul>
@@ -54,10 +58,16 @@ public class GameRenderer {
     private InventoryUI inventoryUI;
     private ItemEncyclopediaUI encyclopediaUI;
     private MenuSystem menuSystem;
-    private GameController gameController;
     private TitleScreen titleScreen;
     private MapScreen mapScreen;
     
+    // シミュレーションスレッドから受け取った描画用の状態（nullの間はワールドを描画しない）
+    private WorldSnapshot worldSnapshot;
+    
+    // 農地・畜産タイル・建物・アイテム・プレイヤー・グリッドの描画（最初に描画するときに作る）
+    private WorldEntityRenderer entityRenderer;
+    private final Rectangle entityView = new Rectangle();
+    
     private int screenWidth;
     private int screenHeight;
     private boolean showGrid;
@@ -141,6 +151,15 @@ public class GameRenderer {
         this.civilizationLevelUpMessage = message;
     }
     
+    /**
+     * 描画に使うワールドのスナップショットを設定します。
+     * 地形・ゲームオブジェクト・UI情報は、シミュレーションスレッドが書き換えるマネージャーではなくスナップショットから描画します。
+     * @param worldSnapshot スナップショット（nullの場合はワールドを描画しない）
+     */
+    public void setWorldSnapshot(WorldSnapshot worldSnapshot) {
+        this.worldSnapshot = worldSnapshot;
+    }
+    
     /**
      * ゲームの描画処理を行います。
      * 
@@ -167,9 +186,6 @@ public class GameRenderer {
             batch.setProjectionMatrix(camera.combined);
         }
         
-        // グリッドを描画
-        renderGrid();
-        
         // 地形を描画
         renderTerrain();
         
@@ -192,45 +208,21 @@ public class GameRenderer {
         renderMenu(isPaused);
     }
     
-    /**
-     * グリッドを描画します。
-     */
-    private void renderGrid() {
-        if (!showGrid || shapeRenderer == null || uiRenderer == null || camera == null) {
-            return;
-        }
-        
-        try {
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-            uiRenderer.drawGrid(camera);
-            shapeRenderer.end();
-        } catch (Exception e) {
-            Gdx.app.error("GameRenderer", "Error drawing grid: " + e.getMessage(), e);
-            if (shapeRenderer.isDrawing()) {
-                shapeRenderer.end();
-            }
-        }
-    }
-    
     /**
      * 地形を描画します。
      */
     private void renderTerrain() {
-        if (batch == null || terrainManager == null || camera == null) {
+        if (batch == null || terrainManager == null || camera == null || worldSnapshot == null) {
             return;
         }
         
         try {
-            // batchが既に開始されているかチェック
-            boolean batchWasActive = batch.isDrawing();
-            if (!batchWasActive) {
-                batch.setProjectionMatrix(camera.combined);
-                batch.begin();
-            }
-            terrainManager.render(batch, camera);
-            if (!batchWasActive) {
+            // 地形はチャンクのキャッシュとbatchを切り替えて描画するため、batchは終了した状態で渡す
+            if (batch.isDrawing()) {
                 batch.end();
             }
+            terrainManager.render(batch, camera, worldSnapshot.getTerrainWindow(),
+                worldSnapshot.getTerrainAnimationTime());
         } catch (Exception e) {
             Gdx.app.error("GameRenderer", "Error rendering terrain: " + e.getMessage(), e);
             if (batch.isDrawing()) {
@@ -241,61 +233,58 @@ public class GameRenderer {
     
     /**
      * ゲームオブジェクトを描画します。
+     * 地形の上にグリッドを、農地・畜産タイル・建物・アイテムは視野範囲に入っているものだけを、プレイヤーはその上に、
+     * すべて同じアトラスのスプライトで1回のbegin/endの中で描画します。
      */
     private void renderGameObjects() {
-        if (shapeRenderer == null) {
+        if (batch == null || camera == null || worldSnapshot == null) {
             return;
         }
         
         try {
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-            
-            // 農地を描画
-            if (farmManager != null) {
-                farmManager.render(shapeRenderer);
-            }
-            
-            // 畜産タイルを描画
-            if (livestockManager != null) {
-                livestockManager.render(shapeRenderer);
-            }
-            
-            // 建物を描画
-            if (buildingManager != null) {
-                buildingManager.render(shapeRenderer);
-            }
-            
-            // アイテムを描画
-            if (itemManager != null) {
-                itemManager.render(shapeRenderer);
+            prepareEntityRenderer();
+            batch.begin();
+            if (showGrid) {
+                entityRenderer.renderGrid(batch, camera);
             }
+            entityRenderer.render(batch, worldSnapshot);
             
             // プレイヤーを描画
-            if (player != null) {
-                player.render(shapeRenderer);
-            }
-            
-            shapeRenderer.end();
+            entityRenderer.renderPlayer(batch, worldSnapshot.getPlayer());
+            batch.end();
         } catch (Exception e) {
             Gdx.app.error("GameRenderer", "Error rendering game objects: " + e.getMessage(), e);
-            if (shapeRenderer.isDrawing()) {
-                shapeRenderer.end();
+            if (batch.isDrawing()) {
+                batch.end();
             }
         }
     }
     
+    /**
+     * ワールドの描画を作成し（最初の1回だけ）、カメラの視野範囲を設定します。
+     */
+    private void prepareEntityRenderer() {
+        if (entityRenderer == null) {
+            // スプライトのアトラスはGLのコンテキストが必要なので、最初に描画するときに作る
+            entityRenderer = new WorldEntityRenderer(livestockManager != null
+                ? livestockManager.getLivestockDataLoader().getAllLivestock() : new Array<LivestockData>());
+        }
+        entityRenderer.setView(TerrainManager.getViewBounds(camera, entityView));
+    }
+    
     /**
      * UI情報を描画します。
      */
     private void renderUI() {
-        if (uiRenderer == null || itemManager == null) {
+        if (uiRenderer == null || worldSnapshot == null) {
             return;
         }
         
         try {
-            int totalLivestockProducts = livestockManager != null ? 
-                livestockManager.getTotalLivestockProductsProduced() : 0;
-            uiRenderer.drawUI(itemManager, totalLivestockProducts);
+            // シミュレーションスレッドが書き換えるマネージャーには触れず、スナップショットの値を表示する
+            uiRenderer.drawUI(worldSnapshot.getCivilizationLevel(), worldSnapshot.getCivilizationLevelName(),
+                worldSnapshot.getTotalLivestockProductsProduced(), worldSnapshot.getTargetSpeed(),
+                worldSnapshot.getAchievedSpeed());
         } catch (Exception e) {
             Gdx.app.error("GameRenderer", "Error drawing UI: " + e.getMessage(), e);
         }
@@ -395,27 +384,20 @@ public class GameRenderer {
      * エンディング画面を描画します。
      */
     private void renderEndingScreen() {
-        if (gameController == null) {
+        if (worldSnapshot == null) {
             return;
         }
         
-        EndingScreen endingScreen = gameController.getEndingScreen();
-        if (endingScreen != null && endingScreen.isActive()) {
+        if (worldSnapshot.isEndingActive()) {
             try {
-                endingScreen.render(shapeRenderer, batch, font, uiCamera, screenWidth, screenHeight);
+                EndingScreen.render(worldSnapshot.getEndingProgress(), shapeRenderer, batch, font,
+                    uiCamera, screenWidth, screenHeight);
             } catch (Exception e) {
                 Gdx.app.error("GameRenderer", "Error rendering ending screen: " + e.getMessage(), e);
             }
         }
     }
     
-    /**
-     * GameControllerを設定します。
-     */
-    public void setGameController(GameController gameController) {
-        this.gameController = gameController;
-    }
-    
     /**
      * TitleScreenを設定します。
      */
@@ -493,4 +475,14 @@ public class GameRenderer {
             }
         }
     }
+    
+    /**
+     * 描画用に作ったリソースを解放します。
+     */
+    public void dispose() {
+        if (entityRenderer != null) {
+            entityRenderer.dispose();
+            entityRenderer = null;
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package io.github.some_example_name.system;
 
+import io.github.some_example_name.manager.TerrainManager;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -24,6 +26,12 @@ public class GameSaveData {
     // 文明レベル
     public int civilizationLevel;
     
+    // ワールドシード（地形はこのシードから再生成される）
+    public long worldSeed;
+    
+    // 探索済みエリア（チャンクごとのビットマスクをBase64で符号化したもの）
+    public String exploredChunks;
+    
     /**
      * アイテムのデータを表す内部クラス。
      */
@@ -46,5 +54,7 @@ public class GameSaveData {
     public GameSaveData() {
         // JSONデシリアライズ用のデフォルトコンストラクタ
         this.items = new ArrayList<>();
+        // シードを持たない古いセーブデータ用の既定値
+        this.worldSeed = TerrainManager.DEFAULT_WORLD_SEED;
     }
 }
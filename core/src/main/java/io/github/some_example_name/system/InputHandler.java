@@ -1,7 +1,6 @@
 package io.github.some_example_name.system;
 
 import io.github.some_example_name.entity.Player;
-import io.github.some_example_name.entity.TerrainTile;
 import io.github.some_example_name.manager.BuildingManager;
 import io.github.some_example_name.manager.FarmManager;
 import io.github.some_example_name.manager.LivestockManager;
@@ -21,6 +20,38 @@ public class InputHandler {
     private TerrainManager terrainManager;
     private TerrainConversionManager terrainConversionManager;
     private BuildingManager buildingManager;
+    private SimulationClock simulationClock;
+    
+    // キーで行うアクション
+    private enum Action {
+        FARM,
+        LIVESTOCK,
+        KILL_LIVESTOCK,
+        TERRAIN_CONVERSION,
+        MINING,
+        RESTORE,
+        BUILD_TEMPLE,
+        FAST_FORWARD,
+        CYCLE_TIME_SCALE
+    }
+    
+    // Nキーで早送りする時間（秒）
+    private static final float FAST_FORWARD_SECONDS = 60f;
+    
+    // シミュレーションスレッドへ操作を渡すキュー（nullの場合はその場で実行）
+    private SimulationCommandQueue commandQueue;
+    
+    // アクションと移動方向ごとの操作（状態を持たないので使い回す）
+    private final SimulationCommand[] actionCommands;
+    private final SimulationCommand[] moveCommands;
+    
+    // 最後に登録した移動方向（描画スレッド側）
+    private int postedMoveX;
+    private int postedMoveY;
+    
+    // 押されている移動方向（シミュレーションスレッド側）
+    private int heldMoveX;
+    private int heldMoveY;
     
     public InputHandler(Player player, FarmManager farmManager, LivestockManager livestockManager) {
         this.player = player;
@@ -29,6 +60,49 @@ public class InputHandler {
         this.terrainManager = null; // 後で設定される
         this.terrainConversionManager = null; // 後で設定される
         this.buildingManager = null; // 後で設定される
+        this.commandQueue = null;
+        
+        Action[] actions = Action.values();
+        this.actionCommands = new SimulationCommand[actions.length];
+        for (final Action action : actions) {
+            actionCommands[action.ordinal()] = new SimulationCommand() {
+                @Override
+                public void execute() {
+                    executeAction(action);
+                }
+            };
+        }
+        this.moveCommands = new SimulationCommand[9];
+        for (int i = 0; i < moveCommands.length; i++) {
+            final int dx = i % 3 - 1;
+            final int dy = i / 3 - 1;
+            moveCommands[i] = new SimulationCommand() {
+                @Override
+                public void execute() {
+                    heldMoveX = dx;
+                    heldMoveY = dy;
+                }
+            };
+        }
+    }
+    
+    /**
+     * シミュレーションスレッドへ操作を渡すキューを設定します。
+     * @param commandQueue キュー（nullの場合は入力をその場で実行する）
+     */
+    public void setCommandQueue(SimulationCommandQueue commandQueue) {
+        this.commandQueue = commandQueue;
+    }
+    
+    /**
+     * 移動の入力状態を捨てます（キューを空にしたときに、シミュレーションが止まっている間に呼び出す）。
+     * 登録済みとして覚えている方向も忘れるので、押されたままのキーは次の入力処理で登録し直されます。
+     */
+    public void resetMovement() {
+        postedMoveX = 0;
+        postedMoveY = 0;
+        heldMoveX = 0;
+        heldMoveY = 0;
     }
     
     /**
@@ -53,106 +127,180 @@ public class InputHandler {
     }
     
     /**
-     * キーボード入力を処理します。
+     * シミュレーションの時計を設定します（ワールドの時間の倍率の切り替えに使用）。
+     */
+    public void setSimulationClock(SimulationClock simulationClock) {
+        this.simulationClock = simulationClock;
+    }
+    
+    /**
+     * キーボード入力を処理します（描画スレッドから毎フレーム呼び出す）。
+     * 
+     * <p>入力はワールドに直接反映せず、{@link SimulationCommand}としてキューに登録します。
+     * 移動は押されている方向が変わったときだけ登録し、シミュレーション側が毎ティック
+     * {@link #applyHeldMovement()}で移動を開始します。キューが設定されていない場合はその場で実行します。</p>
      */
     public void handleInput() {
         // Fキーで種を植える/収穫する（移動中でも可能）
         if (Gdx.input.isKeyJustPressed(Input.Keys.F)) {
-            handleFarmAction();
+            post(actionCommands[Action.FARM.ordinal()]);
             return; // 農業アクション時は移動しない
         }
         
         // Lキーで動物を配置/製品を収穫する（移動中でも可能）
         if (Gdx.input.isKeyJustPressed(Input.Keys.L)) {
-            handleLivestockAction();
+            post(actionCommands[Action.LIVESTOCK.ordinal()]);
             return; // 畜産アクション時は移動しない
         }
         
         // Kキーで家畜を殺して肉を取得する（移動中でも可能）
         if (Gdx.input.isKeyJustPressed(Input.Keys.K)) {
-            handleKillLivestockAction();
+            post(actionCommands[Action.KILL_LIVESTOCK.ordinal()]);
             return; // 家畜を殺すアクション時は移動しない
         }
         
         // Tキーで地形変換を行う（移動中でも可能）
         if (Gdx.input.isKeyJustPressed(Input.Keys.T)) {
-            handleTerrainConversionAction();
+            post(actionCommands[Action.TERRAIN_CONVERSION.ordinal()]);
             return; // 地形変換アクション時は移動しない
         }
         
         // Mキーで採掘を行う（移動中でも可能）
         if (Gdx.input.isKeyJustPressed(Input.Keys.M)) {
-            handleMiningAction();
+            post(actionCommands[Action.MINING.ordinal()]);
             return; // 採掘アクション時は移動しない
         }
         
         // Rキーで荒地回復を行う（移動中でも可能）
         if (Gdx.input.isKeyJustPressed(Input.Keys.R)) {
-            handleRestoreAction();
+            post(actionCommands[Action.RESTORE.ordinal()]);
             return; // 回復アクション時は移動しない
         }
         
         // Bキーで神殿を建てる（移動中でも可能）
         if (Gdx.input.isKeyJustPressed(Input.Keys.B)) {
-            handleBuildTempleAction();
+            post(actionCommands[Action.BUILD_TEMPLE.ordinal()]);
             return; // 建設アクション時は移動しない
         }
         
-        // 移動中は新しい入力を無視
-        if (player.isMoving()) {
+        // Nキーで農地と畜産の時間を早送りする
+        if (Gdx.input.isKeyJustPressed(Input.Keys.N)) {
+            post(actionCommands[Action.FAST_FORWARD.ordinal()]);
             return;
         }
         
+        // Gキーでワールドの時間の倍率を切り替える（移動は止めない）
+        if (Gdx.input.isKeyJustPressed(Input.Keys.G)) {
+            post(actionCommands[Action.CYCLE_TIME_SCALE.ordinal()]);
+        }
+        
         // 各方向のキーが押されているかチェック
         boolean up = Gdx.input.isKeyPressed(Input.Keys.UP) || Gdx.input.isKeyPressed(Input.Keys.W);
         boolean down = Gdx.input.isKeyPressed(Input.Keys.DOWN) || Gdx.input.isKeyPressed(Input.Keys.S);
         boolean left = Gdx.input.isKeyPressed(Input.Keys.LEFT) || Gdx.input.isKeyPressed(Input.Keys.A);
         boolean right = Gdx.input.isKeyPressed(Input.Keys.RIGHT) || Gdx.input.isKeyPressed(Input.Keys.D);
         
-        // 斜め移動を優先的にチェック
-        if (up && right) {
-            // 右上
-            if (canMoveTo(1, 1)) {
-                player.move(1, 1);
-            }
-        } else if (up && left) {
-            // 左上
-            if (canMoveTo(-1, 1)) {
-                player.move(-1, 1);
-            }
-        } else if (down && right) {
-            // 右下
-            if (canMoveTo(1, -1)) {
-                player.move(1, -1);
-            }
-        } else if (down && left) {
-            // 左下
-            if (canMoveTo(-1, -1)) {
-                player.move(-1, -1);
-            }
+        // 斜め移動を優先する（上下と左右が同時に押されている場合は斜め）
+        int dx = 0;
+        int dy = 0;
+        if ((up || down) && (left || right)) {
+            dx = right ? 1 : -1;
+            dy = up ? 1 : -1;
         } else if (up) {
-            // 上
-            if (canMoveTo(0, 1)) {
-                player.move(0, 1);
-            }
+            dy = 1;
         } else if (down) {
-            // 下
-            if (canMoveTo(0, -1)) {
-                player.move(0, -1);
-            }
+            dy = -1;
         } else if (left) {
-            // 左
-            if (canMoveTo(-1, 0)) {
-                player.move(-1, 0);
-            }
+            dx = -1;
         } else if (right) {
-            // 右
-            if (canMoveTo(1, 0)) {
-                player.move(1, 0);
-            }
+            dx = 1;
+        }
+        
+        // 押されている方向が変わったときだけ登録する
+        if (dx != postedMoveX || dy != postedMoveY) {
+            postedMoveX = dx;
+            postedMoveY = dy;
+            post(moveCommands[(dy + 1) * 3 + (dx + 1)]);
         }
     }
     
+    /**
+     * 押されている方向への移動を開始します（シミュレーションスレッドから毎ティック呼び出す）。
+     */
+    public void applyHeldMovement() {
+        // 移動中は新しい入力を無視
+        if (player.isMoving() || (heldMoveX == 0 && heldMoveY == 0)) {
+            return;
+        }
+        if (canMoveTo(heldMoveX, heldMoveY)) {
+            player.move(heldMoveX, heldMoveY);
+        }
+    }
+    
+    /**
+     * 操作をキューに登録します（キューがない場合はその場で実行します）。
+     */
+    private void post(SimulationCommand command) {
+        if (commandQueue != null) {
+            commandQueue.post(command);
+        } else {
+            command.execute();
+        }
+    }
+    
+    /**
+     * アクションを実行します（シミュレーションスレッドから呼び出される）。
+     */
+    private void executeAction(Action action) {
+        switch (action) {
+            case FARM:
+                handleFarmAction();
+                break;
+            case LIVESTOCK:
+                handleLivestockAction();
+                break;
+            case KILL_LIVESTOCK:
+                handleKillLivestockAction();
+                break;
+            case TERRAIN_CONVERSION:
+                handleTerrainConversionAction();
+                break;
+            case MINING:
+                handleMiningAction();
+                break;
+            case RESTORE:
+                handleRestoreAction();
+                break;
+            case BUILD_TEMPLE:
+                handleBuildTempleAction();
+                break;
+            case FAST_FORWARD:
+                handleFastForwardAction();
+                break;
+            case CYCLE_TIME_SCALE:
+                if (simulationClock != null) {
+                    float timeScale = simulationClock.cycleTimeScale();
+                    Gdx.app.log("TimeScale", "ワールドの時間を" + (int)timeScale + "倍速にしました。");
+                }
+                break;
+            default:
+                break;
+        }
+    }
+    
+    /**
+     * 早送りアクション（農地と畜産の時間を進める）を処理します。
+     */
+    private void handleFastForwardAction() {
+        if (farmManager != null) {
+            farmManager.fastForward(FAST_FORWARD_SECONDS);
+        }
+        if (livestockManager != null) {
+            livestockManager.fastForward(FAST_FORWARD_SECONDS);
+        }
+        Gdx.app.log("FastForward", "農地と畜産の時間を" + (int)FAST_FORWARD_SECONDS + "秒進めました。");
+    }
+    
     /**
      * 農業アクション（種を植える/収穫する）を処理します。
      */
@@ -369,17 +517,7 @@ public class InputHandler {
         int startTileY = (int)Math.floor(playerBottom / Player.TILE_SIZE);
         int endTileY = (int)Math.ceil(playerTop / Player.TILE_SIZE);
         
-        // 範囲内のすべてのマップ升をチェック
-        for (int tileX = startTileX; tileX <= endTileX; tileX++) {
-            for (int tileY = startTileY; tileY <= endTileY; tileY++) {
-                TerrainTile tile = terrainManager.getTerrainTile(tileX, tileY);
-                if (tile != null && tile.getTerrainType() == TerrainTile.TerrainType.WATER) {
-                    // 水タイルがある場合は移動不可
-                    return false;
-                }
-            }
-        }
-        
-        return true; // 水タイルがなければ移動可能
+        // 範囲内に水タイルがある場合は移動不可（隣接マスクで3x3ずつチェック）
+        return !terrainManager.containsImpassable(startTileX, startTileY, endTileX, endTileY);
     }
 }
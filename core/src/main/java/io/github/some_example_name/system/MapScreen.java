@@ -9,6 +9,7 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 
 import io.github.some_example_name.entity.Player;
+import io.github.some_example_name.entity.TerrainChunk;
 import io.github.some_example_name.entity.TerrainTile;
 import io.github.some_example_name.manager.TerrainManager;
 
@@ -156,34 +157,49 @@ public class MapScreen {
         
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         
-        for (int x = startTileX; x <= endTileX; x++) {
-            for (int y = startTileY; y <= endTileY; y++) {
-                // 探索済みのタイルのみ表示
-                if (!terrainManager.isExplored(x, y)) {
+        // チャンク単位で探索済みマスクを取得し、立っているビットのタイルのみ描画
+        int startChunkX = TerrainChunk.toChunkCoord(startTileX);
+        int endChunkX = TerrainChunk.toChunkCoord(endTileX);
+        int startChunkY = TerrainChunk.toChunkCoord(startTileY);
+        int endChunkY = TerrainChunk.toChunkCoord(endTileY);
+        
+        for (int chunkX = startChunkX; chunkX <= endChunkX; chunkX++) {
+            for (int chunkY = startChunkY; chunkY <= endChunkY; chunkY++) {
+                long[] exploredMask = terrainManager.getExploredMask(chunkX, chunkY);
+                if (exploredMask == null) {
                     continue;
                 }
                 
-                TerrainTile tile = terrainManager.getTerrainTile(x, y);
-                if (tile == null) {
-                    continue;
+                for (int word = 0; word < exploredMask.length; word++) {
+                    long bits = exploredMask[word];
+                    while (bits != 0) {
+                        int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                        bits &= bits - 1;
+                        
+                        int x = (chunkX << TerrainChunk.SHIFT) + (index & TerrainChunk.MASK);
+                        int y = (chunkY << TerrainChunk.SHIFT) + (index >> TerrainChunk.SHIFT);
+                        
+                        // メモリ上にないチャンクもディスクやシードから求めて表示する
+                        TerrainTile.TerrainType terrainType = terrainManager.getMapType(x, y);
+                        
+                        // ワールド座標をマップ座標に変換
+                        float worldX = x * Player.MAP_TILE_SIZE;
+                        float worldY = y * Player.MAP_TILE_SIZE;
+                        float mapPixelX = mapX + mapWidth / 2 + (worldX - mapCenterX) * worldToMapScale;
+                        float mapPixelY = mapY + mapHeight / 2 + (worldY - mapCenterY) * worldToMapScale;
+                        
+                        // マップ表示領域内かチェック
+                        if (mapPixelX < mapX || mapPixelX >= mapX + mapWidth ||
+                            mapPixelY < mapY || mapPixelY >= mapY + mapHeight) {
+                            continue;
+                        }
+                        
+                        // 地形タイプに応じた色を設定
+                        Color tileColor = getTerrainColor(terrainType);
+                        shapeRenderer.setColor(tileColor);
+                        shapeRenderer.rect(mapPixelX, mapPixelY, MAP_TILE_SIZE_PIXELS, MAP_TILE_SIZE_PIXELS);
+                    }
                 }
-                
-                // ワールド座標をマップ座標に変換
-                float worldX = x * Player.MAP_TILE_SIZE;
-                float worldY = y * Player.MAP_TILE_SIZE;
-                float mapPixelX = mapX + mapWidth / 2 + (worldX - mapCenterX) * worldToMapScale;
-                float mapPixelY = mapY + mapHeight / 2 + (worldY - mapCenterY) * worldToMapScale;
-                
-                // マップ表示領域内かチェック
-                if (mapPixelX < mapX || mapPixelX >= mapX + mapWidth ||
-                    mapPixelY < mapY || mapPixelY >= mapY + mapHeight) {
-                    continue;
-                }
-                
-                // 地形タイプに応じた色を設定
-                Color tileColor = getTerrainColor(tile.getTerrainType());
-                shapeRenderer.setColor(tileColor);
-                shapeRenderer.rect(mapPixelX, mapPixelY, MAP_TILE_SIZE_PIXELS, MAP_TILE_SIZE_PIXELS);
             }
         }
         
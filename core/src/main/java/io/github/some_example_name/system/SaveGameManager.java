@@ -2,11 +2,12 @@ package io.github.some_example_name.system;
 
 import io.github.some_example_name.entity.Player;
 import io.github.some_example_name.entity.Item;
+import io.github.some_example_name.manager.ChunkStore;
 import io.github.some_example_name.manager.ItemManager;
+import io.github.some_example_name.manager.TerrainManager;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
 
 import java.util.ArrayList;
@@ -20,6 +21,22 @@ public class SaveGameManager {
     private static final String SAVE_FILE_PREFIX = "savegame_";
     private static final String SAVE_FILE_EXTENSION = ".json";
     
+    // 変更済みチャンクのリージョンファイルを置くディレクトリ名
+    private static final String REGION_DIRECTORY = "regions";
+    
+    // プレイ中のセッションの変更済みチャンクを退避するディレクトリ名
+    private static final String SESSION_REGION_DIRECTORY = "session";
+    
+    // 地形マネージャーへの参照（ワールドシードの保存/復元用）
+    private TerrainManager terrainManager;
+    
+    /**
+     * 地形マネージャーを設定します。
+     */
+    public void setTerrainManager(TerrainManager terrainManager) {
+        this.terrainManager = terrainManager;
+    }
+    
     /**
      * セーブデータの保存先ディレクトリを取得します。
      * Steamゲームとして標準的な場所（Documents/My Games/[ゲーム名]）を使用します。
@@ -67,14 +84,38 @@ public class SaveGameManager {
      */
     public FileHandle getSaveFileHandle(String saveName) {
         FileHandle saveDir = getSaveDirectory();
-        String fileName;
+        return saveDir.child(SAVE_FILE_PREFIX + getSanitizedSaveName(saveName) + SAVE_FILE_EXTENSION);
+    }
+    
+    /**
+     * セーブデータの変更済みチャンクを保存するディレクトリを取得します。
+     * @param saveName セーブデータ名（nullの場合はデフォルト名）
+     * @return リージョンファイルのディレクトリ
+     */
+    public FileHandle getRegionDirectory(String saveName) {
+        return getSaveDirectory().child(REGION_DIRECTORY).child(SAVE_FILE_PREFIX + getSanitizedSaveName(saveName));
+    }
+    
+    /**
+     * プレイ中のセッションの変更済みチャンクを退避するストアを作成します。
+     * 前回のセッションで残ったファイルは削除されます。
+     * @return チャンクストア
+     */
+    public ChunkStore createSessionChunkStore() {
+        ChunkStore chunkStore = new ChunkStore(getSaveDirectory().child(REGION_DIRECTORY).child(SESSION_REGION_DIRECTORY));
+        chunkStore.clear();
+        return chunkStore;
+    }
+    
+    /**
+     * ファイル名に使えない文字を置き換えたセーブデータ名を返します。
+     * @param saveName セーブデータ名（nullの場合はデフォルト名）
+     */
+    private String getSanitizedSaveName(String saveName) {
         if (saveName == null || saveName.trim().isEmpty()) {
-            fileName = SAVE_FILE_PREFIX + "default" + SAVE_FILE_EXTENSION;
-        } else {
-            String sanitizedName = saveName.replaceAll("[\\\\/:*?\"<>|]", "_");
-            fileName = SAVE_FILE_PREFIX + sanitizedName + SAVE_FILE_EXTENSION;
+            return "default";
         }
-        return saveDir.child(fileName);
+        return saveName.replaceAll("[\\\\/:*?\"<>|]", "_");
     }
     
     /**
@@ -143,6 +184,12 @@ public class SaveGameManager {
             saveData.isMuted = isMuted;
             saveData.cameraZoom = cameraZoom;
             saveData.civilizationLevel = itemManager.getCivilizationLevel().getLevel();
+            if (terrainManager != null) {
+                saveData.worldSeed = terrainManager.getWorldSeed();
+                saveData.exploredChunks = terrainManager.getExplorationMap().serialize();
+                // 変更済みチャンクをリージョンファイルとして保存
+                terrainManager.saveModifiedChunks(getRegionDirectory(saveName));
+            }
             
             Json json = new Json();
             String jsonString = json.prettyPrint(saveData);
@@ -185,16 +232,21 @@ public class SaveGameManager {
             Json json = new Json();
             GameSaveData saveData = json.fromJson(GameSaveData.class, jsonString);
             
+            // ワールドシードを復元（地形はシードから生成し直される）
+            if (terrainManager != null) {
+                terrainManager.setWorldSeed(saveData.worldSeed);
+                terrainManager.loadModifiedChunks(getRegionDirectory(saveName));
+                terrainManager.getExplorationMap().deserialize(saveData.exploredChunks);
+            }
+            
             player.setPosition(saveData.playerTileX, saveData.playerTileY);
             
             itemManager.setCollectedCount(saveData.collectedCount);
-            Array<Item> loadedItems = new Array<>();
+            itemManager.clearItems();
             for (GameSaveData.ItemData itemData : saveData.items) {
                 Item.ItemType type = Item.ItemType.valueOf(itemData.type);
-                Item item = new Item(itemData.tileX, itemData.tileY, type);
-                loadedItems.add(item);
+                itemManager.spawnItem(itemData.tileX, itemData.tileY, type);
             }
-            itemManager.setItems(loadedItems);
             
             // 文明レベルを復元
             if (saveData.civilizationLevel > 0) {
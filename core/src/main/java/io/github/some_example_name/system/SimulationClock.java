@@ -0,0 +1,166 @@
+package io.github.some_example_name.system;
+
+/**
+ * シミュレーションを固定の時間刻み（ティック）で進めるための時計。
+ *
+ * <p>フレームの経過時間を蓄積し、1ティック分たまるごとにシミュレーションを1ティック進めます。
+ * ティックの長さが一定なので、フレームレートに関係なく同じ入力から同じ結果が得られます。
+ * 描画はティックの途中で行われるため、前回のティックからの進み具合（{@link #getAlpha()}）で位置を補間します。</p>
+ *
+ * <p>処理落ちなどで経過時間が大きくなった場合でも、1フレームで進めるティック数には上限を設け、
+ * 超えた分の時間は捨てます（追いつこうとしてさらに重くなるのを防ぐ）。</p>
+ *
+ * <p>ワールドの時間（作物の成長や家畜の生産）は{@link #getTimeScale()}倍の速さで進められます。
+ * 倍速にしてもティックの数は増やさず、1ティックで進めるワールドの時間（{@link #getWorldTickSeconds()}）を長くします。
+ * 成長と生産はイベントの予定時刻で進むため、1ティックの処理量は倍率にほとんど依存しません。
+ * 実際に進んだワールドの時間と実時間の比（{@link #getAchievedSpeed()}）も計測します。</p>
+ */
+public class SimulationClock {
+    // 1秒あたりのティック数
+    public static final int TICKS_PER_SECOND = 60;
+
+    // 1ティックの長さ（秒）
+    public static final float TICK_SECONDS = 1f / TICKS_PER_SECOND;
+
+    // 1フレームで進めるティック数の上限
+    public static final int MAX_TICKS_PER_FRAME = 5;
+
+    // 選べるワールドの時間の倍率
+    public static final float[] TIME_SCALES = {1f, 2f, 8f, 64f};
+
+    // 実際の速度を計測する間隔（実時間の秒）
+    private static final float SPEED_SAMPLE_SECONDS = 0.5f;
+
+    // まだティックとして消化していない時間（秒）
+    private float accumulator;
+
+    // これまでに進めたティック数
+    private long tickCount;
+
+    // 上限を超えて捨てた時間の合計（秒）
+    private float droppedSeconds;
+
+    // ワールドの時間の倍率（TIME_SCALESの番号）
+    private int timeScaleIndex;
+
+    // 計測中の実時間とワールドの時間（秒）
+    private float sampleRealSeconds;
+    private float sampleWorldSeconds;
+
+    // 最後に計測した実際の速度（ワールドの時間 / 実時間）
+    private float achievedSpeed;
+
+    public SimulationClock() {
+        this.accumulator = 0f;
+        this.tickCount = 0;
+        this.droppedSeconds = 0f;
+        this.timeScaleIndex = 0;
+        this.achievedSpeed = 1f;
+    }
+
+    /**
+     * フレームの経過時間を加え、このフレームで進めるティック数を返します。
+     * 呼び出し側は戻り値の回数だけ{@link #TICK_SECONDS}ずつシミュレーションを進めてください。
+     * @param frameDeltaTime 前フレームからの経過時間（秒）
+     * @return 進めるティック数（0〜{@link #MAX_TICKS_PER_FRAME}）
+     */
+    public int advance(float frameDeltaTime) {
+        if (frameDeltaTime > 0f) {
+            accumulator += frameDeltaTime;
+        }
+        int ticks = (int)(accumulator / TICK_SECONDS);
+        if (ticks > MAX_TICKS_PER_FRAME) {
+            // 追いつけない分は捨て、端数だけ残す
+            float excess = (ticks - MAX_TICKS_PER_FRAME) * TICK_SECONDS;
+            droppedSeconds += excess;
+            accumulator -= excess;
+            ticks = MAX_TICKS_PER_FRAME;
+        }
+        accumulator -= ticks * TICK_SECONDS;
+        if (accumulator < 0f) {
+            accumulator = 0f;
+        }
+        tickCount += ticks;
+
+        // 実際に進んだワールドの時間を計測する（捨てた時間の分だけ遅くなる）
+        if (frameDeltaTime > 0f) {
+            sampleRealSeconds += frameDeltaTime;
+        }
+        sampleWorldSeconds += ticks * getWorldTickSeconds();
+        if (sampleRealSeconds >= SPEED_SAMPLE_SECONDS) {
+            achievedSpeed = sampleWorldSeconds / sampleRealSeconds;
+            sampleRealSeconds = 0f;
+            sampleWorldSeconds = 0f;
+        }
+        return ticks;
+    }
+
+    /**
+     * ワールドの時間の倍率を返します。
+     */
+    public float getTimeScale() {
+        return TIME_SCALES[timeScaleIndex];
+    }
+
+    /**
+     * ワールドの時間の倍率を次の段階に切り替えます（最大の次は等倍に戻る）。
+     * @return 切り替えた後の倍率
+     */
+    public float cycleTimeScale() {
+        timeScaleIndex = (timeScaleIndex + 1) % TIME_SCALES.length;
+        return getTimeScale();
+    }
+
+    /**
+     * 1ティックで進めるワールドの時間（秒）を返します。
+     */
+    public float getWorldTickSeconds() {
+        return TICK_SECONDS * getTimeScale();
+    }
+
+    /**
+     * 最後に計測した実際の速度（実時間1秒あたりに進んだワールドの時間）を返します。
+     */
+    public float getAchievedSpeed() {
+        return achievedSpeed;
+    }
+
+    /**
+     * 最後のティックから次のティックまでの進み具合を返します（描画の補間用）。
+     * @return 0以上1未満の値
+     */
+    public float getAlpha() {
+        float alpha = accumulator / TICK_SECONDS;
+        return alpha < 1f ? alpha : 0.999f;
+    }
+
+    /**
+     * これまでに進めたティック数を返します。
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * これまでに進めたシミュレーション時間（秒）を返します。
+     */
+    public double getSimulationTime() {
+        return tickCount / (double)TICKS_PER_SECOND;
+    }
+
+    /**
+     * 上限を超えて捨てた時間の合計（秒）を返します。
+     */
+    public float getDroppedSeconds() {
+        return droppedSeconds;
+    }
+
+    /**
+     * 蓄積している時間を捨てます（ロード直後などに、溜まった時間でシミュレーションが進まないようにする）。
+     */
+    public void resetAccumulator() {
+        accumulator = 0f;
+        sampleRealSeconds = 0f;
+        sampleWorldSeconds = 0f;
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.some_example_name.system;
+
+/**
+ * シミュレーションスレッドで実行する操作（プレイヤーの入力など）。
+ *
+ * <p>描画スレッドは{@link SimulationCommandQueue}に登録するだけで、ワールドの状態には直接触れません。
+ * 登録された操作はシミュレーションスレッドが次のティックの前に登録順に実行します。</p>
+ */
+public interface SimulationCommand {
+    /**
+     * 操作を実行します（シミュレーションスレッドから呼び出されます）。
+     */
+    void execute();
+}
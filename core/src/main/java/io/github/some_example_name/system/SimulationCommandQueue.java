@@ -0,0 +1,50 @@
+package io.github.some_example_name.system;
+
+import com.badlogic.gdx.Gdx;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 描画スレッドからシミュレーションスレッドへ{@link SimulationCommand}を渡すキュー。
+ *
+ * <p>登録と取り出しはロックなしで行えます。シミュレーションを別スレッドで動かさない場合は、
+ * {@link #executeAll()}を同じスレッドで呼び出せば登録順に実行されます。</p>
+ */
+public class SimulationCommandQueue {
+    private final ConcurrentLinkedQueue<SimulationCommand> commands;
+
+    public SimulationCommandQueue() {
+        this.commands = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * 操作を登録します（どのスレッドからでも呼び出せます）。
+     * @param command 操作
+     */
+    public void post(SimulationCommand command) {
+        if (command != null) {
+            commands.offer(command);
+        }
+    }
+
+    /**
+     * 登録されている操作を登録順にすべて実行します（シミュレーションスレッドから呼び出す）。
+     */
+    public void executeAll() {
+        SimulationCommand command;
+        while ((command = commands.poll()) != null) {
+            try {
+                command.execute();
+            } catch (Exception e) {
+                Gdx.app.error("SimulationCommandQueue", "Error executing command: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 登録されている操作を実行せずに捨てます。
+     */
+    public void clear() {
+        commands.clear();
+    }
+}
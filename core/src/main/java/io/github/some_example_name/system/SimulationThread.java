@@ -0,0 +1,226 @@
+package io.github.some_example_name.system;
+
+import com.badlogic.gdx.Gdx;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ワールドのシミュレーションを描画とは別のスレッドで実行するクラス。
+ *
+ * <p>シミュレーションスレッドは{@link GameController#advance(float)}で固定の時間刻みのティックを進め、
+ * ティックを進めるたびに{@link WorldSnapshot}を書き込んで{@link WorldSnapshotBuffer}に公開します。
+ * 描画スレッドは{@link #acquireSnapshot()}で最新のスナップショットを受け取り、ロックなしで描画します。
+ * 入力は{@link SimulationCommandQueue}を通して渡され、ティックの前に実行されます。</p>
+ *
+ * <p>ポーズ中やセーブ・ロードなど、描画スレッドがワールドの状態に直接触れる間は{@link #setRunning(boolean)}で
+ * シミュレーションを止めます。止める呼び出しは実行中のティックが終わるまで待つため、戻った後は安全にワールドに触れられます。</p>
+ */
+public class SimulationThread implements Runnable {
+    // 1ティックの長さ（ナノ秒）
+    private static final long TICK_NANOS = 1000000000L / SimulationClock.TICKS_PER_SECOND;
+
+    private final GameController gameController;
+    private final SimulationCommandQueue commandQueue;
+    private final WorldSnapshotBuffer snapshotBuffer;
+
+    // 描画スレッドから渡される視野範囲（各値の読み書きは不可分なので、ずれても次のティックで揃う）
+    private volatile float viewX;
+    private volatile float viewY;
+    private volatile float viewWidth;
+    private volatile float viewHeight;
+
+    // 実行状態（stateLockで保護）
+    private final Object stateLock = new Object();
+    private boolean runRequested;
+    private boolean parked;
+    private boolean stopRequested;
+
+    // 止まっている状態から動き出したかどうか（シミュレーションスレッドだけが使う）
+    private boolean resumed;
+
+    private Thread thread;
+
+    /**
+     * @param gameController シミュレーションを進めるコントローラー
+     * @param commandQueue 描画スレッドから渡される操作のキュー
+     */
+    public SimulationThread(GameController gameController, SimulationCommandQueue commandQueue) {
+        this.gameController = gameController;
+        this.commandQueue = commandQueue;
+        this.snapshotBuffer = new WorldSnapshotBuffer();
+        this.runRequested = false;
+        this.parked = true;
+        this.stopRequested = false;
+    }
+
+    /**
+     * スレッドを開始します（止まった状態で開始するので、{@link #setRunning(boolean)}で動かします）。
+     */
+    public void start() {
+        if (thread != null) {
+            return;
+        }
+        // 最初のフレームから描画できるよう、開始前の状態を公開しておく
+        publishSnapshot();
+        thread = new Thread(this, "Simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * シミュレーションを動かす・止めるを切り替えます（描画スレッドから呼び出す）。
+     * 止める場合は、実行中のティックが終わってスレッドが止まるまで待ちます。
+     * @param running 動かす場合true
+     */
+    public void setRunning(boolean running) {
+        synchronized (stateLock) {
+            runRequested = running;
+            stateLock.notifyAll();
+            if (!running) {
+                while (!parked && thread != null && thread.isAlive()) {
+                    try {
+                        stateLock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 止まっている間にワールドの状態を書き換えた場合（ロードなど）に、スナップショットを作り直して公開します。
+     * シミュレーションが止まっている間だけ呼び出せます。
+     */
+    public void refreshSnapshot() {
+        synchronized (stateLock) {
+            if (!parked) {
+                Gdx.app.error("SimulationThread", "refreshSnapshot called while the simulation is running");
+                return;
+            }
+            publishSnapshot();
+        }
+    }
+
+    /**
+     * スレッドを終了し、終了するまで待ちます。
+     */
+    public void stop() {
+        synchronized (stateLock) {
+            stopRequested = true;
+            stateLock.notifyAll();
+        }
+        if (thread != null) {
+            try {
+                thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    /**
+     * 描画スレッドのカメラの視野範囲を渡します（毎フレーム呼び出す）。
+     */
+    public void setViewBounds(float x, float y, float width, float height) {
+        viewX = x;
+        viewY = y;
+        viewWidth = width;
+        viewHeight = height;
+    }
+
+    /**
+     * 最新のスナップショットを返します（描画スレッドから呼び出す）。
+     */
+    public WorldSnapshot acquireSnapshot() {
+        return snapshotBuffer.acquire();
+    }
+
+    /**
+     * 最新のスナップショットの時点から、次のティックまでの進み具合を返します（描画の補間用）。
+     * @param snapshot {@link #acquireSnapshot()}で受け取ったスナップショット
+     * @return 0〜1の値
+     */
+    public static float getRenderAlpha(WorldSnapshot snapshot) {
+        float alpha = (System.nanoTime() - snapshot.getPublishNanos()) / (float)TICK_NANOS;
+        return Math.max(0f, Math.min(1f, alpha));
+    }
+
+    @Override
+    public void run() {
+        long lastNanos = System.nanoTime();
+        while (true) {
+            if (!waitUntilRunning()) {
+                return;
+            }
+            if (consumeResumed()) {
+                // 止まっていた間の時間は進めない
+                lastNanos = System.nanoTime();
+                gameController.getSimulationClock().resetAccumulator();
+            }
+
+            long now = System.nanoTime();
+            float deltaTime = (now - lastNanos) / 1000000000f;
+            lastNanos = now;
+
+            try {
+                gameController.setViewBounds(viewX, viewY, viewWidth, viewHeight);
+                commandQueue.executeAll();
+                if (gameController.advance(deltaTime) > 0) {
+                    publishSnapshot();
+                }
+            } catch (Exception e) {
+                Gdx.app.error("SimulationThread", "Error in simulation tick: " + e.getMessage(), e);
+            }
+
+            // 次のティックの時刻まで待つ
+            float alpha = gameController.getSimulationClock().getAlpha();
+            long sleepNanos = (long)((1f - alpha) * TICK_NANOS);
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(sleepNanos);
+            }
+        }
+    }
+
+    /**
+     * 動かす指示があるまで待ちます。
+     * @return 続ける場合true、終了する場合false
+     */
+    private boolean waitUntilRunning() {
+        synchronized (stateLock) {
+            if (!runRequested && !stopRequested) {
+                parked = true;
+                stateLock.notifyAll();
+                while (!runRequested && !stopRequested) {
+                    try {
+                        stateLock.wait();
+                    } catch (InterruptedException e) {
+                        stopRequested = true;
+                    }
+                }
+                resumed = true;
+            }
+            if (stopRequested) {
+                parked = true;
+                stateLock.notifyAll();
+                return false;
+            }
+            parked = false;
+            return true;
+        }
+    }
+
+    private boolean consumeResumed() {
+        boolean result = resumed;
+        resumed = false;
+        return result;
+    }
+
+    private void publishSnapshot() {
+        WorldSnapshot snapshot = snapshotBuffer.getWriteSnapshot();
+        gameController.writeSnapshot(snapshot);
+        snapshotBuffer.publish();
+    }
+}
@@ -10,6 +10,9 @@ import java.util.Map;
 
 /**
  * サウンド効果を管理するクラス。
+ * 
+ * <p>足音や取得音はシミュレーションスレッドから、ホバー音やクラフト音は描画スレッドから再生されるため、
+ * 再生メソッドは同期しています（オーディオの再生を同時に行わないため）。</p>
  */
 public class SoundManager implements Disposable {
     private Sound hoverSound;
@@ -871,7 +874,7 @@ public class SoundManager implements Disposable {
     /**
      * ホバー音を再生します。
      */
-    public void playHoverSound() {
+    public synchronized void playHoverSound() {
         if (!isInitialized || hoverSound == null || soundSettings.isMuted()) {
             return;
         }
@@ -892,7 +895,7 @@ public class SoundManager implements Disposable {
     /**
      * アイテム取得音を再生します。
      */
-    public void playCollectSound() {
+    public synchronized void playCollectSound() {
         if (!isInitialized || collectSound == null || soundSettings.isMuted()) {
             return;
         }
@@ -921,7 +924,7 @@ public class SoundManager implements Disposable {
      * 指定されたタイルタイプに応じた足音を再生します。
      * @param terrainType タイルタイプ
      */
-    public void playFootstepSound(TerrainTile.TerrainType terrainType) {
+    public synchronized void playFootstepSound(TerrainTile.TerrainType terrainType) {
         if (!isInitialized || soundSettings.isMuted()) {
             return;
         }
@@ -953,7 +956,7 @@ public class SoundManager implements Disposable {
     /**
      * クラフト成功音を再生します。
      */
-    public void playCraftSound() {
+    public synchronized void playCraftSound() {
         if (!isInitialized || craftSound == null || soundSettings.isMuted()) {
             return;
         }
@@ -0,0 +1,318 @@
+package io.github.some_example_name.system;
+
+import io.github.some_example_name.entity.FarmTile;
+import io.github.some_example_name.entity.Item;
+import io.github.some_example_name.entity.LivestockTile;
+import io.github.some_example_name.entity.Player;
+import io.github.some_example_name.manager.BuildingManager;
+import io.github.some_example_name.manager.TerrainChunkWindow;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * 描画に必要なワールドの状態を、あるティックの時点でコピーしたもの。
+ *
+ * <p>シミュレーションスレッドがティックごとに書き込み、{@link WorldSnapshotBuffer}を通して描画スレッドに渡します。
+ * 描画スレッドはシミュレーション中のマネージャーやエンティティには触れず、このコピーだけを描画します。
+ * エンティティのコピーは使い回すため、状態の書き込みでアロケーションは発生しません（数が増えたときを除く）。</p>
+ */
+public class WorldSnapshot {
+    /**
+     * コピーしたエンティティの並び。先頭から{@link #size()}個が有効です。
+     */
+    public abstract static class EntityList<T> {
+        private final Array<T> copies = new Array<>(false, 16);
+        private int size;
+
+        /**
+         * 有効なエンティティの数を返します。
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * 指定された位置のエンティティを返します。
+         */
+        public T get(int index) {
+            return copies.get(index);
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        void add(T source) {
+            T copy;
+            if (size < copies.size) {
+                copy = copies.get(size);
+            } else {
+                copy = create();
+                copies.add(copy);
+            }
+            copy(source, copy);
+            size++;
+        }
+
+        abstract T create();
+
+        abstract void copy(T source, T destination);
+    }
+
+    // 書き込んだ時点のティック数（まだ書き込まれていない場合は-1）
+    private long tick;
+
+    // 書き込んだ時刻（System.nanoTime()、描画の補間に使用）
+    private long publishNanos;
+
+    private final Player player;
+
+    private final EntityList<FarmTile> farmTiles;
+    private final EntityList<LivestockTile> livestockTiles;
+    private final EntityList<BuildingManager.BuildingTile> buildings;
+    private final EntityList<Item> items;
+
+    // 表示範囲の地形チャンク
+    private final TerrainChunkWindow terrainWindow;
+    // 地形アニメーションの時間
+    private float terrainAnimationTime;
+
+    private int totalLivestockProductsProduced;
+    private String civilizationLevelUpMessage;
+
+    // 文明レベルとその名前
+    private int civilizationLevel;
+    private String civilizationLevelName;
+
+    // エンディングを表示中かどうかと、その進行度（0～1）
+    private boolean endingActive;
+    private float endingProgress;
+
+    // ワールドの時間の目標の倍率と、実際に達成できている倍率
+    private float targetSpeed;
+    private float achievedSpeed;
+
+    public WorldSnapshot() {
+        this.tick = -1;
+        this.targetSpeed = 1f;
+        this.achievedSpeed = 1f;
+        this.civilizationLevel = 1;
+        this.civilizationLevelName = "";
+        this.player = new Player(0, 0);
+        this.farmTiles = new EntityList<FarmTile>() {
+            @Override
+            FarmTile create() {
+                return new FarmTile(0, 0);
+            }
+
+            @Override
+            void copy(FarmTile source, FarmTile destination) {
+                destination.copyRenderStateFrom(source);
+            }
+        };
+        this.livestockTiles = new EntityList<LivestockTile>() {
+            @Override
+            LivestockTile create() {
+                return new LivestockTile(0, 0);
+            }
+
+            @Override
+            void copy(LivestockTile source, LivestockTile destination) {
+                destination.copyRenderStateFrom(source);
+            }
+        };
+        this.buildings = new EntityList<BuildingManager.BuildingTile>() {
+            @Override
+            BuildingManager.BuildingTile create() {
+                return new BuildingManager.BuildingTile(0, 0, BuildingManager.BuildingType.TEMPLE);
+            }
+
+            @Override
+            void copy(BuildingManager.BuildingTile source, BuildingManager.BuildingTile destination) {
+                destination.copyRenderStateFrom(source);
+            }
+        };
+        this.items = new EntityList<Item>() {
+            @Override
+            Item create() {
+                return new Item(0, 0, Item.ItemType.RED);
+            }
+
+            @Override
+            void copy(Item source, Item destination) {
+                destination.copyRenderStateFrom(source);
+            }
+        };
+        this.terrainWindow = new TerrainChunkWindow();
+    }
+
+    /**
+     * 書き込みを始めます（エンティティの並びを空にします）。
+     * @param tick 現在のティック数
+     */
+    void begin(long tick) {
+        this.tick = tick;
+        farmTiles.clear();
+        livestockTiles.clear();
+        buildings.clear();
+        items.clear();
+        civilizationLevelUpMessage = null;
+        totalLivestockProductsProduced = 0;
+    }
+
+    /**
+     * 書き込みを終えます（公開する直前に呼び出す）。
+     */
+    void end() {
+        this.publishNanos = System.nanoTime();
+    }
+
+    // エンティティの書き込みはワールドのシステム（io.github.some_example_name.ecs.SnapshotSystem）が行う
+
+    public void addFarmTile(FarmTile farmTile) {
+        farmTiles.add(farmTile);
+    }
+
+    public void addLivestockTile(LivestockTile livestockTile) {
+        livestockTiles.add(livestockTile);
+    }
+
+    public void addBuilding(BuildingManager.BuildingTile building) {
+        buildings.add(building);
+    }
+
+    public void addItem(Item item) {
+        items.add(item);
+    }
+
+    void setTotalLivestockProductsProduced(int totalLivestockProductsProduced) {
+        this.totalLivestockProductsProduced = totalLivestockProductsProduced;
+    }
+
+    void setCivilizationLevelUpMessage(String civilizationLevelUpMessage) {
+        this.civilizationLevelUpMessage = civilizationLevelUpMessage;
+    }
+
+    void setCivilizationLevel(int civilizationLevel, String civilizationLevelName) {
+        this.civilizationLevel = civilizationLevel;
+        this.civilizationLevelName = civilizationLevelName;
+    }
+
+    void setEnding(boolean endingActive, float endingProgress) {
+        this.endingActive = endingActive;
+        this.endingProgress = endingProgress;
+    }
+
+    void setSimulationSpeed(float targetSpeed, float achievedSpeed) {
+        this.targetSpeed = targetSpeed;
+        this.achievedSpeed = achievedSpeed;
+    }
+
+    /**
+     * 書き込んだ時点のティック数を返します（まだ書き込まれていない場合は-1）。
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * 書き込んだ時刻（System.nanoTime()）を返します。
+     */
+    public long getPublishNanos() {
+        return publishNanos;
+    }
+
+    /**
+     * プレイヤーのコピーを返します（描画の補間係数は描画スレッドが設定する）。
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    public EntityList<FarmTile> getFarmTiles() {
+        return farmTiles;
+    }
+
+    public EntityList<LivestockTile> getLivestockTiles() {
+        return livestockTiles;
+    }
+
+    public EntityList<BuildingManager.BuildingTile> getBuildings() {
+        return buildings;
+    }
+
+    public EntityList<Item> getItems() {
+        return items;
+    }
+
+    /**
+     * 表示範囲の地形チャンクを返します。
+     */
+    public TerrainChunkWindow getTerrainWindow() {
+        return terrainWindow;
+    }
+
+    void setTerrainAnimationTime(float terrainAnimationTime) {
+        this.terrainAnimationTime = terrainAnimationTime;
+    }
+
+    /**
+     * 地形アニメーションの時間を返します。
+     */
+    public float getTerrainAnimationTime() {
+        return terrainAnimationTime;
+    }
+
+    public int getTotalLivestockProductsProduced() {
+        return totalLivestockProductsProduced;
+    }
+
+    /**
+     * 文明レベルを返します。
+     */
+    public int getCivilizationLevel() {
+        return civilizationLevel;
+    }
+
+    /**
+     * 文明レベルの名前を返します。
+     */
+    public String getCivilizationLevelName() {
+        return civilizationLevelName;
+    }
+
+    /**
+     * ワールドの時間の目標の倍率を返します。
+     */
+    public float getTargetSpeed() {
+        return targetSpeed;
+    }
+
+    /**
+     * 実際に達成できているワールドの時間の倍率を返します。
+     */
+    public float getAchievedSpeed() {
+        return achievedSpeed;
+    }
+
+    /**
+     * エンディングを表示中かどうかを返します。
+     */
+    public boolean isEndingActive() {
+        return endingActive;
+    }
+
+    /**
+     * エンディングの進行度（0～1）を返します。
+     */
+    public float getEndingProgress() {
+        return endingProgress;
+    }
+
+    /**
+     * 文明レベルアップメッセージを返します（表示する必要がない場合はnull）。
+     */
+    public String getCivilizationLevelUpMessage() {
+        return civilizationLevelUpMessage;
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.some_example_name.system;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * シミュレーションスレッドから描画スレッドへ{@link WorldSnapshot}を渡すための三重バッファ。
+ *
+ * <p>書き込み用・受け渡し用・読み取り用の3つのスナップショットを入れ替えて使います。
+ * 書き込み側は書き終えたスナップショットを受け渡し用と交換し、読み取り側は新しいものがあれば読み取り用と交換します。
+ * 交換は1つのアトミック変数の入れ替えだけで行うため、どちらの側も相手を待つことはなく、ロックも使いません。
+ * 読み取り側が持っているスナップショットは、次に{@link #acquire()}を呼ぶまで書き換えられません。</p>
+ */
+public class WorldSnapshotBuffer {
+    // 受け渡し用のスナップショットが未読であることを示すビット
+    private static final int DIRTY = 4;
+    private static final int INDEX_MASK = 3;
+
+    private final WorldSnapshot[] snapshots;
+
+    // 受け渡し用のスナップショットの番号（未読ならDIRTYを立てる）
+    private final AtomicInteger exchange;
+
+    // 書き込み側だけが使う番号
+    private int writeIndex;
+
+    // 読み取り側だけが使う番号
+    private int readIndex;
+
+    public WorldSnapshotBuffer() {
+        this.snapshots = new WorldSnapshot[] {new WorldSnapshot(), new WorldSnapshot(), new WorldSnapshot()};
+        this.writeIndex = 0;
+        this.exchange = new AtomicInteger(1);
+        this.readIndex = 2;
+    }
+
+    /**
+     * 書き込み用のスナップショットを返します（書き込み側のスレッドから呼び出す）。
+     */
+    public WorldSnapshot getWriteSnapshot() {
+        return snapshots[writeIndex];
+    }
+
+    /**
+     * 書き込み用のスナップショットを公開し、次の書き込み用のスナップショットに切り替えます。
+     */
+    public void publish() {
+        writeIndex = exchange.getAndSet(writeIndex | DIRTY) & INDEX_MASK;
+    }
+
+    /**
+     * 最新のスナップショットを返します（読み取り側のスレッドから呼び出す）。
+     * 新しく公開されたものがなければ、前回と同じスナップショットを返します。
+     */
+    public WorldSnapshot acquire() {
+        if ((exchange.get() & DIRTY) != 0) {
+            readIndex = exchange.getAndSet(readIndex) & INDEX_MASK;
+        }
+        return snapshots[readIndex];
+    }
+}
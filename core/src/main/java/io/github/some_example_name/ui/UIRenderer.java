@@ -1,7 +1,5 @@
 package io.github.some_example_name.ui;
 
-import io.github.some_example_name.entity.Player;
-import io.github.some_example_name.manager.ItemManager;
 import io.github.some_example_name.game.CivilizationLevel;
 
 import com.badlogic.gdx.Gdx;
@@ -44,66 +42,15 @@ public class UIRenderer {
         this.screenHeight = height;
     }
     
-    /**
-     * グリッドを描画します（カメラの視野範囲に基づいて動的に生成）。
-     * @param camera カメラ
-     */
-    public void drawGrid(OrthographicCamera camera) {
-        int mapTileSize = Player.MAP_TILE_SIZE;
-        int playerTileSize = Player.PLAYER_TILE_SIZE;
-        
-        float actualViewportWidth = camera.viewportWidth * camera.zoom;
-        float actualViewportHeight = camera.viewportHeight * camera.zoom;
-        float cameraLeft = camera.position.x - actualViewportWidth / 2;
-        float cameraRight = camera.position.x + actualViewportWidth / 2;
-        float cameraBottom = camera.position.y - actualViewportHeight / 2;
-        float cameraTop = camera.position.y + actualViewportHeight / 2;
-        
-        float margin = mapTileSize * 2;
-        
-        // プレイヤー升の細かいグリッドを描画
-        shapeRenderer.setColor(0.2f, 0.2f, 0.2f, 1f);
-        
-        int startPlayerTileX = (int)Math.floor((cameraLeft - margin) / playerTileSize);
-        int endPlayerTileX = (int)Math.ceil((cameraRight + margin) / playerTileSize);
-        int startPlayerTileY = (int)Math.floor((cameraBottom - margin) / playerTileSize);
-        int endPlayerTileY = (int)Math.ceil((cameraTop + margin) / playerTileSize);
-        
-        for (int x = startPlayerTileX; x <= endPlayerTileX; x++) {
-            float lineX = x * playerTileSize;
-            shapeRenderer.line(lineX, startPlayerTileY * playerTileSize, lineX, endPlayerTileY * playerTileSize);
-        }
-        
-        for (int y = startPlayerTileY; y <= endPlayerTileY; y++) {
-            float lineY = y * playerTileSize;
-            shapeRenderer.line(startPlayerTileX * playerTileSize, lineY, endPlayerTileX * playerTileSize, lineY);
-        }
-        
-        // マップ升の太いグリッドを描画
-        shapeRenderer.setColor(Color.DARK_GRAY);
-        
-        int startMapTileX = (int)Math.floor((cameraLeft - margin) / mapTileSize);
-        int endMapTileX = (int)Math.ceil((cameraRight + margin) / mapTileSize);
-        int startMapTileY = (int)Math.floor((cameraBottom - margin) / mapTileSize);
-        int endMapTileY = (int)Math.ceil((cameraTop + margin) / mapTileSize);
-        
-        for (int x = startMapTileX; x <= endMapTileX; x++) {
-            float lineX = x * mapTileSize;
-            shapeRenderer.line(lineX, startMapTileY * mapTileSize, lineX, endMapTileY * mapTileSize);
-        }
-        
-        for (int y = startMapTileY; y <= endMapTileY; y++) {
-            float lineY = y * mapTileSize;
-            shapeRenderer.line(startMapTileX * mapTileSize, lineY, endMapTileX * mapTileSize, lineY);
-        }
-    }
-    
     /**
      * UI情報（取得アイテム数など）を描画します。
-     * @param itemManager アイテムマネージャー
+     * @param civilizationLevel 文明レベル
+     * @param civilizationLevelName 文明レベルの名前
      * @param totalLivestockProducts 畜産物の累計生産数（nullの場合は表示しない）
+     * @param targetSpeed ワールドの時間の目標の倍率
+     * @param achievedSpeed 実際に達成できているワールドの時間の倍率
      */
-    public void drawUI(ItemManager itemManager, Integer totalLivestockProducts) {
+    public void drawUI(int civilizationLevel, String civilizationLevelName, Integer totalLivestockProducts, float targetSpeed, float achievedSpeed) {
         batch.setProjectionMatrix(uiCamera.combined);
         batch.begin();
         
@@ -118,25 +65,33 @@ public class UIRenderer {
         int fps = Gdx.graphics.getFramesPerSecond();
         String fpsText = "FPS: " + fps;
         font.draw(batch, fpsText, leftX, topY);
+        float currentY = topY;
+        
+        // 倍速中はワールドの時間の目標の倍率と実際の倍率を表示
+        if (targetSpeed > 1f) {
+            String speedText = "速度: x" + (int)targetSpeed + " (実際 x" + String.format("%.1f", achievedSpeed) + ")";
+            GlyphLayout speedLayout = new GlyphLayout(font, speedText);
+            currentY -= speedLayout.height + 10;
+            font.draw(batch, speedText, leftX, currentY);
+        }
         
         // 文明レベルを表示（日本語対応）
-        CivilizationLevel civLevel = itemManager.getCivilizationLevel();
-        String civText = "文明レベル: " + civLevel.getLevel() + " (" + civLevel.getLevelName() + ")";
+        String civText = "文明レベル: " + civilizationLevel + " (" + civilizationLevelName + ")";
         GlyphLayout civLayout = new GlyphLayout(font, civText);
-        float currentY = topY - civLayout.height - 10;
+        currentY -= civLayout.height + 10;
         font.draw(batch, civText, leftX, currentY);
         
         // 文明進捗を表示（次のレベルへの進捗）
-        if (civLevel.getLevel() < CivilizationLevel.MAX_LEVEL) {
-            int nextLevel = civLevel.getLevel() + 1;
-            String progressText = getCivilizationProgressText(civLevel, nextLevel, totalLivestockProducts);
+        if (civilizationLevel < CivilizationLevel.MAX_LEVEL) {
+            int nextLevel = civilizationLevel + 1;
+            String progressText = getCivilizationProgressText(nextLevel, totalLivestockProducts);
             if (progressText != null) {
                 GlyphLayout progressLayout = new GlyphLayout(font, progressText);
                 currentY -= progressLayout.height + 10;
                 font.draw(batch, progressText, leftX, currentY);
                 
                 // 進捗バーを描画
-                drawProgressBar(leftX, currentY - 20, 200, 10, civLevel, nextLevel, totalLivestockProducts);
+                drawProgressBar(leftX, currentY - 20, 200, 10, nextLevel, totalLivestockProducts);
             }
         }
         
@@ -164,7 +119,7 @@ public class UIRenderer {
     /**
      * 文明進捗のテキストを取得します。
      */
-    private String getCivilizationProgressText(CivilizationLevel civLevel, int nextLevel, Integer totalLivestockProducts) {
+    private String getCivilizationProgressText(int nextLevel, Integer totalLivestockProducts) {
         if (nextLevel == 3) {
             // レベル3への進行条件：畜産物を累計20生産
             if (totalLivestockProducts != null) {
@@ -183,7 +138,7 @@ public class UIRenderer {
      * 進捗バーを描画します。
      */
     private void drawProgressBar(float x, float y, float width, float height, 
-                                  CivilizationLevel civLevel, int nextLevel, Integer totalLivestockProducts) {
+                                  int nextLevel, Integer totalLivestockProducts) {
         batch.end();
         
         shapeRenderer.setProjectionMatrix(uiCamera.combined);
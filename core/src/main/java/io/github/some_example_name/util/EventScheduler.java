@@ -0,0 +1,253 @@
+package io.github.some_example_name.util;
+
+/**
+ * シミュレーション時刻をキーにして、将来のイベントを発生させるスケジューラー。
+ *
+ * <p>イベントは時刻の早い順（同時刻の場合は登録順）に並べた二分ヒープで管理します。
+ * 毎フレームの処理は期限が来たイベントの数だけで済み、待っているイベントの数には依存しません。
+ * イベントはヒープ内の位置を覚えているため、取り消しや再登録もO(log n)です。</p>
+ *
+ * <p>イベントのオブジェクトは呼び出し側が保持して使い回すことを想定しており、
+ * 登録・取り消しでアロケーションは発生しません（ヒープの拡張時を除く）。</p>
+ */
+public class EventScheduler {
+    /**
+     * 期限が来たイベントを受け取るリスナー。
+     */
+    public interface Listener {
+        /**
+         * イベントの期限が来たときに呼び出されます。
+         * イベントはスケジューラーから外された状態で渡されるため、そのまま再登録できます。
+         * @param event イベント（{@link Event#getTime()}は予定されていた時刻）
+         */
+        void onEvent(Event event);
+    }
+
+    /**
+     * スケジューラーに登録するイベント。
+     */
+    public static final class Event {
+        // イベントの対象（農地タイルなど）
+        private final Object owner;
+
+        // 予定時刻（秒）
+        private double time;
+
+        // 同時刻のイベントを登録順に並べるための番号
+        private long sequence;
+
+        // ヒープ内の位置（登録されていない場合は-1）
+        private int heapIndex = -1;
+
+        /**
+         * @param owner イベントの対象
+         */
+        public Event(Object owner) {
+            this.owner = owner;
+        }
+
+        /**
+         * イベントの対象を返します。
+         */
+        public Object getOwner() {
+            return owner;
+        }
+
+        /**
+         * 予定時刻（秒）を返します。
+         */
+        public double getTime() {
+            return time;
+        }
+
+        /**
+         * スケジューラーに登録されているかどうかを返します。
+         */
+        public boolean isScheduled() {
+            return heapIndex >= 0;
+        }
+    }
+
+    private final Listener listener;
+
+    // 予定時刻の早い順の二分ヒープ
+    private Event[] heap;
+    private int size;
+
+    // 現在のシミュレーション時刻（秒）
+    private double time;
+
+    // 次に割り当てる登録順の番号
+    private long nextSequence;
+
+    /**
+     * @param listener 期限が来たイベントを受け取るリスナー
+     */
+    public EventScheduler(Listener listener) {
+        this(listener, 0.0);
+    }
+
+    /**
+     * @param listener 期限が来たイベントを受け取るリスナー
+     * @param startTime 開始時のシミュレーション時刻（秒）
+     */
+    public EventScheduler(Listener listener, double startTime) {
+        this.listener = listener;
+        this.heap = new Event[64];
+        this.size = 0;
+        this.time = startTime;
+        this.nextSequence = 0;
+    }
+
+    /**
+     * 現在のシミュレーション時刻（秒）を返します。
+     */
+    public double getTime() {
+        return time;
+    }
+
+    /**
+     * 登録されているイベントの数を返します。
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * イベントを指定された時刻に登録します。登録済みの場合は時刻を変更します。
+     * @param event イベント
+     * @param eventTime 予定時刻（秒、現在時刻より前の場合は次の{@link #advance}で発生する）
+     */
+    public void schedule(Event event, double eventTime) {
+        if (event.isScheduled()) {
+            removeAt(event.heapIndex);
+        }
+        event.time = eventTime;
+        event.sequence = nextSequence++;
+        if (size == heap.length) {
+            Event[] newHeap = new Event[size * 2];
+            System.arraycopy(heap, 0, newHeap, 0, size);
+            heap = newHeap;
+        }
+        heap[size] = event;
+        event.heapIndex = size;
+        size++;
+        siftUp(event.heapIndex);
+    }
+
+    /**
+     * イベントを指定された時間後に登録します。
+     * @param event イベント
+     * @param delaySeconds 現在時刻からの時間（秒）
+     */
+    public void scheduleAfter(Event event, double delaySeconds) {
+        schedule(event, time + delaySeconds);
+    }
+
+    /**
+     * イベントの登録を取り消します（登録されていない場合は何もしません）。
+     * @param event イベント
+     */
+    public void cancel(Event event) {
+        if (event.isScheduled()) {
+            removeAt(event.heapIndex);
+        }
+    }
+
+    /**
+     * すべてのイベントを取り消します（時刻はそのまま）。
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            heap[i].heapIndex = -1;
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * 時刻を進め、期限が来たイベントを時刻順にリスナーへ渡します。
+     * リスナーの中で登録されたイベントも、期限が来ていれば同じ呼び出しの中で発生します。
+     * @param deltaSeconds 進める時間（秒）
+     */
+    public void advance(double deltaSeconds) {
+        advanceTo(time + deltaSeconds);
+    }
+
+    /**
+     * 時刻を指定された時刻まで進め、期限が来たイベントを時刻順にリスナーへ渡します。
+     * 途中を何回に分けて進めても、同じ時刻まで進めれば同じイベントが同じ順番で発生します。
+     * @param targetTime 進める先の時刻（秒、現在時刻より前の場合は時刻を変えない）
+     */
+    public void advanceTo(double targetTime) {
+        if (targetTime > time) {
+            time = targetTime;
+        }
+        while (size > 0 && heap[0].time <= time) {
+            Event event = heap[0];
+            removeAt(0);
+            listener.onEvent(event);
+        }
+    }
+
+    private void removeAt(int index) {
+        Event removed = heap[index];
+        removed.heapIndex = -1;
+        size--;
+        if (index == size) {
+            heap[size] = null;
+            return;
+        }
+        Event last = heap[size];
+        heap[size] = null;
+        heap[index] = last;
+        last.heapIndex = index;
+        if (index > 0 && isBefore(last, heap[(index - 1) >> 1])) {
+            siftUp(index);
+        } else {
+            siftDown(index);
+        }
+    }
+
+    private void siftUp(int index) {
+        Event event = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >> 1;
+            if (!isBefore(event, heap[parent])) {
+                break;
+            }
+            heap[index] = heap[parent];
+            heap[index].heapIndex = index;
+            index = parent;
+        }
+        heap[index] = event;
+        event.heapIndex = index;
+    }
+
+    private void siftDown(int index) {
+        Event event = heap[index];
+        int half = size >> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < size && isBefore(heap[right], heap[child])) {
+                child = right;
+            }
+            if (!isBefore(heap[child], event)) {
+                break;
+            }
+            heap[index] = heap[child];
+            heap[index].heapIndex = index;
+            index = child;
+        }
+        heap[index] = event;
+        event.heapIndex = index;
+    }
+
+    private static boolean isBefore(Event a, Event b) {
+        if (a.time != b.time) {
+            return a.time < b.time;
+        }
+        return a.sequence < b.sequence;
+    }
+}
@@ -0,0 +1,177 @@
+package io.github.some_example_name.util;
+
+/**
+ * 整数ハッシュによるバリューノイズの実装。
+ *
+ * <p>格子点の値はシードと格子座標のハッシュから直接求めるため、乱数オブジェクトを生成しません。
+ * 格子点の間はスムーズステップで重み付けした双線形補間で滑らかにつなぎます。
+ * {@link #fillChunk}は作業用配列を再利用するため、一度確保した後はアロケーションが発生しません。
+ * 作業用配列を持つのでスレッドセーフではありません。</p>
+ */
+public class HashValueNoise implements NoiseGenerator {
+    // オクターブごとにシードをずらすための定数
+    private static final long OCTAVE_SEED_STEP = 0x632BE59BD9B4E019L;
+
+    // 列ごとの格子X座標と補間の重み
+    private int[] columnLattice;
+    private double[] columnWeight;
+
+    // 行ごとの格子Y座標と補間の重み
+    private int[] rowLattice;
+    private double[] rowWeight;
+
+    // 領域が参照する格子点の値
+    private double[] latticeValues;
+
+    public HashValueNoise() {
+        this.columnLattice = new int[0];
+        this.columnWeight = new double[0];
+        this.rowLattice = new int[0];
+        this.rowWeight = new double[0];
+        this.latticeValues = new double[0];
+    }
+
+    @Override
+    public double sample(long seed, int x, int y, double scale, int octaves) {
+        double value = 0.0;
+        double amplitude = 1.0;
+        double frequency = scale;
+        double maxValue = 0.0;
+
+        for (int i = 0; i < octaves; i++) {
+            long octaveSeed = seed + i * OCTAVE_SEED_STEP;
+
+            double fx = x * frequency;
+            double fy = y * frequency;
+            int x0 = (int)Math.floor(fx);
+            int y0 = (int)Math.floor(fy);
+            double sx = smoothstep(fx - x0);
+            double sy = smoothstep(fy - y0);
+
+            double n00 = latticeValue(octaveSeed, x0, y0);
+            double n10 = latticeValue(octaveSeed, x0 + 1, y0);
+            double n01 = latticeValue(octaveSeed, x0, y0 + 1);
+            double n11 = latticeValue(octaveSeed, x0 + 1, y0 + 1);
+
+            value += interpolate(n00, n10, n01, n11, sx, sy) * amplitude;
+            maxValue += amplitude;
+            amplitude *= 0.5;
+            frequency *= 2.0;
+        }
+
+        return value / maxValue;
+    }
+
+    @Override
+    public void fillChunk(long seed, int startX, int startY, int size, double scale, int octaves, double[] out) {
+        ensureAxisCapacity(size);
+        int count = size * size;
+
+        double amplitude = 1.0;
+        double frequency = scale;
+        double maxValue = 0.0;
+
+        for (int i = 0; i < octaves; i++) {
+            long octaveSeed = seed + i * OCTAVE_SEED_STEP;
+
+            // 列と行ごとの格子座標と重みを先に求める（タイルごとの計算を減らす）
+            for (int local = 0; local < size; local++) {
+                double fx = (startX + local) * frequency;
+                int x0 = (int)Math.floor(fx);
+                columnLattice[local] = x0;
+                columnWeight[local] = smoothstep(fx - x0);
+
+                double fy = (startY + local) * frequency;
+                int y0 = (int)Math.floor(fy);
+                rowLattice[local] = y0;
+                rowWeight[local] = smoothstep(fy - y0);
+            }
+
+            // 領域が参照する格子点の値を一度だけ計算する
+            int minLatticeX = columnLattice[0];
+            int minLatticeY = rowLattice[0];
+            int latticeWidth = columnLattice[size - 1] - minLatticeX + 2;
+            int latticeHeight = rowLattice[size - 1] - minLatticeY + 2;
+            ensureLatticeCapacity(latticeWidth * latticeHeight);
+            for (int ly = 0; ly < latticeHeight; ly++) {
+                for (int lx = 0; lx < latticeWidth; lx++) {
+                    latticeValues[ly * latticeWidth + lx] =
+                        latticeValue(octaveSeed, minLatticeX + lx, minLatticeY + ly);
+                }
+            }
+
+            // 各タイルの値を補間して合成する
+            for (int localY = 0; localY < size; localY++) {
+                int row = (rowLattice[localY] - minLatticeY) * latticeWidth;
+                double sy = rowWeight[localY];
+                for (int localX = 0; localX < size; localX++) {
+                    int index = row + columnLattice[localX] - minLatticeX;
+                    double n00 = latticeValues[index];
+                    double n10 = latticeValues[index + 1];
+                    double n01 = latticeValues[index + latticeWidth];
+                    double n11 = latticeValues[index + latticeWidth + 1];
+
+                    double octaveValue = interpolate(n00, n10, n01, n11, columnWeight[localX], sy) * amplitude;
+                    int outIndex = localY * size + localX;
+                    if (i == 0) {
+                        out[outIndex] = octaveValue;
+                    } else {
+                        out[outIndex] += octaveValue;
+                    }
+                }
+            }
+
+            maxValue += amplitude;
+            amplitude *= 0.5;
+            frequency *= 2.0;
+        }
+
+        for (int index = 0; index < count; index++) {
+            out[index] /= maxValue;
+        }
+    }
+
+    /**
+     * 格子点の値をシードと座標のハッシュから求めます。
+     * @return 0.0以上1.0未満の値
+     */
+    private static double latticeValue(long seed, int x, int y) {
+        long h = seed + x * 0x9E3779B97F4A7C15L + y * 0xC2B2AE3D27D4EB4FL;
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        h ^= h >>> 31;
+        // 上位53ビットを[0, 1)のdoubleに変換
+        return (h >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * スムーズステップ関数。
+     */
+    private static double smoothstep(double t) {
+        return t * t * (3.0 - 2.0 * t);
+    }
+
+    /**
+     * 双線形補間を行います。
+     */
+    private static double interpolate(double n00, double n10, double n01, double n11, double sx, double sy) {
+        double nx0 = n00 * (1.0 - sx) + n10 * sx;
+        double nx1 = n01 * (1.0 - sx) + n11 * sx;
+        return nx0 * (1.0 - sy) + nx1 * sy;
+    }
+
+    private void ensureAxisCapacity(int size) {
+        if (columnLattice.length < size) {
+            columnLattice = new int[size];
+            columnWeight = new double[size];
+            rowLattice = new int[size];
+            rowWeight = new double[size];
+        }
+    }
+
+    private void ensureLatticeCapacity(int count) {
+        if (latticeValues.length < count) {
+            latticeValues = new double[count];
+        }
+    }
+}
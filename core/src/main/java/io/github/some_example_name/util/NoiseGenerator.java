@@ -0,0 +1,33 @@
+package io.github.some_example_name.util;
+
+/**
+ * 地形生成に使うノイズエンジンのインターフェース。
+ *
+ * <p>同じシードと座標に対しては常に同じ値を返す必要があります（ビット単位で再現可能）。
+ * 実装は作業用配列を内部に持つことがあるため、スレッド間で共有せず、スレッドごとにインスタンスを用意してください。</p>
+ */
+public interface NoiseGenerator {
+    /**
+     * 1点のノイズ値を計算します（複数オクターブ合成）。
+     * @param seed シード
+     * @param x X座標（タイル単位）
+     * @param y Y座標（タイル単位）
+     * @param scale 基本スケール（小さいほど大きなエリア）
+     * @param octaves オクターブ数
+     * @return 0.0から1.0の間の値
+     */
+    double sample(long seed, int x, int y, double scale, int octaves);
+
+    /**
+     * 正方形の領域全体のノイズ値をまとめて計算します（複数オクターブ合成）。
+     * 結果は{@code out[localY * size + localX]}に格納されます。
+     * @param seed シード
+     * @param startX 領域の左下のX座標（タイル単位）
+     * @param startY 領域の左下のY座標（タイル単位）
+     * @param size 領域の一辺のタイル数
+     * @param scale 基本スケール（小さいほど大きなエリア）
+     * @param octaves オクターブ数
+     * @param out 結果の格納先（size * size以上の長さ）
+     */
+    void fillChunk(long seed, int startX, int startY, int size, double scale, int octaves, double[] out);
+}
@@ -0,0 +1,127 @@
+package io.github.some_example_name.entity;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link FarmTile#advance}で経過時間をまとめて進めた結果が、成長イベントを1つずつ処理した場合と同じになることを確かめるテスト。
+ */
+public class FarmTileTest {
+    // 成長段階のしきい値（秒、成長速度の倍率を掛けた値）
+    private static final float[] STAGE_TIMES = {0f, 3f, 6f, 10f};
+
+    // 残り時間の比較の許容誤差（秒）
+    private static final float EPSILON = 1e-3f;
+
+    @Test
+    public void advanceMatchesStepByStepEvents() {
+        Random random = new Random(1);
+        // 土壌条件のない種と、土壌によって成長速度が変わる作物
+        CropSoilRequirements[] crops = {
+            null, CropSoilRequirements.rice(), CropSoilRequirements.wheat(), CropSoilRequirements.potato()
+        };
+        int compared = 0;
+        for (int soilIndex = 0; soilIndex < 20; soilIndex++) {
+            SoilData soil = new SoilData(random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat());
+            for (CropSoilRequirements crop : crops) {
+                if (plantedTile(soil, crop) == null) {
+                    continue;
+                }
+                for (int startStage = 0; startStage < STAGE_TIMES.length - 1; startStage++) {
+                    for (int i = 0; i < 20; i++) {
+                        float elapsed = random.nextFloat() * 60f;
+                        if (compare(soil, crop, startStage, elapsed)) {
+                            compared++;
+                        }
+                    }
+                }
+            }
+        }
+        assertTrue(compared > 0);
+    }
+
+    @Test
+    public void advanceWithZeroElapsedKeepsStage() {
+        FarmTile tile = plantedTile(new SoilData(), null);
+        assertEquals(3f, tile.advance(0f), EPSILON);
+        assertEquals(0, tile.getGrowthStage());
+    }
+
+    @Test
+    public void advancePastHarvestableStopsGrowing() {
+        FarmTile tile = plantedTile(new SoilData(), null);
+        assertEquals(-1f, tile.advance(1000f), 0f);
+        assertEquals(3, tile.getGrowthStage());
+        assertEquals(-1f, tile.getSecondsToNextStage(), 0f);
+    }
+
+    @Test
+    public void tileWithoutSeedDoesNotGrow() {
+        FarmTile tile = new FarmTile(0, 0);
+        assertEquals(-1f, tile.advance(100f), 0f);
+        assertEquals(0, tile.getGrowthStage());
+    }
+
+    /**
+     * 指定された段階から、同じ経過時間をまとめて進めた場合とイベントごとに進めた場合を比べます。
+     * @return 比べた場合true（段階のしきい値のすぐ近くで比べなかった場合false）
+     */
+    private static boolean compare(SoilData soil, CropSoilRequirements crop, int startStage, float elapsed) {
+        FarmTile closedForm = plantedTile(soil, crop);
+        FarmTile stepped = plantedTile(soil, crop);
+        float multiplier = closedForm.getGrowthMultiplier();
+        if (isNearThreshold(startStage, elapsed, multiplier)) {
+            return false;
+        }
+        for (int stage = 0; stage < startStage; stage++) {
+            closedForm.advanceStage();
+            stepped.advanceStage();
+        }
+
+        float closedFormRemaining = closedForm.advance(elapsed);
+
+        // 次の段階までの時間が残りの経過時間に収まる間、成長イベントを処理する
+        float remaining = elapsed;
+        float untilNext = stepped.getSecondsToNextStage();
+        while (untilNext >= 0f && untilNext <= remaining) {
+            remaining -= untilNext;
+            stepped.advanceStage();
+            untilNext = stepped.getSecondsToNextStage();
+        }
+        float steppedRemaining = untilNext < 0f ? -1f : untilNext - remaining;
+
+        String message = "multiplier=" + multiplier + " start=" + startStage + " elapsed=" + elapsed;
+        assertEquals(message, stepped.getGrowthStage(), closedForm.getGrowthStage());
+        assertEquals(message, steppedRemaining, closedFormRemaining, EPSILON);
+        // まとめて進めた後のイベントの予定も、イベントごとに進めた場合と同じになる
+        assertEquals(message, stepped.getSecondsToNextStage(), closedForm.getSecondsToNextStage(), EPSILON);
+        return true;
+    }
+
+    /**
+     * 経過時間が段階のしきい値のすぐ近くかどうかを返します（丸め誤差で段階が食い違いうるため比べない）。
+     */
+    private static boolean isNearThreshold(int startStage, float elapsed, float multiplier) {
+        float growth = STAGE_TIMES[startStage] + elapsed * multiplier;
+        for (float threshold : STAGE_TIMES) {
+            if (Math.abs(growth - threshold) < EPSILON) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 指定された土壌に種を植えた農地を作ります。
+     * @return 農地（土壌条件を満たさず植えられない場合はnull）
+     */
+    private static FarmTile plantedTile(SoilData soil, CropSoilRequirements crop) {
+        FarmTile tile = new FarmTile(0, 0);
+        tile.setSoilData(soil);
+        return tile.plantSeed(null, crop) ? tile : null;
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.some_example_name.entity;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link LivestockTile#advance}で経過時間をまとめて進めた結果が、タイマーイベントを1つずつ処理した場合と同じになることを確かめるテスト。
+ */
+public class LivestockTileTest {
+    // 成長段階のしきい値（秒）
+    private static final float STAGE_1_TIME = 5f;
+    private static final float STAGE_2_TIME = 10f;
+
+    // 残り時間の比較の許容誤差（秒）
+    private static final float EPSILON = 1e-3f;
+
+    @Test
+    public void advanceMatchesStepByStepEvents() {
+        Random random = new Random(1);
+        float[] productIntervals = {8f, 2.5f, 30f};
+        for (float productInterval : productIntervals) {
+            for (boolean hasProduct : new boolean[] {true, false}) {
+                LivestockData data = createData(productInterval, hasProduct);
+                // 幼体・成長中・成熟から始める
+                for (int startEvents = 0; startEvents <= 2; startEvents++) {
+                    for (int i = 0; i < 200; i++) {
+                        float elapsed = random.nextFloat() * 60f;
+                        if (isNearThreshold(data, startEvents, elapsed)) {
+                            continue;
+                        }
+                        compare(data, startEvents, elapsed);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void productWaitsForHarvest() {
+        LivestockTile tile = placedTile(createData(8f, true));
+        assertEquals(-1f, tile.advance(1000f), 0f);
+        assertEquals(2, tile.getGrowthStage());
+        assertTrue(tile.hasProduct());
+        // 収穫されるまで次の製品は作らない
+        assertEquals(-1f, tile.getSecondsToNextEvent(), 0f);
+
+        assertTrue(tile.harvestProduct());
+        assertEquals(8f, tile.getSecondsToNextEvent(), EPSILON);
+        assertEquals(3f, tile.advance(5f), EPSILON);
+        assertFalse(tile.hasProduct());
+    }
+
+    @Test
+    public void tileWithoutAnimalDoesNotChange() {
+        LivestockTile tile = new LivestockTile(0, 0);
+        assertEquals(-1f, tile.advance(100f), 0f);
+        assertEquals(0, tile.getGrowthStage());
+        assertFalse(tile.hasProduct());
+    }
+
+    /**
+     * 指定された数のイベントを処理した状態から、同じ経過時間をまとめて進めた場合とイベントごとに進めた場合を比べます。
+     */
+    private static void compare(LivestockData data, int startEvents, float elapsed) {
+        LivestockTile closedForm = placedTile(data);
+        LivestockTile stepped = placedTile(data);
+        for (int i = 0; i < startEvents; i++) {
+            closedForm.advanceToNextEvent();
+            stepped.advanceToNextEvent();
+        }
+
+        float closedFormRemaining = closedForm.advance(elapsed);
+
+        // 次のイベントまでの時間が残りの経過時間に収まる間、タイマーイベントを処理する
+        float remaining = elapsed;
+        float untilNext = stepped.getSecondsToNextEvent();
+        while (untilNext >= 0f && untilNext <= remaining) {
+            remaining -= untilNext;
+            stepped.advanceToNextEvent();
+            untilNext = stepped.getSecondsToNextEvent();
+        }
+        float steppedRemaining = untilNext < 0f ? -1f : untilNext - remaining;
+
+        String message = "interval=" + data.productInterval + " product=" + data.hasProduct() +
+            " start=" + startEvents + " elapsed=" + elapsed;
+        assertEquals(message, stepped.getGrowthStage(), closedForm.getGrowthStage());
+        assertEquals(message, stepped.hasProduct(), closedForm.hasProduct());
+        assertEquals(message, steppedRemaining, closedFormRemaining, EPSILON);
+    }
+
+    /**
+     * 経過時間が状態の変わる時刻のすぐ近くかどうかを返します（丸め誤差で状態が食い違いうるため比べない）。
+     */
+    private static boolean isNearThreshold(LivestockData data, int startEvents, float elapsed) {
+        float start = startEvents == 0 ? 0f : (startEvents == 1 ? STAGE_1_TIME : STAGE_2_TIME);
+        float time = start + elapsed;
+        float[] thresholds = {STAGE_1_TIME, STAGE_2_TIME, STAGE_2_TIME + data.productInterval};
+        for (float threshold : thresholds) {
+            if (Math.abs(time - threshold) < EPSILON) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static LivestockData createData(float productInterval, boolean hasProduct) {
+        LivestockData data = new LivestockData();
+        data.productInterval = productInterval;
+        data.productItemId = hasProduct ? 1 : -1;
+        return data;
+    }
+
+    private static LivestockTile placedTile(LivestockData data) {
+        LivestockTile tile = new LivestockTile(0, 0);
+        tile.placeAnimal(data);
+        return tile;
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.some_example_name.manager;
+
+import io.github.some_example_name.entity.TerrainChunk;
+import io.github.some_example_name.entity.TerrainTile;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link ChunkStore}の書き込みと読み込み、リージョンファイルからの索引の作り直しを確かめるテスト。
+ *
+ * <p>リージョンの境界をまたぐよう、負の座標を含むチャンクを使います。</p>
+ */
+public class ChunkStoreTest {
+    // 書き込むチャンクの座標（リージョンの境界の両側と、離れたリージョン）
+    private static final int[][] CHUNKS = {{0, 0}, {-1, -1}, {31, 0}, {32, 5}, {-33, 64}};
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writtenChunkReadsBackWithSameTypes() {
+        ChunkStore store = new ChunkStore(new FileHandle(folder.getRoot()));
+        for (int[] coord : CHUNKS) {
+            assertTrue(store.write(createChunk(coord[0], coord[1])));
+        }
+        assertEquals(CHUNKS.length, store.size());
+
+        for (int[] coord : CHUNKS) {
+            TerrainChunk read = store.read(coord[0], coord[1]);
+            assertNotNull(read);
+            assertSameTypes(createChunk(coord[0], coord[1]), read);
+            // ディスクから読んだチャンクはシードから作り直せないが、ディスクとは同じ内容
+            assertTrue(read.isModified());
+            assertFalse(read.isDirty());
+        }
+    }
+
+    @Test
+    public void unwrittenChunkIsNotStored() {
+        ChunkStore store = new ChunkStore(new FileHandle(folder.getRoot()));
+        store.write(createChunk(0, 0));
+
+        assertFalse(store.contains(TerrainChunk.key(1, 0)));
+        assertNull(store.read(1, 0));
+    }
+
+    @Test
+    public void writeClearsDirtyFlag() {
+        ChunkStore store = new ChunkStore(new FileHandle(folder.getRoot()));
+        TerrainChunk chunk = createChunk(3, 4);
+        chunk.setDirty(true);
+
+        assertTrue(store.write(chunk));
+        assertFalse(chunk.isDirty());
+    }
+
+    @Test
+    public void rewrittenChunkReplacesPreviousRecord() {
+        ChunkStore store = new ChunkStore(new FileHandle(folder.getRoot()));
+        TerrainChunk chunk = createChunk(2, 2);
+        store.write(chunk);
+        chunk.setType(0, TerrainTile.TerrainType.STONE);
+        store.write(chunk);
+
+        assertEquals(1, store.size());
+        assertEquals(TerrainTile.TerrainType.STONE, store.read(2, 2).getType(0));
+    }
+
+    @Test
+    public void newStoreRebuildsIndexFromRegionFiles() {
+        FileHandle directory = new FileHandle(folder.getRoot());
+        ChunkStore writer = new ChunkStore(directory);
+        for (int[] coord : CHUNKS) {
+            writer.write(createChunk(coord[0], coord[1]));
+        }
+
+        ChunkStore reader = new ChunkStore(directory);
+        assertEquals(CHUNKS.length, reader.size());
+        for (int[] coord : CHUNKS) {
+            assertTrue(reader.contains(TerrainChunk.key(coord[0], coord[1])));
+            assertSameTypes(createChunk(coord[0], coord[1]), reader.read(coord[0], coord[1]));
+        }
+        // 同じリージョンの書き込んでいないスロットは索引に入らない
+        assertFalse(reader.contains(TerrainChunk.key(1, 1)));
+    }
+
+    @Test
+    public void loadFromReplacesContentsAndIndex() throws Exception {
+        FileHandle saved = new FileHandle(folder.newFolder("save"));
+        ChunkStore store = new ChunkStore(new FileHandle(folder.newFolder("work")));
+        store.write(createChunk(0, 0));
+        store.write(createChunk(-1, -1));
+        store.copyTo(saved);
+
+        // セーブ後の変更はロードで捨てられる
+        store.write(createChunk(40, 40));
+        store.loadFrom(saved);
+
+        assertEquals(2, store.size());
+        assertFalse(store.contains(TerrainChunk.key(40, 40)));
+        assertSameTypes(createChunk(-1, -1), store.read(-1, -1));
+
+        // 存在しないディレクトリから読み込むと空になる
+        store.loadFrom(new FileHandle(folder.getRoot()).child("missing"));
+        assertEquals(0, store.size());
+        assertNull(store.read(0, 0));
+    }
+
+    /**
+     * 座標から決まる地形で埋めたチャンクを作ります。
+     */
+    private static TerrainChunk createChunk(int chunkX, int chunkY) {
+        TerrainChunk chunk = new TerrainChunk(chunkX, chunkY);
+        TerrainTile.TerrainType[] types = TerrainTile.TerrainType.values();
+        for (int index = 0; index < TerrainChunk.SIZE * TerrainChunk.SIZE; index++) {
+            int hash = index * 31 + chunkX * 7 + chunkY * 13;
+            chunk.setType(index, types[Math.floorMod(hash, types.length)]);
+        }
+        return chunk;
+    }
+
+    private static void assertSameTypes(TerrainChunk expected, TerrainChunk actual) {
+        for (int index = 0; index < TerrainChunk.SIZE * TerrainChunk.SIZE; index++) {
+            assertEquals("index " + index, expected.getType(index), actual.getType(index));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.some_example_name.manager;
+
+import io.github.some_example_name.ecs.ItemComponent;
+import io.github.some_example_name.ecs.PositionComponent;
+import io.github.some_example_name.entity.Item;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link ItemGrid}の追加と削除で、アイテムのエンティティが持つ添字（マス目のバケット内とアイテム一覧内）が正しく保たれることを確かめるテスト。
+ */
+public class ItemGridTest {
+    @Test
+    public void addAssignsSlots() {
+        ItemGrid grid = new ItemGrid();
+        Entity first = item(2, 3);
+        Entity second = item(2, 3);
+        Entity third = item(-4, 1);
+        grid.add(first);
+        grid.add(second);
+        grid.add(third);
+
+        assertEquals(0, slots(first).gridCellSlot);
+        assertEquals(1, slots(second).gridCellSlot);
+        assertEquals(0, slots(third).gridCellSlot);
+        assertEquals(0, slots(first).gridListSlot);
+        assertEquals(1, slots(second).gridListSlot);
+        assertEquals(2, slots(third).gridListSlot);
+        assertSlotsConsistent(grid);
+    }
+
+    @Test
+    public void removeMovesLastItemIntoFreedSlot() {
+        ItemGrid grid = new ItemGrid();
+        Entity a = item(0, 0);
+        Entity b = item(0, 0);
+        Entity c = item(0, 0);
+        grid.add(a);
+        grid.add(b);
+        grid.add(c);
+
+        assertTrue(grid.remove(a));
+
+        // 末尾のアイテムが空いた位置に移り、添字が更新される
+        assertEquals(-1, slots(a).gridCellSlot);
+        assertEquals(-1, slots(a).gridListSlot);
+        assertEquals(0, slots(c).gridCellSlot);
+        assertEquals(0, slots(c).gridListSlot);
+        assertEquals(1, slots(b).gridCellSlot);
+        assertEquals(2, grid.size());
+        assertSlotsConsistent(grid);
+    }
+
+    @Test
+    public void removeTwiceReturnsFalse() {
+        ItemGrid grid = new ItemGrid();
+        Entity item = item(1, 1);
+        grid.add(item);
+
+        assertTrue(grid.remove(item));
+        assertFalse(grid.remove(item));
+        assertFalse(grid.remove(item(1, 1)));
+        assertEquals(0, grid.size());
+    }
+
+    @Test
+    public void queryReturnsOnlyCellsInRange() {
+        ItemGrid grid = new ItemGrid();
+        Entity inside = item(5, 5);
+        Entity edge = item(7, 3);
+        Entity outside = item(8, 5);
+        grid.add(inside);
+        grid.add(edge);
+        grid.add(outside);
+
+        Array<Entity> out = new Array<>();
+        grid.query(3, 3, 7, 7, out);
+
+        assertEquals(2, out.size);
+        assertTrue(out.contains(inside, true));
+        assertTrue(out.contains(edge, true));
+        assertFalse(out.contains(outside, true));
+    }
+
+    @Test
+    public void randomAddRemoveKeepsSlotsConsistent() {
+        ItemGrid grid = new ItemGrid();
+        List<Entity> present = new ArrayList<>();
+        Random random = new Random(1);
+        for (int step = 0; step < 5000; step++) {
+            if (present.isEmpty() || random.nextInt(3) != 0) {
+                // 同じマス目に重なるよう狭い範囲に置く
+                Entity item = item(random.nextInt(8) - 4, random.nextInt(8) - 4);
+                grid.add(item);
+                present.add(item);
+            } else {
+                Entity item = present.remove(random.nextInt(present.size()));
+                assertTrue(grid.remove(item));
+            }
+        }
+
+        assertEquals(present.size(), grid.size());
+        assertSlotsConsistent(grid);
+        Array<Entity> out = new Array<>();
+        grid.query(-4, -4, 3, 3, out);
+        assertEquals(present.size(), out.size);
+        for (Entity item : present) {
+            assertTrue(out.contains(item, true));
+        }
+    }
+
+    @Test
+    public void clearResetsSlots() {
+        ItemGrid grid = new ItemGrid();
+        Entity item = item(0, 0);
+        grid.add(item);
+
+        grid.clear();
+
+        assertEquals(0, grid.size());
+        assertEquals(-1, slots(item).gridCellSlot);
+        assertEquals(-1, slots(item).gridListSlot);
+        Array<Entity> out = new Array<>();
+        grid.query(0, 0, 0, 0, out);
+        assertEquals(0, out.size);
+
+        // 使い回したバケットにも正しく追加できる
+        grid.add(item);
+        assertEquals(0, slots(item).gridCellSlot);
+        assertSlotsConsistent(grid);
+    }
+
+    /**
+     * すべてのアイテムの添字が、一覧とマス目のバケットの実際の位置を指していることを確かめます。
+     */
+    private static void assertSlotsConsistent(ItemGrid grid) {
+        Array<Entity> items = grid.getItems();
+        Array<Entity> cell = new Array<>();
+        for (int i = 0; i < items.size; i++) {
+            Entity item = items.get(i);
+            assertEquals(i, slots(item).gridListSlot);
+            cell.clear();
+            PositionComponent position = PositionComponent.MAPPER.get(item);
+            grid.query(position.tileX, position.tileY, position.tileX, position.tileY, cell);
+            assertSame(item, cell.get(slots(item).gridCellSlot));
+        }
+    }
+
+    /**
+     * 指定されたタイル位置に置くアイテムのエンティティを作ります。
+     */
+    private static Entity item(int tileX, int tileY) {
+        Entity entity = new Entity();
+        entity.add(new PositionComponent(tileX, tileY));
+        entity.add(new ItemComponent(new Item(tileX, tileY, Item.ItemType.RED)));
+        return entity;
+    }
+
+    private static ItemComponent slots(Entity entity) {
+        return ItemComponent.MAPPER.get(entity);
+    }
+}
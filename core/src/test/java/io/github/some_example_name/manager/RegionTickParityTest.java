@@ -0,0 +1,228 @@
+package io.github.some_example_name.manager;
+
+import io.github.some_example_name.ecs.CropGrowthComponent;
+import io.github.some_example_name.ecs.LivestockProductionComponent;
+import io.github.some_example_name.ecs.WorldEntities;
+import io.github.some_example_name.entity.FarmTile;
+import io.github.some_example_name.entity.LivestockData;
+import io.github.some_example_name.entity.LivestockTile;
+import io.github.some_example_name.game.Inventory;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertNull;
+
+/**
+ * 農地と畜産の領域ごとの並列ティック（距離による詳細度あり）が、すべてを毎ティック逐次で進めた場合と同じ結果になることを確かめるテスト。
+ *
+ * <p>同じ乱数列で植え付け・配置・収穫と時間の経過を行う2つのワールドを用意し、
+ * 片方は並列かつ詳細度ありで注目するタイルを動かしながら、もう片方は詳細度なしの逐次で進めます。
+ * インベントリと累計生産数はティックごとに、タイルの状態は後回しの領域を追いつかせてから一定間隔で比べます。
+ * 描画は使いませんが、家畜データの読み込みに{@code Gdx.files}を使うため、ヘッドレスのバックエンドを起動してから実行します。</p>
+ */
+public class RegionTickParityTest {
+    // 種と餌のアイテムID
+    private static final int SEED_ITEM_ID = 8;
+    private static final int FEED_ITEM_ID = 13;
+
+    // タイルを置く範囲（近い・中くらい・遠いのすべての領域ができる広さ）
+    private static final int WORLD_TILES = 512;
+
+    // タイルの状態を比べる間隔（ティック数）
+    private static final int COMPARE_INTERVAL = 60;
+
+    // 1回の検査で進めるティック数
+    private static final int TICKS = 3600;
+
+    private static HeadlessApplication application;
+
+    @BeforeClass
+    public static void startBackend() {
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // 描画ループは使わない
+        configuration.updatesPerSecond = -1;
+        application = new HeadlessApplication(new ApplicationAdapter() {}, configuration);
+    }
+
+    @AfterClass
+    public static void stopBackend() {
+        application.exit();
+    }
+
+    @Test
+    public void parallelTickMatchesSequentialTick() {
+        for (long seed = 1; seed <= 3; seed++) {
+            assertNull("seed " + seed, run(seed, TICKS));
+        }
+    }
+
+    /**
+     * 1つのワールド（エンティティ・農地・畜産・インベントリ）。
+     */
+    private static final class World {
+        final WorldEntities entities = new WorldEntities();
+        final Inventory inventory = new Inventory();
+        final FarmManager farmManager = new FarmManager();
+        final LivestockManager livestockManager = new LivestockManager();
+
+        World(boolean optimized) {
+            farmManager.setWorldEntities(entities);
+            farmManager.setInventory(inventory);
+            farmManager.setParallelTick(optimized);
+            farmManager.setLevelOfDetail(optimized);
+            livestockManager.setWorldEntities(entities);
+            livestockManager.setInventory(inventory);
+            livestockManager.setParallelTick(optimized);
+            livestockManager.setLevelOfDetail(optimized);
+        }
+
+        void update(float deltaTime, int focusTileX, int focusTileY) {
+            // プレイヤーのエンティティは置かないので、注目するタイルはシステムに直接渡す
+            farmManager.setFocusTile(focusTileX, focusTileY);
+            livestockManager.setFocusTile(focusTileX, focusTileY);
+            entities.update(deltaTime);
+        }
+
+        void catchUpAll() {
+            farmManager.catchUpAll();
+            livestockManager.catchUpAll();
+        }
+    }
+
+    /**
+     * 検査を実行します。
+     * @param seed 操作を決める乱数のシード
+     * @param ticks 進めるティック数
+     * @return 一致した場合null、一致しなかった場合は最初の不一致の説明
+     */
+    private static String run(long seed, int ticks) {
+        World optimized = new World(true);
+        World reference = new World(false);
+        LivestockData[] livestockTypes = createLivestockTypes(new Random(seed));
+
+        Random random = new Random(seed);
+        int focusTileX = 0;
+        int focusTileY = 0;
+        for (int tick = 0; tick < ticks; tick++) {
+            // 両方のワールドに同じ操作を行う
+            int actions = random.nextInt(4);
+            for (int i = 0; i < actions; i++) {
+                int action = random.nextInt(5);
+                int tileX = random.nextInt(WORLD_TILES) - WORLD_TILES / 2;
+                int tileY = random.nextInt(WORLD_TILES) - WORLD_TILES / 2;
+                LivestockData data = livestockTypes[random.nextInt(livestockTypes.length)];
+                apply(optimized, action, tileX, tileY, data);
+                apply(reference, action, tileX, tileY, data);
+            }
+
+            // 注目するタイルはゆっくり動かす
+            focusTileX += random.nextInt(3) - 1;
+            focusTileY += random.nextInt(3) - 1;
+
+            float deltaTime = (1f / 60f) * (0.5f + random.nextFloat());
+            optimized.update(deltaTime, focusTileX, focusTileY);
+            reference.update(deltaTime, focusTileX, focusTileY);
+
+            String mismatch = compareTotals(optimized, reference);
+            if (mismatch == null && tick % COMPARE_INTERVAL == 0) {
+                optimized.catchUpAll();
+                mismatch = compareTiles(optimized, reference);
+            }
+            if (mismatch != null) {
+                return "tick " + tick + ": " + mismatch;
+            }
+        }
+        return null;
+    }
+
+    private static LivestockData[] createLivestockTypes(Random random) {
+        LivestockData[] types = new LivestockData[4];
+        for (int i = 0; i < types.length; i++) {
+            LivestockData data = new LivestockData();
+            data.id = i + 1;
+            data.meatItemId = 100 + i;
+            data.productItemId = i % 2 == 0 ? 200 + i : -1;
+            data.productInterval = 1f + random.nextFloat() * 10f;
+            types[i] = data;
+        }
+        return types;
+    }
+
+    private static void apply(World world, int action, int tileX, int tileY, LivestockData data) {
+        switch (action) {
+            case 0:
+                world.inventory.addItem(SEED_ITEM_ID, 1);
+                world.farmManager.plantSeed(tileX, tileY, SEED_ITEM_ID);
+                break;
+            case 1:
+                world.farmManager.harvest(tileX, tileY);
+                break;
+            case 2:
+                world.inventory.addItem(FEED_ITEM_ID, 1);
+                world.livestockManager.placeAnimal(tileX, tileY, data);
+                break;
+            case 3:
+                world.livestockManager.harvest(tileX, tileY);
+                break;
+            default:
+                world.livestockManager.killAnimal(tileX, tileY);
+                break;
+        }
+    }
+
+    private static String compareTiles(World a, World b) {
+        ImmutableArray<Entity> farmsA = a.entities.getEntities(WorldEntities.CROPS);
+        int farmCountB = b.farmManager.getFarmTileCount();
+        if (farmsA.size() != farmCountB) {
+            return "farm tile count " + farmsA.size() + " != " + farmCountB;
+        }
+        for (int i = 0; i < farmsA.size(); i++) {
+            FarmTile farmA = CropGrowthComponent.MAPPER.get(farmsA.get(i)).farmTile;
+            FarmTile farmB = b.farmManager.getFarmTile(farmA.getTileX(), farmA.getTileY());
+            if (farmB == null || farmA.hasSeed() != farmB.hasSeed()
+                || farmA.getGrowthStage() != farmB.getGrowthStage()
+                || farmA.getSecondsToNextStage() != farmB.getSecondsToNextStage()) {
+                return "farm tile " + farmA.getTileX() + "," + farmA.getTileY() + " differs";
+            }
+        }
+
+        ImmutableArray<Entity> livestockA = a.entities.getEntities(WorldEntities.LIVESTOCK);
+        int livestockCountB = b.livestockManager.getLivestockTileCount();
+        if (livestockA.size() != livestockCountB) {
+            return "livestock tile count " + livestockA.size() + " != " + livestockCountB;
+        }
+        for (int i = 0; i < livestockA.size(); i++) {
+            LivestockTile tileA = LivestockProductionComponent.MAPPER.get(livestockA.get(i)).livestockTile;
+            LivestockTile tileB = b.livestockManager.getLivestockTile(tileA.getTileX(), tileA.getTileY());
+            if (tileB == null || tileA.hasAnimal() != tileB.hasAnimal()
+                || tileA.getGrowthStage() != tileB.getGrowthStage()
+                || tileA.hasProduct() != tileB.hasProduct()
+                || tileA.getSecondsToNextEvent() != tileB.getSecondsToNextEvent()
+                || tileA.getTimerEvent().getTime() != tileB.getTimerEvent().getTime()) {
+                return "livestock tile " + tileA.getTileX() + "," + tileA.getTileY() + " differs";
+            }
+        }
+        return null;
+    }
+
+    private static String compareTotals(World a, World b) {
+        if (!a.inventory.getAllItems().equals(b.inventory.getAllItems())) {
+            return "inventory " + a.inventory.getAllItems() + " != " + b.inventory.getAllItems();
+        }
+        if (a.livestockManager.getTotalLivestockProductsProduced() != b.livestockManager.getTotalLivestockProductsProduced()) {
+            return "total livestock products " + a.livestockManager.getTotalLivestockProductsProduced()
+                + " != " + b.livestockManager.getTotalLivestockProductsProduced();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.some_example_name.manager;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link WaterChannelNetwork}の水路の接続・切断で通水状態が正しく変わることを確かめるテスト。
+ */
+public class WaterChannelNetworkTest {
+    @Test
+    public void channelTouchingWaterIsWatered() {
+        WaterChannelNetwork network = new WaterChannelNetwork();
+        network.addChannel(0, 0, 1);
+        network.addChannel(5, 5, 0);
+
+        assertTrue(network.isWatered(0, 0));
+        assertFalse(network.isWatered(5, 5));
+        // 水路でないタイルは通水しない
+        assertFalse(network.isWatered(1, 0));
+    }
+
+    @Test
+    public void connectedChannelsShareWater() {
+        WaterChannelNetwork network = new WaterChannelNetwork();
+        // 水に接するのは端の1つだけの一直線の水路
+        network.addChannel(0, 0, 1);
+        for (int x = 1; x < 10; x++) {
+            network.addChannel(x, 0, 0);
+        }
+        // 斜めにつながる水路も同じ成分になる
+        network.addChannel(10, 1, 0);
+
+        for (int x = 0; x < 10; x++) {
+            assertTrue("x=" + x, network.isWatered(x, 0));
+        }
+        assertTrue(network.isWatered(10, 1));
+    }
+
+    @Test
+    public void joiningDryComponentToWateredComponentWatersIt() {
+        WaterChannelNetwork network = new WaterChannelNetwork();
+        network.addChannel(0, 0, 1);
+        network.addChannel(1, 0, 0);
+        network.addChannel(3, 0, 0);
+        network.addChannel(4, 0, 0);
+        assertFalse(network.isWatered(4, 0));
+
+        // 間をつなぐと乾いていた側も通水する
+        network.addChannel(2, 0, 0);
+
+        assertTrue(network.isWatered(4, 0));
+    }
+
+    @Test
+    public void removingChannelSplitsComponent() {
+        WaterChannelNetwork network = new WaterChannelNetwork();
+        network.addChannel(0, 0, 1);
+        for (int x = 1; x < 6; x++) {
+            network.addChannel(x, 0, 0);
+        }
+
+        network.removeChannel(3, 0);
+
+        assertFalse(network.isChannel(3, 0));
+        assertTrue(network.isWatered(2, 0));
+        assertFalse(network.isWatered(4, 0));
+        assertFalse(network.isWatered(5, 0));
+        assertEquals(5, network.size());
+
+        // つなぎ直すと再び通水する
+        network.addChannel(3, 0, 0);
+        assertTrue(network.isWatered(5, 0));
+    }
+
+    @Test
+    public void removingChannelKeepsComponentConnectedAroundIt() {
+        WaterChannelNetwork network = new WaterChannelNetwork();
+        // 2x3の水路の真ん中を抜いても、残りは斜めと横でつながっている
+        network.addChannel(0, 0, 1);
+        network.addChannel(1, 0, 0);
+        network.addChannel(2, 0, 0);
+        network.addChannel(0, 1, 0);
+        network.addChannel(1, 1, 0);
+        network.addChannel(2, 1, 0);
+
+        network.removeChannel(1, 0);
+
+        assertTrue(network.isWatered(2, 0));
+        assertTrue(network.isWatered(2, 1));
+    }
+
+    @Test
+    public void removingWaterSourceDriesComponent() {
+        WaterChannelNetwork network = new WaterChannelNetwork();
+        network.addChannel(0, 0, 1);
+        network.addChannel(1, 0, 0);
+
+        // 水路の脇の水が埋められた
+        network.addWaterContacts(0, 0, -1);
+        assertFalse(network.isWatered(1, 0));
+
+        // 別の水路の脇に水ができた
+        network.addWaterContacts(1, 0, 2);
+        assertTrue(network.isWatered(0, 0));
+
+        // 水のある水路を削除すると、残りは乾く
+        network.removeChannel(1, 0);
+        assertFalse(network.isWatered(0, 0));
+    }
+
+    @Test
+    public void addingSameChannelTwiceIsIgnored() {
+        WaterChannelNetwork network = new WaterChannelNetwork();
+        network.addChannel(0, 0, 0);
+        network.addChannel(0, 0, 1);
+
+        assertEquals(1, network.size());
+        assertFalse(network.isWatered(0, 0));
+
+        network.clear();
+        assertEquals(0, network.size());
+        assertFalse(network.isChannel(0, 0));
+    }
+}
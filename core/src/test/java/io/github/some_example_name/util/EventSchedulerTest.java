@@ -0,0 +1,237 @@
+package io.github.some_example_name.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link EventScheduler}の発生順と、取り消し・再登録を確かめるテスト。
+ */
+public class EventSchedulerTest {
+    /**
+     * 発生したイベントの対象を順に記録するリスナー。
+     */
+    private static final class Recorder implements EventScheduler.Listener {
+        final List<Object> fired = new ArrayList<>();
+
+        @Override
+        public void onEvent(EventScheduler.Event event) {
+            fired.add(event.getOwner());
+        }
+    }
+
+    @Test
+    public void eventsFireInTimeOrder() {
+        Recorder recorder = new Recorder();
+        EventScheduler scheduler = new EventScheduler(recorder);
+        double[] times = {5.0, 1.0, 3.0, 4.0, 2.0};
+        for (int i = 0; i < times.length; i++) {
+            scheduler.schedule(new EventScheduler.Event("at " + times[i]), times[i]);
+        }
+
+        scheduler.advance(10.0);
+
+        assertEquals(list("at 1.0", "at 2.0", "at 3.0", "at 4.0", "at 5.0"), recorder.fired);
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void eventsAtSameTimeFireInScheduleOrder() {
+        Recorder recorder = new Recorder();
+        EventScheduler scheduler = new EventScheduler(recorder);
+        for (int i = 0; i < 20; i++) {
+            scheduler.schedule(new EventScheduler.Event(i), 1.0);
+        }
+
+        scheduler.advance(1.0);
+
+        assertEquals(20, recorder.fired.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, recorder.fired.get(i));
+        }
+    }
+
+    @Test
+    public void onlyDueEventsFire() {
+        Recorder recorder = new Recorder();
+        EventScheduler scheduler = new EventScheduler(recorder);
+        EventScheduler.Event early = new EventScheduler.Event("early");
+        EventScheduler.Event late = new EventScheduler.Event("late");
+        scheduler.schedule(early, 1.0);
+        scheduler.schedule(late, 2.0);
+
+        scheduler.advance(1.5);
+
+        assertEquals(list("early"), recorder.fired);
+        assertFalse(early.isScheduled());
+        assertTrue(late.isScheduled());
+        assertEquals(1.5, scheduler.getTime(), 0.0);
+    }
+
+    @Test
+    public void cancelledEventDoesNotFire() {
+        Recorder recorder = new Recorder();
+        EventScheduler scheduler = new EventScheduler(recorder);
+        EventScheduler.Event[] events = new EventScheduler.Event[8];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new EventScheduler.Event(i);
+            scheduler.schedule(events[i], i + 1.0);
+        }
+
+        // ヒープの先頭・途中・末尾を取り消す
+        scheduler.cancel(events[0]);
+        scheduler.cancel(events[3]);
+        scheduler.cancel(events[7]);
+        // 登録されていないイベントの取り消しは何もしない
+        scheduler.cancel(events[3]);
+        scheduler.advance(10.0);
+
+        assertEquals(list(1, 2, 4, 5, 6), recorder.fired);
+        assertFalse(events[0].isScheduled());
+    }
+
+    @Test
+    public void rescheduleMovesEvent() {
+        Recorder recorder = new Recorder();
+        EventScheduler scheduler = new EventScheduler(recorder);
+        EventScheduler.Event a = new EventScheduler.Event("a");
+        EventScheduler.Event b = new EventScheduler.Event("b");
+        EventScheduler.Event c = new EventScheduler.Event("c");
+        scheduler.schedule(a, 1.0);
+        scheduler.schedule(b, 2.0);
+        scheduler.schedule(c, 3.0);
+
+        // 登録済みのイベントは時刻が変わるだけで、二重には登録されない
+        scheduler.schedule(a, 4.0);
+        scheduler.schedule(c, 0.5);
+
+        assertEquals(3, scheduler.size());
+        scheduler.advance(10.0);
+        assertEquals(list("c", "b", "a"), recorder.fired);
+    }
+
+    @Test
+    public void listenerCanRescheduleDuringAdvance() {
+        final List<Double> times = new ArrayList<>();
+        final EventScheduler[] holder = new EventScheduler[1];
+        EventScheduler scheduler = new EventScheduler(new EventScheduler.Listener() {
+            @Override
+            public void onEvent(EventScheduler.Event event) {
+                times.add(event.getTime());
+                // 予定時刻から次の時刻を求めて再登録する
+                holder[0].schedule(event, event.getTime() + 1.0);
+            }
+        });
+        holder[0] = scheduler;
+        scheduler.schedule(new EventScheduler.Event("repeat"), 1.0);
+
+        scheduler.advance(3.5);
+
+        assertEquals(3, times.size());
+        assertEquals(1.0, times.get(0), 0.0);
+        assertEquals(2.0, times.get(1), 0.0);
+        assertEquals(3.0, times.get(2), 0.0);
+        assertEquals(1, scheduler.size());
+    }
+
+    @Test
+    public void splitAdvanceMatchesSingleAdvance() {
+        Recorder whole = new Recorder();
+        Recorder split = new Recorder();
+        EventScheduler wholeScheduler = new EventScheduler(whole);
+        EventScheduler splitScheduler = new EventScheduler(split);
+        for (int i = 0; i < 50; i++) {
+            double time = (i * 37 % 50) * 0.25;
+            wholeScheduler.schedule(new EventScheduler.Event(i), time);
+            splitScheduler.schedule(new EventScheduler.Event(i), time);
+        }
+
+        wholeScheduler.advance(12.5);
+        for (int step = 1; step <= 100; step++) {
+            splitScheduler.advance(0.125);
+        }
+
+        assertEquals(whole.fired, split.fired);
+    }
+
+    @Test
+    public void splitAdvanceToMatchesSingleAdvanceTo() {
+        Recorder whole = new Recorder();
+        Recorder split = new Recorder();
+        EventScheduler wholeScheduler = new EventScheduler(whole);
+        EventScheduler splitScheduler = new EventScheduler(split);
+        for (int i = 0; i < 50; i++) {
+            double time = (i * 37 % 50) * 0.25;
+            wholeScheduler.schedule(new EventScheduler.Event(i), time);
+            splitScheduler.schedule(new EventScheduler.Event(i), time);
+        }
+
+        wholeScheduler.advanceTo(12.5);
+        for (int step = 1; step <= 100; step++) {
+            splitScheduler.advanceTo(step * 0.125);
+        }
+
+        assertEquals(whole.fired, split.fired);
+        assertEquals(12.5, splitScheduler.getTime(), 0.0);
+    }
+
+    @Test
+    public void advanceToEarlierTimeDoesNotMoveTimeBackwards() {
+        Recorder recorder = new Recorder();
+        EventScheduler scheduler = new EventScheduler(recorder);
+        scheduler.advanceTo(5.0);
+        EventScheduler.Event event = new EventScheduler.Event("event");
+        scheduler.schedule(event, 4.0);
+
+        // 過去の時刻を指定しても時刻は戻らず、期限が来ているイベントは発生する
+        scheduler.advanceTo(3.0);
+
+        assertEquals(5.0, scheduler.getTime(), 0.0);
+        assertEquals(list("event"), recorder.fired);
+    }
+
+    @Test
+    public void clearRemovesAllEventsAndKeepsTime() {
+        Recorder recorder = new Recorder();
+        EventScheduler scheduler = new EventScheduler(recorder);
+        scheduler.advance(2.0);
+        EventScheduler.Event event = new EventScheduler.Event("event");
+
+        scheduler.schedule(event, 3.0);
+
+        scheduler.clear();
+        scheduler.advance(5.0);
+
+        assertEquals(0, recorder.fired.size());
+        assertFalse(event.isScheduled());
+        assertEquals(7.0, scheduler.getTime(), 0.0);
+    }
+
+    @Test
+    public void startTimeIsUsedAsCurrentTime() {
+        Recorder recorder = new Recorder();
+        EventScheduler scheduler = new EventScheduler(recorder, 2.0);
+        assertEquals(2.0, scheduler.getTime(), 0.0);
+
+        // 開始時刻より前の予定は、次に進めたときにすぐ発生する
+        scheduler.schedule(new EventScheduler.Event("past"), 1.0);
+        scheduler.schedule(new EventScheduler.Event("future"), 3.0);
+        scheduler.advance(0.5);
+
+        assertEquals(list("past"), recorder.fired);
+        assertEquals(2.5, scheduler.getTime(), 0.0);
+    }
+
+    private static List<Object> list(Object... values) {
+        List<Object> list = new ArrayList<>();
+        for (Object value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+}
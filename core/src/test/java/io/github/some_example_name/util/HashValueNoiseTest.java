@@ -0,0 +1,86 @@
+package io.github.some_example_name.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link HashValueNoise}が同じシードと座標に対して常に同じ値を返すことを確かめるテスト。
+ *
+ * <p>地形はシードから作り直せることを前提にしているため、インスタンスや計算の方法（1点ずつかチャンク全体か）が違っても、
+ * 結果はビット単位で一致する必要があります。</p>
+ */
+public class HashValueNoiseTest {
+    private static final long[] SEEDS = {0L, 1L, -7L, 0x5DEECE66DL, Long.MIN_VALUE};
+
+    // 地形生成と同じくらいのスケールとオクターブ数
+    private static final double SCALE = 0.02;
+    private static final int OCTAVES = 4;
+
+    private static final int CHUNK_SIZE = 16;
+
+    @Test
+    public void sameSeedGivesSameValuesAcrossInstances() {
+        HashValueNoise first = new HashValueNoise();
+        HashValueNoise second = new HashValueNoise();
+        for (long seed : SEEDS) {
+            for (int y = -40; y <= 40; y += 7) {
+                for (int x = -40; x <= 40; x += 5) {
+                    double value = first.sample(seed, x, y, SCALE, OCTAVES);
+                    assertEquals(value, second.sample(seed, x, y, SCALE, OCTAVES), 0.0);
+                    // 同じインスタンスで繰り返しても変わらない
+                    assertEquals(value, first.sample(seed, x, y, SCALE, OCTAVES), 0.0);
+                    assertTrue(value >= 0.0 && value <= 1.0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void fillChunkMatchesSample() {
+        HashValueNoise noise = new HashValueNoise();
+        double[] out = new double[CHUNK_SIZE * CHUNK_SIZE];
+        int[][] origins = {{0, 0}, {-16, -16}, {48, -32}, {-1024, 2048}};
+        for (long seed : SEEDS) {
+            for (int[] origin : origins) {
+                noise.fillChunk(seed, origin[0], origin[1], CHUNK_SIZE, SCALE, OCTAVES, out);
+                for (int localY = 0; localY < CHUNK_SIZE; localY++) {
+                    for (int localX = 0; localX < CHUNK_SIZE; localX++) {
+                        double expected = noise.sample(seed, origin[0] + localX, origin[1] + localY, SCALE, OCTAVES);
+                        assertEquals("seed " + seed + " at " + (origin[0] + localX) + "," + (origin[1] + localY),
+                            expected, out[localY * CHUNK_SIZE + localX], 0.0);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void fillChunkDoesNotDependOnPreviousCalls() {
+        HashValueNoise fresh = new HashValueNoise();
+        HashValueNoise reused = new HashValueNoise();
+        double[] expected = new double[CHUNK_SIZE * CHUNK_SIZE];
+        double[] actual = new double[CHUNK_SIZE * CHUNK_SIZE];
+        // 作業用配列を大きなサイズや別のシードで使ってから同じチャンクを求める
+        reused.fillChunk(99L, 500, 500, 64, 0.5, 6, new double[64 * 64]);
+        reused.fillChunk(3L, -200, 70, CHUNK_SIZE, SCALE, OCTAVES, actual);
+
+        fresh.fillChunk(3L, -200, 70, CHUNK_SIZE, SCALE, OCTAVES, expected);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual[i], 0.0);
+        }
+    }
+
+    @Test
+    public void differentSeedsGiveDifferentValues() {
+        HashValueNoise noise = new HashValueNoise();
+        int differences = 0;
+        for (int x = 0; x < 100; x++) {
+            if (noise.sample(1L, x * 13, x * 7, SCALE, OCTAVES) != noise.sample(2L, x * 13, x * 7, SCALE, OCTAVES)) {
+                differences++;
+            }
+        }
+        assertTrue(differences > 90);
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.some_example_name.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * GPUのない環境でシミュレーションだけを実行する起動クラス（ヘッドレスのバックエンドを使用）。
+ *
+ * <p>大きなワールドを組み立てて指定したティック数だけ進め、1秒あたりのティック数とアロケーション量を表示します。
+ * 下限・上限を指定した場合は満たさなかったときに終了コード1で終わるので、性能の回帰チェックに使えます。</p>
+ *
+ * <pre>
+ * --farms N            農地の数（既定 10000）
+ * --livestock N        畜産タイルの数（既定 10000）
+ * --buildings N        神殿の数（既定 200）
+ * --ticks N            計測するティック数（既定 3600）
+ * --warmup N           計測前に進めるティック数（既定 600）
+ * --speed S            ワールドの時間の倍率（1, 2, 8, 64、既定 1）
+ * --seed N             ワールドシード（既定 1）
+ * --min-tps X          1秒あたりのティック数の下限（下回ったら失敗）
+ * --max-alloc-per-tick B  1ティックあたりのアロケーション量の上限（バイト、上回ったら失敗）
+ * </pre>
+ */
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        final SimulationBenchmark.Config config;
+        try {
+            config = SimulationBenchmark.Config.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        final CountDownLatch finished = new CountDownLatch(1);
+        final int[] exitCode = {0};
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // 描画ループは使わないので、create()の中で計測を済ませる
+        configuration.updatesPerSecond = -1;
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                try {
+                    exitCode[0] = run(config);
+                } catch (Exception e) {
+                    Gdx.app.error("HeadlessLauncher", "Benchmark failed: " + e.getMessage(), e);
+                    exitCode[0] = 1;
+                } finally {
+                    finished.countDown();
+                    Gdx.app.exit();
+                }
+            }
+        }, configuration);
+
+        try {
+            finished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        System.exit(exitCode[0]);
+    }
+
+    private static int run(SimulationBenchmark.Config config) {
+        int exitCode = 0;
+        SimulationBenchmark.Result result = new SimulationBenchmark(config).run();
+        System.out.println(result.format());
+
+        if (config.minTicksPerSecond > 0 && result.ticksPerSecond < config.minTicksPerSecond) {
+            System.out.println("FAILED: ticks/sec " + Math.round(result.ticksPerSecond)
+                + " < " + Math.round(config.minTicksPerSecond));
+            exitCode = 1;
+        }
+        if (config.maxAllocationPerTick >= 0 && result.bytesPerTick > config.maxAllocationPerTick) {
+            System.out.println("FAILED: bytes/tick " + result.bytesPerTick + " > " + config.maxAllocationPerTick);
+            exitCode = 1;
+        }
+        return exitCode;
+    }
+}
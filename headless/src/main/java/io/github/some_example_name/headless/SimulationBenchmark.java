@@ -0,0 +1,398 @@
+package io.github.some_example_name.headless;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.some_example_name.ecs.WorldEntities;
+import io.github.some_example_name.entity.LivestockData;
+import io.github.some_example_name.entity.Player;
+import io.github.some_example_name.game.Inventory;
+import io.github.some_example_name.game.PreservedFoodManager;
+import io.github.some_example_name.manager.BuildingManager;
+import io.github.some_example_name.manager.FarmManager;
+import io.github.some_example_name.manager.LivestockManager;
+import io.github.some_example_name.manager.TerrainManager;
+import io.github.some_example_name.system.GameController;
+import io.github.some_example_name.system.SimulationClock;
+import io.github.some_example_name.system.WorldSnapshotBuffer;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 描画なしでワールドを組み立て、シミュレーションを指定したティック数だけ進めて計測するクラス。
+ *
+ * <p>農地・畜産タイル・神殿を格子状に並べた大きなワールドを作り、ゲームと同じ{@link GameController}でティックを進めます。
+ * 毎ティック一部の農地と畜産タイルを収穫・植え直し、プレイヤーを四角く歩かせ、描画用のスナップショットも書き込みます。
+ * 配置は数を正確に揃えるため地形の条件を確かめずに行います（農地と畜産のマネージャーには地形を渡しません）。</p>
+ *
+ * <p>アロケーション量はすべてのスレッド（並列ティックのワーカーや地形生成のスレッドを含む）の合計です。
+ * 計測中に終了したスレッドの分は含まれません。</p>
+ */
+public class SimulationBenchmark {
+    // 種と餌のアイテムID
+    private static final int SEED_ITEM_ID = 8;
+    private static final int FEED_ITEM_ID = 13;
+
+    // 農地・畜産タイルを並べる間隔（タイル数、農地の右隣に畜産タイルを置く）
+    private static final int GRID_SPACING = 2;
+
+    // 神殿を並べる間隔（タイル数）
+    private static final int BUILDING_SPACING = 7;
+
+    // 毎ティック収穫・植え直しを行うタイルの数
+    private static final int HARVESTS_PER_TICK = 16;
+
+    // プレイヤーが歩く四角形の一辺（プレイヤー升の数）
+    private static final int WALK_SIDE = 60;
+
+    // シミュレーションに渡す視野範囲（ピクセル）
+    private static final float VIEW_WIDTH = 1920f;
+    private static final float VIEW_HEIGHT = 1080f;
+
+    /**
+     * 計測の設定（コマンドライン引数から作る）。
+     */
+    public static final class Config {
+        public int farms = 10000;
+        public int livestock = 10000;
+        public int buildings = 200;
+        public int ticks = 3600;
+        public int warmupTicks = 600;
+        public float speed = 1f;
+        public long seed = 1L;
+        public double minTicksPerSecond = 0;
+        public long maxAllocationPerTick = -1;
+
+        /**
+         * コマンドライン引数を解析します。
+         * @throws IllegalArgumentException 不明な引数や不正な値の場合
+         */
+        public static Config parse(String[] args) {
+            Config config = new Config();
+            for (int i = 0; i < args.length; i++) {
+                String name = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + name);
+                }
+                String value = args[++i];
+                try {
+                    switch (name) {
+                        case "--farms":
+                            config.farms = Integer.parseInt(value);
+                            break;
+                        case "--livestock":
+                            config.livestock = Integer.parseInt(value);
+                            break;
+                        case "--buildings":
+                            config.buildings = Integer.parseInt(value);
+                            break;
+                        case "--ticks":
+                            config.ticks = Integer.parseInt(value);
+                            break;
+                        case "--warmup":
+                            config.warmupTicks = Integer.parseInt(value);
+                            break;
+                        case "--speed":
+                            config.speed = Float.parseFloat(value);
+                            break;
+                        case "--seed":
+                            config.seed = Long.parseLong(value);
+                            break;
+                        case "--min-tps":
+                            config.minTicksPerSecond = Double.parseDouble(value);
+                            break;
+                        case "--max-alloc-per-tick":
+                            config.maxAllocationPerTick = Long.parseLong(value);
+                            break;
+                        default:
+                            throw new IllegalArgumentException("Unknown option: " + name);
+                    }
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+                }
+            }
+            if (config.farms < 0 || config.livestock < 0 || config.buildings < 0
+                || config.ticks <= 0 || config.warmupTicks < 0) {
+                throw new IllegalArgumentException("Counts must be non-negative and --ticks must be positive");
+            }
+            boolean validSpeed = false;
+            for (float scale : SimulationClock.TIME_SCALES) {
+                if (scale == config.speed) {
+                    validSpeed = true;
+                }
+            }
+            if (!validSpeed) {
+                throw new IllegalArgumentException("--speed must be one of 1, 2, 8, 64");
+            }
+            return config;
+        }
+    }
+
+    /**
+     * 計測の結果。
+     */
+    public static final class Result {
+        public int farms;
+        public int livestock;
+        public int buildings;
+        public int ticks;
+        public float speed;
+        public double seconds;
+        public double ticksPerSecond;
+        public double microsPerTick;
+        public long bytesPerTick;
+        public double megabytesPerSecond;
+        public int inventoryItems;
+        public int livestockProducts;
+
+        /**
+         * 結果を1行ずつの表示用の文字列にします。
+         */
+        public String format() {
+            StringBuilder builder = new StringBuilder();
+            builder.append("world: farms=").append(farms)
+                .append(" livestock=").append(livestock)
+                .append(" buildings=").append(buildings)
+                .append(" speed=x").append(Math.round(speed)).append('\n');
+            builder.append("ticks: ").append(ticks)
+                .append(" in ").append(String.format("%.3f", seconds)).append(" s\n");
+            builder.append("ticks/sec: ").append(String.format("%.1f", ticksPerSecond))
+                .append(" (").append(String.format("%.1f", microsPerTick)).append(" us/tick)\n");
+            builder.append("allocation: ").append(bytesPerTick).append(" bytes/tick (")
+                .append(String.format("%.2f", megabytesPerSecond)).append(" MB/s)\n");
+            builder.append("totals: inventory items=").append(inventoryItems)
+                .append(" livestock products=").append(livestockProducts);
+            return builder.toString();
+        }
+    }
+
+    private final Config config;
+
+    private Player player;
+    private TerrainManager terrainManager;
+    private FarmManager farmManager;
+    private LivestockManager livestockManager;
+    private BuildingManager buildingManager;
+    private WorldEntities worldEntities;
+    private Inventory inventory;
+    private GameController gameController;
+    private WorldSnapshotBuffer snapshotBuffer;
+
+    // 配置したタイルの座標（収穫・植え直しの順番に使う）
+    private int[] farmTileXs;
+    private int[] farmTileYs;
+    private int[] livestockTileXs;
+    private int[] livestockTileYs;
+    private int harvestCursor;
+
+    // プレイヤーの歩き方（四角形の辺の番号と、その辺で進んだ歩数）
+    private int walkSide;
+    private int walkSteps;
+
+    public SimulationBenchmark(Config config) {
+        this.config = config;
+    }
+
+    /**
+     * ワールドを組み立てて計測し、終わったらワールドを破棄します。
+     * @return 計測の結果
+     */
+    public Result run() {
+        buildWorld();
+        try {
+            runTicks(config.warmupTicks);
+
+            com.sun.management.ThreadMXBean threadBean = getThreadBean();
+            long startBytes = getAllocatedBytes(threadBean);
+            long startNanos = System.nanoTime();
+            runTicks(config.ticks);
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long allocatedBytes = getAllocatedBytes(threadBean) - startBytes;
+
+            Result result = new Result();
+            result.farms = config.farms;
+            result.livestock = config.livestock;
+            result.buildings = config.buildings;
+            result.ticks = config.ticks;
+            result.speed = config.speed;
+            result.seconds = elapsedNanos / 1e9;
+            result.ticksPerSecond = config.ticks / result.seconds;
+            result.microsPerTick = elapsedNanos / 1e3 / config.ticks;
+            result.bytesPerTick = allocatedBytes / config.ticks;
+            result.megabytesPerSecond = allocatedBytes / (1024.0 * 1024.0) / result.seconds;
+            for (int count : inventory.getAllItems().values()) {
+                result.inventoryItems += count;
+            }
+            result.livestockProducts = livestockManager.getTotalLivestockProductsProduced();
+            return result;
+        } finally {
+            terrainManager.dispose();
+        }
+    }
+
+    /**
+     * プレイヤー・地形・農地・畜産・建物・インベントリを作り、タイルを格子状に並べます。
+     */
+    private void buildWorld() {
+        inventory = new Inventory();
+        terrainManager = new TerrainManager(config.seed);
+        player = new Player(0, 0);
+        player.setTerrainManager(terrainManager);
+
+        worldEntities = new WorldEntities();
+        farmManager = new FarmManager();
+        farmManager.setWorldEntities(worldEntities);
+        farmManager.setInventory(inventory);
+        livestockManager = new LivestockManager();
+        livestockManager.setWorldEntities(worldEntities);
+        livestockManager.setInventory(inventory);
+        buildingManager = new BuildingManager();
+        buildingManager.setWorldEntities(worldEntities);
+        buildingManager.setInventory(inventory);
+        buildingManager.setTerrainManager(terrainManager);
+
+        // 農地と畜産タイルはプレイヤーを中心にした正方形に並べる（近い・中くらい・遠い領域がすべてできる）
+        int tileCount = Math.max(config.farms, config.livestock);
+        int side = Math.max(1, (int)Math.ceil(Math.sqrt(tileCount)));
+        int origin = -(side * GRID_SPACING) / 2;
+
+        farmTileXs = new int[config.farms];
+        farmTileYs = new int[config.farms];
+        inventory.addItem(SEED_ITEM_ID, config.farms);
+        for (int i = 0; i < config.farms; i++) {
+            int tileX = origin + (i % side) * GRID_SPACING;
+            int tileY = origin + (i / side) * GRID_SPACING;
+            farmTileXs[i] = tileX;
+            farmTileYs[i] = tileY;
+            farmManager.plantSeed(tileX, tileY, SEED_ITEM_ID);
+        }
+
+        Array<LivestockData> livestockTypes = livestockManager.getLivestockDataLoader().getAllLivestock();
+        livestockTileXs = new int[config.livestock];
+        livestockTileYs = new int[config.livestock];
+        inventory.addItem(FEED_ITEM_ID, config.livestock);
+        for (int i = 0; i < config.livestock; i++) {
+            int tileX = origin + (i % side) * GRID_SPACING + 1;
+            int tileY = origin + (i / side) * GRID_SPACING;
+            livestockTileXs[i] = tileX;
+            livestockTileYs[i] = tileY;
+            if (livestockTypes.size > 0) {
+                livestockManager.placeAnimal(tileX, tileY, livestockTypes.get(i % livestockTypes.size));
+            }
+        }
+
+        // 神殿は農地の間の行に並べる
+        int buildingSide = Math.max(1, (int)Math.ceil(Math.sqrt(config.buildings)));
+        for (int i = 0; i < config.buildings; i++) {
+            int tileX = origin + (i % buildingSide) * BUILDING_SPACING;
+            int tileY = origin + (i / buildingSide) * BUILDING_SPACING * GRID_SPACING + 1;
+            buildingManager.addBuilding(
+                new BuildingManager.BuildingTile(tileX, tileY, BuildingManager.BuildingType.TEMPLE));
+        }
+
+        gameController = new GameController();
+        gameController.setGameObjects(player, terrainManager, null, farmManager, livestockManager,
+            buildingManager, new PreservedFoodManager());
+        gameController.setWorldEntities(worldEntities);
+        SimulationClock clock = gameController.getSimulationClock();
+        while (clock.getTimeScale() != config.speed) {
+            clock.cycleTimeScale();
+        }
+        snapshotBuffer = new WorldSnapshotBuffer();
+    }
+
+    /**
+     * 指定したティック数だけシミュレーションを進めます（ゲームのシミュレーションスレッドと同じ順番で処理します）。
+     */
+    private void runTicks(int ticks) {
+        SimulationClock clock = gameController.getSimulationClock();
+        long targetTick = clock.getTickCount() + ticks;
+        while (clock.getTickCount() < targetTick) {
+            walkPlayer();
+            harvestAndReplant();
+            gameController.setViewBounds(player.getPixelX() - VIEW_WIDTH / 2, player.getPixelY() - VIEW_HEIGHT / 2,
+                VIEW_WIDTH, VIEW_HEIGHT);
+            if (gameController.advance(SimulationClock.TICK_SECONDS) > 0) {
+                gameController.writeSnapshot(snapshotBuffer.getWriteSnapshot());
+                snapshotBuffer.publish();
+            }
+        }
+    }
+
+    /**
+     * 止まっていればプレイヤーを四角形に沿って1歩進めます。
+     */
+    private void walkPlayer() {
+        if (player.isMoving()) {
+            return;
+        }
+        switch (walkSide) {
+            case 0:
+                player.move(1, 0);
+                break;
+            case 1:
+                player.move(0, 1);
+                break;
+            case 2:
+                player.move(-1, 0);
+                break;
+            default:
+                player.move(0, -1);
+                break;
+        }
+        walkSteps++;
+        if (walkSteps >= WALK_SIDE) {
+            walkSteps = 0;
+            walkSide = (walkSide + 1) % 4;
+        }
+    }
+
+    /**
+     * 順番に一部の農地を収穫して植え直し、畜産タイルの製品を収穫します（プレイヤーの操作の代わり）。
+     */
+    private void harvestAndReplant() {
+        for (int i = 0; i < HARVESTS_PER_TICK; i++) {
+            int index = harvestCursor++;
+            if (index < farmTileXs.length) {
+                int tileX = farmTileXs[index];
+                int tileY = farmTileYs[index];
+                if (farmManager.harvest(tileX, tileY)) {
+                    inventory.addItem(SEED_ITEM_ID, 1);
+                    farmManager.plantSeed(tileX, tileY, SEED_ITEM_ID);
+                }
+            }
+            if (index < livestockTileXs.length) {
+                livestockManager.harvest(livestockTileXs[index], livestockTileYs[index]);
+            }
+            if (harvestCursor >= Math.max(farmTileXs.length, livestockTileXs.length)) {
+                harvestCursor = 0;
+            }
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean)bean;
+            if (threadBean.isThreadAllocatedMemorySupported()) {
+                threadBean.setThreadAllocatedMemoryEnabled(true);
+                return threadBean;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * すべての生きているスレッドがこれまでにアロケートしたバイト数の合計を返します（計測できない場合は0）。
+     */
+    private static long getAllocatedBytes(com.sun.management.ThreadMXBean threadBean) {
+        if (threadBean == null) {
+            return 0L;
+        }
+        long total = 0L;
+        for (long bytes : threadBean.getThreadAllocatedBytes(threadBean.getAllThreadIds())) {
+            if (bytes > 0) {
+                total += bytes;
+            }
+        }
+        return total;
+    }
+}